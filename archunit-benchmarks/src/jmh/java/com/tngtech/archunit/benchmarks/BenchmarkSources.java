@@ -0,0 +1,35 @@
+package com.tngtech.archunit.benchmarks;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.Collections;
+
+import com.google.common.collect.ImmutableList;
+import com.tngtech.archunit.core.importer.Location;
+import com.tngtech.archunit.core.importer.Locations;
+
+/**
+ * The {@link Location Locations} benchmarks can import classes from, referred to by name to be usable as JMH parameter.
+ */
+public enum BenchmarkSources {
+    SYNTHETIC {
+        @Override
+        Collection<Location> locations() throws IOException {
+            return Collections.singleton(Location.of(new SyntheticClasses(50, 40, 5).writeJar()));
+        }
+    },
+    GUAVA {
+        @Override
+        Collection<Location> locations() {
+            return Collections.singleton(Location.of(ImmutableList.class.getProtectionDomain().getCodeSource().getLocation()));
+        }
+    },
+    JDK {
+        @Override
+        Collection<Location> locations() {
+            return Locations.ofPackage("java");
+        }
+    };
+
+    abstract Collection<Location> locations() throws IOException;
+}
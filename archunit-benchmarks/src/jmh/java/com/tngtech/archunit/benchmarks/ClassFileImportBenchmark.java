@@ -0,0 +1,52 @@
+package com.tngtech.archunit.benchmarks;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+
+import com.tngtech.archunit.ArchConfiguration;
+import com.tngtech.archunit.core.domain.JavaClasses;
+import com.tngtech.archunit.core.importer.ClassFileImporter;
+import com.tngtech.archunit.core.importer.Location;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Measures the complete import, i.e. parsing the class files ({@code ClassFileProcessor}) as well as
+ * creating the domain graph including reverse dependencies ({@code ClassGraphCreator}).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ClassFileImportBenchmark {
+    @Param({"SYNTHETIC", "GUAVA", "JDK"})
+    public BenchmarkSources source;
+
+    @Param({"1", "4"})
+    public int importThreads;
+
+    private Collection<Location> locations;
+
+    @Setup
+    public void setUp() throws IOException {
+        ArchConfiguration.get().setImportThreads(importThreads);
+        locations = source.locations();
+    }
+
+    @TearDown
+    public void tearDown() {
+        ArchConfiguration.get().reset();
+    }
+
+    @Benchmark
+    public JavaClasses importClasses() {
+        return new ClassFileImporter().importLocations(locations);
+    }
+}
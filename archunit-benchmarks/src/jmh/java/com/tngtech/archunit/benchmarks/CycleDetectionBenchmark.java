@@ -0,0 +1,49 @@
+package com.tngtech.archunit.benchmarks;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import com.tngtech.archunit.core.domain.JavaClasses;
+import com.tngtech.archunit.core.importer.ClassFileImporter;
+import com.tngtech.archunit.lang.ArchRule;
+import com.tngtech.archunit.lang.EvaluationResult;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import static com.tngtech.archunit.benchmarks.SyntheticClasses.BASE_PACKAGE;
+import static com.tngtech.archunit.library.dependencies.SlicesRuleDefinition.slices;
+
+/**
+ * Measures the cycle detection of {@code slices().should().beFreeOfCycles()} on generated graphs,
+ * where the slices are heavily entangled (compare {@link SyntheticClasses}).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class CycleDetectionBenchmark {
+    private static final ArchRule NO_CYCLES_RULE = slices().matching(BASE_PACKAGE + ".(*)..").should().beFreeOfCycles();
+
+    @Param({"10", "50"})
+    public int numberOfSlices;
+
+    @Param({"2", "5"})
+    public int dependenciesPerClass;
+
+    private JavaClasses classes;
+
+    @Setup
+    public void setUp() throws IOException {
+        classes = new ClassFileImporter().importUrl(new SyntheticClasses(numberOfSlices, 20, dependenciesPerClass).writeJar());
+    }
+
+    @Benchmark
+    public EvaluationResult beFreeOfCycles() {
+        return NO_CYCLES_RULE.evaluate(classes);
+    }
+}
@@ -0,0 +1,72 @@
+package com.tngtech.archunit.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import com.tngtech.archunit.PublicAPI;
+import com.tngtech.archunit.core.domain.JavaClasses;
+import com.tngtech.archunit.core.importer.ClassFileImporter;
+import com.tngtech.archunit.lang.ArchRule;
+import com.tngtech.archunit.lang.EvaluationResult;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import static com.tngtech.archunit.lang.syntax.ArchRuleDefinition.classes;
+import static com.tngtech.archunit.lang.syntax.ArchRuleDefinition.noClasses;
+import static com.tngtech.archunit.library.Architectures.layeredArchitecture;
+import static com.tngtech.archunit.library.GeneralCodingRules.NO_CLASSES_SHOULD_ACCESS_STANDARD_STREAMS;
+
+/**
+ * Measures the evaluation of some representative rules against the classes of ArchUnit itself,
+ * i.e. without the import.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class RuleEvaluationBenchmark {
+    private static final ArchRule DEPENDENCY_RULE = noClasses().that().resideInAPackage("..core..")
+            .should().dependOnClassesThat().resideInAPackage("..library..");
+
+    private static final ArchRule ANNOTATION_RULE = classes().that().areAnnotatedWith(PublicAPI.class)
+            .should().bePublic();
+
+    private static final ArchRule LAYER_RULE = layeredArchitecture()
+            .layer("Base").definedBy("com.tngtech.archunit.base..")
+            .layer("Core").definedBy("com.tngtech.archunit.core..")
+            .layer("Lang").definedBy("com.tngtech.archunit.lang..")
+            .layer("Library").definedBy("com.tngtech.archunit.library..")
+            .whereLayer("Library").mayNotBeAccessedByAnyLayer()
+            .whereLayer("Lang").mayOnlyBeAccessedByLayers("Library")
+            .whereLayer("Core").mayOnlyBeAccessedByLayers("Lang", "Library");
+
+    private JavaClasses classes;
+
+    @Setup
+    public void setUp() {
+        classes = new ClassFileImporter().importPackages("com.tngtech.archunit");
+    }
+
+    @Benchmark
+    public EvaluationResult dependencyRule() {
+        return DEPENDENCY_RULE.evaluate(classes);
+    }
+
+    @Benchmark
+    public EvaluationResult annotationRule() {
+        return ANNOTATION_RULE.evaluate(classes);
+    }
+
+    @Benchmark
+    public EvaluationResult accessRule() {
+        return NO_CLASSES_SHOULD_ACCESS_STANDARD_STREAMS.evaluate(classes);
+    }
+
+    @Benchmark
+    public EvaluationResult layeredArchitectureRule() {
+        return LAYER_RULE.evaluate(classes);
+    }
+}
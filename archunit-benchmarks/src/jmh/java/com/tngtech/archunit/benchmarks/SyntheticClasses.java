@@ -0,0 +1,119 @@
+package com.tngtech.archunit.benchmarks;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.net.URL;
+import java.util.Random;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.MethodVisitor;
+
+import static org.objectweb.asm.Opcodes.ACC_PRIVATE;
+import static org.objectweb.asm.Opcodes.ACC_PUBLIC;
+import static org.objectweb.asm.Opcodes.ALOAD;
+import static org.objectweb.asm.Opcodes.GETFIELD;
+import static org.objectweb.asm.Opcodes.INVOKESPECIAL;
+import static org.objectweb.asm.Opcodes.INVOKEVIRTUAL;
+import static org.objectweb.asm.Opcodes.RETURN;
+import static org.objectweb.asm.Opcodes.V1_8;
+
+/**
+ * Generates a JAR file of classes that depend on each other in a reproducible pseudo random way.
+ * Every class declares a field of each class it depends on and calls a method on it, i.e. the dependencies
+ * show up as field types as well as field accesses and method calls. Since dependencies between packages are chosen
+ * at random, there will be plenty of cycles between the packages {@code <BASE_PACKAGE>.package<N>}.
+ */
+class SyntheticClasses {
+    static final String BASE_PACKAGE = "com.tngtech.archunit.benchmarks.synthetic";
+
+    private static final String OBJECT = "java/lang/Object";
+    private static final String CALL_METHOD = "call";
+    private static final long SEED = 42;
+
+    private final int numberOfPackages;
+    private final int classesPerPackage;
+    private final int dependenciesPerClass;
+    private final Random random = new Random(SEED);
+
+    SyntheticClasses(int numberOfPackages, int classesPerPackage, int dependenciesPerClass) {
+        this.numberOfPackages = numberOfPackages;
+        this.classesPerPackage = classesPerPackage;
+        this.dependenciesPerClass = dependenciesPerClass;
+    }
+
+    URL writeJar() throws IOException {
+        File jarFile = File.createTempFile("archunit-benchmark-", ".jar");
+        jarFile.deleteOnExit();
+        try (JarOutputStream jar = new JarOutputStream(new FileOutputStream(jarFile))) {
+            for (int pkg = 0; pkg < numberOfPackages; pkg++) {
+                for (int clazz = 0; clazz < classesPerPackage; clazz++) {
+                    jar.putNextEntry(new JarEntry(internalName(pkg, clazz) + ".class"));
+                    jar.write(createClass(pkg, clazz));
+                    jar.closeEntry();
+                }
+            }
+        }
+        return jarFile.toURI().toURL();
+    }
+
+    private byte[] createClass(int pkg, int clazz) {
+        String name = internalName(pkg, clazz);
+        String[] dependencies = chooseDependencies();
+
+        ClassWriter classWriter = new ClassWriter(ClassWriter.COMPUTE_MAXS);
+        classWriter.visit(V1_8, ACC_PUBLIC, name, null, OBJECT, null);
+        for (int i = 0; i < dependencies.length; i++) {
+            classWriter.visitField(ACC_PRIVATE, fieldName(i), descriptorOf(dependencies[i]), null, null).visitEnd();
+        }
+        addConstructor(classWriter);
+        addCallMethod(classWriter, name, dependencies);
+        classWriter.visitEnd();
+        return classWriter.toByteArray();
+    }
+
+    private String[] chooseDependencies() {
+        String[] result = new String[dependenciesPerClass];
+        for (int i = 0; i < dependenciesPerClass; i++) {
+            result[i] = internalName(random.nextInt(numberOfPackages), random.nextInt(classesPerPackage));
+        }
+        return result;
+    }
+
+    private void addConstructor(ClassWriter classWriter) {
+        MethodVisitor constructor = classWriter.visitMethod(ACC_PUBLIC, "<init>", "()V", null, null);
+        constructor.visitCode();
+        constructor.visitVarInsn(ALOAD, 0);
+        constructor.visitMethodInsn(INVOKESPECIAL, OBJECT, "<init>", "()V", false);
+        constructor.visitInsn(RETURN);
+        constructor.visitMaxs(0, 0);
+        constructor.visitEnd();
+    }
+
+    private void addCallMethod(ClassWriter classWriter, String owner, String[] dependencies) {
+        MethodVisitor method = classWriter.visitMethod(ACC_PUBLIC, CALL_METHOD, "()V", null, null);
+        method.visitCode();
+        for (int i = 0; i < dependencies.length; i++) {
+            method.visitVarInsn(ALOAD, 0);
+            method.visitFieldInsn(GETFIELD, owner, fieldName(i), descriptorOf(dependencies[i]));
+            method.visitMethodInsn(INVOKEVIRTUAL, dependencies[i], CALL_METHOD, "()V", false);
+        }
+        method.visitInsn(RETURN);
+        method.visitMaxs(0, 0);
+        method.visitEnd();
+    }
+
+    private static String internalName(int pkg, int clazz) {
+        return BASE_PACKAGE.replace('.', '/') + "/package" + pkg + "/Class" + clazz;
+    }
+
+    private static String fieldName(int index) {
+        return "dependency" + index;
+    }
+
+    private static String descriptorOf(String internalName) {
+        return "L" + internalName + ";";
+    }
+}
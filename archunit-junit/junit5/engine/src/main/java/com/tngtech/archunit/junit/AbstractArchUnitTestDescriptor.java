@@ -32,6 +32,7 @@ import org.junit.platform.engine.support.hierarchical.Node;
 
 import static java.util.Collections.emptySet;
 import static java.util.stream.Collectors.toSet;
+import static org.junit.platform.engine.support.hierarchical.Node.ExecutionMode.CONCURRENT;
 
 abstract class AbstractArchUnitTestDescriptor extends AbstractTestDescriptor implements Node<ArchUnitEngineExecutionContext> {
     private final Set<TestTag> tags;
@@ -61,6 +62,15 @@ abstract class AbstractArchUnitTestDescriptor extends AbstractTestDescriptor imp
         return skipResult;
     }
 
+    /**
+     * Rules only read the imported classes, which are shared between all rules of a test class,
+     * so they can be evaluated concurrently, if parallel execution is enabled (compare {@link ArchUnitTestEngine}).
+     */
+    @Override
+    public ExecutionMode getExecutionMode() {
+        return CONCURRENT;
+    }
+
     @Override
     public Set<TestTag> getTags() {
         Set<TestTag> result = new HashSet<>(tags);
@@ -17,16 +17,19 @@ package com.tngtech.archunit.junit;
 
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
+import java.util.Set;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 
 import com.tngtech.archunit.core.domain.JavaClasses;
 import com.tngtech.archunit.core.importer.ImportOption;
 import com.tngtech.archunit.lang.ArchRule;
+import com.tngtech.archunit.library.freeze.FreezingArchRule;
 import org.junit.platform.engine.TestDescriptor;
 import org.junit.platform.engine.UniqueId;
 import org.junit.platform.engine.support.descriptor.ClassSource;
 import org.junit.platform.engine.support.descriptor.MethodSource;
+import org.junit.platform.engine.support.hierarchical.ExclusiveResource;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -38,6 +41,9 @@ import static com.tngtech.archunit.junit.ReflectionUtils.getAllMethods;
 import static com.tngtech.archunit.junit.ReflectionUtils.getValueOrThrowException;
 import static com.tngtech.archunit.junit.ReflectionUtils.invokeMethod;
 import static com.tngtech.archunit.junit.ReflectionUtils.withAnnotation;
+import static java.util.Collections.emptySet;
+import static java.util.Collections.singleton;
+import static org.junit.platform.engine.support.hierarchical.ExclusiveResource.LockMode.READ_WRITE;
 
 class ArchUnitTestDescriptor extends AbstractArchUnitTestDescriptor implements CreatesChildren {
     private static final Logger LOG = LoggerFactory.getLogger(ArchUnitTestDescriptor.class);
@@ -140,6 +146,9 @@ class ArchUnitTestDescriptor extends AbstractArchUnitTestDescriptor implements C
     }
 
     private static class ArchUnitRuleDescriptor extends AbstractArchUnitTestDescriptor {
+        // all frozen rules share the configured ViolationStore, which might not support concurrent updates
+        private static final ExclusiveResource VIOLATION_STORE = new ExclusiveResource(FreezingArchRule.class.getName(), READ_WRITE);
+
         private final ArchRule rule;
         private final Supplier<JavaClasses> classes;
 
@@ -154,6 +163,11 @@ class ArchUnitTestDescriptor extends AbstractArchUnitTestDescriptor implements C
             return Type.TEST;
         }
 
+        @Override
+        public Set<ExclusiveResource> getExclusiveResources() {
+            return rule instanceof FreezingArchRule ? singleton(VIOLATION_STORE) : emptySet();
+        }
+
         @Override
         public ArchUnitEngineExecutionContext execute(ArchUnitEngineExecutionContext context, DynamicTestExecutor dynamicTestExecutor) {
             rule.check(classes.get());
@@ -27,6 +27,7 @@ import com.tngtech.archunit.Internal;
 import com.tngtech.archunit.core.MayResolveTypesViaReflection;
 import com.tngtech.archunit.core.domain.JavaClass;
 import com.tngtech.archunit.core.importer.ClassFileImporter;
+import org.junit.platform.engine.ConfigurationParameters;
 import org.junit.platform.engine.EngineDiscoveryRequest;
 import org.junit.platform.engine.ExecutionRequest;
 import org.junit.platform.engine.Filter;
@@ -39,7 +40,10 @@ import org.junit.platform.engine.discovery.MethodSelector;
 import org.junit.platform.engine.discovery.PackageNameFilter;
 import org.junit.platform.engine.discovery.PackageSelector;
 import org.junit.platform.engine.discovery.UniqueIdSelector;
+import org.junit.platform.engine.support.config.PrefixedConfigurationParameters;
+import org.junit.platform.engine.support.hierarchical.ForkJoinPoolHierarchicalTestExecutorService;
 import org.junit.platform.engine.support.hierarchical.HierarchicalTestEngine;
+import org.junit.platform.engine.support.hierarchical.HierarchicalTestExecutorService;
 
 import static com.tngtech.archunit.junit.ReflectionUtils.getAllFields;
 import static com.tngtech.archunit.junit.ReflectionUtils.getAllMethods;
@@ -59,10 +63,16 @@ import static java.util.stream.Collectors.toList;
  *     public static final ArchRule myRule = classes()...
  * }
  * </code></pre>
+ * By default all rules are evaluated sequentially. To evaluate rules in parallel, set the configuration parameter
+ * {@code archunit.junit.execution.parallel.enabled} to {@code true}. The parallelism can be configured
+ * via parameters prefixed with {@code archunit.junit.execution.parallel.config.} in the same way as for JUnit Jupiter
+ * (e.g. {@code archunit.junit.execution.parallel.config.strategy=fixed}).
  */
 @Internal
 public final class ArchUnitTestEngine extends HierarchicalTestEngine<ArchUnitEngineExecutionContext> {
     static final String UNIQUE_ID = "archunit";
+    static final String PARALLEL_EXECUTION_ENABLED_PROPERTY_NAME = "archunit.junit.execution.parallel.enabled";
+    static final String PARALLEL_CONFIG_PREFIX = "archunit.junit.execution.parallel.config.";
 
     private SharedCache cache = new SharedCache(); // NOTE: We want to change this in tests -> no static/final reference
 
@@ -188,6 +198,16 @@ public final class ArchUnitTestEngine extends HierarchicalTestEngine<ArchUnitEng
         }
     }
 
+    @Override
+    protected HierarchicalTestExecutorService createExecutorService(ExecutionRequest request) {
+        ConfigurationParameters configurationParameters = request.getConfigurationParameters();
+        if (configurationParameters.getBoolean(PARALLEL_EXECUTION_ENABLED_PROPERTY_NAME).orElse(false)) {
+            return new ForkJoinPoolHierarchicalTestExecutorService(
+                    new PrefixedConfigurationParameters(configurationParameters, PARALLEL_CONFIG_PREFIX));
+        }
+        return super.createExecutorService(request);
+    }
+
     @Override
     protected ArchUnitEngineExecutionContext createExecutionContext(ExecutionRequest request) {
         return new ArchUnitEngineExecutionContext();
@@ -874,6 +874,23 @@ class ArchUnitTestEngineTest {
             testListener.verifyViolation(methodRuleInLibrary, UnwantedClass.CLASS_VIOLATING_RULES.getSimpleName());
         }
 
+        @Test
+        void rules_in_parallel_if_enabled() {
+            simulateCachedClassesForTest(SimpleRuleLibrary.class, UnwantedClass.CLASS_VIOLATING_RULES);
+            simulateCachedClassesForTest(SimpleRuleField.class, UnwantedClass.CLASS_SATISFYING_RULES);
+
+            EngineExecutionTestListener testListener = execute(engineId, new EngineDiscoveryTestRequest()
+                    .withClass(SimpleRuleLibrary.class)
+                    .withClass(SimpleRuleField.class)
+                    .withConfigurationParameter(ArchUnitTestEngine.PARALLEL_EXECUTION_ENABLED_PROPERTY_NAME, "true")
+                    .withConfigurationParameter(ArchUnitTestEngine.PARALLEL_CONFIG_PREFIX + "strategy", "fixed")
+                    .withConfigurationParameter(ArchUnitTestEngine.PARALLEL_CONFIG_PREFIX + "fixed.parallelism", "4"));
+
+            getExpectedIdsForSimpleRuleLibrary(engineId).forEach(testId ->
+                    testListener.verifyViolation(testId, UnwantedClass.CLASS_VIOLATING_RULES.getSimpleName()));
+            testListener.verifySuccessful(simpleRuleFieldTestId(engineId));
+        }
+
         @Test
         void passes_AnalyzeClasses_to_cache() {
             execute(createEngineId(), FullAnalyzeClassesSpec.class);
@@ -15,24 +15,31 @@
  */
 package com.tngtech.archunit.junit;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashSet;
-import java.util.Map;
+import java.util.List;
 import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Throwables;
 import com.google.common.cache.CacheBuilder;
 import com.google.common.cache.CacheLoader;
 import com.google.common.cache.LoadingCache;
+import com.google.common.cache.Weigher;
 import com.google.common.collect.ImmutableSet;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import com.tngtech.archunit.ArchConfiguration;
 import com.tngtech.archunit.core.domain.JavaClasses;
 import com.tngtech.archunit.core.importer.ClassFileImporter;
 import com.tngtech.archunit.core.importer.ImportOption;
 import com.tngtech.archunit.core.importer.ImportOptions;
 import com.tngtech.archunit.core.importer.Location;
 import com.tngtech.archunit.core.importer.Locations;
+import com.tngtech.archunit.core.importer.ParsedLocation;
 
 import static com.google.common.base.Preconditions.checkNotNull;
 import static com.tngtech.archunit.junit.CacheMode.FOREVER;
@@ -45,23 +52,59 @@ import static com.tngtech.archunit.junit.ReflectionUtils.newInstanceOf;
  * i.e. if two test classes <code>ATest</code> and <code>BTest</code>
  * import the same locations (e.g. packages, URLs, etc.), the imported {@link JavaClasses} from <code>ATest</code> will be
  * reused for <code>BTest</code>. This behavior can be controlled by the supplied {@link CacheMode}.
+ * Concurrent requests for the same locations will wait for the one import in progress instead of importing again.
  * <br><br>
- * Important information regarding performance: The cache uses soft references, meaning that a small heap
+ * If enabled via {@link #LOCATION_CACHE_PROPERTY_NAME}, the parsed class files are furthermore cached per single {@link Location},
+ * i.e. if <code>ATest</code> imports the locations A and B and <code>BTest</code> imports the locations B and C,
+ * B will only be scanned and parsed once.
+ * <br><br>
+ * Important information regarding performance: The cache of {@link JavaClasses} uses soft references, meaning that a small heap
  * may dramatically reduce performance, if multiple test classes are executed.
  * The cache will hold imported classes as long as there is sufficient memory, and reuse them, if the same
- * locations (i.e. URLs) are imported.
+ * locations (i.e. URLs) are imported. The parsed class files per {@link Location} are held in addition to these
+ * {@link JavaClasses}, but only up to a configurable heap budget (compare {@link #HEAP_BUDGET_PROPERTY_NAME}),
+ * evicting the least recently used {@link Location Locations} first.
  */
 class ClassCache {
+    /**
+     * Whether to cache the parsed class files of single {@link Location Locations}, by default {@code false}
+     */
+    static final String LOCATION_CACHE_PROPERTY_NAME = "junit.cache.parsedLocations.enabled";
+    /**
+     * Maximum heap in megabytes to hold parsed class files of single {@link Location Locations},
+     * by default a quarter of the maximum heap
+     */
+    static final String HEAP_BUDGET_PROPERTY_NAME = "junit.cache.heapBudgetInMegabytes";
+    private static final long BYTES_PER_MEGABYTE = 1024 * 1024;
+
     @VisibleForTesting
-    final Map<Class<?>, JavaClasses> cachedByTest = new ConcurrentHashMap<>();
+    final ConcurrentMap<Class<?>, JavaClasses> cachedByTest = new ConcurrentHashMap<>();
     @VisibleForTesting
-    final LoadingCache<LocationsKey, LazyJavaClasses> cachedByLocations =
-            CacheBuilder.newBuilder().softValues().build(new CacheLoader<LocationsKey, LazyJavaClasses>() {
+    final LoadingCache<LocationsKey, JavaClasses> cachedByLocations =
+            CacheBuilder.newBuilder().softValues().build(new CacheLoader<LocationsKey, JavaClasses>() {
                 @Override
-                public LazyJavaClasses load(LocationsKey key) {
-                    return new LazyJavaClasses(key.locations, key.importOptionTypes);
+                public JavaClasses load(LocationsKey key) {
+                    return isLocationCacheEnabled()
+                            ? importParsed(key)
+                            : cacheClassFileImporter.importClasses(createImportOptions(key.importOptionTypes), key.locations);
                 }
             });
+    @VisibleForTesting
+    final LoadingCache<LocationKey, ParsedLocation> parsedByLocation =
+            CacheBuilder.newBuilder()
+                    .maximumWeight(determineHeapBudgetInBytes())
+                    .weigher(new Weigher<LocationKey, ParsedLocation>() {
+                        @Override
+                        public int weigh(LocationKey key, ParsedLocation value) {
+                            return (int) Math.min(value.getSizeInBytes(), Integer.MAX_VALUE);
+                        }
+                    })
+                    .build(new CacheLoader<LocationKey, ParsedLocation>() {
+                        @Override
+                        public ParsedLocation load(LocationKey key) {
+                            return cacheClassFileImporter.parse(createImportOptions(key.importOptionTypes), key.location);
+                        }
+                    });
 
     private CacheClassFileImporter cacheClassFileImporter = new CacheClassFileImporter();
 
@@ -69,50 +112,65 @@ class ClassCache {
         checkNotNull(testClass);
         checkNotNull(classAnalysisRequest);
 
-        if (cachedByTest.containsKey(testClass)) {
-            return cachedByTest.get(testClass);
+        JavaClasses cached = cachedByTest.get(testClass);
+        if (cached != null) {
+            return cached;
         }
 
         LocationsKey locations = RequestedLocations.by(classAnalysisRequest, testClass).asKey();
 
         JavaClasses classes = classAnalysisRequest.getCacheMode() == FOREVER
-                ? cachedByLocations.getUnchecked(locations).get()
-                : new LazyJavaClasses(locations.locations, locations.importOptionTypes).get();
+                ? getCachedByLocations(locations)
+                : cacheClassFileImporter.importClasses(createImportOptions(locations.importOptionTypes), locations.locations);
 
-        cachedByTest.put(testClass, classes);
-        return classes;
+        JavaClasses concurrentlyCached = cachedByTest.putIfAbsent(testClass, classes);
+        return concurrentlyCached != null ? concurrentlyCached : classes;
     }
 
-    void clear(Class<?> testClass) {
-        cachedByTest.remove(testClass);
+    private JavaClasses getCachedByLocations(LocationsKey locations) {
+        return getFrom(cachedByLocations, locations);
     }
 
-    private class LazyJavaClasses {
-        private final Set<Location> locations;
-        private final Set<Class<? extends ImportOption>> importOptionTypes;
-        private volatile JavaClasses javaClasses;
-
-        private LazyJavaClasses(Set<Location> locations, Set<Class<? extends ImportOption>> importOptionTypes) {
-            this.locations = locations;
-            this.importOptionTypes = importOptionTypes;
+    private JavaClasses importParsed(LocationsKey key) {
+        List<ParsedLocation> parsedLocations = new ArrayList<>();
+        for (Location location : key.locations) {
+            parsedLocations.add(getFrom(parsedByLocation, new LocationKey(key.importOptionTypes, location)));
         }
+        return cacheClassFileImporter.importParsed(parsedLocations);
+    }
 
-        public JavaClasses get() {
-            if (javaClasses == null) {
-                initialize();
-            }
-            return javaClasses;
+    // A loading cache blocks concurrent requests for the same key until the value is loaded,
+    // so there is only one import in progress per key. Failures are rethrown as they would have been without the cache.
+    private static <K, V> V getFrom(LoadingCache<K, V> cache, K key) {
+        try {
+            return cache.getUnchecked(key);
+        } catch (UncheckedExecutionException e) {
+            Throwables.throwIfUnchecked(e.getCause());
+            throw e;
         }
+    }
 
-        private synchronized void initialize() {
-            if (javaClasses == null) {
-                ImportOptions importOptions = new ImportOptions();
-                for (Class<? extends ImportOption> optionClass : importOptionTypes) {
-                    importOptions = importOptions.with(newInstanceOf(optionClass));
-                }
-                javaClasses = cacheClassFileImporter.importClasses(importOptions, locations);
-            }
+    private static ImportOptions createImportOptions(Set<Class<? extends ImportOption>> importOptionTypes) {
+        ImportOptions importOptions = new ImportOptions();
+        for (Class<? extends ImportOption> optionClass : importOptionTypes) {
+            importOptions = importOptions.with(newInstanceOf(optionClass));
         }
+        return importOptions;
+    }
+
+    private static boolean isLocationCacheEnabled() {
+        return Boolean.parseBoolean(ArchConfiguration.get().getPropertyOrDefault(LOCATION_CACHE_PROPERTY_NAME, Boolean.FALSE.toString()));
+    }
+
+    private static long determineHeapBudgetInBytes() {
+        String configuredBudget = ArchConfiguration.get().getPropertyOrDefault(HEAP_BUDGET_PROPERTY_NAME, "");
+        return configuredBudget.isEmpty()
+                ? Runtime.getRuntime().maxMemory() / 4
+                : Long.parseLong(configuredBudget.trim()) * BYTES_PER_MEGABYTE;
+    }
+
+    void clear(Class<?> testClass) {
+        cachedByTest.remove(testClass);
     }
 
     // Used for testing -> that's also the reason it's declared top level
@@ -120,6 +178,42 @@ class ClassCache {
         JavaClasses importClasses(ImportOptions importOptions, Collection<Location> locations) {
             return new ClassFileImporter(importOptions).importLocations(locations);
         }
+
+        ParsedLocation parse(ImportOptions importOptions, Location location) {
+            return new ClassFileImporter(importOptions).parse(location);
+        }
+
+        JavaClasses importParsed(Collection<ParsedLocation> parsedLocations) {
+            return new ClassFileImporter().importParsedLocations(parsedLocations);
+        }
+    }
+
+    private static class LocationKey {
+        private final Set<Class<? extends ImportOption>> importOptionTypes;
+        private final Location location;
+
+        private LocationKey(Set<Class<? extends ImportOption>> importOptionTypes, Location location) {
+            this.importOptionTypes = importOptionTypes;
+            this.location = location;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(importOptionTypes, location);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (obj == null || getClass() != obj.getClass()) {
+                return false;
+            }
+            final LocationKey other = (LocationKey) obj;
+            return Objects.equals(this.importOptionTypes, other.importOptionTypes)
+                    && Objects.equals(this.location, other.location);
+        }
     }
 
     private static class LocationsKey {
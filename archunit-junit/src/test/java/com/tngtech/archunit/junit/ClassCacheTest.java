@@ -1,15 +1,20 @@
 package com.tngtech.archunit.junit;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
 import java.util.Set;
 
+import com.google.common.collect.ImmutableList;
+import com.tngtech.archunit.ArchConfiguration;
 import com.tngtech.archunit.core.domain.JavaClass;
 import com.tngtech.archunit.core.domain.JavaClasses;
 import com.tngtech.archunit.core.importer.ImportOption;
 import com.tngtech.archunit.core.importer.ImportOptions;
 import com.tngtech.archunit.core.importer.Location;
 import com.tngtech.archunit.core.importer.Locations;
+import com.tngtech.archunit.core.importer.ParsedLocation;
 import com.tngtech.archunit.junit.ClassCache.CacheClassFileImporter;
 import com.tngtech.archunit.testutil.ArchConfigurationRule;
 import com.tngtech.java.junit.dataprovider.DataProvider;
@@ -32,6 +37,7 @@ import static com.tngtech.archunit.testutil.Assertions.assertThatTypes;
 import static com.tngtech.java.junit.dataprovider.DataProviders.testForEach;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
@@ -87,7 +93,31 @@ public class ClassCacheTest {
         assertThat(cache.cachedByLocations.asMap()).as("Classes cached by location").isEmpty();
 
         cache.getClassesToAnalyzeFor(EquivalentTestClass.class, analyzePackages("com.tngtech.archunit.junit").withCacheMode(PER_CLASS));
-        verifyNumberOfImports(2);
+        verify(cacheClassFileImporter, times(2)).importClasses(any(ImportOptions.class), ArgumentMatchers.<Location>anyCollection());
+        verifyNoMoreInteractions(cacheClassFileImporter);
+    }
+
+    @Test
+    public void doesnt_cache_parsed_locations_by_default() {
+        cache.getClassesToAnalyzeFor(TestClass.class, analyzePackages("com.tngtech.archunit.junit"));
+
+        assertThat(cache.parsedByLocation.asMap()).as("Parsed locations").isEmpty();
+        verifyNumberOfImports(1);
+    }
+
+    @Test
+    public void reuses_parsed_locations_shared_by_different_locations() {
+        ArchConfiguration.get().setProperty(ClassCache.LOCATION_CACHE_PROPERTY_NAME, "true");
+
+        cache.getClassesToAnalyzeFor(TestClass.class, new TestAnalysisRequest().withLocationProviders(
+                TestLocationProviderOfClass_String.class, TestLocationProviderOfClass_Rule.class));
+        JavaClasses classes = cache.getClassesToAnalyzeFor(EquivalentTestClass.class, new TestAnalysisRequest().withLocationProviders(
+                TestLocationProviderOfClass_Rule.class, TestLocationProviderOfClass_ClassCacheTest.class));
+
+        assertThatTypes(classes).contain(Rule.class, getClass());
+        assertThatTypes(classes).doNotContain(String.class);
+        verify(cacheClassFileImporter, times(3)).parse(any(ImportOptions.class), any(Location.class));
+        verifyNumberOfImportsOfParsedLocations(2);
     }
 
     @Test
@@ -218,6 +248,24 @@ public class ClassCacheTest {
         verifyNoMoreInteractions(cacheClassFileImporter);
     }
 
+    private void verifyNumberOfImportsOfParsedLocations(int number) {
+        verifyEachLocationIsParsedOnlyOnce();
+        verify(cacheClassFileImporter, times(number)).importParsed(ArgumentMatchers.<ParsedLocation>anyCollection());
+        verifyNoMoreInteractions(cacheClassFileImporter);
+    }
+
+    private void verifyEachLocationIsParsedOnlyOnce() {
+        ArgumentCaptor<ImportOptions> importOptions = ArgumentCaptor.forClass(ImportOptions.class);
+        ArgumentCaptor<Location> locations = ArgumentCaptor.forClass(Location.class);
+        verify(cacheClassFileImporter, atLeastOnce()).parse(importOptions.capture(), locations.capture());
+
+        List<List<Object>> parsed = new ArrayList<>();
+        for (int i = 0; i < locations.getAllValues().size(); i++) {
+            parsed.add(ImmutableList.<Object>of(importOptions.getAllValues().get(i), locations.getAllValues().get(i)));
+        }
+        assertThat(parsed).as("parsed import options and locations").doesNotHaveDuplicates();
+    }
+
     public static class TestClass {
     }
 
@@ -258,6 +306,13 @@ public class ClassCacheTest {
         }
     }
 
+    static class TestLocationProviderOfClass_ClassCacheTest implements LocationProvider {
+        @Override
+        public Set<Location> get(Class<?> testClass) {
+            return Locations.ofClass(ClassCacheTest.class);
+        }
+    }
+
     static class WrongLocationProviderWithConstructorParam implements LocationProvider {
         @SuppressWarnings("unused")
         public WrongLocationProviderWithConstructorParam(String illegalParameter) {
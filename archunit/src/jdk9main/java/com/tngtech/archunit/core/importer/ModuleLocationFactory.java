@@ -167,6 +167,13 @@ class ModuleLocationFactory implements Location.Factory {
                             String.format("Entry %s parsed from JRT location %s could not be opened. This is most likely a bug.", entry, location))));
         }
 
+        @Override
+        public byte[] readBytes() throws IOException {
+            try (InputStream stream = openStream()) {
+                return stream.readAllBytes();
+            }
+        }
+
         @Override
         public URI getUri() {
             return location.asURI();
@@ -34,6 +34,7 @@ import com.tngtech.archunit.core.importer.resolvers.ClassResolver;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
 import static com.tngtech.archunit.PublicAPI.Usage.ACCESS;
 import static com.tngtech.archunit.base.ClassLoaders.getCurrentClassLoader;
@@ -50,6 +51,20 @@ public final class ArchConfiguration {
     static final String CLASS_RESOLVER_ARGS = "classResolver.args";
     @Internal
     public static final String ENABLE_MD5_IN_CLASS_SOURCES = "enableMd5InClassSources";
+    @Internal
+    public static final String IMPORT_THREADS = "import.threads";
+    private static final String IMPORT_THREADS_DEFAULT = "1";
+    @Internal
+    public static final String ACCESS_INDEX_THREADS = "accessIndex.threads";
+    private static final String ACCESS_INDEX_THREADS_DEFAULT = "1";
+    @Internal
+    public static final String IMPORT_CACHE_DIRECTORY = "import.cacheDirectory";
+    @Internal
+    public static final String ENABLE_EVALUATION_STATISTICS = "evaluation.statistics";
+    @Internal
+    public static final String RETAIN_ALLOWED_EVENTS = "evaluation.retainAllowedEvents";
+    @Internal
+    public static final String MAX_RETAINED_VIOLATIONS = "evaluation.maxRetainedViolations";
     private static final String EXTENSION_PREFIX = "extension";
 
     private static final Logger LOG = LoggerFactory.getLogger(ArchConfiguration.class);
@@ -120,6 +135,111 @@ public final class ArchConfiguration {
         properties.setProperty(ENABLE_MD5_IN_CLASS_SOURCES, String.valueOf(enabled));
     }
 
+    /**
+     * @return The number of threads used to parse class files during the import.
+     *         A value of {@code 1} (the default) will do all work sequentially on the calling thread, a value of {@code 0} will use
+     *         one thread per available processor.
+     */
+    @PublicAPI(usage = ACCESS)
+    public int getImportThreads() {
+        return Integer.parseInt(properties.getProperty(IMPORT_THREADS, IMPORT_THREADS_DEFAULT).trim());
+    }
+
+    @PublicAPI(usage = ACCESS)
+    public void setImportThreads(int numberOfThreads) {
+        checkArgument(numberOfThreads >= 0, "Number of import threads must be >= 0, but was %s", numberOfThreads);
+        properties.setProperty(IMPORT_THREADS, String.valueOf(numberOfThreads));
+    }
+
+    /**
+     * @return The number of threads used to index the accesses to the members of imported classes by their resolved targets
+     *         (compare {@link com.tngtech.archunit.core.domain.JavaMember#getAccessesToSelf()}). In contrast to the import,
+     *         this happens lazily, the first time the accesses to any member are requested, i.e. typically while rules are evaluated.
+     *         A value of {@code 1} (the default) will do all work sequentially on the calling thread, a value of {@code 0} will use
+     *         one thread per available processor.
+     */
+    @PublicAPI(usage = ACCESS)
+    public int getAccessIndexThreads() {
+        return Integer.parseInt(properties.getProperty(ACCESS_INDEX_THREADS, ACCESS_INDEX_THREADS_DEFAULT).trim());
+    }
+
+    @PublicAPI(usage = ACCESS)
+    public void setAccessIndexThreads(int numberOfThreads) {
+        checkArgument(numberOfThreads >= 0, "Number of access index threads must be >= 0, but was %s", numberOfThreads);
+        properties.setProperty(ACCESS_INDEX_THREADS, String.valueOf(numberOfThreads));
+    }
+
+    /**
+     * @return The directory to persist data about imported class files to, so later imports can reuse it for unchanged
+     *         class files and JAR archives. If absent (the default), all class files will be parsed on every import.
+     */
+    @PublicAPI(usage = ACCESS)
+    public Optional<String> getImportCacheDirectory() {
+        return Optional.fromNullable(properties.getProperty(IMPORT_CACHE_DIRECTORY));
+    }
+
+    @PublicAPI(usage = ACCESS)
+    public void setImportCacheDirectory(String directory) {
+        properties.setProperty(IMPORT_CACHE_DIRECTORY, directory);
+    }
+
+    @PublicAPI(usage = ACCESS)
+    public void unsetImportCacheDirectory() {
+        properties.remove(IMPORT_CACHE_DIRECTORY);
+    }
+
+    /**
+     * @return {@code true}, if evaluating an {@link com.tngtech.archunit.lang.ArchRule ArchRule} should record
+     *         {@link com.tngtech.archunit.lang.EvaluationStatistics EvaluationStatistics} (by default {@code false})
+     */
+    @PublicAPI(usage = ACCESS)
+    public boolean evaluationStatisticsEnabled() {
+        return Boolean.parseBoolean(properties.getProperty(ENABLE_EVALUATION_STATISTICS));
+    }
+
+    @PublicAPI(usage = ACCESS)
+    public void setEvaluationStatisticsEnabled(boolean enabled) {
+        properties.setProperty(ENABLE_EVALUATION_STATISTICS, String.valueOf(enabled));
+    }
+
+    /**
+     * @return {@code false}, if evaluating an {@link com.tngtech.archunit.lang.ArchRule ArchRule} should only count
+     *         the {@link com.tngtech.archunit.lang.ConditionEvent ConditionEvents} that do not violate the rule,
+     *         instead of keeping them until the evaluation has finished (by default {@code true})
+     */
+    @PublicAPI(usage = ACCESS)
+    public boolean retainAllowedEvents() {
+        return Boolean.parseBoolean(properties.getProperty(RETAIN_ALLOWED_EVENTS, Boolean.TRUE.toString()));
+    }
+
+    @PublicAPI(usage = ACCESS)
+    public void setRetainAllowedEvents(boolean retain) {
+        properties.setProperty(RETAIN_ALLOWED_EVENTS, String.valueOf(retain));
+    }
+
+    /**
+     * @return The maximum number of violations an evaluated {@link com.tngtech.archunit.lang.ArchRule ArchRule} keeps
+     *         to report. Further violations will only be counted. If absent (the default), all violations will be kept.
+     */
+    @PublicAPI(usage = ACCESS)
+    public Optional<Integer> getMaxRetainedViolations() {
+        String maxRetainedViolations = properties.getProperty(MAX_RETAINED_VIOLATIONS);
+        return maxRetainedViolations != null
+                ? Optional.of(Integer.parseInt(maxRetainedViolations.trim()))
+                : Optional.<Integer>absent();
+    }
+
+    @PublicAPI(usage = ACCESS)
+    public void setMaxRetainedViolations(int maxRetainedViolations) {
+        checkArgument(maxRetainedViolations > 0, "Maximum number of retained violations must be > 0, but was %s", maxRetainedViolations);
+        properties.setProperty(MAX_RETAINED_VIOLATIONS, String.valueOf(maxRetainedViolations));
+    }
+
+    @PublicAPI(usage = ACCESS)
+    public void unsetMaxRetainedViolations() {
+        properties.remove(MAX_RETAINED_VIOLATIONS);
+    }
+
     @PublicAPI(usage = ACCESS)
     public Optional<String> getClassResolver() {
         return Optional.fromNullable(properties.getProperty(CLASS_RESOLVER));
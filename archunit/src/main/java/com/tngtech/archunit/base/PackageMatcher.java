@@ -133,7 +133,15 @@ public final class PackageMatcher {
     @PublicAPI(usage = ACCESS)
     public Optional<Result> match(String aPackage) {
         Matcher matcher = packagePattern.matcher(aPackage);
-        return matcher.matches() ? Optional.of(new Result(matcher)) : Optional.<Result>absent();
+        return matcher.matches() ? Optional.of(new Result(groupsOf(matcher))) : Optional.<Result>absent();
+    }
+
+    private static String[] groupsOf(Matcher matcher) {
+        String[] result = new String[matcher.groupCount() + 1];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = matcher.group(i);
+        }
+        return result;
     }
 
     @Override
@@ -142,20 +150,20 @@ public final class PackageMatcher {
     }
 
     public static final class Result {
-        private final Matcher matcher;
+        private final String[] groups;
 
-        private Result(Matcher matcher) {
-            this.matcher = matcher;
+        Result(String[] groups) {
+            this.groups = groups;
         }
 
         @PublicAPI(usage = ACCESS)
         public int getNumberOfGroups() {
-            return matcher.groupCount();
+            return groups.length - 1;
         }
 
         @PublicAPI(usage = ACCESS)
         public String getGroup(int number) {
-            return matcher.group(number);
+            return groups[number];
         }
     }
 
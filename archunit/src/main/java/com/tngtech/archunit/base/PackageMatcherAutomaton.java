@@ -0,0 +1,315 @@
+/*
+ * Copyright 2014-2021 TNG Technology Consulting GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tngtech.archunit.base;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * Matches package names against several package identifiers (compare {@link PackageMatcher}) at once.
+ * All identifiers are compiled into one program of a nondeterministic automaton, which is then run over the
+ * characters of a package name in a single pass, advancing all alternatives of all identifiers in lockstep
+ * instead of backtracking. The alternatives are kept in the order a backtracking regex would try them,
+ * so the capture groups are the same ones the regex of {@link PackageMatcher} would report.
+ */
+final class PackageMatcherAutomaton {
+    private static final int CHAR = 0;
+    private static final int WORD_CHAR = 1;
+    private static final int SPLIT = 2;
+    private static final int JUMP = 3;
+    private static final int SAVE = 4;
+    private static final int BEGIN = 5;
+    private static final int END = 6;
+    private static final int MATCH = 7;
+
+    private static final int[] NO_CAPTURES = new int[0];
+
+    private final int[] opcodes;
+    private final int[] firstArguments;
+    private final int[] secondArguments;
+    private final int[] startOfIdentifier;
+    private final int[] numberOfGroups;
+
+    private PackageMatcherAutomaton(Compiler compiler) {
+        opcodes = toArray(compiler.opcodes);
+        firstArguments = toArray(compiler.firstArguments);
+        secondArguments = toArray(compiler.secondArguments);
+        startOfIdentifier = toArray(compiler.startOfIdentifier);
+        numberOfGroups = toArray(compiler.numberOfGroups);
+    }
+
+    /**
+     * @return For each package identifier in the order the automaton was compiled from, the groups of the match,
+     * where group 0 is the whole package name, or {@code null}, if the identifier does not match the package name
+     */
+    String[][] match(String aPackage) {
+        Threads current = new Threads(opcodes.length);
+        Threads next = new Threads(opcodes.length);
+        int[] visited = new int[opcodes.length];
+        int length = aPackage.length();
+
+        for (int identifier = 0; identifier < startOfIdentifier.length; identifier++) {
+            int[] captures = numberOfGroups[identifier] > 0 ? emptyCaptures(numberOfGroups[identifier]) : NO_CAPTURES;
+            addThread(current, startOfIdentifier[identifier], captures, 0, length, visited);
+        }
+        for (int position = 0; position < length && current.size > 0; position++) {
+            char c = aPackage.charAt(position);
+            next.size = 0;
+            for (int i = 0; i < current.size; i++) {
+                int pc = current.pcs[i];
+                if ((opcodes[pc] == CHAR && firstArguments[pc] == c) || (opcodes[pc] == WORD_CHAR && isWordChar(c))) {
+                    addThread(next, pc + 1, current.captures[i], position + 1, length, visited);
+                }
+            }
+            Threads swap = current;
+            current = next;
+            next = swap;
+        }
+
+        String[][] result = new String[startOfIdentifier.length][];
+        for (int i = 0; i < current.size; i++) {
+            int pc = current.pcs[i];
+            // only the first thread of each identifier counts, since it took the alternatives a regex would have preferred
+            if (opcodes[pc] == MATCH && result[firstArguments[pc]] == null) {
+                result[firstArguments[pc]] = groupsOf(aPackage, current.captures[i]);
+            }
+        }
+        return result;
+    }
+
+    // Follows all jumps, splits and assertions depth first, so the threads are added in the order of their priority.
+    // A pc already reached at this position has been reached by a thread with higher priority, thus can be skipped.
+    private void addThread(Threads threads, int pc, int[] captures, int position, int length, int[] visited) {
+        if (visited[pc] == position + 1) {
+            return;
+        }
+        visited[pc] = position + 1;
+
+        switch (opcodes[pc]) {
+            case JUMP:
+                addThread(threads, firstArguments[pc], captures, position, length, visited);
+                return;
+            case SPLIT:
+                addThread(threads, firstArguments[pc], captures, position, length, visited);
+                addThread(threads, secondArguments[pc], captures, position, length, visited);
+                return;
+            case SAVE:
+                int[] updatedCaptures = captures.clone();
+                updatedCaptures[firstArguments[pc]] = position;
+                addThread(threads, pc + 1, updatedCaptures, position, length, visited);
+                return;
+            case BEGIN:
+                if (position == 0) {
+                    addThread(threads, pc + 1, captures, position, length, visited);
+                }
+                return;
+            case END:
+                if (position == length) {
+                    addThread(threads, pc + 1, captures, position, length, visited);
+                }
+                return;
+            default:
+                threads.add(pc, captures);
+        }
+    }
+
+    private static String[] groupsOf(String aPackage, int[] captures) {
+        String[] result = new String[captures.length / 2 + 1];
+        result[0] = aPackage;
+        for (int group = 1; group < result.length; group++) {
+            int start = captures[2 * (group - 1)];
+            int end = captures[2 * (group - 1) + 1];
+            result[group] = start >= 0 && end >= 0 ? aPackage.substring(start, end) : null;
+        }
+        return result;
+    }
+
+    private static int[] emptyCaptures(int numberOfGroups) {
+        int[] result = new int[2 * numberOfGroups];
+        Arrays.fill(result, -1);
+        return result;
+    }
+
+    // equivalent to the regex character class '\w'
+    private static boolean isWordChar(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9') || c == '_';
+    }
+
+    private static int[] toArray(List<Integer> list) {
+        int[] result = new int[list.size()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = list.get(i);
+        }
+        return result;
+    }
+
+    /**
+     * @param packageIdentifiers Package identifiers, which must already have been validated by {@link PackageMatcher#of(String)}
+     */
+    static PackageMatcherAutomaton compile(Iterable<String> packageIdentifiers) {
+        Compiler compiler = new Compiler();
+        for (String packageIdentifier : packageIdentifiers) {
+            compiler.compile(packageIdentifier);
+        }
+        return new PackageMatcherAutomaton(compiler);
+    }
+
+    private static class Threads {
+        private final int[] pcs;
+        private final int[][] captures;
+        private int size;
+
+        Threads(int capacity) {
+            pcs = new int[capacity];
+            captures = new int[capacity][];
+        }
+
+        void add(int pc, int[] captures) {
+            pcs[size] = pc;
+            this.captures[size] = captures;
+            size++;
+        }
+    }
+
+    /**
+     * Emits the same structure as the regex {@link PackageMatcher} creates from a package identifier, i.e.
+     * <ul>
+     * <li>'*' as '\w+'</li>
+     * <li>'(**)' as '(\w+(?:\.\w+)*)'</li>
+     * <li>'..' as '(?:(?:^\w*)?\.(?:\w+\.)*(?:\w*$)?)?'</li>
+     * </ul>
+     * while all other characters, including the parentheses of capture groups, keep their meaning as regex.
+     */
+    private static class Compiler {
+        private final List<Integer> opcodes = new ArrayList<>();
+        private final List<Integer> firstArguments = new ArrayList<>();
+        private final List<Integer> secondArguments = new ArrayList<>();
+        private final List<Integer> startOfIdentifier = new ArrayList<>();
+        private final List<Integer> numberOfGroups = new ArrayList<>();
+
+        void compile(String packageIdentifier) {
+            startOfIdentifier.add(opcodes.size());
+            int groups = 0;
+            Deque<Integer> openGroups = new ArrayDeque<>();
+            int position = 0;
+            while (position < packageIdentifier.length()) {
+                if (packageIdentifier.startsWith("(**)", position)) {
+                    int group = groups++;
+                    emit(SAVE, 2 * group);
+                    emitWordChars();
+                    emitDotsFollowedByWordChars();
+                    emit(SAVE, 2 * group + 1);
+                    position += 4;
+                } else if (packageIdentifier.startsWith("..", position)) {
+                    emitTwoDots();
+                    position += 2;
+                } else {
+                    char c = packageIdentifier.charAt(position);
+                    if (c == '(') {
+                        openGroups.push(groups);
+                        emit(SAVE, 2 * groups++);
+                    } else if (c == ')') {
+                        emit(SAVE, 2 * openGroups.pop() + 1);
+                    } else if (c == '*') {
+                        emitWordChars();
+                    } else if (c == '$') {
+                        emit(END);
+                    } else {
+                        emit(CHAR, c);
+                    }
+                    position++;
+                }
+            }
+            emit(MATCH, startOfIdentifier.size() - 1);
+            numberOfGroups.add(groups);
+        }
+
+        // \w+
+        private void emitWordChars() {
+            int start = emit(WORD_CHAR);
+            emit(SPLIT, start, opcodes.size() + 1);
+        }
+
+        // \w*
+        private void emitOptionalWordChars() {
+            int split = emitSplitToNext();
+            emit(WORD_CHAR);
+            emit(JUMP, split);
+            patchSecondArgument(split);
+        }
+
+        // (?:\.\w+)*
+        private void emitDotsFollowedByWordChars() {
+            int split = emitSplitToNext();
+            emit(CHAR, '.');
+            emitWordChars();
+            emit(JUMP, split);
+            patchSecondArgument(split);
+        }
+
+        // (?:(?:^\w*)?\.(?:\w+\.)*(?:\w*$)?)?
+        private void emitTwoDots() {
+            int optionalTwoDots = emitSplitToNext();
+
+            int optionalStart = emitSplitToNext();
+            emit(BEGIN);
+            emitOptionalWordChars();
+            patchSecondArgument(optionalStart);
+
+            emit(CHAR, '.');
+
+            int packages = emitSplitToNext();
+            emitWordChars();
+            emit(CHAR, '.');
+            emit(JUMP, packages);
+            patchSecondArgument(packages);
+
+            int optionalEnd = emitSplitToNext();
+            emitOptionalWordChars();
+            emit(END);
+            patchSecondArgument(optionalEnd);
+
+            patchSecondArgument(optionalTwoDots);
+        }
+
+        // the preferred alternative is always to enter the following instructions, the other one is patched later on
+        private int emitSplitToNext() {
+            return emit(SPLIT, opcodes.size() + 1, -1);
+        }
+
+        private void patchSecondArgument(int pc) {
+            secondArguments.set(pc, opcodes.size());
+        }
+
+        private int emit(int opcode) {
+            return emit(opcode, -1, -1);
+        }
+
+        private int emit(int opcode, int firstArgument) {
+            return emit(opcode, firstArgument, -1);
+        }
+
+        private int emit(int opcode, int firstArgument, int secondArgument) {
+            opcodes.add(opcode);
+            firstArguments.add(firstArgument);
+            secondArguments.add(secondArgument);
+            return opcodes.size() - 1;
+        }
+    }
+}
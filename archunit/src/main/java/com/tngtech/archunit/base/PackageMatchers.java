@@ -16,25 +16,38 @@
 package com.tngtech.archunit.base;
 
 import java.util.Collection;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import com.google.common.base.Joiner;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
 import com.tngtech.archunit.PublicAPI;
 
 import static com.tngtech.archunit.PublicAPI.Usage.ACCESS;
 
+/**
+ * Matches packages against several package identifiers (compare {@link PackageMatcher}) at once.
+ * The identifiers are compiled into a single automaton, so a package name is matched against all of them
+ * in one pass over its characters. Since the same packages are usually matched again and again for each class
+ * they contain, the result is memoized per package name.
+ */
 @PublicAPI(usage = ACCESS)
 public final class PackageMatchers extends DescribedPredicate<String> {
-    private final Set<PackageMatcher> packageMatchers;
+    private final ImmutableList<String> packageIdentifiers;
+    private final PackageMatcherAutomaton automaton;
+    private final Map<String, Map<String, PackageMatcher.Result>> resultsByPackage = new ConcurrentHashMap<>();
 
     private PackageMatchers(Set<String> packageIdentifiers) {
         super("matches any of ['%s']", Joiner.on("', '").join(packageIdentifiers));
-        ImmutableSet.Builder<PackageMatcher> matchers = ImmutableSet.builder();
         for (String identifier : packageIdentifiers) {
-            matchers.add(PackageMatcher.of(identifier));
+            // validates the identifiers, e.g. rejects unbalanced parentheses
+            PackageMatcher.of(identifier);
         }
-        packageMatchers = matchers.build();
+        this.packageIdentifiers = ImmutableList.copyOf(packageIdentifiers);
+        automaton = PackageMatcherAutomaton.compile(packageIdentifiers);
     }
 
     @PublicAPI(usage = ACCESS)
@@ -50,10 +63,35 @@ public final class PackageMatchers extends DescribedPredicate<String> {
     @Override
     @PublicAPI(usage = ACCESS)
     public boolean apply(String aPackage) {
-        boolean matches = false;
-        for (PackageMatcher matcher : packageMatchers) {
-            matches = matches || matcher.matches(aPackage);
+        return !match(aPackage).isEmpty();
+    }
+
+    /**
+     * Matches the given package name against all package identifiers of these {@link PackageMatchers}.
+     *
+     * @param aPackage The package name to match against
+     * @return The {@link PackageMatcher.Result Result} for each package identifier that matches the package name,
+     * in the order the identifiers were supplied. If no identifier matches, the map is empty.
+     * @see PackageMatcher#match(String)
+     */
+    @PublicAPI(usage = ACCESS)
+    public Map<String, PackageMatcher.Result> match(String aPackage) {
+        Map<String, PackageMatcher.Result> result = resultsByPackage.get(aPackage);
+        if (result == null) {
+            result = matchAll(aPackage);
+            resultsByPackage.put(aPackage, result);
+        }
+        return result;
+    }
+
+    private Map<String, PackageMatcher.Result> matchAll(String aPackage) {
+        String[][] groupsByIdentifier = automaton.match(aPackage);
+        ImmutableMap.Builder<String, PackageMatcher.Result> result = ImmutableMap.builder();
+        for (int i = 0; i < groupsByIdentifier.length; i++) {
+            if (groupsByIdentifier[i] != null) {
+                result.put(packageIdentifiers.get(i), new PackageMatcher.Result(groupsByIdentifier[i]));
+            }
         }
-        return matches;
+        return result.build();
     }
 }
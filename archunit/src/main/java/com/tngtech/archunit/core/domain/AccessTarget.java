@@ -222,6 +222,16 @@ public abstract class AccessTarget implements HasName.AndFullName, CanBeAnnotate
 
     abstract String getDescription();
 
+    // resolve() is called again and again during rule evaluation, so the result should not be recreated every time
+    private static <T> Supplier<Set<T>> memoizedSetOf(final Supplier<Optional<T>> optional) {
+        return Suppliers.memoize(new Supplier<Set<T>>() {
+            @Override
+            public Set<T> get() {
+                return optional.get().asSet();
+            }
+        });
+    }
+
     public static final class Functions {
         private Functions() {
         }
@@ -244,11 +254,13 @@ public abstract class AccessTarget implements HasName.AndFullName, CanBeAnnotate
     public static final class FieldAccessTarget extends AccessTarget implements HasType {
         private final JavaClass type;
         private final Supplier<Optional<JavaField>> field;
+        private final Supplier<Set<JavaField>> fields;
 
         FieldAccessTarget(FieldAccessTargetBuilder builder) {
             super(builder.getOwner(), builder.getName(), builder.getFullName());
             this.type = builder.getType();
             this.field = Suppliers.memoize(builder.getField());
+            this.fields = memoizedSetOf(field);
         }
 
         @Override
@@ -278,7 +290,7 @@ public abstract class AccessTarget implements HasName.AndFullName, CanBeAnnotate
         @Override
         @PublicAPI(usage = ACCESS)
         public Set<JavaField> resolve() {
-            return resolveField().asSet();
+            return fields.get();
         }
 
         @Override
@@ -384,10 +396,12 @@ public abstract class AccessTarget implements HasName.AndFullName, CanBeAnnotate
 
     public static final class ConstructorCallTarget extends CodeUnitCallTarget {
         private final Supplier<Optional<JavaConstructor>> constructor;
+        private final Supplier<Set<JavaConstructor>> constructors;
 
         ConstructorCallTarget(ConstructorCallTargetBuilder builder) {
             super(builder);
-            constructor = builder.getConstructor();
+            constructor = Suppliers.memoize(builder.getConstructor());
+            constructors = memoizedSetOf(constructor);
         }
 
         /**
@@ -406,7 +420,7 @@ public abstract class AccessTarget implements HasName.AndFullName, CanBeAnnotate
         @Override
         @PublicAPI(usage = ACCESS)
         public Set<JavaConstructor> resolve() {
-            return resolveConstructor().asSet();
+            return constructors.get();
         }
 
         @Override
@@ -15,11 +15,13 @@
  */
 package com.tngtech.archunit.core.domain;
 
+import java.util.Comparator;
 import java.util.HashSet;
 import java.util.Objects;
 import java.util.Set;
 
 import com.google.common.base.MoreObjects;
+import com.google.common.base.Supplier;
 import com.google.common.collect.ComparisonChain;
 import com.google.common.collect.ImmutableSet;
 import com.tngtech.archunit.PublicAPI;
@@ -27,10 +29,10 @@ import com.tngtech.archunit.base.ChainableFunction;
 import com.tngtech.archunit.base.DescribedPredicate;
 import com.tngtech.archunit.base.HasDescription;
 import com.tngtech.archunit.base.Optional;
+import com.tngtech.archunit.core.domain.JavaClassDependencyGraph.DependencyType;
 import com.tngtech.archunit.core.domain.properties.HasName;
 import com.tngtech.archunit.core.domain.properties.HasSourceCodeLocation;
 
-import static com.google.common.base.Preconditions.checkArgument;
 import static com.tngtech.archunit.PublicAPI.Usage.ACCESS;
 
 /**
@@ -49,147 +51,187 @@ import static com.tngtech.archunit.PublicAPI.Usage.ACCESS;
  * i.e. <code>origin</code> will never be equal to <code>target</code>.
  */
 public class Dependency implements HasDescription, Comparable<Dependency>, HasSourceCodeLocation {
+    private static final Comparator<Dependency> BY_DESCRIPTION = new Comparator<Dependency>() {
+        @Override
+        public int compare(Dependency first, Dependency second) {
+            return first.getDescription().compareTo(second.getDescription());
+        }
+    };
+
     private final JavaClass originClass;
+    private final HasDescription originElement;
     private final JavaClass targetClass;
     private final int lineNumber;
-    private final String description;
+    private final DependencyType type;
     private final SourceCodeLocation sourceCodeLocation;
+    private final Supplier<String> createDescription;
     private final int hashCode;
+    // Most dependencies are only ever matched by predicates, so the description is only created on first use.
+    // Like String.hashCode() this cache is racy on purpose, the description can always be created again.
+    private String description;
 
-    private Dependency(JavaClass originClass, JavaClass targetClass, int lineNumber, String description) {
-        checkArgument(!originClass.equals(targetClass) || targetClass.isPrimitive(),
-                "Tried to create illegal dependency '%s' (%s -> %s), this is likely a bug!",
-                description, originClass.getSimpleName(), targetClass.getSimpleName());
-
+    private Dependency(JavaClass originClass, HasDescription originElement, JavaClass targetClass, SourceCodeLocation sourceCodeLocation,
+            DependencyType type, Supplier<String> createDescription) {
         this.originClass = originClass;
+        this.originElement = originElement;
         this.targetClass = targetClass;
-        this.lineNumber = lineNumber;
-        this.description = description;
-        this.sourceCodeLocation = SourceCodeLocation.of(originClass, lineNumber);
-        hashCode = Objects.hash(originClass, targetClass, lineNumber, description);
+        this.lineNumber = sourceCodeLocation.getLineNumber();
+        this.type = type;
+        this.sourceCodeLocation = sourceCodeLocation;
+        this.createDescription = createDescription;
+        hashCode = Objects.hash(originClass, originElement, targetClass, lineNumber, type);
+
+        if (originClass.equals(targetClass) && !targetClass.isPrimitive()) {
+            throw new IllegalArgumentException(String.format("Tried to create illegal dependency '%s' (%s -> %s), this is likely a bug!",
+                    getDescription(), originClass.getSimpleName(), targetClass.getSimpleName()));
+        }
     }
 
-    static Set<Dependency> tryCreateFromAccess(JavaAccess<?> access) {
+    static Set<Dependency> tryCreateFromAccess(final JavaAccess<?> access) {
         JavaClass originOwner = access.getOriginOwner();
         JavaClass targetOwner = access.getTargetOwner();
         ImmutableSet.Builder<Dependency> dependencies = ImmutableSet.<Dependency>builder()
-                .addAll(createComponentTypeDependencies(originOwner, access.getOrigin().getDescription(), targetOwner, access.getSourceCodeLocation()));
-        dependencies.addAll(tryCreateDependency(originOwner, targetOwner, access.getDescription(), access.getLineNumber()).asSet());
+                .addAll(createComponentTypeDependencies(originOwner, access.getOrigin(), targetOwner, access.getSourceCodeLocation()));
+        dependencies.addAll(tryCreateDependency(originOwner, access.getOrigin(), targetOwner, access.getSourceCodeLocation(), DependencyType.MEMBER_ACCESS,
+                new Supplier<String>() {
+                    @Override
+                    public String get() {
+                        return access.getDescription();
+                    }
+                }).asSet());
         return dependencies.build();
     }
 
-    static Dependency fromInheritance(JavaClass origin, JavaClass targetSuperType) {
-        String originType = origin.isInterface() ? "Interface" : "Class";
-        String originDescription = originType + " " + bracketFormat(origin.getName());
+    static Dependency fromInheritance(final JavaClass origin, final JavaClass targetSuperType) {
+        Supplier<String> createDescription = new Supplier<String>() {
+            @Override
+            public String get() {
+                String originType = origin.isInterface() ? "Interface" : "Class";
+                String originDescription = originType + " " + bracketFormat(origin.getName());
 
-        String dependencyType = !origin.isInterface() && targetSuperType.isInterface() ? "implements" : "extends";
+                String dependencyType = !origin.isInterface() && targetSuperType.isInterface() ? "implements" : "extends";
 
-        String targetType = targetSuperType.isInterface() ? "interface" : "class";
-        String targetDescription = bracketFormat(targetSuperType.getName());
+                String targetType = targetSuperType.isInterface() ? "interface" : "class";
+                String targetDescription = bracketFormat(targetSuperType.getName());
 
-        String dependencyDescription = originDescription + " " + dependencyType + " " + targetType + " " + targetDescription;
+                String dependencyDescription = originDescription + " " + dependencyType + " " + targetType + " " + targetDescription;
 
-        String description = dependencyDescription + " in " + origin.getSourceCodeLocation();
-        Optional<Dependency> result = tryCreateDependency(origin, targetSuperType, description, 0);
+                return dependencyDescription + " in " + origin.getSourceCodeLocation();
+            }
+        };
+        Optional<Dependency> result = tryCreateDependency(origin, origin, targetSuperType, origin.getSourceCodeLocation(), DependencyType.INHERITANCE, createDescription);
 
         if (!result.isPresent()) {
             throw new IllegalStateException(String.format("Tried to create illegal inheritance dependency '%s' (%s -> %s), this is likely a bug!",
-                    description, origin.getSimpleName(), targetSuperType.getSimpleName()));
+                    createDescription.get(), origin.getSimpleName(), targetSuperType.getSimpleName()));
         }
         return result.get();
     }
 
     static Set<Dependency> tryCreateFromField(JavaField field) {
-        return tryCreateDependencyFromJavaMember(field, "has type", field.getRawType());
+        return tryCreateDependencyFromJavaMember(field, "has type", field.getRawType(), DependencyType.FIELD_TYPE);
     }
 
     static Set<Dependency> tryCreateFromReturnType(JavaMethod method) {
-        return tryCreateDependencyFromJavaMember(method, "has return type", method.getRawReturnType());
+        return tryCreateDependencyFromJavaMember(method, "has return type", method.getRawReturnType(), DependencyType.RETURN_TYPE);
     }
 
     static Set<Dependency> tryCreateFromParameter(JavaCodeUnit codeUnit, JavaClass parameter) {
-        return tryCreateDependencyFromJavaMember(codeUnit, "has parameter of type", parameter);
+        return tryCreateDependencyFromJavaMember(codeUnit, "has parameter of type", parameter, DependencyType.PARAMETER_TYPE);
     }
 
     static Set<Dependency> tryCreateFromThrowsDeclaration(ThrowsDeclaration<? extends JavaCodeUnit> declaration) {
-        return tryCreateDependencyFromJavaMember(declaration.getLocation(), "throws type", declaration.getRawType());
+        return tryCreateDependencyFromJavaMember(declaration.getLocation(), "throws type", declaration.getRawType(), DependencyType.THROWS_DECLARATION);
     }
 
     static Set<Dependency> tryCreateFromInstanceofCheck(InstanceofCheck instanceofCheck) {
-        return tryCreateDependencyFromJavaMemberWithLocation(instanceofCheck.getOwner(), "checks instanceof", instanceofCheck.getRawType(), instanceofCheck.getLineNumber());
+        return tryCreateDependencyFromJavaMemberWithLocation(instanceofCheck.getOwner(), "checks instanceof", instanceofCheck.getRawType(), instanceofCheck.getLineNumber(),
+                DependencyType.INSTANCEOF_CHECK);
     }
 
     static Set<Dependency> tryCreateFromAnnotation(JavaAnnotation<?> target) {
         Origin origin = findSuitableOrigin(target, target.getAnnotatedElement());
-        return tryCreateDependency(origin.originClass, origin.originDescription, "is annotated with", target.getRawType());
+        return tryCreateDependency(origin, "is annotated with", target.getRawType(), DependencyType.ANNOTATION);
     }
 
     static Set<Dependency> tryCreateFromAnnotationMember(JavaAnnotation<?> annotation, JavaClass memberType) {
         Origin origin = findSuitableOrigin(annotation, annotation.getAnnotatedElement());
-        return tryCreateDependency(origin.originClass, origin.originDescription, "has annotation member of type", memberType);
+        return tryCreateDependency(origin, "has annotation member of type", memberType, DependencyType.ANNOTATION_MEMBER_TYPE);
     }
 
     static Set<Dependency> tryCreateFromTypeParameter(JavaTypeVariable<?> typeParameter, JavaClass typeParameterDependency) {
         String dependencyType = "has type parameter '" + typeParameter.getName() + "' depending on";
         Origin origin = findSuitableOrigin(typeParameter, typeParameter.getOwner());
-        return tryCreateDependency(origin.originClass, origin.originDescription, dependencyType, typeParameterDependency);
+        return tryCreateDependency(origin, dependencyType, typeParameterDependency, DependencyType.TYPE_PARAMETER);
     }
 
     private static Origin findSuitableOrigin(Object dependencyCause, Object originCandidate) {
         if (originCandidate instanceof JavaMember) {
             JavaMember member = (JavaMember) originCandidate;
-            return new Origin(member.getOwner(), member.getDescription());
+            return new Origin(member.getOwner(), member);
         }
         if (originCandidate instanceof JavaClass) {
             JavaClass clazz = (JavaClass) originCandidate;
-            return new Origin(clazz, clazz.getDescription());
+            return new Origin(clazz, clazz);
         }
         throw new IllegalStateException("Could not find suitable dependency origin for " + dependencyCause);
     }
 
-    private static Set<Dependency> tryCreateDependencyFromJavaMember(JavaMember origin, String dependencyType, JavaClass target) {
-        return tryCreateDependency(origin.getOwner(), origin.getDescription(), dependencyType, target);
+    private static Set<Dependency> tryCreateDependencyFromJavaMember(JavaMember origin, String dependencyType, JavaClass target, DependencyType type) {
+        return tryCreateDependency(new Origin(origin.getOwner(), origin), dependencyType, target, type);
     }
 
-    private static Set<Dependency> tryCreateDependencyFromJavaMemberWithLocation(JavaMember origin, String dependencyType, JavaClass target, int lineNumber) {
-        return tryCreateDependency(origin.getOwner(), origin.getDescription(), dependencyType, target, SourceCodeLocation.of(origin.getOwner(), lineNumber));
+    private static Set<Dependency> tryCreateDependencyFromJavaMemberWithLocation(
+            JavaMember origin, String dependencyType, JavaClass target, int lineNumber, DependencyType type) {
+        return tryCreateDependency(new Origin(origin.getOwner(), origin), dependencyType, target, SourceCodeLocation.of(origin.getOwner(), lineNumber), type);
     }
 
-    private static Set<Dependency> tryCreateDependency(
-            JavaClass originClass, String originDescription, String dependencyType, JavaClass targetClass) {
-
-        return tryCreateDependency(originClass, originDescription, dependencyType, targetClass, originClass.getSourceCodeLocation());
+    private static Set<Dependency> tryCreateDependency(Origin origin, String dependencyType, JavaClass targetClass, DependencyType type) {
+        return tryCreateDependency(origin, dependencyType, targetClass, origin.originClass.getSourceCodeLocation(), type);
     }
 
     private static Set<Dependency> tryCreateDependency(
-            JavaClass originClass, String originDescription, String dependencyType, JavaClass targetClass, SourceCodeLocation sourceCodeLocation) {
+            final Origin origin, final String dependencyType, final JavaClass targetClass, final SourceCodeLocation sourceCodeLocation, DependencyType type) {
         ImmutableSet.Builder<Dependency> dependencies = ImmutableSet.<Dependency>builder()
-                .addAll(createComponentTypeDependencies(originClass, originDescription, targetClass, sourceCodeLocation));
-        String targetDescription = bracketFormat(targetClass.getName());
-        String dependencyDescription = originDescription + " " + dependencyType + " " + targetDescription;
-        String description = dependencyDescription + " in " + sourceCodeLocation;
-        dependencies.addAll(tryCreateDependency(originClass, targetClass, description, sourceCodeLocation.getLineNumber()).asSet());
+                .addAll(createComponentTypeDependencies(origin.originClass, origin.originElement, targetClass, sourceCodeLocation));
+        dependencies.addAll(tryCreateDependency(origin.originClass, origin.originElement, targetClass, sourceCodeLocation, type,
+                new Supplier<String>() {
+                    @Override
+                    public String get() {
+                        String targetDescription = bracketFormat(targetClass.getName());
+                        String dependencyDescription = origin.originElement.getDescription() + " " + dependencyType + " " + targetDescription;
+                        return dependencyDescription + " in " + sourceCodeLocation;
+                    }
+                }).asSet());
         return dependencies.build();
     }
 
-    private static Set<Dependency> createComponentTypeDependencies(JavaClass originClass, String originDescription, JavaClass targetClass, SourceCodeLocation sourceCodeLocation) {
+    private static Set<Dependency> createComponentTypeDependencies(
+            JavaClass originClass, final HasDescription originElement, JavaClass targetClass, final SourceCodeLocation sourceCodeLocation) {
         ImmutableSet.Builder<Dependency> result = ImmutableSet.builder();
         Optional<JavaClass> componentType = targetClass.tryGetComponentType();
         while (componentType.isPresent()) {
-            String componentTypeTargetDescription = bracketFormat(componentType.get().getName());
-            String componentTypeDependencyDescription = originDescription + " depends on component type " + componentTypeTargetDescription;
-            String componentTypeDescription = componentTypeDependencyDescription + " in " + sourceCodeLocation;
-            result.addAll(tryCreateDependency(originClass, componentType.get(), componentTypeDescription, sourceCodeLocation.getLineNumber()).asSet());
-            componentType = componentType.get().tryGetComponentType();
+            final JavaClass componentTypeClass = componentType.get();
+            result.addAll(tryCreateDependency(originClass, originElement, componentTypeClass, sourceCodeLocation, DependencyType.COMPONENT_TYPE,
+                    new Supplier<String>() {
+                        @Override
+                        public String get() {
+                            String componentTypeTargetDescription = bracketFormat(componentTypeClass.getName());
+                            String componentTypeDependencyDescription = originElement.getDescription() + " depends on component type " + componentTypeTargetDescription;
+                            return componentTypeDependencyDescription + " in " + sourceCodeLocation;
+                        }
+                    }).asSet());
+            componentType = componentTypeClass.tryGetComponentType();
         }
         return result.build();
     }
 
-    private static Optional<Dependency> tryCreateDependency(JavaClass originClass, JavaClass targetClass, String description, int lineNumber) {
+    private static Optional<Dependency> tryCreateDependency(JavaClass originClass, HasDescription originElement, JavaClass targetClass,
+            SourceCodeLocation sourceCodeLocation, DependencyType type, Supplier<String> createDescription) {
         if (originClass.equals(targetClass) || targetClass.isPrimitive()) {
             return Optional.absent();
         }
-        return Optional.of(new Dependency(originClass, targetClass, lineNumber, description));
+        return Optional.of(new Dependency(originClass, originElement, targetClass, sourceCodeLocation, type, createDescription));
     }
 
     private static String bracketFormat(String name) {
@@ -209,7 +251,15 @@ public class Dependency implements HasDescription, Comparable<Dependency>, HasSo
     @Override
     @PublicAPI(usage = ACCESS)
     public String getDescription() {
-        return description;
+        String result = description;
+        if (result == null) {
+            result = description = createDescription.get();
+        }
+        return result;
+    }
+
+    DependencyType getType() {
+        return type;
     }
 
     @Override
@@ -223,10 +273,19 @@ public class Dependency implements HasDescription, Comparable<Dependency>, HasSo
     public int compareTo(Dependency o) {
         return ComparisonChain.start()
                 .compare(lineNumber, o.lineNumber)
-                .compare(getDescription(), o.getDescription())
+                .compare(originClass.getName(), o.originClass.getName())
+                .compare(fullNameOf(originElement), fullNameOf(o.originElement))
+                .compare(targetClass.getName(), o.targetClass.getName())
+                .compare(type, o.type)
+                // like equals(..) only structurally identical dependencies need to be told apart by their description
+                .compare(this, o, BY_DESCRIPTION)
                 .result();
     }
 
+    private static String fullNameOf(HasDescription element) {
+        return element instanceof HasName.AndFullName ? ((HasName.AndFullName) element).getFullName() : element.getDescription();
+    }
+
     @Override
     public int hashCode() {
         return hashCode;
@@ -241,10 +300,15 @@ public class Dependency implements HasDescription, Comparable<Dependency>, HasSo
             return false;
         }
         final Dependency other = (Dependency) obj;
-        return Objects.equals(this.originClass, other.originClass)
+        return hashCode == other.hashCode
+                && Objects.equals(this.originClass, other.originClass)
+                && Objects.equals(this.originElement, other.originElement)
                 && Objects.equals(this.targetClass, other.targetClass)
-                && Objects.equals(this.lineNumber, other.lineNumber)
-                && Objects.equals(this.description, other.description);
+                && this.lineNumber == other.lineNumber
+                && this.type == other.type
+                // dependencies that agree in all structural properties are rare, e.g. calls to different methods of the same class
+                // within one line, only those need to be told apart by their description
+                && Objects.equals(this.getDescription(), other.getDescription());
     }
 
     @Override
@@ -253,7 +317,7 @@ public class Dependency implements HasDescription, Comparable<Dependency>, HasSo
                 .add("originClass", originClass)
                 .add("targetClass", targetClass)
                 .add("lineNumber", lineNumber)
-                .add("description", description)
+                .add("description", getDescription())
                 .toString();
     }
 
@@ -268,11 +332,11 @@ public class Dependency implements HasDescription, Comparable<Dependency>, HasSo
 
     private static class Origin {
         private final JavaClass originClass;
-        private final String originDescription;
+        private final HasDescription originElement;
 
-        private Origin(JavaClass originClass, String originDescription) {
+        private Origin(JavaClass originClass, HasDescription originElement) {
             this.originClass = originClass;
-            this.originDescription = originDescription;
+            this.originElement = originElement;
         }
     }
 
@@ -86,6 +86,34 @@ public class DomainObjectCreationContext {
         javaClass.completeAnnotations(importContext);
     }
 
+    /**
+     * @return The field declared by {@code javaClass} with the given name and descriptor (compare {@link JavaMember#getDescriptor()})
+     */
+    public static Optional<JavaField> tryGetFieldWithDescriptor(JavaClass javaClass, String name, String descriptor) {
+        return javaClass.tryGetFieldWithDescriptor(name, descriptor);
+    }
+
+    /**
+     * @return All fields of {@code javaClass} and its super types with the given name and descriptor
+     */
+    public static List<JavaField> getAllFieldsWithDescriptor(JavaClass javaClass, String name, String descriptor) {
+        return javaClass.getAllFieldsWithDescriptor(name, descriptor);
+    }
+
+    /**
+     * @return The method declared by {@code javaClass} with the given name and descriptor (compare {@link JavaMember#getDescriptor()})
+     */
+    public static Optional<JavaMethod> tryGetMethodWithDescriptor(JavaClass javaClass, String name, String descriptor) {
+        return javaClass.tryGetMethodWithDescriptor(name, descriptor);
+    }
+
+    /**
+     * @return All methods of {@code javaClass} and its super types with the given name and descriptor
+     */
+    public static List<JavaMethod> getAllMethodsWithDescriptor(JavaClass javaClass, String name, String descriptor) {
+        return javaClass.getAllMethodsWithDescriptor(name, descriptor);
+    }
+
     public static <T extends HasDescription> JavaAnnotation<T> createJavaAnnotation(T owner, JavaAnnotationBuilder builder) {
         return new JavaAnnotation<>(owner, builder);
     }
@@ -34,6 +34,7 @@ import com.tngtech.archunit.base.ChainableFunction;
 import com.tngtech.archunit.base.DescribedPredicate;
 import com.tngtech.archunit.base.Optional;
 import com.tngtech.archunit.base.PackageMatcher;
+import com.tngtech.archunit.base.PackageMatchers;
 import com.tngtech.archunit.core.MayResolveTypesViaReflection;
 import com.tngtech.archunit.core.ResolvesTypesViaReflection;
 import com.tngtech.archunit.core.domain.properties.CanBeAnnotated;
@@ -46,6 +47,7 @@ import com.tngtech.archunit.core.importer.DomainBuilders.JavaClassBuilder;
 import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
 import static com.google.common.collect.Iterables.concat;
+import static com.google.common.collect.Iterables.getFirst;
 import static com.google.common.collect.Sets.union;
 import static com.tngtech.archunit.PublicAPI.Usage.ACCESS;
 import static com.tngtech.archunit.base.ClassLoaders.getCurrentClassLoader;
@@ -80,6 +82,10 @@ public class JavaClass implements JavaType, HasName.AndFullName, HasAnnotations<
     private Set<JavaMember> members = emptySet();
     private Set<JavaConstructor> constructors = emptySet();
     private Optional<JavaStaticInitializer> staticInitializer = Optional.absent();
+    private Supplier<MemberIndex<JavaField>> fieldIndex;
+    private Supplier<MemberIndex<JavaCodeUnit>> codeUnitIndex;
+    private Supplier<MemberIndex<JavaMethod>> methodIndex;
+    private Supplier<MemberIndex<JavaConstructor>> constructorIndex;
     private Optional<JavaClass> superClass = Optional.absent();
     private final Supplier<List<JavaClass>> allSuperClasses = Suppliers.memoize(new Supplier<List<JavaClass>>() {
         @Override
@@ -135,6 +141,8 @@ public class JavaClass implements JavaType, HasName.AndFullName, HasAnnotations<
     private Supplier<Set<JavaMethod>> allMethods;
     private Supplier<Set<JavaConstructor>> allConstructors;
     private Supplier<Set<JavaField>> allFields;
+    private Supplier<MemberIndex<JavaMethod>> allMethodIndex;
+    private Supplier<MemberIndex<JavaField>> allFieldIndex;
     private final Supplier<Set<JavaMember>> allMembers = Suppliers.memoize(new Supplier<Set<JavaMember>>() {
         @Override
         public Set<JavaMember> get() {
@@ -147,6 +155,7 @@ public class JavaClass implements JavaType, HasName.AndFullName, HasAnnotations<
     });
     private JavaClassDependencies javaClassDependencies = new JavaClassDependencies(this);  // just for stubs; will be overwritten for imported classes
     private ReverseDependencies reverseDependencies = ReverseDependencies.EMPTY;  // just for stubs; will be overwritten for imported classes
+    private JavaClassTransitiveDependencies transitiveDependencies = JavaClassTransitiveDependencies.EMPTY;  // just for stubs; will be overwritten for imported classes
     private boolean fullyImported = false;
 
     JavaClass(JavaClassBuilder builder) {
@@ -758,12 +767,24 @@ public class JavaClass implements JavaType, HasName.AndFullName, HasAnnotations<
      */
     @PublicAPI(usage = ACCESS)
     public Optional<JavaField> tryGetField(String name) {
-        for (JavaField field : fields) {
-            if (name.equals(field.getName())) {
-                return Optional.of(field);
-            }
-        }
-        return Optional.absent();
+        return indexOf(fieldIndex).tryGet(name, Collections.<String>emptyList());
+    }
+
+    /**
+     * @return The field with the given name and descriptor (compare {@link JavaMember#getDescriptor()}),
+     * if this class declares such a field, otherwise {@link Optional#absent()}.
+     */
+    Optional<JavaField> tryGetFieldWithDescriptor(String name, String descriptor) {
+        return Optional.fromNullable(getFirst(indexOf(fieldIndex).getWithNameAndDescriptor(name, descriptor), null));
+    }
+
+    /**
+     * @return All fields of this class and its super classes and interfaces (compare {@link #getAllFields()})
+     * with the given name and descriptor (compare {@link JavaMember#getDescriptor()})
+     */
+    List<JavaField> getAllFieldsWithDescriptor(String name, String descriptor) {
+        checkNotNull(allFieldIndex, "Method may not be called before construction of hierarchy is complete");
+        return allFieldIndex.get().getWithNameAndDescriptor(name, descriptor);
     }
 
     @PublicAPI(usage = ACCESS)
@@ -804,11 +825,16 @@ public class JavaClass implements JavaType, HasName.AndFullName, HasAnnotations<
      */
     @PublicAPI(usage = ACCESS)
     public JavaCodeUnit getCodeUnitWithParameterTypeNames(String name, List<String> parameters) {
-        return findMatchingCodeUnit(codeUnits, name, parameters);
+        return findMatchingCodeUnit(codeUnitIndex, codeUnits, name, parameters);
+    }
+
+    // The members are only indexed once they are complete, before that a class does not have any members
+    private static <T extends JavaMember> MemberIndex<T> indexOf(Supplier<MemberIndex<T>> index) {
+        return index != null ? index.get() : MemberIndex.<T>empty();
     }
 
-    private <T extends JavaCodeUnit> T findMatchingCodeUnit(Set<T> codeUnits, String name, List<String> parameters) {
-        Optional<T> codeUnit = tryFindMatchingCodeUnit(codeUnits, name, parameters);
+    private <T extends JavaCodeUnit> T findMatchingCodeUnit(Supplier<MemberIndex<T>> index, Set<T> codeUnits, String name, List<String> parameters) {
+        Optional<T> codeUnit = indexOf(index).tryGet(name, parameters);
         if (!codeUnit.isPresent()) {
             throw new IllegalArgumentException(
                     String.format("No code unit with name '%s' and parameters %s in codeUnits %s of class %s",
@@ -817,22 +843,13 @@ public class JavaClass implements JavaType, HasName.AndFullName, HasAnnotations<
         return codeUnit.get();
     }
 
-    private <T extends JavaCodeUnit> Optional<T> tryFindMatchingCodeUnit(Set<T> codeUnits, String name, List<String> parameters) {
-        for (T codeUnit : codeUnits) {
-            if (name.equals(codeUnit.getName()) && parameters.equals(codeUnit.getRawParameterTypes().getNames())) {
-                return Optional.of(codeUnit);
-            }
-        }
-        return Optional.absent();
-    }
-
     /**
      * @return The method with the given name and with zero parameters.
      * @throws IllegalArgumentException If this class does not have such a method.
      */
     @PublicAPI(usage = ACCESS)
     public JavaMethod getMethod(String name) {
-        return findMatchingCodeUnit(methods, name, Collections.<String>emptyList());
+        return findMatchingCodeUnit(methodIndex, methods, name, Collections.<String>emptyList());
     }
 
     /**
@@ -841,7 +858,7 @@ public class JavaClass implements JavaType, HasName.AndFullName, HasAnnotations<
      */
     @PublicAPI(usage = ACCESS)
     public JavaMethod getMethod(String name, Class<?>... parameters) {
-        return findMatchingCodeUnit(methods, name, namesOf(parameters));
+        return findMatchingCodeUnit(methodIndex, methods, name, namesOf(parameters));
     }
 
     /**
@@ -849,7 +866,7 @@ public class JavaClass implements JavaType, HasName.AndFullName, HasAnnotations<
      */
     @PublicAPI(usage = ACCESS)
     public JavaMethod getMethod(String name, String... parameters) {
-        return findMatchingCodeUnit(methods, name, ImmutableList.copyOf(parameters));
+        return findMatchingCodeUnit(methodIndex, methods, name, ImmutableList.copyOf(parameters));
     }
 
     /**
@@ -858,7 +875,7 @@ public class JavaClass implements JavaType, HasName.AndFullName, HasAnnotations<
      */
     @PublicAPI(usage = ACCESS)
     public Optional<JavaMethod> tryGetMethod(String name) {
-        return tryFindMatchingCodeUnit(methods, name, Collections.<String>emptyList());
+        return indexOf(methodIndex).tryGet(name, Collections.<String>emptyList());
     }
 
     /**
@@ -867,7 +884,7 @@ public class JavaClass implements JavaType, HasName.AndFullName, HasAnnotations<
      */
     @PublicAPI(usage = ACCESS)
     public Optional<JavaMethod> tryGetMethod(String name, Class<?>... parameters) {
-        return tryFindMatchingCodeUnit(methods, name, namesOf(parameters));
+        return indexOf(methodIndex).tryGet(name, namesOf(parameters));
     }
 
     /**
@@ -875,7 +892,15 @@ public class JavaClass implements JavaType, HasName.AndFullName, HasAnnotations<
      */
     @PublicAPI(usage = ACCESS)
     public Optional<JavaMethod> tryGetMethod(String name, String... parameters) {
-        return tryFindMatchingCodeUnit(methods, name, ImmutableList.copyOf(parameters));
+        return indexOf(methodIndex).tryGet(name, ImmutableList.copyOf(parameters));
+    }
+
+    /**
+     * @return The method with the given name and descriptor (compare {@link JavaMember#getDescriptor()}),
+     * if this class declares such a method, otherwise {@link Optional#absent()}.
+     */
+    Optional<JavaMethod> tryGetMethodWithDescriptor(String name, String descriptor) {
+        return Optional.fromNullable(getFirst(indexOf(methodIndex).getWithNameAndDescriptor(name, descriptor), null));
     }
 
     @PublicAPI(usage = ACCESS)
@@ -889,13 +914,22 @@ public class JavaClass implements JavaType, HasName.AndFullName, HasAnnotations<
         return allMethods.get();
     }
 
+    /**
+     * @return All methods of this class and its super classes and interfaces (compare {@link #getAllMethods()})
+     * with the given name and descriptor (compare {@link JavaMember#getDescriptor()})
+     */
+    List<JavaMethod> getAllMethodsWithDescriptor(String name, String descriptor) {
+        checkNotNull(allMethodIndex, "Method may not be called before construction of hierarchy is complete");
+        return allMethodIndex.get().getWithNameAndDescriptor(name, descriptor);
+    }
+
     /**
      * @return The constructor with zero parameters.
      * @throws IllegalArgumentException If this class does not have such a constructor.
      */
     @PublicAPI(usage = ACCESS)
     public JavaConstructor getConstructor() {
-        return findMatchingCodeUnit(constructors, CONSTRUCTOR_NAME, Collections.<String>emptyList());
+        return findMatchingCodeUnit(constructorIndex, constructors, CONSTRUCTOR_NAME, Collections.<String>emptyList());
     }
 
     /**
@@ -904,7 +938,7 @@ public class JavaClass implements JavaType, HasName.AndFullName, HasAnnotations<
      */
     @PublicAPI(usage = ACCESS)
     public JavaConstructor getConstructor(Class<?>... parameters) {
-        return findMatchingCodeUnit(constructors, CONSTRUCTOR_NAME, namesOf(parameters));
+        return findMatchingCodeUnit(constructorIndex, constructors, CONSTRUCTOR_NAME, namesOf(parameters));
     }
 
     /**
@@ -912,7 +946,7 @@ public class JavaClass implements JavaType, HasName.AndFullName, HasAnnotations<
      */
     @PublicAPI(usage = ACCESS)
     public JavaConstructor getConstructor(String... parameters) {
-        return findMatchingCodeUnit(constructors, CONSTRUCTOR_NAME, ImmutableList.copyOf(parameters));
+        return findMatchingCodeUnit(constructorIndex, constructors, CONSTRUCTOR_NAME, ImmutableList.copyOf(parameters));
     }
 
     /**
@@ -921,7 +955,7 @@ public class JavaClass implements JavaType, HasName.AndFullName, HasAnnotations<
      */
     @PublicAPI(usage = ACCESS)
     public Optional<JavaConstructor> tryGetConstructor() {
-        return tryFindMatchingCodeUnit(constructors, CONSTRUCTOR_NAME, Collections.<String>emptyList());
+        return indexOf(constructorIndex).tryGet(CONSTRUCTOR_NAME, Collections.<String>emptyList());
     }
 
     /**
@@ -930,7 +964,7 @@ public class JavaClass implements JavaType, HasName.AndFullName, HasAnnotations<
      */
     @PublicAPI(usage = ACCESS)
     public Optional<JavaConstructor> tryGetConstructor(Class<?>... parameters) {
-        return tryFindMatchingCodeUnit(constructors, CONSTRUCTOR_NAME, namesOf(parameters));
+        return indexOf(constructorIndex).tryGet(CONSTRUCTOR_NAME, namesOf(parameters));
     }
 
     /**
@@ -938,7 +972,7 @@ public class JavaClass implements JavaType, HasName.AndFullName, HasAnnotations<
      */
     @PublicAPI(usage = ACCESS)
     public Optional<JavaConstructor> tryGetConstructor(String... parameters) {
-        return tryFindMatchingCodeUnit(constructors, CONSTRUCTOR_NAME, ImmutableList.copyOf(parameters));
+        return indexOf(constructorIndex).tryGet(CONSTRUCTOR_NAME, ImmutableList.copyOf(parameters));
     }
 
     @PublicAPI(usage = ACCESS)
@@ -1039,7 +1073,7 @@ public class JavaClass implements JavaType, HasName.AndFullName, HasAnnotations<
      */
     @PublicAPI(usage = ACCESS)
     public Set<Dependency> getTransitiveDependenciesFromSelf() {
-        return JavaClassTransitiveDependencies.findTransitiveDependenciesFrom(this);
+        return transitiveDependencies.findTransitiveDependenciesFrom(this);
     }
 
     /**
@@ -1272,6 +1306,8 @@ public class JavaClass implements JavaType, HasName.AndFullName, HasAnnotations<
                 return result.build();
             }
         });
+        allFieldIndex = MemberIndex.lazilyIndex(allFields);
+        allMethodIndex = MemberIndex.lazilyIndex(allMethods);
     }
 
     private void completeSuperClassFrom(ImportContext context) {
@@ -1309,6 +1345,10 @@ public class JavaClass implements JavaType, HasName.AndFullName, HasAnnotations<
                 .addAll(methods)
                 .addAll(constructors)
                 .build();
+        fieldIndex = MemberIndex.lazilyIndex(fields);
+        codeUnitIndex = MemberIndex.lazilyIndex(codeUnits);
+        methodIndex = MemberIndex.lazilyIndex(methods);
+        constructorIndex = MemberIndex.lazilyIndex(constructors);
     }
 
     void completeAnnotations(final ImportContext context) {
@@ -1344,6 +1384,10 @@ public class JavaClass implements JavaType, HasName.AndFullName, HasAnnotations<
         }
     }
 
+    void setTransitiveDependencies(JavaClassTransitiveDependencies transitiveDependencies) {
+        this.transitiveDependencies = transitiveDependencies;
+    }
+
     @Override
     public String toString() {
         return "JavaClass{name='" + descriptor.getFullyQualifiedClassName() + "'}";
@@ -1693,11 +1737,7 @@ public class JavaClass implements JavaType, HasName.AndFullName, HasAnnotations<
         }
 
         private static DescribedPredicate<JavaClass> resideInAnyPackage(final String[] packageIdentifiers, final String description) {
-            final Set<PackageMatcher> packageMatchers = new HashSet<>();
-            for (String identifier : packageIdentifiers) {
-                packageMatchers.add(PackageMatcher.of(identifier));
-            }
-            return new PackageMatchesPredicate(packageMatchers, description);
+            return new PackageMatchesPredicate(PackageMatchers.of(packageIdentifiers), description);
         }
 
         @PublicAPI(usage = ACCESS)
@@ -1831,21 +1871,16 @@ public class JavaClass implements JavaType, HasName.AndFullName, HasAnnotations<
         }
 
         private static class PackageMatchesPredicate extends DescribedPredicate<JavaClass> {
-            private final Set<PackageMatcher> packageMatchers;
+            private final PackageMatchers packageMatchers;
 
-            PackageMatchesPredicate(Set<PackageMatcher> packageMatchers, String description) {
+            PackageMatchesPredicate(PackageMatchers packageMatchers, String description) {
                 super(description);
                 this.packageMatchers = packageMatchers;
             }
 
             @Override
             public boolean apply(JavaClass input) {
-                for (PackageMatcher matcher : packageMatchers) {
-                    if (matcher.matches(input.getPackageName())) {
-                        return true;
-                    }
-                }
-                return false;
+                return packageMatchers.apply(input.getPackageName());
             }
         }
 
@@ -0,0 +1,261 @@
+/*
+ * Copyright 2014-2021 TNG Technology Consulting GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tngtech.archunit.core.domain;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+import com.google.common.collect.ImmutableList;
+import com.tngtech.archunit.PublicAPI;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.tngtech.archunit.PublicAPI.Usage.ACCESS;
+
+/**
+ * A compact view of the dependencies between the classes of some {@link JavaClasses}, as returned by
+ * {@link JavaClasses#dependencyGraph()}. Each class is identified by a dense int id from {@code 0} to {@link #size()} - 1.
+ * All {@link Dependency Dependencies} from one class to another are merged into a single edge, carrying the
+ * {@link DependencyType DependencyTypes} of all these dependencies as bit mask.
+ * Only dependencies between classes contained in the {@link JavaClasses} are considered.
+ * <br><br>
+ * The edges of a class are numbered consecutively, so they can be iterated without any allocations, e.g.
+ * <pre><code>
+ * int originId = graph.getId(origin);
+ * for (int edge = graph.getFirstEdge(originId); edge &lt; graph.getEndOfEdges(originId); edge++) {
+ *     JavaClass target = graph.getJavaClass(graph.getTarget(edge));
+ *     boolean isInheritance = graph.hasDependencyType(edge, DependencyType.INHERITANCE);
+ * }
+ * </code></pre>
+ * The edges of each class are sorted by the ids of their targets.
+ */
+@PublicAPI(usage = ACCESS)
+public final class JavaClassDependencyGraph {
+    private static final int NO_EDGE = -1;
+
+    private final ImmutableList<JavaClass> classes;
+    private final Map<JavaClass, Integer> ids;
+    private final int[] firstEdges;
+    private final int[] targets;
+    private final int[] dependencyTypes;
+
+    private JavaClassDependencyGraph(Collection<JavaClass> classes) {
+        this.classes = ImmutableList.copyOf(classes);
+        this.ids = new HashMap<>(this.classes.size() * 2);
+        for (int id = 0; id < this.classes.size(); id++) {
+            ids.put(this.classes.get(id), id);
+        }
+
+        int numberOfClasses = this.classes.size();
+        firstEdges = new int[numberOfClasses + 1];
+        int[] edgeOfTarget = new int[numberOfClasses];
+        Arrays.fill(edgeOfTarget, NO_EDGE);
+        EdgeBuffer edges = new EdgeBuffer();
+        for (int origin = 0; origin < numberOfClasses; origin++) {
+            int firstEdge = edges.size;
+            firstEdges[origin] = firstEdge;
+            for (Dependency dependency : this.classes.get(origin).getDirectDependenciesFromSelf()) {
+                Integer target = ids.get(dependency.getTargetClass());
+                if (target == null) {
+                    continue;
+                }
+                if (edgeOfTarget[target] < firstEdge) {
+                    edgeOfTarget[target] = edges.add(target);
+                }
+                edges.addType(edgeOfTarget[target], dependency.getType());
+            }
+            edges.sortByTarget(firstEdge, edges.size);
+        }
+        firstEdges[numberOfClasses] = edges.size;
+        targets = Arrays.copyOf(edges.targets, edges.size);
+        dependencyTypes = Arrays.copyOf(edges.types, edges.size);
+    }
+
+    static JavaClassDependencyGraph of(Collection<JavaClass> classes) {
+        return new JavaClassDependencyGraph(classes);
+    }
+
+    /**
+     * @return The number of classes within this graph
+     */
+    @PublicAPI(usage = ACCESS)
+    public int size() {
+        return classes.size();
+    }
+
+    /**
+     * @return The number of edges, i.e. pairs of classes with at least one {@link Dependency} from the first to the second
+     */
+    @PublicAPI(usage = ACCESS)
+    public int getNumberOfEdges() {
+        return targets.length;
+    }
+
+    @PublicAPI(usage = ACCESS)
+    public boolean contains(JavaClass javaClass) {
+        return ids.containsKey(javaClass);
+    }
+
+    /**
+     * @param javaClass A class contained in this graph
+     * @return The id of the class
+     * @throws IllegalArgumentException if the class is not contained in this graph
+     */
+    @PublicAPI(usage = ACCESS)
+    public int getId(JavaClass javaClass) {
+        Integer id = ids.get(javaClass);
+        checkArgument(id != null, "Class %s is not contained in this graph", javaClass.getName());
+        return id;
+    }
+
+    @PublicAPI(usage = ACCESS)
+    public JavaClass getJavaClass(int id) {
+        return classes.get(id);
+    }
+
+    /**
+     * @return The first edge originating from the class with the given id
+     */
+    @PublicAPI(usage = ACCESS)
+    public int getFirstEdge(int originId) {
+        return firstEdges[originId];
+    }
+
+    /**
+     * @return The edge following the last edge originating from the class with the given id
+     */
+    @PublicAPI(usage = ACCESS)
+    public int getEndOfEdges(int originId) {
+        return firstEdges[originId + 1];
+    }
+
+    /**
+     * @return The id of the target class of the given edge
+     */
+    @PublicAPI(usage = ACCESS)
+    public int getTarget(int edge) {
+        return targets[edge];
+    }
+
+    /**
+     * @return The {@link DependencyType DependencyTypes} of all dependencies represented by the given edge as bit mask
+     * @see DependencyType#getMask()
+     */
+    @PublicAPI(usage = ACCESS)
+    public int getDependencyTypes(int edge) {
+        return dependencyTypes[edge];
+    }
+
+    @PublicAPI(usage = ACCESS)
+    public boolean hasDependencyType(int edge, DependencyType type) {
+        return (dependencyTypes[edge] & type.getMask()) != 0;
+    }
+
+    /**
+     * @return The edge from the class with id {@code originId} to the class with id {@code targetId},
+     *         or {@code -1}, if the origin class does not depend on the target class
+     */
+    @PublicAPI(usage = ACCESS)
+    public int findEdge(int originId, int targetId) {
+        int result = Arrays.binarySearch(targets, firstEdges[originId], firstEdges[originId + 1], targetId);
+        return result >= 0 ? result : NO_EDGE;
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "{classes=" + size() + ", edges=" + getNumberOfEdges() + '}';
+    }
+
+    /**
+     * The way a {@link Dependency} has been caused, e.g. by an access or by inheritance.
+     */
+    @PublicAPI(usage = ACCESS)
+    public enum DependencyType {
+        /**
+         * A field access, method call or constructor call
+         */
+        @PublicAPI(usage = ACCESS)
+        MEMBER_ACCESS,
+        /**
+         * Extending a class or implementing an interface
+         */
+        @PublicAPI(usage = ACCESS)
+        INHERITANCE,
+        @PublicAPI(usage = ACCESS)
+        FIELD_TYPE,
+        @PublicAPI(usage = ACCESS)
+        RETURN_TYPE,
+        @PublicAPI(usage = ACCESS)
+        PARAMETER_TYPE,
+        @PublicAPI(usage = ACCESS)
+        THROWS_DECLARATION,
+        @PublicAPI(usage = ACCESS)
+        INSTANCEOF_CHECK,
+        @PublicAPI(usage = ACCESS)
+        ANNOTATION,
+        @PublicAPI(usage = ACCESS)
+        ANNOTATION_MEMBER_TYPE,
+        @PublicAPI(usage = ACCESS)
+        TYPE_PARAMETER,
+        /**
+         * The component type of an array type that any of the other types of dependencies refers to
+         */
+        @PublicAPI(usage = ACCESS)
+        COMPONENT_TYPE;
+
+        @PublicAPI(usage = ACCESS)
+        public int getMask() {
+            return 1 << ordinal();
+        }
+    }
+
+    private static class EdgeBuffer {
+        private int[] targets = new int[16];
+        private int[] types = new int[16];
+        private int size = 0;
+
+        int add(int target) {
+            if (size == targets.length) {
+                targets = Arrays.copyOf(targets, size * 2);
+                types = Arrays.copyOf(types, size * 2);
+            }
+            targets[size] = target;
+            types[size] = 0;
+            return size++;
+        }
+
+        void addType(int edge, DependencyType type) {
+            types[edge] |= type.getMask();
+        }
+
+        // Insertion sort keeps targets and types in sync without any allocation, the edges of a single class are usually few
+        void sortByTarget(int from, int to) {
+            for (int i = from + 1; i < to; i++) {
+                int target = targets[i];
+                int type = types[i];
+                int j = i - 1;
+                while (j >= from && targets[j] > target) {
+                    targets[j + 1] = targets[j];
+                    types[j + 1] = types[j];
+                    j--;
+                }
+                targets[j + 1] = target;
+                types[j + 1] = type;
+            }
+        }
+    }
+}
@@ -15,33 +15,232 @@
  */
 package com.tngtech.archunit.core.domain;
 
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
 import java.util.HashSet;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
+import com.google.common.base.Supplier;
+import com.google.common.base.Suppliers;
 import com.google.common.collect.ImmutableSet;
 
-class JavaClassTransitiveDependencies {
-    private JavaClassTransitiveDependencies() {
+/**
+ * Index to find the transitive dependencies of classes without traversing the whole dependency graph again for each class.
+ * The index is based on the {@link JavaClassDependencyGraph} of all classes, i.e. it uses the same int ids and edges.
+ * The graph is condensed into its strongly connected components, since all classes of one component
+ * have the same transitive dependencies. The components reachable from a component are only determined
+ * once transitive dependencies are requested for one of its classes and are then memoized for this component.<br>
+ * The index is only created the first time transitive dependencies are requested.
+ */
+final class JavaClassTransitiveDependencies {
+    static final JavaClassTransitiveDependencies EMPTY = of(Collections.<JavaClass>emptySet());
+
+    private final Supplier<Index> index;
+
+    private JavaClassTransitiveDependencies(final Collection<JavaClass> classes) {
+        index = Suppliers.memoize(new Supplier<Index>() {
+            @Override
+            public Index get() {
+                return new Index(JavaClassDependencyGraph.of(classes));
+            }
+        });
+    }
+
+    Set<Dependency> findTransitiveDependenciesFrom(JavaClass javaClass) {
+        Index index = this.index.get();
+        return index.contains(javaClass)
+                ? index.findTransitiveDependenciesFrom(javaClass)
+                : traverseTransitiveDependenciesFrom(javaClass);
+    }
+
+    // Classes outside of the index (e.g. classes not created by an import) are rare, so there is no point to index their dependencies
+    private static Set<Dependency> traverseTransitiveDependenciesFrom(JavaClass javaClass) {
+        ImmutableSet.Builder<Dependency> result = ImmutableSet.builder();
+        Set<JavaClass> visited = new HashSet<>();
+        Deque<JavaClass> toVisit = new ArrayDeque<>();
+        visited.add(javaClass);
+        toVisit.add(javaClass);
+        while (!toVisit.isEmpty()) {
+            for (Dependency dependency : toVisit.poll().getDirectDependenciesFromSelf()) {
+                result.add(dependency);
+                JavaClass target = dependency.getTargetClass().getBaseComponentType();
+                if (visited.add(target)) {
+                    toVisit.add(target);
+                }
+            }
+        }
+        return result.build();
     }
 
-    static Set<Dependency> findTransitiveDependenciesFrom(JavaClass javaClass) {
-        ImmutableSet.Builder<Dependency> transitiveDependencies = ImmutableSet.builder();
-        Set<JavaClass> analyzedClasses = new HashSet<>();  // to avoid infinite recursion for cyclic dependencies
-        addTransitiveDependenciesFrom(javaClass, transitiveDependencies, analyzedClasses);
-        return transitiveDependencies.build();
+    static JavaClassTransitiveDependencies of(Collection<JavaClass> classes) {
+        return new JavaClassTransitiveDependencies(classes);
     }
 
-    private static void addTransitiveDependenciesFrom(JavaClass javaClass, ImmutableSet.Builder<Dependency> transitiveDependencies, Set<JavaClass> analyzedClasses) {
-        analyzedClasses.add(javaClass);  // currently being analyzed
-        Set<JavaClass> targetClassesToRecurse = new HashSet<>();
-        for (Dependency dependency : javaClass.getDirectDependenciesFromSelf()) {
-            transitiveDependencies.add(dependency);
-            targetClassesToRecurse.add(dependency.getTargetClass().getBaseComponentType());
+    private static class Index {
+        private static final int UNVISITED = -1;
+
+        private final JavaClassDependencyGraph graph;
+        private final int[] componentOf;
+        private final int[][] membersOfComponent;
+        private final int[][] targetsOfComponent;
+        private final AtomicReferenceArray<int[]> reachableComponents;
+
+        Index(JavaClassDependencyGraph graph) {
+            this.graph = graph;
+            componentOf = new int[graph.size()];
+            int numberOfComponents = findStronglyConnectedComponents();
+            membersOfComponent = groupMembersOfComponents(numberOfComponents);
+            targetsOfComponent = findTargetsOfComponents(numberOfComponents);
+            reachableComponents = new AtomicReferenceArray<>(numberOfComponents);
+        }
+
+        boolean contains(JavaClass javaClass) {
+            return graph.contains(javaClass);
         }
-        for (JavaClass targetClass : targetClassesToRecurse) {
-            if (!analyzedClasses.contains(targetClass)) {
-                addTransitiveDependenciesFrom(targetClass, transitiveDependencies, analyzedClasses);
+
+        // Iterative version of Tarjan's algorithm, to support arbitrarily long dependency chains
+        private int findStronglyConnectedComponents() {
+            int numberOfNodes = graph.size();
+            int[] index = new int[numberOfNodes];
+            Arrays.fill(index, UNVISITED);
+            int[] lowLink = new int[numberOfNodes];
+            int[] nextEdge = new int[numberOfNodes];
+            boolean[] onStack = new boolean[numberOfNodes];
+            int[] stack = new int[numberOfNodes];
+            int stackSize = 0;
+            int[] path = new int[numberOfNodes];
+            int pathSize = 0;
+            int nextIndex = 0;
+            int numberOfComponents = 0;
+
+            for (int start = 0; start < numberOfNodes; start++) {
+                if (index[start] != UNVISITED) {
+                    continue;
+                }
+                index[start] = lowLink[start] = nextIndex++;
+                nextEdge[start] = graph.getFirstEdge(start);
+                stack[stackSize++] = start;
+                onStack[start] = true;
+                path[pathSize++] = start;
+                while (pathSize > 0) {
+                    int node = path[pathSize - 1];
+                    if (nextEdge[node] < graph.getEndOfEdges(node)) {
+                        int target = graph.getTarget(nextEdge[node]++);
+                        if (index[target] == UNVISITED) {
+                            index[target] = lowLink[target] = nextIndex++;
+                            nextEdge[target] = graph.getFirstEdge(target);
+                            stack[stackSize++] = target;
+                            onStack[target] = true;
+                            path[pathSize++] = target;
+                        } else if (onStack[target]) {
+                            lowLink[node] = Math.min(lowLink[node], index[target]);
+                        }
+                        continue;
+                    }
+
+                    pathSize--;
+                    if (pathSize > 0) {
+                        int parent = path[pathSize - 1];
+                        lowLink[parent] = Math.min(lowLink[parent], lowLink[node]);
+                    }
+                    if (lowLink[node] == index[node]) {
+                        int member;
+                        do {
+                            member = stack[--stackSize];
+                            onStack[member] = false;
+                            componentOf[member] = numberOfComponents;
+                        } while (member != node);
+                        numberOfComponents++;
+                    }
+                }
+            }
+            return numberOfComponents;
+        }
+
+        private int[][] groupMembersOfComponents(int numberOfComponents) {
+            int[] sizes = new int[numberOfComponents];
+            for (int component : componentOf) {
+                sizes[component]++;
+            }
+            int[][] result = new int[numberOfComponents][];
+            for (int component = 0; component < numberOfComponents; component++) {
+                result[component] = new int[sizes[component]];
+                sizes[component] = 0;
+            }
+            for (int node = 0; node < componentOf.length; node++) {
+                int component = componentOf[node];
+                result[component][sizes[component]++] = node;
+            }
+            return result;
+        }
+
+        private int[][] findTargetsOfComponents(int numberOfComponents) {
+            int[][] result = new int[numberOfComponents][];
+            int[] lastAddedBy = new int[numberOfComponents];
+            Arrays.fill(lastAddedBy, UNVISITED);
+            int[] buffer = new int[numberOfComponents];
+            for (int component = 0; component < numberOfComponents; component++) {
+                int size = 0;
+                lastAddedBy[component] = component;
+                for (int member : membersOfComponent[component]) {
+                    for (int edge = graph.getFirstEdge(member); edge < graph.getEndOfEdges(member); edge++) {
+                        int targetComponent = componentOf[graph.getTarget(edge)];
+                        if (lastAddedBy[targetComponent] != component) {
+                            lastAddedBy[targetComponent] = component;
+                            buffer[size++] = targetComponent;
+                        }
+                    }
+                }
+                result[component] = Arrays.copyOf(buffer, size);
+            }
+            return result;
+        }
+
+        Set<Dependency> findTransitiveDependenciesFrom(JavaClass javaClass) {
+            ImmutableSet.Builder<Dependency> result = ImmutableSet.builder();
+            for (int component : findReachableComponents(componentOf[graph.getId(javaClass)])) {
+                for (int member : membersOfComponent[component]) {
+                    result.addAll(graph.getJavaClass(member).getDirectDependenciesFromSelf());
+                }
+            }
+            return result.build();
+        }
+
+        // Only the components of requested classes are memoized, so the memory stays proportional to the requested results.
+        // If two threads request the same component concurrently, both simply compute the same result.
+        private int[] findReachableComponents(int start) {
+            int[] result = reachableComponents.get(start);
+            if (result != null) {
+                return result;
+            }
+
+            BitSet reachable = new BitSet(start + 1);
+            int[] stack = new int[targetsOfComponent.length];
+            int stackSize = 0;
+            reachable.set(start);
+            stack[stackSize++] = start;
+            while (stackSize > 0) {
+                int component = stack[--stackSize];
+                for (int target : targetsOfComponent[component]) {
+                    if (!reachable.get(target)) {
+                        reachable.set(target);
+                        stack[stackSize++] = target;
+                    }
+                }
+            }
+
+            result = new int[reachable.cardinality()];
+            int i = 0;
+            for (int component = reachable.nextSetBit(0); component >= 0; component = reachable.nextSetBit(component + 1)) {
+                result[i++] = component;
             }
+            reachableComponents.set(start, result);
+            return result;
         }
     }
 }
@@ -20,6 +20,8 @@ import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
 
+import com.google.common.base.Supplier;
+import com.google.common.base.Suppliers;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Iterables;
 import com.tngtech.archunit.PublicAPI;
@@ -37,6 +39,12 @@ public final class JavaClasses extends ForwardingCollection<JavaClass> implement
     private final ImmutableMap<String, JavaClass> classes;
     private final JavaPackage defaultPackage;
     private final String description;
+    private final Supplier<JavaClassDependencyGraph> dependencyGraph = Suppliers.memoize(new Supplier<JavaClassDependencyGraph>() {
+        @Override
+        public JavaClassDependencyGraph get() {
+            return JavaClassDependencyGraph.of(classes.values());
+        }
+    });
 
     private JavaClasses(JavaPackage defaultPackage, Map<String, JavaClass> classes) {
         this(defaultPackage, classes, "classes");
@@ -59,6 +67,16 @@ public final class JavaClasses extends ForwardingCollection<JavaClass> implement
         return new JavaClasses(defaultPackage, matchingElements, newDescription);
     }
 
+    /**
+     * @return A compact view of the dependencies between these classes, where every class is identified by a dense int id.
+     *         The view is created the first time this method is called and then reused.
+     * @see JavaClassDependencyGraph
+     */
+    @PublicAPI(usage = ACCESS)
+    public JavaClassDependencyGraph dependencyGraph() {
+        return dependencyGraph.get();
+    }
+
     @Override
     public JavaClasses as(String description) {
         return new JavaClasses(defaultPackage, classes, description);
@@ -201,6 +219,10 @@ public final class JavaClasses extends ForwardingCollection<JavaClass> implement
             reverseDependenciesCreation.registerDependenciesOf(clazz, classDependencies);
         }
         reverseDependenciesCreation.finish(allClasses);
+        JavaClassTransitiveDependencies transitiveDependencies = JavaClassTransitiveDependencies.of(allClasses);
+        for (JavaClass clazz : allClasses) {
+            clazz.setTransitiveDependencies(transitiveDependencies);
+        }
         return new JavaClasses(defaultPackage, selectedClasses);
     }
 
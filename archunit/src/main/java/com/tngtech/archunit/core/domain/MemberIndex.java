@@ -0,0 +1,95 @@
+/*
+ * Copyright 2014-2021 TNG Technology Consulting GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tngtech.archunit.core.domain;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.google.common.base.Supplier;
+import com.google.common.base.Suppliers;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableListMultimap;
+import com.google.common.collect.ListMultimap;
+import com.tngtech.archunit.base.Optional;
+
+/**
+ * Hash index of members, to look them up by name and parameter types or by name and descriptor
+ * (compare {@link JavaMember#getDescriptor()}) without scanning all members.
+ * If several members share the same name and parameter types, like a method and its bridge method
+ * with a different return type, the index returns the first one in iteration order of the members.
+ */
+final class MemberIndex<MEMBER extends JavaMember> {
+    private final Map<List<String>, MEMBER> membersByNameAndParameterTypes = new HashMap<>();
+    private final ListMultimap<List<String>, MEMBER> membersByNameAndDescriptor;
+
+    private MemberIndex(Collection<MEMBER> members) {
+        ImmutableListMultimap.Builder<List<String>, MEMBER> membersByNameAndDescriptor = ImmutableListMultimap.builder();
+        for (MEMBER member : members) {
+            List<String> nameAndParameterTypes = nameAndParameterTypesOf(member);
+            if (!membersByNameAndParameterTypes.containsKey(nameAndParameterTypes)) {
+                membersByNameAndParameterTypes.put(nameAndParameterTypes, member);
+            }
+            membersByNameAndDescriptor.put(ImmutableList.of(member.getName(), member.getDescriptor()), member);
+        }
+        this.membersByNameAndDescriptor = membersByNameAndDescriptor.build();
+    }
+
+    private List<String> nameAndParameterTypesOf(MEMBER member) {
+        return member instanceof JavaCodeUnit
+                ? key(member.getName(), ((JavaCodeUnit) member).getRawParameterTypes().getNames())
+                : key(member.getName(), Collections.<String>emptyList());
+    }
+
+    /**
+     * @param name The name of the member
+     * @param parameterTypeNames The fully qualified names of the parameter types, empty for fields
+     * @return The member with the given name and parameter types, if there is any
+     */
+    Optional<MEMBER> tryGet(String name, List<String> parameterTypeNames) {
+        return Optional.fromNullable(membersByNameAndParameterTypes.get(key(name, parameterTypeNames)));
+    }
+
+    List<MEMBER> getWithNameAndDescriptor(String name, String descriptor) {
+        return membersByNameAndDescriptor.get(ImmutableList.of(name, descriptor));
+    }
+
+    private static List<String> key(String name, List<String> parameterTypeNames) {
+        return ImmutableList.<String>builder().add(name).addAll(parameterTypeNames).build();
+    }
+
+    /**
+     * @return A supplier creating the index only the first time it is needed, since most classes are never queried for specific members
+     */
+    static <MEMBER extends JavaMember> Supplier<MemberIndex<MEMBER>> lazilyIndex(final Supplier<? extends Collection<MEMBER>> members) {
+        return Suppliers.memoize(new Supplier<MemberIndex<MEMBER>>() {
+            @Override
+            public MemberIndex<MEMBER> get() {
+                return new MemberIndex<>(members.get());
+            }
+        });
+    }
+
+    static <MEMBER extends JavaMember> MemberIndex<MEMBER> empty() {
+        return new MemberIndex<>(Collections.<MEMBER>emptySet());
+    }
+
+    static <MEMBER extends JavaMember> Supplier<MemberIndex<MEMBER>> lazilyIndex(Collection<MEMBER> members) {
+        return lazilyIndex(Suppliers.ofInstance(members));
+    }
+}
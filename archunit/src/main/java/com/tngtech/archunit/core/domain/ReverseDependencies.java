@@ -18,22 +18,33 @@ package com.tngtech.archunit.core.domain;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import com.google.common.base.Supplier;
 import com.google.common.base.Suppliers;
-import com.google.common.cache.CacheBuilder;
-import com.google.common.cache.CacheLoader;
-import com.google.common.cache.LoadingCache;
-import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.ImmutableSetMultimap;
+import com.google.common.collect.Lists;
 import com.google.common.collect.SetMultimap;
 import com.google.common.collect.Sets;
-
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.tngtech.archunit.ArchConfiguration;
+
+/**
+ * Index of all dependencies pointing to a class or member. The accesses to fields and methods are indexed by
+ * their resolved targets in one pass the first time any accesses to a field or method are requested,
+ * so each target of an access is only resolved once. This pass can use several threads
+ * (compare {@link ArchConfiguration#getAccessIndexThreads()}).
+ */
 final class ReverseDependencies {
+    private static final int MIN_ACCESSES_PER_INDEX_THREAD = 1000;
 
-    private final LoadingCache<JavaField, Set<JavaFieldAccess>> accessToFieldCache;
-    private final LoadingCache<JavaMethod, Set<JavaMethodCall>> callToMethodCache;
-    private final LoadingCache<JavaConstructor, Set<JavaConstructorCall>> callToConstructorCache;
+    private final Supplier<SetMultimap<JavaMember, JavaFieldAccess>> accessesToField;
+    private final Supplier<SetMultimap<JavaMember, JavaMethodCall>> callsToMethod;
+    private final SetMultimap<String, JavaConstructorCall> callsToConstructor;
     private final SetMultimap<JavaClass, JavaField> fieldTypeDependencies;
     private final SetMultimap<JavaClass, JavaMethod> methodParameterTypeDependencies;
     private final SetMultimap<JavaClass, JavaMethod> methodReturnTypeDependencies;
@@ -46,9 +57,9 @@ final class ReverseDependencies {
     private final Supplier<SetMultimap<JavaClass, Dependency>> directDependenciesToClass;
 
     private ReverseDependencies(ReverseDependencies.Creation creation) {
-        accessToFieldCache = CacheBuilder.newBuilder().build(new ResolvingAccessLoader<>(creation.fieldAccessDependencies.build()));
-        callToMethodCache = CacheBuilder.newBuilder().build(new ResolvingAccessLoader<>(creation.methodCallDependencies.build()));
-        callToConstructorCache = CacheBuilder.newBuilder().build(new ConstructorCallLoader(creation.constructorCallDependencies.build()));
+        accessesToField = createResolvedAccessIndexSupplier(creation.fieldAccesses);
+        callsToMethod = createResolvedAccessIndexSupplier(creation.methodCalls);
+        callsToConstructor = creation.constructorCallDependencies.build();
         this.fieldTypeDependencies = creation.fieldTypeDependencies.build();
         this.methodParameterTypeDependencies = creation.methodParameterTypeDependencies.build();
         this.methodReturnTypeDependencies = creation.methodReturnTypeDependencies.build();
@@ -76,16 +87,75 @@ final class ReverseDependencies {
         });
     }
 
+    private static int determineIndexThreads() {
+        int configuredThreads = ArchConfiguration.get().getAccessIndexThreads();
+        return configuredThreads > 0 ? configuredThreads : Runtime.getRuntime().availableProcessors();
+    }
+
+    private static <ACCESS extends JavaAccess<?>> Supplier<SetMultimap<JavaMember, ACCESS>> createResolvedAccessIndexSupplier(
+            final List<ACCESS> accesses) {
+
+        return Suppliers.memoize(new Supplier<SetMultimap<JavaMember, ACCESS>>() {
+            @Override
+            public SetMultimap<JavaMember, ACCESS> get() {
+                int indexThreads = determineIndexThreads();
+                return indexThreads > 1 && accesses.size() > MIN_ACCESSES_PER_INDEX_THREAD
+                        ? indexByResolvedTargetsInParallel(accesses, indexThreads)
+                        : indexByResolvedTargets(accesses);
+            }
+        });
+    }
+
+    private static <ACCESS extends JavaAccess<?>> ImmutableSetMultimap<JavaMember, ACCESS> indexByResolvedTargets(List<ACCESS> accesses) {
+        ImmutableSetMultimap.Builder<JavaMember, ACCESS> result = ImmutableSetMultimap.builder();
+        for (ACCESS access : accesses) {
+            for (JavaMember target : access.getTarget().resolve()) {
+                result.put(target, access);
+            }
+        }
+        return result.build();
+    }
+
+    // Resolving the targets is independent for each access, merging the partial indexes in the original order
+    // guarantees the same order of accesses as a sequential creation of the index
+    private static <ACCESS extends JavaAccess<?>> ImmutableSetMultimap<JavaMember, ACCESS> indexByResolvedTargetsInParallel(
+            List<ACCESS> accesses, int indexThreads) {
+
+        int partitionSize = Math.max((int) Math.ceil((double) accesses.size() / indexThreads), MIN_ACCESSES_PER_INDEX_THREAD);
+        List<List<ACCESS>> partitions = Lists.partition(accesses, partitionSize);
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(indexThreads, partitions.size()),
+                new ThreadFactoryBuilder().setNameFormat("archunit-access-index-%d").setDaemon(true).build());
+        try {
+            List<Future<ImmutableSetMultimap<JavaMember, ACCESS>>> partialIndexes = new ArrayList<>();
+            for (final List<ACCESS> partition : partitions) {
+                partialIndexes.add(executor.submit(new Callable<ImmutableSetMultimap<JavaMember, ACCESS>>() {
+                    @Override
+                    public ImmutableSetMultimap<JavaMember, ACCESS> call() {
+                        return indexByResolvedTargets(partition);
+                    }
+                }));
+            }
+
+            ImmutableSetMultimap.Builder<JavaMember, ACCESS> result = ImmutableSetMultimap.builder();
+            for (Future<ImmutableSetMultimap<JavaMember, ACCESS>> partialIndex : partialIndexes) {
+                result.putAll(Futures.getUnchecked(partialIndex));
+            }
+            return result.build();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
     Set<JavaFieldAccess> getAccessesTo(JavaField field) {
-        return accessToFieldCache.getUnchecked(field);
+        return accessesToField.get().get(field);
     }
 
     Set<JavaMethodCall> getCallsTo(JavaMethod method) {
-        return callToMethodCache.getUnchecked(method);
+        return callsToMethod.get().get(method);
     }
 
     Set<JavaConstructorCall> getCallsTo(JavaConstructor constructor) {
-        return callToConstructorCache.getUnchecked(constructor);
+        return callsToConstructor.get(constructor.getFullName());
     }
 
     Set<JavaField> getFieldsWithTypeOf(JavaClass clazz) {
@@ -131,8 +201,8 @@ final class ReverseDependencies {
     static final ReverseDependencies EMPTY = new ReverseDependencies(new Creation());
 
     static class Creation {
-        private final ImmutableSetMultimap.Builder<JavaClass, JavaFieldAccess> fieldAccessDependencies = ImmutableSetMultimap.builder();
-        private final ImmutableSetMultimap.Builder<JavaClass, JavaMethodCall> methodCallDependencies = ImmutableSetMultimap.builder();
+        private final List<JavaFieldAccess> fieldAccesses = new ArrayList<>();
+        private final List<JavaMethodCall> methodCalls = new ArrayList<>();
         private final ImmutableSetMultimap.Builder<String, JavaConstructorCall> constructorCallDependencies = ImmutableSetMultimap.builder();
         private final ImmutableSetMultimap.Builder<JavaClass, JavaField> fieldTypeDependencies = ImmutableSetMultimap.builder();
         private final ImmutableSetMultimap.Builder<JavaClass, JavaMethod> methodParameterTypeDependencies = ImmutableSetMultimap.builder();
@@ -156,12 +226,8 @@ final class ReverseDependencies {
         }
 
         private void registerAccesses(JavaClass clazz) {
-            for (JavaFieldAccess access : clazz.getFieldAccessesFromSelf()) {
-                fieldAccessDependencies.put(access.getTargetOwner(), access);
-            }
-            for (JavaMethodCall call : clazz.getMethodCallsFromSelf()) {
-                methodCallDependencies.put(call.getTargetOwner(), call);
-            }
+            fieldAccesses.addAll(clazz.getFieldAccessesFromSelf());
+            methodCalls.addAll(clazz.getMethodCallsFromSelf());
             for (JavaConstructorCall call : clazz.getConstructorCallsFromSelf()) {
                 constructorCallDependencies.put(call.getTarget().getFullName(), call);
             }
@@ -248,47 +314,4 @@ final class ReverseDependencies {
             }
         }
     }
-
-    private static class ResolvingAccessLoader<MEMBER extends JavaMember, ACCESS extends JavaAccess<?>> extends CacheLoader<MEMBER, Set<ACCESS>> {
-        private final SetMultimap<JavaClass, ACCESS> accessesToSelf;
-
-        private ResolvingAccessLoader(SetMultimap<JavaClass, ACCESS> accessesToSelf) {
-            this.accessesToSelf = accessesToSelf;
-        }
-
-        @Override
-        public Set<ACCESS> load(MEMBER member) {
-            ImmutableSet.Builder<ACCESS> result = ImmutableSet.builder();
-            for (final JavaClass javaClass : getPossibleTargetClassesForAccess(member.getOwner())) {
-                for (ACCESS access : this.accessesToSelf.get(javaClass)) {
-                    if (access.getTarget().resolve().contains(member)) {
-                        result.add(access);
-                    }
-                }
-            }
-            return result.build();
-        }
-
-        private Set<JavaClass> getPossibleTargetClassesForAccess(JavaClass owner) {
-            return ImmutableSet.<JavaClass>builder()
-                    .add(owner)
-                    .addAll(owner.getAllSubClasses())
-                    .build();
-        }
-    }
-
-    private static class ConstructorCallLoader extends CacheLoader<JavaConstructor, Set<JavaConstructorCall>> {
-        private final SetMultimap<String, JavaConstructorCall> accessesToSelf;
-
-        private ConstructorCallLoader(SetMultimap<String, JavaConstructorCall> accessesToSelf) {
-            this.accessesToSelf = accessesToSelf;
-        }
-
-        @Override
-        public Set<JavaConstructorCall> load(JavaConstructor member) {
-            ImmutableSet.Builder<JavaConstructorCall> result = ImmutableSet.builder();
-            result.addAll(accessesToSelf.get(member.getFullName()));
-            return result.build();
-        }
-    }
 }
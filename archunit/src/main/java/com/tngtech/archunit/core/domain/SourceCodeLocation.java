@@ -68,13 +68,13 @@ public final class SourceCodeLocation {
 
     private final JavaClass sourceClass;
     private final int lineNumber;
-    private final String description;
+    // Only created on first use, racy like String.hashCode(), since the description can always be created again
+    private String description;
 
     private SourceCodeLocation(JavaClass sourceClass, int lineNumber) {
         this.sourceClass = checkNotNull(sourceClass);
         this.lineNumber = lineNumber;
-        checkArgument(lineNumber >= 0, "Line number must be non-negative but was " + lineNumber);
-        description = formatLocation(sourceClass, lineNumber);
+        checkArgument(lineNumber >= 0, "Line number must be non-negative but was %s", lineNumber);
     }
 
     int getLineNumber() {
@@ -106,6 +106,10 @@ public final class SourceCodeLocation {
      */
     @Override
     public String toString() {
-        return description;
+        String result = description;
+        if (result == null) {
+            result = description = formatLocation(sourceClass, lineNumber);
+        }
+        return result;
     }
 }
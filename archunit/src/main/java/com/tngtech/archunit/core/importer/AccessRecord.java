@@ -23,6 +23,8 @@ import java.util.Iterator;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import com.google.common.base.Supplier;
 import com.google.common.base.Suppliers;
@@ -51,6 +53,10 @@ import com.tngtech.archunit.core.importer.RawAccessRecord.TargetInfo;
 
 import static com.google.common.collect.Iterables.getOnlyElement;
 import static com.tngtech.archunit.core.domain.DomainObjectCreationContext.createJavaClassList;
+import static com.tngtech.archunit.core.domain.DomainObjectCreationContext.getAllFieldsWithDescriptor;
+import static com.tngtech.archunit.core.domain.DomainObjectCreationContext.getAllMethodsWithDescriptor;
+import static com.tngtech.archunit.core.domain.DomainObjectCreationContext.tryGetFieldWithDescriptor;
+import static com.tngtech.archunit.core.domain.DomainObjectCreationContext.tryGetMethodWithDescriptor;
 import static java.util.Collections.singletonList;
 
 interface AccessRecord<TARGET extends AccessTarget> {
@@ -65,6 +71,12 @@ interface AccessRecord<TARGET extends AccessTarget> {
         AccessType getAccessType();
     }
 
+    /**
+     * Processes raw access records. All records processed by the same factory with the same
+     * {@link TargetInfo target} share a single {@link AccessTarget} instance. Thus the members an access target
+     * {@link AccessTarget#resolve() resolves} to are only searched once, no matter how many accesses
+     * to the same target (e.g. {@link Object#equals(Object)}) the imported classes contain.
+     */
     @Internal
     abstract class Factory<RAW_RECORD, PROCESSED_RECORD> {
 
@@ -72,27 +84,33 @@ interface AccessRecord<TARGET extends AccessTarget> {
 
         static Factory<RawAccessRecord, AccessRecord<ConstructorCallTarget>> forConstructorCallRecord() {
             return new Factory<RawAccessRecord, AccessRecord<ConstructorCallTarget>>() {
+                private final ConcurrentMap<TargetInfo, ConstructorCallTarget> targets = new ConcurrentHashMap<>();
+
                 @Override
                 AccessRecord<ConstructorCallTarget> create(RawAccessRecord record, ImportedClasses classes) {
-                    return new RawConstructorCallRecordProcessed(record, classes);
+                    return new RawConstructorCallRecordProcessed(record, classes, targets);
                 }
             };
         }
 
         static Factory<RawAccessRecord, AccessRecord<MethodCallTarget>> forMethodCallRecord() {
             return new Factory<RawAccessRecord, AccessRecord<MethodCallTarget>>() {
+                private final ConcurrentMap<TargetInfo, MethodCallTarget> targets = new ConcurrentHashMap<>();
+
                 @Override
                 AccessRecord<MethodCallTarget> create(RawAccessRecord record, ImportedClasses classes) {
-                    return new RawMethodCallRecordProcessed(record, classes);
+                    return new RawMethodCallRecordProcessed(record, classes, targets);
                 }
             };
         }
 
         static Factory<RawAccessRecord.ForField, FieldAccessRecord> forFieldAccessRecord() {
             return new Factory<RawAccessRecord.ForField, FieldAccessRecord>() {
+                private final ConcurrentMap<TargetInfo, FieldAccessTarget> targets = new ConcurrentHashMap<>();
+
                 @Override
                 FieldAccessRecord create(RawAccessRecord.ForField record, ImportedClasses classes) {
-                    return new RawFieldAccessRecordProcessed(record, classes);
+                    return new RawFieldAccessRecordProcessed(record, classes, targets);
                 }
             };
         }
@@ -101,11 +119,13 @@ interface AccessRecord<TARGET extends AccessTarget> {
             private final RawAccessRecord record;
             private final ImportedClasses classes;
             private final JavaClass targetOwner;
+            private final ConcurrentMap<TargetInfo, ConstructorCallTarget> targets;
             private final Supplier<JavaCodeUnit> callerSupplier;
 
-            RawConstructorCallRecordProcessed(RawAccessRecord record, ImportedClasses classes) {
+            RawConstructorCallRecordProcessed(RawAccessRecord record, ImportedClasses classes, ConcurrentMap<TargetInfo, ConstructorCallTarget> targets) {
                 this.record = record;
                 this.classes = classes;
+                this.targets = targets;
                 targetOwner = this.classes.getOrResolve(record.target.owner.getFullyQualifiedClassName());
                 callerSupplier = createCallerSupplier(record.caller, classes);
             }
@@ -117,6 +137,18 @@ interface AccessRecord<TARGET extends AccessTarget> {
 
             @Override
             public ConstructorCallTarget getTarget() {
+                ConstructorCallTarget target = targets.get(record.target);
+                if (target == null) {
+                    ConstructorCallTarget created = createTarget();
+                    target = targets.putIfAbsent(record.target, created);
+                    if (target == null) {
+                        target = created;
+                    }
+                }
+                return target;
+            }
+
+            private ConstructorCallTarget createTarget() {
                 Supplier<Optional<JavaConstructor>> constructorSupplier = new ConstructorTargetSupplier(targetOwner, record.target);
                 JavaClassList paramTypes = getArgumentTypesFrom(record.target.desc, classes);
                 JavaClass returnType = classes.getOrResolve(void.class.getName());
@@ -158,11 +190,13 @@ interface AccessRecord<TARGET extends AccessTarget> {
             private final RawAccessRecord record;
             final ImportedClasses classes;
             private final JavaClass targetOwner;
+            private final ConcurrentMap<TargetInfo, MethodCallTarget> targets;
             private final Supplier<JavaCodeUnit> callerSupplier;
 
-            RawMethodCallRecordProcessed(RawAccessRecord record, ImportedClasses classes) {
+            RawMethodCallRecordProcessed(RawAccessRecord record, ImportedClasses classes, ConcurrentMap<TargetInfo, MethodCallTarget> targets) {
                 this.record = record;
                 this.classes = classes;
+                this.targets = targets;
                 targetOwner = this.classes.getOrResolve(record.target.owner.getFullyQualifiedClassName());
                 callerSupplier = createCallerSupplier(record.caller, classes);
             }
@@ -174,7 +208,19 @@ interface AccessRecord<TARGET extends AccessTarget> {
 
             @Override
             public MethodCallTarget getTarget() {
-                Supplier<Set<JavaMethod>> methodsSupplier = new MethodTargetSupplier(targetOwner.getAllMethods(), record.target);
+                MethodCallTarget target = targets.get(record.target);
+                if (target == null) {
+                    MethodCallTarget created = createTarget();
+                    target = targets.putIfAbsent(record.target, created);
+                    if (target == null) {
+                        target = created;
+                    }
+                }
+                return target;
+            }
+
+            private MethodCallTarget createTarget() {
+                Supplier<Set<JavaMethod>> methodsSupplier = new MethodTargetSupplier(targetOwner, record.target);
                 JavaClassList parameters = getArgumentTypesFrom(record.target.desc, classes);
                 JavaClass returnType = classes.getOrResolve(JavaClassDescriptorImporter.importAsmMethodReturnType(record.target.desc).getFullyQualifiedClassName());
                 return new MethodCallTargetBuilder()
@@ -192,17 +238,18 @@ interface AccessRecord<TARGET extends AccessTarget> {
             }
 
             private static class MethodTargetSupplier implements Supplier<Set<JavaMethod>> {
-                private final Set<JavaMethod> allMethods;
+                private final JavaClass targetOwner;
                 private final TargetInfo target;
 
-                MethodTargetSupplier(Set<JavaMethod> allMethods, TargetInfo target) {
-                    this.allMethods = allMethods;
+                MethodTargetSupplier(JavaClass targetOwner, TargetInfo target) {
+                    this.targetOwner = targetOwner;
                     this.target = target;
                 }
 
                 @Override
                 public Set<JavaMethod> get() {
-                    return tryFindMatchingTargets(allMethods, target, METHOD_SIGNATURE_PREDICATE);
+                    List<JavaMethod> candidates = getAllMethodsWithDescriptor(targetOwner, target.name, target.desc);
+                    return tryFindMatchingTargets(candidates, target, METHOD_SIGNATURE_PREDICATE);
                 }
             }
         }
@@ -211,11 +258,13 @@ interface AccessRecord<TARGET extends AccessTarget> {
             private final RawAccessRecord.ForField record;
             final ImportedClasses classes;
             private final JavaClass targetOwner;
+            private final ConcurrentMap<TargetInfo, FieldAccessTarget> targets;
             private final Supplier<JavaCodeUnit> callerSupplier;
 
-            RawFieldAccessRecordProcessed(RawAccessRecord.ForField record, ImportedClasses classes) {
+            RawFieldAccessRecordProcessed(RawAccessRecord.ForField record, ImportedClasses classes, ConcurrentMap<TargetInfo, FieldAccessTarget> targets) {
                 this.record = record;
                 this.classes = classes;
+                this.targets = targets;
                 targetOwner = this.classes.getOrResolve(record.target.owner.getFullyQualifiedClassName());
                 callerSupplier = createCallerSupplier(record.caller, classes);
             }
@@ -232,7 +281,19 @@ interface AccessRecord<TARGET extends AccessTarget> {
 
             @Override
             public FieldAccessTarget getTarget() {
-                Supplier<Optional<JavaField>> fieldSupplier = new FieldTargetSupplier(targetOwner.getAllFields(), record.target);
+                FieldAccessTarget target = targets.get(record.target);
+                if (target == null) {
+                    FieldAccessTarget created = createTarget();
+                    target = targets.putIfAbsent(record.target, created);
+                    if (target == null) {
+                        target = created;
+                    }
+                }
+                return target;
+            }
+
+            private FieldAccessTarget createTarget() {
+                Supplier<Optional<JavaField>> fieldSupplier = new FieldTargetSupplier(targetOwner, record.target);
                 JavaClass fieldType = classes.getOrResolve(JavaClassDescriptorImporter.importAsmType(record.target.desc).getFullyQualifiedClassName());
                 return new FieldAccessTargetBuilder()
                         .withOwner(targetOwner)
@@ -248,17 +309,18 @@ interface AccessRecord<TARGET extends AccessTarget> {
             }
 
             private static class FieldTargetSupplier implements Supplier<Optional<JavaField>> {
-                private final Set<JavaField> allFields;
+                private final JavaClass targetOwner;
                 private final TargetInfo target;
 
-                FieldTargetSupplier(Set<JavaField> allFields, TargetInfo target) {
-                    this.allFields = allFields;
+                FieldTargetSupplier(JavaClass targetOwner, TargetInfo target) {
+                    this.targetOwner = targetOwner;
                     this.target = target;
                 }
 
                 @Override
                 public Optional<JavaField> get() {
-                    return uniqueTargetIn(tryFindMatchingTargets(allFields, target, FIELD_SIGNATURE_PREDICATE));
+                    List<JavaField> candidates = getAllFieldsWithDescriptor(targetOwner, target.name, target.desc);
+                    return uniqueTargetIn(tryFindMatchingTargets(candidates, target, FIELD_SIGNATURE_PREDICATE));
                 }
             }
         }
@@ -283,7 +345,7 @@ interface AccessRecord<TARGET extends AccessTarget> {
         }
 
         private static <MEMBER extends JavaMember, TARGET extends TargetInfo> Set<MEMBER>
-        tryFindMatchingTargets(Set<MEMBER> possibleTargets, TARGET target, SignaturePredicate<TARGET> signaturePredicate) {
+        tryFindMatchingTargets(Collection<MEMBER> possibleTargets, TARGET target, SignaturePredicate<TARGET> signaturePredicate) {
             ImmutableSet.Builder<MEMBER> result = ImmutableSet.builder();
             for (MEMBER possibleTarget : possibleTargets) {
                 if (matches(possibleTarget, target, signaturePredicate)) {
@@ -318,20 +380,14 @@ interface AccessRecord<TARGET extends AccessTarget> {
         private static final SignaturePredicate<TargetInfo> FIELD_SIGNATURE_PREDICATE = new SignaturePredicate<TargetInfo>() {
             @Override
             public boolean exists(JavaClass clazz, TargetInfo target) {
-                Optional<JavaField> field = clazz.tryGetField(target.name);
-                return field.isPresent() && target.desc.equals(field.get().getDescriptor());
+                return tryGetFieldWithDescriptor(clazz, target.name, target.desc).isPresent();
             }
         };
 
         private static final SignaturePredicate<TargetInfo> METHOD_SIGNATURE_PREDICATE = new SignaturePredicate<TargetInfo>() {
             @Override
             public boolean exists(JavaClass clazz, TargetInfo target) {
-                for (JavaMethod method : clazz.getMethods()) {
-                    if (method.getName().equals(target.name) && method.getDescriptor().equals(target.desc)) {
-                        return true;
-                    }
-                }
-                return false;
+                return tryGetMethodWithDescriptor(clazz, target.name, target.desc).isPresent();
             }
         };
 
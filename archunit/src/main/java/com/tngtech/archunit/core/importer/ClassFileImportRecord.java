@@ -26,6 +26,7 @@ import com.google.common.collect.HashMultimap;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Iterables;
 import com.google.common.collect.SetMultimap;
+import com.google.common.collect.Sets;
 import com.tngtech.archunit.base.Optional;
 import com.tngtech.archunit.core.domain.JavaClass;
 import com.tngtech.archunit.core.domain.JavaMember;
@@ -43,6 +44,8 @@ class ClassFileImportRecord {
     private static final TypeParametersBuilder NO_TYPE_PARAMETERS =
             new TypeParametersBuilder(Collections.<JavaTypeParameterBuilder<JavaClass>>emptySet());
 
+    private static final String MEMBER_KEY_SEPARATOR = "|";
+
     private final Map<String, JavaClass> classes = new HashMap<>();
 
     private final Map<String, String> superClassNamesByOwner = new HashMap<>();
@@ -217,6 +220,56 @@ class ClassFileImportRecord {
         }
     }
 
+    /**
+     * Adds all information of a record that was created independently, e.g. by another thread.
+     * If a class has been imported into both records, the information of this record wins,
+     * i.e. everything the other record knows about that class is dropped,
+     * just like a sequential import would skip a class that has already been imported before.
+     */
+    void addAllFrom(ClassFileImportRecord other) {
+        Set<String> alreadyImported = ImmutableSet.copyOf(Sets.intersection(classes.keySet(), other.classes.keySet()));
+
+        putAllNew(classes, other.classes, alreadyImported);
+        putAllNew(superClassNamesByOwner, other.superClassNamesByOwner, alreadyImported);
+        putAllNew(interfaceNamesByOwner, other.interfaceNamesByOwner, alreadyImported);
+        putAllNew(typeParametersBuilderByOwner, other.typeParametersBuilderByOwner, alreadyImported);
+        putAllNew(fieldBuildersByOwner, other.fieldBuildersByOwner, alreadyImported);
+        putAllNew(methodBuildersByOwner, other.methodBuildersByOwner, alreadyImported);
+        putAllNew(constructorBuildersByOwner, other.constructorBuildersByOwner, alreadyImported);
+        putAllNew(staticInitializerBuildersByOwner, other.staticInitializerBuildersByOwner, alreadyImported);
+        putAllNew(annotationsByOwner, other.annotationsByOwner, alreadyImported);
+        putAllNew(annotationDefaultValuesByOwner, other.annotationDefaultValuesByOwner, alreadyImported);
+        enclosingClassNamesByOwner.registerAll(other.enclosingClassNamesByOwner, alreadyImported);
+
+        addAllNew(rawFieldAccessRecords, other.rawFieldAccessRecords, alreadyImported);
+        addAllNew(rawMethodCallRecords, other.rawMethodCallRecords, alreadyImported);
+        addAllNew(rawConstructorCallRecords, other.rawConstructorCallRecords, alreadyImported);
+    }
+
+    private static <V> void putAllNew(Map<String, V> target, Map<String, V> source, Set<String> ownersToSkip) {
+        for (Map.Entry<String, V> entry : source.entrySet()) {
+            if (!ownersToSkip.contains(ownerOf(entry.getKey()))) {
+                target.put(entry.getKey(), entry.getValue());
+            }
+        }
+    }
+
+    private static <V> void putAllNew(SetMultimap<String, V> target, SetMultimap<String, V> source, Set<String> ownersToSkip) {
+        for (Map.Entry<String, Collection<V>> entry : source.asMap().entrySet()) {
+            if (!ownersToSkip.contains(ownerOf(entry.getKey()))) {
+                target.putAll(entry.getKey(), entry.getValue());
+            }
+        }
+    }
+
+    private static <T extends RawAccessRecord> void addAllNew(Set<T> target, Set<T> source, Set<String> ownersToSkip) {
+        for (T record : source) {
+            if (!ownersToSkip.contains(record.caller.getDeclaringClassName())) {
+                target.add(record);
+            }
+        }
+    }
+
     Map<String, JavaClass> getClasses() {
         return classes;
     }
@@ -242,7 +295,13 @@ class ClassFileImportRecord {
     }
 
     private static String getMemberKey(String declaringClassName, String methodName, String descriptor) {
-        return declaringClassName + "|" + methodName + "|" + descriptor;
+        return declaringClassName + MEMBER_KEY_SEPARATOR + methodName + MEMBER_KEY_SEPARATOR + descriptor;
+    }
+
+    // keys are either plain class names or member keys, which are prefixed with the name of the declaring class
+    private static String ownerOf(String key) {
+        int separatorIndex = key.indexOf(MEMBER_KEY_SEPARATOR);
+        return separatorIndex >= 0 ? key.substring(0, separatorIndex) : key;
     }
 
     // NOTE: ASM calls visitInnerClass and visitOuterClass several times, sometimes when the outer class is imported
@@ -269,6 +328,14 @@ class ClassFileImportRecord {
             return registeringAllowed;
         }
 
+        void registerAll(EnclosingClassesByInnerClasses other, Set<String> innerNamesToSkip) {
+            for (Map.Entry<String, String> innerToOuterEntry : other.innerToOuter.entrySet()) {
+                if (!innerNamesToSkip.contains(innerToOuterEntry.getKey())) {
+                    register(innerToOuterEntry.getKey(), innerToOuterEntry.getValue());
+                }
+            }
+        }
+
         public Optional<String> get(String ownerName) {
             return Optional.fromNullable(innerToOuter.get(ownerName));
         }
@@ -21,6 +21,7 @@ import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
@@ -41,6 +42,7 @@ import org.slf4j.LoggerFactory;
 
 import static com.google.common.collect.Iterables.getOnlyElement;
 import static com.tngtech.archunit.PublicAPI.Usage.ACCESS;
+import static com.tngtech.archunit.core.importer.ImportStatistics.Phase.LOCATION_SCANNING;
 import static java.util.Collections.singletonList;
 
 /**
@@ -81,6 +83,7 @@ public final class ClassFileImporter {
     private static final Logger LOG = LoggerFactory.getLogger(ClassFileImporter.class);
 
     private final ImportOptions importOptions;
+    private final List<ImportListener> importListeners;
 
     @PublicAPI(usage = ACCESS)
     public ClassFileImporter() {
@@ -89,7 +92,12 @@ public final class ClassFileImporter {
 
     @PublicAPI(usage = ACCESS)
     public ClassFileImporter(ImportOptions importOptions) {
+        this(importOptions, Collections.<ImportListener>emptyList());
+    }
+
+    private ClassFileImporter(ImportOptions importOptions, List<ImportListener> importListeners) {
         this.importOptions = importOptions;
+        this.importListeners = importListeners;
     }
 
     /**
@@ -101,7 +109,20 @@ public final class ClassFileImporter {
      */
     @PublicAPI(usage = ACCESS)
     public ClassFileImporter withImportOption(ImportOption option) {
-        return new ClassFileImporter(importOptions.with(option));
+        return new ClassFileImporter(importOptions.with(option), importListeners);
+    }
+
+    /**
+     * Adds an {@link ImportListener} that will be notified about every finished import, e.g. to find out
+     * which phase of a slow import takes the most time (compare {@link ImportStatistics}). Note that
+     * this object will not be modified, but instead a copy with adjusted behavior will be returned.
+     *
+     * @param listener An {@link ImportListener} to receive the {@link ImportStatistics} of every import
+     * @return A {@link ClassFileImporter} which notifies the given {@link ImportListener}
+     */
+    @PublicAPI(usage = ACCESS)
+    public ClassFileImporter withImportListener(ImportListener listener) {
+        return new ClassFileImporter(importOptions, ImmutableList.<ImportListener>builder().addAll(importListeners).add(listener).build());
     }
 
     /**
@@ -202,11 +223,14 @@ public final class ClassFileImporter {
      */
     @PublicAPI(usage = ACCESS)
     public JavaClasses importPackages(Collection<String> packages) {
+        ImportStatistics.Recorder statistics = new ImportStatistics.Recorder();
+        long start = statistics.startTimer();
         Set<Location> locations = new HashSet<>();
         for (String pkg : packages) {
             locations.addAll(Locations.ofPackage(pkg));
         }
-        return importLocations(locations);
+        statistics.stopTimer(LOCATION_SCANNING, start);
+        return importLocations(locations, statistics);
     }
 
     /**
@@ -261,7 +285,11 @@ public final class ClassFileImporter {
      */
     @PublicAPI(usage = ACCESS)
     public JavaClasses importClasspath(ImportOptions options) {
-        return new ClassFileImporter(options).importLocations(Locations.inClassPath());
+        ImportStatistics.Recorder statistics = new ImportStatistics.Recorder();
+        long start = statistics.startTimer();
+        Set<Location> locations = Locations.inClassPath();
+        statistics.stopTimer(LOCATION_SCANNING, start);
+        return new ClassFileImporter(options, importListeners).importLocations(locations, statistics);
     }
 
     /**
@@ -288,11 +316,14 @@ public final class ClassFileImporter {
      */
     @PublicAPI(usage = ACCESS)
     public JavaClasses importClasses(Collection<Class<?>> classes) {
+        ImportStatistics.Recorder statistics = new ImportStatistics.Recorder();
+        long start = statistics.startTimer();
         Set<Location> locations = new HashSet<>();
         for (Class<?> clazz : classes) {
             locations.addAll(Locations.ofClass(clazz));
         }
-        return importLocations(locations);
+        statistics.stopTimer(LOCATION_SCANNING, start);
+        return importLocations(locations, statistics);
     }
 
     /**
@@ -329,11 +360,94 @@ public final class ClassFileImporter {
      */
     @PublicAPI(usage = ACCESS)
     public JavaClasses importLocations(Collection<Location> locations) {
+        return importLocations(locations, new ImportStatistics.Recorder());
+    }
+
+    private JavaClasses importLocations(Collection<Location> locations, ImportStatistics.Recorder statistics) {
+        long start = statistics.startTimer();
         List<ClassFileSource> sources = new ArrayList<>();
         for (Location location : locations) {
             tryAdd(sources, location);
         }
-        return new ClassFileProcessor().process(unify(sources));
+        statistics.stopTimer(LOCATION_SCANNING, start);
+        return process(unify(sources), statistics);
+    }
+
+    /**
+     * Imports the classes of a previous import again, after some class files have been added, modified or deleted.
+     * Instead of scanning the original {@link Location locations} again, the class files of all previously imported classes
+     * that do not reside within any of the supplied changed {@link Location locations} are read directly from their
+     * {@link JavaClass#getSource() source}, while the changed {@link Location locations} are imported as described in
+     * {@link #importLocations(Collection)}. Classes whose class files have been deleted from a changed location will thus
+     * be missing from the result.
+     * <br><br>
+     * Note that the result is a completely new graph of {@link JavaClasses}, i.e. no {@link JavaClass} of the previous import
+     * will be reused, since any changed class can affect the dependencies of any other class.
+     * To avoid parsing unchanged class files again, configure an import cache (compare {@link ArchConfiguration#setImportCacheDirectory(String)}).
+     * <br><br>
+     * For information about the impact of the imported classes on the evaluation of rules,
+     * as well as configuration and details, refer to {@link ClassFileImporter}.
+     *
+     * @param previous Classes of a previous import
+     * @param changedLocations {@link Location Locations} containing added, modified or deleted class files,
+     *                         e.g. single class files or whole directories
+     * @return The classes of the previous import with all changes applied
+     */
+    @PublicAPI(usage = ACCESS)
+    public JavaClasses reimport(JavaClasses previous, Collection<Location> changedLocations) {
+        ImportStatistics.Recorder statistics = new ImportStatistics.Recorder();
+        long start = statistics.startTimer();
+        List<ClassFileSource> sources = new ArrayList<>();
+        sources.add(new ClassFileSource.FromPreviousImport(previous, changedLocations));
+        for (Location location : changedLocations) {
+            tryAdd(sources, location.asJarLocationIfJarFile());
+        }
+        statistics.stopTimer(LOCATION_SCANNING, start);
+        return process(unify(sources), statistics);
+    }
+
+    /**
+     * Scans the given {@link Location} and parses all class files found, without creating any {@link JavaClass} yet.
+     * The result can then be imported together with other {@link ParsedLocation ParsedLocations} via
+     * {@link #importParsedLocations(Collection)}, as often as necessary, without scanning and parsing the {@link Location} again.
+     * The {@link ImportOption ImportOptions} of this {@link ClassFileImporter} are applied while scanning.
+     *
+     * @param location The {@link Location} to parse
+     * @return The parsed class files of the {@link Location}
+     */
+    @PublicAPI(usage = ACCESS)
+    public ParsedLocation parse(Location location) {
+        List<ClassFileSource> sources = new ArrayList<>();
+        tryAdd(sources, location);
+        return new ClassFileProcessor().parse(location, unify(sources));
+    }
+
+    /**
+     * Imports the classes of the given {@link ParsedLocation ParsedLocations}, just like {@link #importLocations(Collection)}
+     * would import the respective {@link Location Locations}. Since the class files have already been parsed,
+     * only the graph of {@link JavaClasses} has to be created, including the resolution of missing classes
+     * (compare {@link ClassFileImporter}).
+     * <br><br>
+     * Note that the {@link ImportOption ImportOptions} of the {@link ClassFileImporter} that parsed the locations apply,
+     * not the ones of this {@link ClassFileImporter}.
+     */
+    @PublicAPI(usage = ACCESS)
+    public JavaClasses importParsedLocations(Collection<ParsedLocation> parsedLocations) {
+        List<ClassFileSource> sources = new ArrayList<>();
+        for (ParsedLocation parsedLocation : parsedLocations) {
+            sources.add(parsedLocation.asClassFileSource());
+        }
+        return process(unify(sources), new ImportStatistics.Recorder());
+    }
+
+    private JavaClasses process(ClassFileSource source, ImportStatistics.Recorder statistics) {
+        JavaClasses classes = new ClassFileProcessor().process(source, statistics);
+        ImportStatistics importStatistics = statistics.finish();
+        LOG.debug("Imported {} classes: {}", classes.size(), importStatistics);
+        for (ImportListener listener : importListeners) {
+            listener.onImportFinished(importStatistics);
+        }
+        return classes;
     }
 
     private void tryAdd(List<ClassFileSource> sources, Location location) {
@@ -15,11 +15,17 @@
  */
 package com.tngtech.archunit.core.importer;
 
+import java.io.IOException;
 import java.io.InputStream;
 import java.net.URI;
 
 interface ClassFileLocation {
     InputStream openStream();
 
+    /**
+     * @return the complete content of the class file, preferably read without any intermediate buffers
+     */
+    byte[] readBytes() throws IOException;
+
     URI getUri();
 }
@@ -15,15 +15,30 @@
  */
 package com.tngtech.archunit.core.importer;
 
+import java.io.IOException;
 import java.io.InputStream;
 import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Lists;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 
 import com.tngtech.archunit.ArchConfiguration;
 import com.tngtech.archunit.base.Optional;
 import com.tngtech.archunit.core.domain.JavaClass;
 import com.tngtech.archunit.core.domain.JavaClasses;
 import com.tngtech.archunit.core.domain.JavaFieldAccess.AccessType;
+import com.tngtech.archunit.core.importer.ClassFileSource.InputStreamSupplier;
+import com.tngtech.archunit.core.importer.ClassFileSource.InputStreamSupplierClassFileLocation;
+import com.tngtech.archunit.core.importer.ClassFileSource.RecordedClassFileLocation;
 import com.tngtech.archunit.core.importer.DomainBuilders.TypeParametersBuilder;
 import com.tngtech.archunit.core.importer.JavaClassProcessor.AccessHandler;
 import com.tngtech.archunit.core.importer.JavaClassProcessor.DeclarationHandler;
@@ -31,11 +46,11 @@ import com.tngtech.archunit.core.importer.RawAccessRecord.CodeUnit;
 import com.tngtech.archunit.core.importer.RawAccessRecord.TargetInfo;
 import com.tngtech.archunit.core.importer.resolvers.ClassResolver;
 import com.tngtech.archunit.core.importer.resolvers.ClassResolver.ClassUriImporter;
-import org.objectweb.asm.ClassReader;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import static com.tngtech.archunit.core.domain.JavaConstructor.CONSTRUCTOR_NAME;
+import static com.tngtech.archunit.core.importer.ImportStatistics.Phase.CLASS_FILE_PARSING;
 import static org.objectweb.asm.Opcodes.ASM7;
 
 class ClassFileProcessor {
@@ -43,24 +58,146 @@ class ClassFileProcessor {
 
     static final int ASM_API_VERSION = ASM7;
 
+    private static final int PARTITIONS_PER_THREAD = 4;
+
     private final boolean md5InClassSourcesEnabled = ArchConfiguration.get().md5InClassSourcesEnabled();
+    private final int importThreads = determineImportThreads();
     private final ClassResolver.Factory classResolverFactory = new ClassResolver.Factory();
 
     JavaClasses process(ClassFileSource source) {
+        return process(source, new ImportStatistics.Recorder());
+    }
+
+    JavaClasses process(ClassFileSource source, ImportStatistics.Recorder statistics) {
+        ImportCache importCache = ImportCache.create();
+        long parsingStart = statistics.startTimer();
+        ClassFileImportRecord importRecord = importThreads > 1
+                ? importInParallel(ImmutableList.copyOf(source), importCache, statistics)
+                : importRecordOf(source, importCache, statistics);
+        statistics.stopTimer(CLASS_FILE_PARSING, parsingStart);
+        ClassResolver classResolver = getClassResolver(new ClassDetailsRecorder(importRecord), importCache);
+        JavaClasses result = new ClassGraphCreator(importRecord, classResolver, statistics).complete();
+        importCache.flush();
+        return result;
+    }
+
+    ParsedLocation parse(Location location, ClassFileSource source) {
+        ImportCache importCache = ImportCache.create();
+        List<RecordedClassFileLocation> classFiles = new ArrayList<>();
+        for (ClassFileLocation classFile : source) {
+            try {
+                classFiles.add(new RecordedClassFileLocation(classFile.getUri(), importCache.record(classFile)));
+            } catch (Exception e) {
+                LOG.warn(String.format("Couldn't parse class from %s", classFile.getUri()), e);
+            }
+        }
+        importCache.flush();
+        return new ParsedLocation(location, classFiles);
+    }
+
+    private ClassFileImportRecord importRecordOf(Iterable<ClassFileLocation> locations, ImportCache importCache, ImportStatistics.Recorder statistics) {
         ClassFileImportRecord importRecord = new ClassFileImportRecord();
         RecordAccessHandler accessHandler = new RecordAccessHandler(importRecord);
         ClassDetailsRecorder classDetailsRecorder = new ClassDetailsRecorder(importRecord);
-        for (ClassFileLocation location : source) {
-            try (InputStream s = location.openStream()) {
+        for (ClassFileLocation location : locations) {
+            try {
                 JavaClassProcessor javaClassProcessor =
                         new JavaClassProcessor(new SourceDescriptor(location.getUri(), md5InClassSourcesEnabled), classDetailsRecorder, accessHandler);
-                new ClassReader(s).accept(javaClassProcessor, 0);
-                importRecord.addAll(javaClassProcessor.createJavaClass().asSet());
+                ByteCountingClassFileLocation countingLocation = new ByteCountingClassFileLocation(location);
+                if (location instanceof RecordedClassFileLocation) {
+                    ClassFileRecording.replay(((RecordedClassFileLocation) location).getRecording(), javaClassProcessor);
+                } else {
+                    importCache.accept(countingLocation, javaClassProcessor);
+                }
+                Optional<JavaClass> javaClass = javaClassProcessor.createJavaClass();
+                importRecord.addAll(javaClass.asSet());
+                record(statistics, javaClass, countingLocation);
             } catch (Exception e) {
                 LOG.warn(String.format("Couldn't import class from %s", location.getUri()), e);
             }
         }
-        return new ClassGraphCreator(importRecord, getClassResolver(classDetailsRecorder)).complete();
+        return importRecord;
+    }
+
+    private void record(ImportStatistics.Recorder statistics, Optional<JavaClass> javaClass, ByteCountingClassFileLocation location) {
+        if (!javaClass.isPresent()) {
+            return;
+        }
+        if (location.getBytesRead() > 0) {
+            statistics.recordClassFile(javaClass.get().getName(), location.getBytesRead());
+        } else {
+            statistics.recordCachedClassFile();
+        }
+    }
+
+    // The locations are split into consecutive partitions, each parsed into a partial record by a worker thread.
+    // Merging the partial records in the original order guarantees the same result as a sequential import,
+    // in particular if the same class is present in several locations, the first one still wins.
+    private ClassFileImportRecord importInParallel(
+            List<ClassFileLocation> locations, final ImportCache importCache, final ImportStatistics.Recorder statistics) {
+
+        if (locations.isEmpty()) {
+            return new ClassFileImportRecord();
+        }
+
+        int partitionSize = (int) Math.ceil((double) locations.size() / (importThreads * PARTITIONS_PER_THREAD));
+        List<List<ClassFileLocation>> partitions = Lists.partition(locations, partitionSize);
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(importThreads, partitions.size()),
+                new ThreadFactoryBuilder().setNameFormat("archunit-import-%d").setDaemon(true).build());
+        try {
+            List<Future<ClassFileImportRecord>> partialRecords = new ArrayList<>();
+            for (final List<ClassFileLocation> partition : partitions) {
+                partialRecords.add(executor.submit(new Callable<ClassFileImportRecord>() {
+                    @Override
+                    public ClassFileImportRecord call() {
+                        return importRecordOf(partition, importCache, statistics);
+                    }
+                }));
+            }
+
+            ClassFileImportRecord importRecord = new ClassFileImportRecord();
+            for (Future<ClassFileImportRecord> partialRecord : partialRecords) {
+                importRecord.addAllFrom(Futures.getUnchecked(partialRecord));
+            }
+            return importRecord;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static class ByteCountingClassFileLocation implements ClassFileLocation {
+        private final ClassFileLocation delegate;
+        private int bytesRead = 0;
+
+        ByteCountingClassFileLocation(ClassFileLocation delegate) {
+            this.delegate = delegate;
+        }
+
+        int getBytesRead() {
+            return bytesRead;
+        }
+
+        @Override
+        public InputStream openStream() {
+            return delegate.openStream();
+        }
+
+        @Override
+        public byte[] readBytes() throws IOException {
+            byte[] result = delegate.readBytes();
+            bytesRead += result.length;
+            return result;
+        }
+
+        @Override
+        public URI getUri() {
+            return delegate.getUri();
+        }
+    }
+
+    private static int determineImportThreads() {
+        int configuredThreads = ArchConfiguration.get().getImportThreads();
+        return configuredThreads > 0 ? configuredThreads : Runtime.getRuntime().availableProcessors();
     }
 
     private static class ClassDetailsRecorder implements DeclarationHandler {
@@ -182,26 +319,33 @@ class ClassFileProcessor {
         }
     }
 
-    private ClassResolver getClassResolver(ClassDetailsRecorder classDetailsRecorder) {
+    private ClassResolver getClassResolver(ClassDetailsRecorder classDetailsRecorder, ImportCache importCache) {
         ClassResolver classResolver = classResolverFactory.create();
-        classResolver.setClassUriImporter(new UriImporterOfProcessor(classDetailsRecorder, md5InClassSourcesEnabled));
+        classResolver.setClassUriImporter(new UriImporterOfProcessor(classDetailsRecorder, importCache, md5InClassSourcesEnabled));
         return classResolver;
     }
 
     private static class UriImporterOfProcessor implements ClassUriImporter {
         private final DeclarationHandler declarationHandler;
+        private final ImportCache importCache;
         private final boolean md5InClassSourcesEnabled;
 
-        UriImporterOfProcessor(DeclarationHandler declarationHandler, boolean md5InClassSourcesEnabled) {
+        UriImporterOfProcessor(DeclarationHandler declarationHandler, ImportCache importCache, boolean md5InClassSourcesEnabled) {
             this.declarationHandler = declarationHandler;
+            this.importCache = importCache;
             this.md5InClassSourcesEnabled = md5InClassSourcesEnabled;
         }
 
         @Override
-        public Optional<JavaClass> tryImport(URI uri) {
-            try (InputStream inputStream = uri.toURL().openStream()) {
+        public Optional<JavaClass> tryImport(final URI uri) {
+            try {
                 JavaClassProcessor classProcessor = new JavaClassProcessor(new SourceDescriptor(uri, md5InClassSourcesEnabled), declarationHandler);
-                new ClassReader(inputStream).accept(classProcessor, 0);
+                importCache.accept(new InputStreamSupplierClassFileLocation(uri, new InputStreamSupplier() {
+                    @Override
+                    InputStream getInputStream() throws IOException {
+                        return uri.toURL().openStream();
+                    }
+                }), classProcessor);
                 return classProcessor.createJavaClass();
             } catch (Exception e) {
                 LOG.warn(String.format("Error during import from %s, falling back to simple import", uri), e);
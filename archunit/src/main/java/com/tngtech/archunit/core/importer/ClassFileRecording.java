@@ -0,0 +1,624 @@
+/*
+ * Copyright 2014-2021 TNG Technology Consulting GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tngtech.archunit.core.importer;
+
+import java.io.ByteArrayOutputStream;
+import java.lang.reflect.Array;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.objectweb.asm.AnnotationVisitor;
+import org.objectweb.asm.ClassReader;
+import org.objectweb.asm.ClassVisitor;
+import org.objectweb.asm.FieldVisitor;
+import org.objectweb.asm.Label;
+import org.objectweb.asm.MethodVisitor;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.tngtech.archunit.core.importer.ClassFileProcessor.ASM_API_VERSION;
+
+/**
+ * A compact binary recording of exactly those ASM events of a class file that are relevant to the import
+ * (compare {@link JavaClassProcessor}). Replaying a recording is a lot cheaper than parsing the class file again,
+ * since all byte code that is irrelevant to ArchUnit (e.g. stack map frames, arithmetic instructions or constants)
+ * has already been dropped and all strings are only stored once.
+ * <br><br>
+ * NOTE: If {@link JavaClassProcessor} starts to consume further ASM events, these need to be recorded as well
+ * and {@link #FORMAT_VERSION} needs to be increased, so outdated recordings will not be used anymore.
+ */
+class ClassFileRecording {
+    static final int FORMAT_VERSION = 1;
+
+    private static final int END = 0;
+
+    private static final int CLASS = 1;
+    private static final int SOURCE = 2;
+    private static final int INNER_CLASS = 3;
+    private static final int OUTER_CLASS = 4;
+    private static final int FIELD = 5;
+    private static final int METHOD = 6;
+    private static final int ANNOTATION = 7;
+
+    private static final int CODE = 10;
+    private static final int LINE_NUMBER = 11;
+    private static final int FIELD_INSTRUCTION = 12;
+    private static final int METHOD_INSTRUCTION = 13;
+    private static final int TYPE_INSTRUCTION = 14;
+    private static final int ANNOTATION_DEFAULT = 15;
+
+    private static final int ANNOTATION_VALUE = 20;
+    private static final int ANNOTATION_ENUM = 21;
+    private static final int ANNOTATION_ARRAY = 22;
+
+    // Values are tagged with the (array) descriptor of their type, e.g. 'I' for int or '[J' for long[],
+    // 's' for String and 'T' for an ASM Type, i.e. a class object, while 'N' marks null
+    private static final char NULL_TAG = 'N';
+    private static final char STRING_TAG = 's';
+    private static final char TYPE_TAG = 'T';
+    private static final char ARRAY_TAG = '[';
+
+    // if the target does not want to visit some part (e.g. because the class has already been imported),
+    // we still have to consume the respective events of the recording
+    private static final FieldVisitor NO_OP_FIELD_VISITOR = new FieldVisitor(ASM_API_VERSION) {
+    };
+    private static final MethodVisitor NO_OP_METHOD_VISITOR = new MethodVisitor(ASM_API_VERSION) {
+    };
+    private static final AnnotationVisitor NO_OP_ANNOTATION_VISITOR = new AnnotationVisitor(ASM_API_VERSION) {
+    };
+
+    private ClassFileRecording() {
+    }
+
+    /**
+     * Parses the class file, passes all events on to the supplied visitor and records them at the same time.
+     * The visitor may be {@code null}, if only the recording is of interest.
+     */
+    static byte[] record(byte[] classFile, ClassVisitor visitor) {
+        Output output = new Output();
+        new ClassReader(classFile).accept(new RecordingClassVisitor(visitor, output), 0);
+        return output.toByteArray();
+    }
+
+    /**
+     * Passes all recorded events on to the supplied visitor, just like the original class file would have.
+     */
+    static void replay(byte[] recording, ClassVisitor visitor) {
+        Input input = new Input(recording);
+        replayClass(input, visitor);
+    }
+
+    private static void replayClass(Input input, ClassVisitor visitor) {
+        for (int event = input.readByte(); event != END; event = input.readByte()) {
+            switch (event) {
+                case CLASS:
+                    visitor.visit(input.readInt(), input.readInt(), input.readString(), input.readString(), input.readString(), input.readStrings());
+                    break;
+                case SOURCE:
+                    visitor.visitSource(input.readString(), input.readString());
+                    break;
+                case INNER_CLASS:
+                    visitor.visitInnerClass(input.readString(), input.readString(), input.readString(), input.readInt());
+                    break;
+                case OUTER_CLASS:
+                    visitor.visitOuterClass(input.readString(), input.readString(), input.readString());
+                    break;
+                case FIELD:
+                    replayField(input, visitor.visitField(input.readInt(), input.readString(), input.readString(), input.readString(), input.readValue()));
+                    break;
+                case METHOD:
+                    replayMethod(input, visitor.visitMethod(input.readInt(), input.readString(), input.readString(), input.readString(), input.readStrings()));
+                    break;
+                case ANNOTATION:
+                    replayAnnotation(input, visitor.visitAnnotation(input.readString(), input.readBoolean()));
+                    break;
+                default:
+                    throw unknownEvent(event);
+            }
+        }
+        visitor.visitEnd();
+    }
+
+    private static void replayField(Input input, FieldVisitor visitor) {
+        FieldVisitor target = visitor != null ? visitor : NO_OP_FIELD_VISITOR;
+        for (int event = input.readByte(); event != END; event = input.readByte()) {
+            if (event != ANNOTATION) {
+                throw unknownEvent(event);
+            }
+            replayAnnotation(input, target.visitAnnotation(input.readString(), input.readBoolean()));
+        }
+        target.visitEnd();
+    }
+
+    private static void replayMethod(Input input, MethodVisitor visitor) {
+        MethodVisitor target = visitor != null ? visitor : NO_OP_METHOD_VISITOR;
+        for (int event = input.readByte(); event != END; event = input.readByte()) {
+            switch (event) {
+                case CODE:
+                    target.visitCode();
+                    break;
+                case LINE_NUMBER:
+                    target.visitLineNumber(input.readInt(), new Label());
+                    break;
+                case FIELD_INSTRUCTION:
+                    target.visitFieldInsn(input.readInt(), input.readString(), input.readString(), input.readString());
+                    break;
+                case METHOD_INSTRUCTION:
+                    target.visitMethodInsn(input.readInt(), input.readString(), input.readString(), input.readString(), input.readBoolean());
+                    break;
+                case TYPE_INSTRUCTION:
+                    target.visitTypeInsn(input.readInt(), input.readString());
+                    break;
+                case ANNOTATION:
+                    replayAnnotation(input, target.visitAnnotation(input.readString(), input.readBoolean()));
+                    break;
+                case ANNOTATION_DEFAULT:
+                    replayAnnotation(input, target.visitAnnotationDefault());
+                    break;
+                default:
+                    throw unknownEvent(event);
+            }
+        }
+        target.visitEnd();
+    }
+
+    private static void replayAnnotation(Input input, AnnotationVisitor visitor) {
+        AnnotationVisitor target = visitor != null ? visitor : NO_OP_ANNOTATION_VISITOR;
+        for (int event = input.readByte(); event != END; event = input.readByte()) {
+            switch (event) {
+                case ANNOTATION_VALUE:
+                    target.visit(input.readString(), input.readValue());
+                    break;
+                case ANNOTATION_ENUM:
+                    target.visitEnum(input.readString(), input.readString(), input.readString());
+                    break;
+                case ANNOTATION:
+                    replayAnnotation(input, target.visitAnnotation(input.readString(), input.readString()));
+                    break;
+                case ANNOTATION_ARRAY:
+                    replayAnnotation(input, target.visitArray(input.readString()));
+                    break;
+                default:
+                    throw unknownEvent(event);
+            }
+        }
+        target.visitEnd();
+    }
+
+    private static IllegalStateException unknownEvent(int event) {
+        return new IllegalStateException(String.format("Unknown event %d in class file recording, this is most likely a bug", event));
+    }
+
+    private static class RecordingClassVisitor extends ClassVisitor {
+        private final Output output;
+
+        RecordingClassVisitor(ClassVisitor delegate, Output output) {
+            super(ASM_API_VERSION, delegate);
+            this.output = output;
+        }
+
+        @Override
+        public void visit(int version, int access, String name, String signature, String superName, String[] interfaces) {
+            output.writeByte(CLASS).writeInt(version).writeInt(access)
+                    .writeString(name).writeString(signature).writeString(superName).writeStrings(interfaces);
+            super.visit(version, access, name, signature, superName, interfaces);
+        }
+
+        @Override
+        public void visitSource(String source, String debug) {
+            output.writeByte(SOURCE).writeString(source).writeString(debug);
+            super.visitSource(source, debug);
+        }
+
+        @Override
+        public void visitInnerClass(String name, String outerName, String innerName, int access) {
+            output.writeByte(INNER_CLASS).writeString(name).writeString(outerName).writeString(innerName).writeInt(access);
+            super.visitInnerClass(name, outerName, innerName, access);
+        }
+
+        @Override
+        public void visitOuterClass(String owner, String name, String descriptor) {
+            output.writeByte(OUTER_CLASS).writeString(owner).writeString(name).writeString(descriptor);
+            super.visitOuterClass(owner, name, descriptor);
+        }
+
+        @Override
+        public FieldVisitor visitField(int access, String name, String descriptor, String signature, Object value) {
+            output.writeByte(FIELD).writeInt(access).writeString(name).writeString(descriptor).writeString(signature).writeValue(value);
+            return new RecordingFieldVisitor(super.visitField(access, name, descriptor, signature, value), output);
+        }
+
+        @Override
+        public MethodVisitor visitMethod(int access, String name, String descriptor, String signature, String[] exceptions) {
+            output.writeByte(METHOD).writeInt(access).writeString(name).writeString(descriptor).writeString(signature).writeStrings(exceptions);
+            return new RecordingMethodVisitor(super.visitMethod(access, name, descriptor, signature, exceptions), output);
+        }
+
+        @Override
+        public AnnotationVisitor visitAnnotation(String descriptor, boolean visible) {
+            output.writeByte(ANNOTATION).writeString(descriptor).writeBoolean(visible);
+            return new RecordingAnnotationVisitor(super.visitAnnotation(descriptor, visible), output);
+        }
+
+        @Override
+        public void visitEnd() {
+            output.writeByte(END);
+            super.visitEnd();
+        }
+    }
+
+    private static class RecordingFieldVisitor extends FieldVisitor {
+        private final Output output;
+
+        RecordingFieldVisitor(FieldVisitor delegate, Output output) {
+            super(ASM_API_VERSION, delegate);
+            this.output = output;
+        }
+
+        @Override
+        public AnnotationVisitor visitAnnotation(String descriptor, boolean visible) {
+            output.writeByte(ANNOTATION).writeString(descriptor).writeBoolean(visible);
+            return new RecordingAnnotationVisitor(super.visitAnnotation(descriptor, visible), output);
+        }
+
+        @Override
+        public void visitEnd() {
+            output.writeByte(END);
+            super.visitEnd();
+        }
+    }
+
+    private static class RecordingMethodVisitor extends MethodVisitor {
+        private final Output output;
+
+        RecordingMethodVisitor(MethodVisitor delegate, Output output) {
+            super(ASM_API_VERSION, delegate);
+            this.output = output;
+        }
+
+        @Override
+        public void visitCode() {
+            output.writeByte(CODE);
+            super.visitCode();
+        }
+
+        @Override
+        public void visitLineNumber(int line, Label start) {
+            output.writeByte(LINE_NUMBER).writeInt(line);
+            super.visitLineNumber(line, start);
+        }
+
+        @Override
+        public void visitFieldInsn(int opcode, String owner, String name, String descriptor) {
+            output.writeByte(FIELD_INSTRUCTION).writeInt(opcode).writeString(owner).writeString(name).writeString(descriptor);
+            super.visitFieldInsn(opcode, owner, name, descriptor);
+        }
+
+        @Override
+        public void visitMethodInsn(int opcode, String owner, String name, String descriptor, boolean isInterface) {
+            output.writeByte(METHOD_INSTRUCTION).writeInt(opcode).writeString(owner).writeString(name).writeString(descriptor).writeBoolean(isInterface);
+            super.visitMethodInsn(opcode, owner, name, descriptor, isInterface);
+        }
+
+        @Override
+        public void visitTypeInsn(int opcode, String type) {
+            output.writeByte(TYPE_INSTRUCTION).writeInt(opcode).writeString(type);
+            super.visitTypeInsn(opcode, type);
+        }
+
+        @Override
+        public AnnotationVisitor visitAnnotation(String descriptor, boolean visible) {
+            output.writeByte(ANNOTATION).writeString(descriptor).writeBoolean(visible);
+            return new RecordingAnnotationVisitor(super.visitAnnotation(descriptor, visible), output);
+        }
+
+        @Override
+        public AnnotationVisitor visitAnnotationDefault() {
+            output.writeByte(ANNOTATION_DEFAULT);
+            return new RecordingAnnotationVisitor(super.visitAnnotationDefault(), output);
+        }
+
+        @Override
+        public void visitEnd() {
+            output.writeByte(END);
+            super.visitEnd();
+        }
+    }
+
+    private static class RecordingAnnotationVisitor extends AnnotationVisitor {
+        private final Output output;
+
+        RecordingAnnotationVisitor(AnnotationVisitor delegate, Output output) {
+            super(ASM_API_VERSION, delegate);
+            this.output = output;
+        }
+
+        @Override
+        public void visit(String name, Object value) {
+            output.writeByte(ANNOTATION_VALUE).writeString(name).writeValue(value);
+            super.visit(name, value);
+        }
+
+        @Override
+        public void visitEnum(String name, String descriptor, String value) {
+            output.writeByte(ANNOTATION_ENUM).writeString(name).writeString(descriptor).writeString(value);
+            super.visitEnum(name, descriptor, value);
+        }
+
+        @Override
+        public AnnotationVisitor visitAnnotation(String name, String descriptor) {
+            output.writeByte(ANNOTATION).writeString(name).writeString(descriptor);
+            return new RecordingAnnotationVisitor(super.visitAnnotation(name, descriptor), output);
+        }
+
+        @Override
+        public AnnotationVisitor visitArray(String name) {
+            output.writeByte(ANNOTATION_ARRAY).writeString(name);
+            return new RecordingAnnotationVisitor(super.visitArray(name), output);
+        }
+
+        @Override
+        public void visitEnd() {
+            output.writeByte(END);
+            super.visitEnd();
+        }
+    }
+
+    private static class Output {
+        private final ByteArrayOutputStream events = new ByteArrayOutputStream();
+        private final Map<String, Integer> stringIndexes = new HashMap<>();
+        private final ByteArrayOutputStream strings = new ByteArrayOutputStream();
+
+        Output writeByte(int value) {
+            events.write(value);
+            return this;
+        }
+
+        Output writeBoolean(boolean value) {
+            return writeByte(value ? 1 : 0);
+        }
+
+        Output writeInt(int value) {
+            writeVarInt(events, value);
+            return this;
+        }
+
+        // strings are stored only once per class file, every occurrence is stored as index + 1, while 0 encodes null
+        Output writeString(String value) {
+            if (value == null) {
+                return writeInt(0);
+            }
+            Integer index = stringIndexes.get(value);
+            if (index == null) {
+                index = stringIndexes.size();
+                stringIndexes.put(value, index);
+                byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+                writeVarInt(strings, bytes.length);
+                strings.write(bytes, 0, bytes.length);
+            }
+            return writeInt(index + 1);
+        }
+
+        Output writeStrings(String[] values) {
+            if (values == null) {
+                return writeInt(-1);
+            }
+            writeInt(values.length);
+            for (String value : values) {
+                writeString(value);
+            }
+            return this;
+        }
+
+        Output writeValue(Object value) {
+            if (value == null) {
+                return writeByte(NULL_TAG);
+            } else if (value instanceof String) {
+                return writeByte(STRING_TAG).writeString((String) value);
+            } else if (JavaClassDescriptorImporter.isAsmType(value)) {
+                return writeByte(TYPE_TAG).writeString(JavaClassDescriptorImporter.getAsmTypeDescriptor(value));
+            } else if (value.getClass().isArray()) {
+                return writeArray(value);
+            }
+            return writePrimitive(value);
+        }
+
+        private Output writePrimitive(Object value) {
+            if (value instanceof Boolean) {
+                return writeByte('Z').writeBoolean((Boolean) value);
+            } else if (value instanceof Byte) {
+                return writeByte('B').writeInt((Byte) value);
+            } else if (value instanceof Character) {
+                return writeByte('C').writeInt((Character) value);
+            } else if (value instanceof Short) {
+                return writeByte('S').writeInt((Short) value);
+            } else if (value instanceof Integer) {
+                return writeByte('I').writeInt((Integer) value);
+            } else if (value instanceof Long) {
+                return writeByte('J').writeLong((Long) value);
+            } else if (value instanceof Float) {
+                return writeByte('F').writeInt(Float.floatToRawIntBits((Float) value));
+            } else if (value instanceof Double) {
+                return writeByte('D').writeLong(Double.doubleToRawLongBits((Double) value));
+            }
+            throw new IllegalArgumentException(String.format("Can't record value %s of type %s", value, value.getClass().getName()));
+        }
+
+        private Output writeArray(Object array) {
+            Class<?> componentType = array.getClass().getComponentType();
+            checkArgument(componentType.isPrimitive(), "Can't record array of type %s", array.getClass().getName());
+
+            writeByte(ARRAY_TAG).writeByte(JavaClassDescriptorImporter.getDescriptor(componentType).charAt(0));
+            int length = Array.getLength(array);
+            writeInt(length);
+            for (int i = 0; i < length; i++) {
+                writePrimitive(Array.get(array, i));
+            }
+            return this;
+        }
+
+        private Output writeLong(long value) {
+            writeInt((int) (value >>> 32));
+            return writeInt((int) value);
+        }
+
+        byte[] toByteArray() {
+            ByteArrayOutputStream result = new ByteArrayOutputStream(strings.size() + events.size() + 5);
+            writeVarInt(result, stringIndexes.size());
+            result.write(strings.toByteArray(), 0, strings.size());
+            result.write(events.toByteArray(), 0, events.size());
+            return result.toByteArray();
+        }
+
+        // unsigned LEB128, i.e. 7 bits per byte, where the highest bit marks that further bytes follow
+        private static void writeVarInt(ByteArrayOutputStream out, int value) {
+            while ((value & ~0x7F) != 0) {
+                out.write((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            out.write(value);
+        }
+    }
+
+    private static class Input {
+        private final ByteBuffer buffer;
+        private final String[] strings;
+
+        Input(byte[] recording) {
+            buffer = ByteBuffer.wrap(recording);
+            strings = new String[readInt()];
+            for (int i = 0; i < strings.length; i++) {
+                int length = readInt();
+                strings[i] = new String(recording, buffer.position(), length, StandardCharsets.UTF_8);
+                buffer.position(buffer.position() + length);
+            }
+        }
+
+        int readByte() {
+            return buffer.get() & 0xFF;
+        }
+
+        boolean readBoolean() {
+            return readByte() != 0;
+        }
+
+        int readInt() {
+            int result = 0;
+            for (int shift = 0; ; shift += 7) {
+                int next = readByte();
+                result |= (next & 0x7F) << shift;
+                if ((next & 0x80) == 0) {
+                    return result;
+                }
+            }
+        }
+
+        long readLong() {
+            long high = readInt() & 0xFFFFFFFFL;
+            long low = readInt() & 0xFFFFFFFFL;
+            return (high << 32) | low;
+        }
+
+        String readString() {
+            int index = readInt();
+            return index > 0 ? strings[index - 1] : null;
+        }
+
+        String[] readStrings() {
+            int length = readInt();
+            if (length < 0) {
+                return null;
+            }
+            String[] result = new String[length];
+            for (int i = 0; i < length; i++) {
+                result[i] = readString();
+            }
+            return result;
+        }
+
+        Object readValue() {
+            int tag = readByte();
+            switch (tag) {
+                case NULL_TAG:
+                    return null;
+                case STRING_TAG:
+                    return readString();
+                case TYPE_TAG:
+                    return JavaClassDescriptorImporter.createAsmType(readString());
+                case ARRAY_TAG:
+                    return readArray(readByte());
+                default:
+                    return readPrimitive(tag);
+            }
+        }
+
+        private Object readPrimitive(int tag) {
+            switch (tag) {
+                case 'Z':
+                    return readBoolean();
+                case 'B':
+                    return (byte) readInt();
+                case 'C':
+                    return (char) readInt();
+                case 'S':
+                    return (short) readInt();
+                case 'I':
+                    return readInt();
+                case 'J':
+                    return readLong();
+                case 'F':
+                    return Float.intBitsToFloat(readInt());
+                case 'D':
+                    return Double.longBitsToDouble(readLong());
+                default:
+                    throw new IllegalStateException(String.format("Unknown value tag '%s' in class file recording, this is most likely a bug", (char) tag));
+            }
+        }
+
+        private Object readArray(int componentTag) {
+            int length = readInt();
+            Object result = Array.newInstance(primitiveClassFor(componentTag), length);
+            for (int i = 0; i < length; i++) {
+                Array.set(result, i, readValue());
+            }
+            return result;
+        }
+
+        private static Class<?> primitiveClassFor(int tag) {
+            switch (tag) {
+                case 'Z':
+                    return boolean.class;
+                case 'B':
+                    return byte.class;
+                case 'C':
+                    return char.class;
+                case 'S':
+                    return short.class;
+                case 'I':
+                    return int.class;
+                case 'J':
+                    return long.class;
+                case 'F':
+                    return float.class;
+                case 'D':
+                    return double.class;
+                default:
+                    throw new IllegalStateException(String.format("Unknown array component tag '%s' in class file recording, this is most likely a bug", (char) tag));
+            }
+        }
+    }
+}
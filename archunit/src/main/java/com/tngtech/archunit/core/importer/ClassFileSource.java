@@ -15,6 +15,7 @@
  */
 package com.tngtech.archunit.core.importer;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.JarURLConnection;
@@ -25,9 +26,11 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.SimpleFileVisitor;
 import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.Set;
 import java.util.jar.JarEntry;
 
@@ -35,7 +38,12 @@ import com.google.common.base.Function;
 import com.google.common.base.Predicate;
 import com.google.common.base.Supplier;
 import com.google.common.collect.FluentIterable;
+import com.google.common.collect.ImmutableList;
+import com.google.common.io.ByteStreams;
 import com.tngtech.archunit.Internal;
+import com.tngtech.archunit.base.Optional;
+import com.tngtech.archunit.core.domain.JavaClass;
+import com.tngtech.archunit.core.domain.JavaClasses;
 
 @Internal
 interface ClassFileSource extends Iterable<ClassFileLocation> {
@@ -96,16 +104,40 @@ interface ClassFileSource extends Iterable<ClassFileLocation> {
         FromJar(URL jarUrl, NormalizedResourceName path, ImportOptions importOptions) {
             try {
                 JarURLConnection connection = (JarURLConnection) jarUrl.openConnection();
-                classFileLocations = FluentIterable.from(Collections.list(connection.getJarFile().entries()))
-                        .filter(classFilesBeneath(path))
-                        .transform(toClassFilesInJarOf(connection))
-                        .filter(by(importOptions))
-                        .transform(toInputStreamSupplier());
+                Optional<MappedJarFile> mappedJarFile = MappedJarFile.tryOpen(connection.getJarFileURL());
+                classFileLocations = mappedJarFile.isPresent()
+                        ? classFileLocationsOf(mappedJarFile.get(), connection.getJarFileURL(), path, importOptions)
+                        : classFileLocationsOf(connection, path, importOptions);
             } catch (IOException e) {
                 throw new RuntimeException(e);
             }
         }
 
+        private FluentIterable<ClassFileLocation> classFileLocationsOf(
+                MappedJarFile jarFile, URL jarFileUrl, NormalizedResourceName path, ImportOptions importOptions) {
+
+            ImmutableList.Builder<ClassFileLocation> result = ImmutableList.builder();
+            for (MappedJarFile.Entry entry : jarFile.getEntries()) {
+                if (entry.getName().startsWith(path.toEntryName()) && FileToImport.isRelevant(entry.getName())) {
+                    URI uri = Location.of(jarFileUrl).append(entry.getName()).asURI();
+                    if (importOptions.include(Location.of(uri))) {
+                        result.add(new MappedJarFileEntryLocation(uri, jarFile, entry));
+                    }
+                }
+            }
+            return FluentIterable.from(result.build());
+        }
+
+        private FluentIterable<ClassFileLocation> classFileLocationsOf(
+                JarURLConnection connection, NormalizedResourceName path, ImportOptions importOptions) throws IOException {
+
+            return FluentIterable.from(Collections.list(connection.getJarFile().entries()))
+                    .filter(classFilesBeneath(path))
+                    .transform(toClassFilesInJarOf(connection))
+                    .filter(by(importOptions))
+                    .transform(toInputStreamSupplier());
+        }
+
         private Predicate<JarEntry> classFilesBeneath(final NormalizedResourceName prefix) {
             return new Predicate<JarEntry>() {
                 @Override
@@ -182,6 +214,52 @@ interface ClassFileSource extends Iterable<ClassFileLocation> {
         }
     }
 
+    @Internal
+    class FromPreviousImport implements ClassFileSource {
+        private final Set<ClassFileLocation> classFileLocations = new LinkedHashSet<>();
+
+        FromPreviousImport(JavaClasses previous, Collection<Location> changedLocations) {
+            Set<String> changedPrefixes = new HashSet<>();
+            for (Location location : changedLocations) {
+                // a JAR file passed as 'file:' location would never be a prefix of the 'jar:' URIs of its entries
+                changedPrefixes.add(location.asJarLocationIfJarFile().asURI().toString());
+            }
+            for (JavaClass javaClass : previous) {
+                if (javaClass.getSource().isPresent()) {
+                    URI uri = javaClass.getSource().get().getUri();
+                    if (!isWithinAny(changedPrefixes, Location.of(uri))) {
+                        classFileLocations.add(new InputStreamSupplierClassFileLocation(uri, newInputStreamSupplierFor(uri)));
+                    }
+                }
+            }
+        }
+
+        // normalized locations of directories always end with '/', so a plain prefix check is sufficient
+        private boolean isWithinAny(Set<String> changedPrefixes, Location classFileLocation) {
+            String classFileUri = classFileLocation.asURI().toString();
+            for (String changedPrefix : changedPrefixes) {
+                if (classFileUri.startsWith(changedPrefix)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private Supplier<InputStream> newInputStreamSupplierFor(final URI uri) {
+            return new InputStreamSupplier() {
+                @Override
+                InputStream getInputStream() throws IOException {
+                    return uri.toURL().openStream();
+                }
+            };
+        }
+
+        @Override
+        public Iterator<ClassFileLocation> iterator() {
+            return classFileLocations.iterator();
+        }
+    }
+
     @Internal
     class InputStreamSupplierClassFileLocation implements ClassFileLocation {
         private final URI uri;
@@ -197,6 +275,95 @@ interface ClassFileSource extends Iterable<ClassFileLocation> {
             return streamSupplier.get();
         }
 
+        @Override
+        public byte[] readBytes() throws IOException {
+            try (InputStream stream = openStream()) {
+                return ByteStreams.toByteArray(stream);
+            }
+        }
+
+        @Override
+        public URI getUri() {
+            return uri;
+        }
+
+        @Override
+        public String toString() {
+            return getClass().getSimpleName() + "{uri=" + uri + '}';
+        }
+    }
+
+    @Internal
+    class MappedJarFileEntryLocation implements ClassFileLocation {
+        private final URI uri;
+        private final MappedJarFile jarFile;
+        private final MappedJarFile.Entry entry;
+
+        MappedJarFileEntryLocation(URI uri, MappedJarFile jarFile, MappedJarFile.Entry entry) {
+            this.uri = uri;
+            this.jarFile = jarFile;
+            this.entry = entry;
+        }
+
+        @Override
+        public InputStream openStream() {
+            try {
+                return new ByteArrayInputStream(readBytes());
+            } catch (IOException e) {
+                throw new RuntimeException(e);
+            }
+        }
+
+        @Override
+        public byte[] readBytes() throws IOException {
+            return jarFile.read(entry);
+        }
+
+        @Override
+        public URI getUri() {
+            return uri;
+        }
+
+        @Override
+        public String toString() {
+            return getClass().getSimpleName() + "{uri=" + uri + '}';
+        }
+    }
+
+    /**
+     * A class file that has already been parsed, i.e. the import will replay the {@link ClassFileRecording}
+     * instead of reading and parsing the original class file.
+     */
+    @Internal
+    class RecordedClassFileLocation implements ClassFileLocation {
+        private final URI uri;
+        private final byte[] recording;
+
+        RecordedClassFileLocation(URI uri, byte[] recording) {
+            this.uri = uri;
+            this.recording = recording;
+        }
+
+        byte[] getRecording() {
+            return recording;
+        }
+
+        @Override
+        public InputStream openStream() {
+            try {
+                return uri.toURL().openStream();
+            } catch (IOException e) {
+                throw new RuntimeException(e);
+            }
+        }
+
+        @Override
+        public byte[] readBytes() throws IOException {
+            try (InputStream stream = openStream()) {
+                return ByteStreams.toByteArray(stream);
+            }
+        }
+
         @Override
         public URI getUri() {
             return uri;
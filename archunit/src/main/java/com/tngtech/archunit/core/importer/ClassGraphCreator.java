@@ -59,11 +59,16 @@ import static com.tngtech.archunit.core.domain.DomainObjectCreationContext.compl
 import static com.tngtech.archunit.core.domain.DomainObjectCreationContext.createJavaClasses;
 import static com.tngtech.archunit.core.importer.DomainBuilders.BuilderWithBuildParameter.BuildFinisher.build;
 import static com.tngtech.archunit.core.importer.DomainBuilders.buildAnnotations;
+import static com.tngtech.archunit.core.importer.ImportStatistics.Phase.ACCESS_RESOLUTION;
+import static com.tngtech.archunit.core.importer.ImportStatistics.Phase.CLASS_COMPLETION;
+import static com.tngtech.archunit.core.importer.ImportStatistics.Phase.DEPENDENCY_COMPLETION;
+import static com.tngtech.archunit.core.importer.ImportStatistics.Phase.MISSING_CLASS_RESOLUTION;
 
 class ClassGraphCreator implements ImportContext {
     private final ImportedClasses classes;
 
     private final ClassFileImportRecord importRecord;
+    private final ImportStatistics.Recorder statistics;
 
     private final SetMultimap<JavaCodeUnit, FieldAccessRecord> processedFieldAccessRecords = HashMultimap.create();
     private final SetMultimap<JavaCodeUnit, AccessRecord<MethodCallTarget>> processedMethodCallRecords = HashMultimap.create();
@@ -71,9 +76,10 @@ class ClassGraphCreator implements ImportContext {
     private final Function<JavaClass, Set<String>> superClassStrategy;
     private final Function<JavaClass, Set<String>> interfaceStrategy;
 
-    ClassGraphCreator(ClassFileImportRecord importRecord, ClassResolver classResolver) {
+    ClassGraphCreator(ClassFileImportRecord importRecord, ClassResolver classResolver, ImportStatistics.Recorder statistics) {
         this.importRecord = importRecord;
-        classes = new ImportedClasses(importRecord.getClasses(), classResolver);
+        this.statistics = statistics;
+        classes = new ImportedClasses(importRecord.getClasses(), classResolver, statistics);
         superClassStrategy = createSuperClassStrategy();
         interfaceStrategy = createInterfaceStrategy();
     }
@@ -97,12 +103,24 @@ class ClassGraphCreator implements ImportContext {
     }
 
     JavaClasses complete() {
+        long start = statistics.startTimer();
         ensureCallTargetsArePresent();
         ensureClassesOfInheritanceHierarchiesArePresent();
         ensureMetaAnnotationsArePresent();
+        statistics.stopTimer(MISSING_CLASS_RESOLUTION, start);
+
+        start = statistics.startTimer();
         completeClasses();
+        statistics.stopTimer(CLASS_COMPLETION, start);
+
+        start = statistics.startTimer();
         completeAccesses();
-        return createJavaClasses(classes.getDirectlyImported(), classes.getAllWithOuterClassesSortedBeforeInnerClasses(), this);
+        statistics.stopTimer(ACCESS_RESOLUTION, start);
+
+        start = statistics.startTimer();
+        JavaClasses result = createJavaClasses(classes.getDirectlyImported(), classes.getAllWithOuterClassesSortedBeforeInnerClasses(), this);
+        statistics.stopTimer(DEPENDENCY_COMPLETION, start);
+        return result;
     }
 
     private void ensureCallTargetsArePresent() {
@@ -138,15 +156,20 @@ class ClassGraphCreator implements ImportContext {
     }
 
     private void completeAccesses() {
+        // one factory per kind of access, so all accesses to the same target share the target and its resolution
+        AccessRecord.Factory<RawAccessRecord.ForField, FieldAccessRecord> fieldAccessRecordFactory = AccessRecord.Factory.forFieldAccessRecord();
         for (RawAccessRecord.ForField fieldAccessRecord : importRecord.getRawFieldAccessRecords()) {
-            tryProcess(fieldAccessRecord, AccessRecord.Factory.forFieldAccessRecord(), processedFieldAccessRecords);
+            tryProcess(fieldAccessRecord, fieldAccessRecordFactory, processedFieldAccessRecords);
         }
+        AccessRecord.Factory<RawAccessRecord, AccessRecord<MethodCallTarget>> methodCallRecordFactory = AccessRecord.Factory.forMethodCallRecord();
         for (RawAccessRecord methodCallRecord : importRecord.getRawMethodCallRecords()) {
-            tryProcess(methodCallRecord, AccessRecord.Factory.forMethodCallRecord(), processedMethodCallRecords);
+            tryProcess(methodCallRecord, methodCallRecordFactory, processedMethodCallRecords);
         }
+        AccessRecord.Factory<RawAccessRecord, AccessRecord<ConstructorCallTarget>> constructorCallRecordFactory = AccessRecord.Factory.forConstructorCallRecord();
         for (RawAccessRecord constructorCallRecord : importRecord.getRawConstructorCallRecords()) {
-            tryProcess(constructorCallRecord, AccessRecord.Factory.forConstructorCallRecord(), processedConstructorCallRecords);
+            tryProcess(constructorCallRecord, constructorCallRecordFactory, processedConstructorCallRecords);
         }
+        statistics.recordAccesses(processedFieldAccessRecords.size() + processedMethodCallRecords.size() + processedConstructorCallRecords.size());
     }
 
     private void ensureMetaAnnotationsArePresent() {
@@ -0,0 +1,406 @@
+/*
+ * Copyright 2014-2021 TNG Technology Consulting GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tngtech.archunit.core.importer;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+import com.google.common.hash.Hashing;
+import com.tngtech.archunit.ArchConfiguration;
+import com.tngtech.archunit.base.Optional;
+import org.objectweb.asm.ClassReader;
+import org.objectweb.asm.ClassVisitor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+
+/**
+ * Feeds class files to the import. If a cache directory is configured via
+ * {@value ArchConfiguration#IMPORT_CACHE_DIRECTORY}, a {@link ClassFileRecording} of every imported class file
+ * is persisted and reused by later imports, as long as the originating file has not changed.
+ * <br><br>
+ * Recordings are stored in segments, one per JAR file and one per directory containing class files.
+ * A segment of a JAR file is valid as long as last modified timestamp and size of the JAR file stay the same,
+ * within a directory every class file is checked on its own, i.e. only changed class files are parsed again.
+ * Once a JAR file has changed, its segment only keeps the recordings of the class files imported from its current state.
+ */
+abstract class ImportCache {
+    private static final Logger LOG = LoggerFactory.getLogger(ImportCache.class);
+
+    static ImportCache create() {
+        Optional<String> cacheDirectory = ArchConfiguration.get().getImportCacheDirectory();
+        return cacheDirectory.isPresent()
+                ? new OnDisk(Paths.get(cacheDirectory.get()))
+                : new Disabled();
+    }
+
+    abstract void accept(ClassFileLocation location, ClassVisitor visitor) throws IOException;
+
+    /**
+     * @return A {@link ClassFileRecording} of the class file, taken from the cache if possible
+     */
+    abstract byte[] record(ClassFileLocation location) throws IOException;
+
+    /**
+     * Persists all recordings that have been added since the cache was created.
+     */
+    abstract void flush();
+
+    private static void parse(ClassFileLocation location, ClassVisitor visitor) throws IOException {
+        new ClassReader(location.readBytes()).accept(visitor, 0);
+    }
+
+    private static class Disabled extends ImportCache {
+        @Override
+        void accept(ClassFileLocation location, ClassVisitor visitor) throws IOException {
+            parse(location, visitor);
+        }
+
+        @Override
+        byte[] record(ClassFileLocation location) throws IOException {
+            return ClassFileRecording.record(location.readBytes(), null);
+        }
+
+        @Override
+        void flush() {
+        }
+    }
+
+    private static class OnDisk extends ImportCache {
+        private final Path cacheDirectory;
+        private final LoadingCache<SegmentKey, Segment> segments = CacheBuilder.newBuilder().build(new CacheLoader<SegmentKey, Segment>() {
+            @Override
+            public Segment load(SegmentKey key) {
+                return Segment.load(key, segmentFileOf(key));
+            }
+        });
+
+        OnDisk(Path cacheDirectory) {
+            this.cacheDirectory = cacheDirectory;
+        }
+
+        @Override
+        void accept(ClassFileLocation location, ClassVisitor visitor) throws IOException {
+            Optional<EntryKey> entryKey = EntryKey.of(location.getUri());
+            if (!entryKey.isPresent()) {
+                parse(location, visitor);
+                return;
+            }
+
+            Segment segment = segments.getUnchecked(entryKey.get().segmentKey);
+            FileState currentState = segment.currentStateOf(entryKey.get().backingFile);
+            Optional<byte[]> recording = segment.get(entryKey.get().entryName, currentState);
+            if (recording.isPresent()) {
+                ClassFileRecording.replay(recording.get(), visitor);
+                return;
+            }
+
+            segment.put(entryKey.get().entryName, currentState, ClassFileRecording.record(location.readBytes(), visitor));
+        }
+
+        @Override
+        byte[] record(ClassFileLocation location) throws IOException {
+            Optional<EntryKey> entryKey = EntryKey.of(location.getUri());
+            if (!entryKey.isPresent()) {
+                return ClassFileRecording.record(location.readBytes(), null);
+            }
+
+            Segment segment = segments.getUnchecked(entryKey.get().segmentKey);
+            FileState currentState = segment.currentStateOf(entryKey.get().backingFile);
+            Optional<byte[]> recording = segment.get(entryKey.get().entryName, currentState);
+            if (recording.isPresent()) {
+                return recording.get();
+            }
+
+            byte[] result = ClassFileRecording.record(location.readBytes(), null);
+            segment.put(entryKey.get().entryName, currentState, result);
+            return result;
+        }
+
+        @Override
+        void flush() {
+            for (Segment segment : segments.asMap().values()) {
+                if (segment.isDirty()) {
+                    tryWrite(segment);
+                }
+            }
+        }
+
+        private void tryWrite(Segment segment) {
+            try {
+                Files.createDirectories(cacheDirectory);
+                segment.writeTo(segmentFileOf(segment.key));
+            } catch (Exception e) {
+                LOG.warn(String.format("Couldn't write import cache for %s to %s", segment.key.root, cacheDirectory), e);
+            }
+        }
+
+        private Path segmentFileOf(SegmentKey key) {
+            return cacheDirectory.resolve(Hashing.sha1().hashString(key.asString(), UTF_8) + ".bin");
+        }
+    }
+
+    private static class Segment {
+        private static final int MAGIC_NUMBER = 0xA4C417C4;
+
+        private final SegmentKey key;
+        private final Map<String, Entry> entries;
+        private volatile FileState archiveState;
+        private volatile boolean dirty = false;
+
+        private Segment(SegmentKey key, Map<String, Entry> entries) {
+            this.key = key;
+            this.entries = entries;
+        }
+
+        FileState currentStateOf(Path backingFile) throws IOException {
+            if (!key.archive) {
+                return FileState.of(backingFile);
+            }
+            if (archiveState == null) {
+                archiveState = FileState.of(backingFile);
+            }
+            return archiveState;
+        }
+
+        Optional<byte[]> get(String entryName, FileState currentState) {
+            Entry entry = entries.get(entryName);
+            return entry != null && entry.state.equals(currentState)
+                    ? Optional.of(entry.recording)
+                    : Optional.<byte[]>absent();
+        }
+
+        void put(String entryName, FileState state, byte[] recording) {
+            entries.put(entryName, new Entry(state, recording));
+            dirty = true;
+        }
+
+        boolean isDirty() {
+            return dirty;
+        }
+
+        void writeTo(Path segmentFile) throws IOException {
+            Path tempFile = Files.createTempFile(segmentFile.getParent(), segmentFile.getFileName().toString(), ".tmp");
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tempFile)))) {
+                out.writeInt(MAGIC_NUMBER);
+                out.writeInt(ClassFileRecording.FORMAT_VERSION);
+                out.writeUTF(key.asString());
+                Map<String, Entry> entriesToWrite = entriesStillPresent();
+                out.writeInt(entriesToWrite.size());
+                for (Map.Entry<String, Entry> entry : entriesToWrite.entrySet()) {
+                    out.writeUTF(entry.getKey());
+                    entry.getValue().writeTo(out);
+                }
+            }
+            moveReplacing(tempFile, segmentFile);
+        }
+
+        // class files deleted from a directory or JAR file would otherwise stay in the cache forever
+        private Map<String, Entry> entriesStillPresent() {
+            Map<String, Entry> result = new ConcurrentHashMap<>();
+            for (Map.Entry<String, Entry> entry : entries.entrySet()) {
+                if (isStillPresent(entry.getKey(), entry.getValue())) {
+                    result.put(entry.getKey(), entry.getValue());
+                }
+            }
+            return result;
+        }
+
+        // once a JAR file has changed, only those entries recorded from its current state are known to still be present
+        private boolean isStillPresent(String entryName, Entry entry) {
+            return key.archive
+                    ? archiveState == null || entry.state.equals(archiveState)
+                    : Files.exists(key.root.resolve(entryName));
+        }
+
+        private static void moveReplacing(Path source, Path target) throws IOException {
+            try {
+                Files.move(source, target, ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(source, target, REPLACE_EXISTING);
+            }
+        }
+
+        static Segment load(SegmentKey key, Path segmentFile) {
+            Map<String, Entry> entries = new ConcurrentHashMap<>();
+            if (Files.exists(segmentFile)) {
+                tryRead(key, segmentFile, entries);
+            }
+            return new Segment(key, entries);
+        }
+
+        private static void tryRead(SegmentKey key, Path segmentFile, Map<String, Entry> entries) {
+            try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(segmentFile)))) {
+                if (in.readInt() != MAGIC_NUMBER
+                        || in.readInt() != ClassFileRecording.FORMAT_VERSION
+                        || !in.readUTF().equals(key.asString())) {
+                    LOG.debug("Ignoring outdated import cache {} for {}", segmentFile, key.root);
+                    return;
+                }
+                int numberOfEntries = in.readInt();
+                for (int i = 0; i < numberOfEntries; i++) {
+                    entries.put(in.readUTF(), Entry.readFrom(in));
+                }
+            } catch (Exception e) {
+                LOG.warn(String.format("Couldn't read import cache %s for %s, ignoring it", segmentFile, key.root), e);
+                entries.clear();
+            }
+        }
+    }
+
+    private static class Entry {
+        private final FileState state;
+        private final byte[] recording;
+
+        Entry(FileState state, byte[] recording) {
+            this.state = state;
+            this.recording = recording;
+        }
+
+        void writeTo(DataOutputStream out) throws IOException {
+            out.writeLong(state.lastModified);
+            out.writeLong(state.size);
+            out.writeInt(recording.length);
+            out.write(recording);
+        }
+
+        static Entry readFrom(DataInputStream in) throws IOException {
+            FileState state = new FileState(in.readLong(), in.readLong());
+            byte[] recording = new byte[in.readInt()];
+            in.readFully(recording);
+            return new Entry(state, recording);
+        }
+    }
+
+    private static class FileState {
+        private final long lastModified;
+        private final long size;
+
+        FileState(long lastModified, long size) {
+            this.lastModified = lastModified;
+            this.size = size;
+        }
+
+        static FileState of(Path file) throws IOException {
+            return new FileState(Files.getLastModifiedTime(file).toMillis(), Files.size(file));
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(lastModified, size);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (obj == null || getClass() != obj.getClass()) {
+                return false;
+            }
+            final FileState other = (FileState) obj;
+            return this.lastModified == other.lastModified
+                    && this.size == other.size;
+        }
+    }
+
+    private static class SegmentKey {
+        private final Path root;
+        private final boolean archive;
+
+        SegmentKey(Path root, boolean archive) {
+            this.root = root;
+            this.archive = archive;
+        }
+
+        String asString() {
+            return (archive ? "jar:" : "dir:") + root;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(root, archive);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (obj == null || getClass() != obj.getClass()) {
+                return false;
+            }
+            final SegmentKey other = (SegmentKey) obj;
+            return Objects.equals(this.root, other.root)
+                    && this.archive == other.archive;
+        }
+    }
+
+    private static class EntryKey {
+        private static final String JAR_SEPARATOR = "!/";
+
+        private final SegmentKey segmentKey;
+        private final String entryName;
+        private final Path backingFile;
+
+        private EntryKey(SegmentKey segmentKey, String entryName, Path backingFile) {
+            this.segmentKey = segmentKey;
+            this.entryName = entryName;
+            this.backingFile = backingFile;
+        }
+
+        // we can only tell if a class file has changed, if it is a plain file or an entry of a plain JAR file
+        // (e.g. not a JRT or an entry of a JAR nested within another JAR)
+        static Optional<EntryKey> of(URI uri) {
+            if ("file".equals(uri.getScheme())) {
+                Path file = Paths.get(uri).toAbsolutePath();
+                return Optional.of(new EntryKey(new SegmentKey(file.getParent(), false), file.getFileName().toString(), file));
+            }
+            if ("jar".equals(uri.getScheme())) {
+                String jarUriAndEntry = uri.getRawSchemeSpecificPart();
+                int separatorIndex = jarUriAndEntry.indexOf(JAR_SEPARATOR);
+                if (separatorIndex < 0 || jarUriAndEntry.indexOf(JAR_SEPARATOR, separatorIndex + 1) >= 0) {
+                    return Optional.absent();
+                }
+                URI jarUri = URI.create(jarUriAndEntry.substring(0, separatorIndex));
+                if (!"file".equals(jarUri.getScheme())) {
+                    return Optional.absent();
+                }
+                Path jarFile = Paths.get(jarUri).toAbsolutePath();
+                String entryName = jarUriAndEntry.substring(separatorIndex + JAR_SEPARATOR.length());
+                return Optional.of(new EntryKey(new SegmentKey(jarFile, true), entryName, jarFile));
+            }
+            return Optional.absent();
+        }
+    }
+}
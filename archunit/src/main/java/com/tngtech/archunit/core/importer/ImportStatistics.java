@@ -0,0 +1,311 @@
+/*
+ * Copyright 2014-2021 TNG Technology Consulting GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tngtech.archunit.core.importer;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.google.common.collect.Maps;
+import com.tngtech.archunit.PublicAPI;
+import com.tngtech.archunit.core.importer.resolvers.ClassResolver;
+
+import static com.tngtech.archunit.PublicAPI.Usage.ACCESS;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+/**
+ * Timings and counts of a single import, to find out where the time of a slow import goes
+ * (compare {@link ImportListener}).
+ */
+public final class ImportStatistics {
+    private static final int NUMBER_OF_LARGEST_CLASS_FILES = 10;
+
+    private final Map<Phase, Long> nanosByPhase;
+    private final long classFiles;
+    private final long bytesRead;
+    private final long classResolverLookups;
+    private final long classesResolvedByClassResolver;
+    private final long classResolverNanos;
+    private final long accesses;
+    private final Map<String, Integer> largestClassFiles;
+
+    private ImportStatistics(Recorder recorder) {
+        nanosByPhase = Maps.immutableEnumMap(recorder.nanosByPhase());
+        classFiles = recorder.classFiles.get();
+        bytesRead = recorder.bytesRead.get();
+        classResolverLookups = recorder.classResolverLookups.get();
+        classesResolvedByClassResolver = recorder.classesResolvedByClassResolver.get();
+        classResolverNanos = recorder.classResolverNanos.get();
+        accesses = recorder.accesses.get();
+        largestClassFiles = recorder.largestClassFiles();
+    }
+
+    /**
+     * @param phase A phase of the import
+     * @param unit The unit of the result
+     * @return The time spent within the given phase, where phases that are executed in parallel count only once
+     */
+    @PublicAPI(usage = ACCESS)
+    public long getTime(Phase phase, TimeUnit unit) {
+        Long nanos = nanosByPhase.get(phase);
+        return unit.convert(nanos != null ? nanos : 0, NANOSECONDS);
+    }
+
+    /**
+     * @param unit The unit of the result
+     * @return The time spent within all {@link Phase phases} of the import
+     */
+    @PublicAPI(usage = ACCESS)
+    public long getTotalTime(TimeUnit unit) {
+        long nanos = 0;
+        for (long phaseNanos : nanosByPhase.values()) {
+            nanos += phaseNanos;
+        }
+        return unit.convert(nanos, NANOSECONDS);
+    }
+
+    /**
+     * @return The number of class files that have been imported from the scanned locations,
+     * excluding classes imported by the {@link ClassResolver}
+     */
+    @PublicAPI(usage = ACCESS)
+    public long getNumberOfClassFiles() {
+        return classFiles;
+    }
+
+    /**
+     * @return The number of bytes read from the class files of the scanned locations.
+     * Class files that have been replayed from the import cache do not count.
+     */
+    @PublicAPI(usage = ACCESS)
+    public long getBytesRead() {
+        return bytesRead;
+    }
+
+    /**
+     * @return The number of class files processed per second during {@link Phase#CLASS_FILE_PARSING}
+     */
+    @PublicAPI(usage = ACCESS)
+    public double getClassFilesPerSecond() {
+        long nanos = getTime(Phase.CLASS_FILE_PARSING, NANOSECONDS);
+        return nanos > 0 ? classFiles * (double) SECONDS.toNanos(1) / nanos : 0;
+    }
+
+    /**
+     * @return The number of times the {@link ClassResolver} has been asked to resolve a class missing from the import
+     */
+    @PublicAPI(usage = ACCESS)
+    public long getNumberOfClassResolverLookups() {
+        return classResolverLookups;
+    }
+
+    /**
+     * @return The number of classes the {@link ClassResolver} could actually resolve
+     */
+    @PublicAPI(usage = ACCESS)
+    public long getNumberOfClassesResolvedByClassResolver() {
+        return classesResolvedByClassResolver;
+    }
+
+    /**
+     * @param unit The unit of the result
+     * @return The time spent within the {@link ClassResolver}, no matter in which {@link Phase}
+     */
+    @PublicAPI(usage = ACCESS)
+    public long getClassResolverTime(TimeUnit unit) {
+        return unit.convert(classResolverNanos, NANOSECONDS);
+    }
+
+    /**
+     * @return The number of field accesses, method calls and constructor calls that have been resolved
+     */
+    @PublicAPI(usage = ACCESS)
+    public long getNumberOfAccesses() {
+        return accesses;
+    }
+
+    /**
+     * @return The fully qualified names of the largest imported classes mapped to the size of their class files in bytes,
+     * ordered by descending size
+     */
+    @PublicAPI(usage = ACCESS)
+    public Map<String, Integer> getLargestClassFiles() {
+        return largestClassFiles;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder result = new StringBuilder(getClass().getSimpleName())
+                .append("{totalTime=").append(getTotalTime(MILLISECONDS)).append("ms");
+        for (Phase phase : Phase.values()) {
+            result.append(", ").append(phase).append('=').append(getTime(phase, MILLISECONDS)).append("ms");
+        }
+        return result
+                .append(", classFiles=").append(classFiles)
+                .append(", bytesRead=").append(bytesRead)
+                .append(", classFilesPerSecond=").append(Math.round(getClassFilesPerSecond()))
+                .append(", classResolverLookups=").append(classResolverLookups)
+                .append(", classesResolvedByClassResolver=").append(classesResolvedByClassResolver)
+                .append(", classResolverTime=").append(getClassResolverTime(MILLISECONDS)).append("ms")
+                .append(", accesses=").append(accesses)
+                .append(", largestClassFiles=").append(largestClassFiles)
+                .append('}').toString();
+    }
+
+    /**
+     * The consecutive phases of an import
+     */
+    @PublicAPI(usage = ACCESS)
+    public enum Phase {
+        /**
+         * Determining the class files to import, i.e. resolving packages to {@link Location Locations},
+         * walking directories and listing JAR entries
+         */
+        @PublicAPI(usage = ACCESS)
+        LOCATION_SCANNING,
+        /**
+         * Reading and parsing all class files, or replaying them from the import cache
+         */
+        @PublicAPI(usage = ACCESS)
+        CLASS_FILE_PARSING,
+        /**
+         * Resolving classes that are referenced by imported classes but missing from the import,
+         * like access targets, super types or annotation types (compare {@link ClassResolver})
+         */
+        @PublicAPI(usage = ACCESS)
+        MISSING_CLASS_RESOLUTION,
+        /**
+         * Completing the class hierarchy, enclosing classes, type parameters, members and annotations of all classes
+         */
+        @PublicAPI(usage = ACCESS)
+        CLASS_COMPLETION,
+        /**
+         * Resolving the targets of all field accesses, method calls and constructor calls
+         */
+        @PublicAPI(usage = ACCESS)
+        ACCESS_RESOLUTION,
+        /**
+         * Creating the dependencies, reverse dependencies and packages of all classes
+         */
+        @PublicAPI(usage = ACCESS)
+        DEPENDENCY_COMPLETION
+    }
+
+    /**
+     * Collects the statistics of a running import. Any method may be called concurrently.
+     */
+    static class Recorder {
+        private final Map<Phase, AtomicLong> nanosByPhase = new EnumMap<>(Phase.class);
+        private final AtomicLong classFiles = new AtomicLong();
+        private final AtomicLong bytesRead = new AtomicLong();
+        private final AtomicLong classResolverLookups = new AtomicLong();
+        private final AtomicLong classesResolvedByClassResolver = new AtomicLong();
+        private final AtomicLong classResolverNanos = new AtomicLong();
+        private final AtomicLong accesses = new AtomicLong();
+        private final PriorityQueue<ClassFileSize> largestClassFiles = new PriorityQueue<>(NUMBER_OF_LARGEST_CLASS_FILES + 1);
+
+        Recorder() {
+            for (Phase phase : Phase.values()) {
+                nanosByPhase.put(phase, new AtomicLong());
+            }
+        }
+
+        long startTimer() {
+            return System.nanoTime();
+        }
+
+        void stopTimer(Phase phase, long startNanos) {
+            nanosByPhase.get(phase).addAndGet(System.nanoTime() - startNanos);
+        }
+
+        void recordClassFile(String className, int bytes) {
+            classFiles.incrementAndGet();
+            bytesRead.addAndGet(bytes);
+            synchronized (largestClassFiles) {
+                largestClassFiles.add(new ClassFileSize(className, bytes));
+                if (largestClassFiles.size() > NUMBER_OF_LARGEST_CLASS_FILES) {
+                    largestClassFiles.poll();
+                }
+            }
+        }
+
+        void recordCachedClassFile() {
+            classFiles.incrementAndGet();
+        }
+
+        void recordClassResolverLookup(boolean resolved, long startNanos) {
+            classResolverNanos.addAndGet(System.nanoTime() - startNanos);
+            classResolverLookups.incrementAndGet();
+            if (resolved) {
+                classesResolvedByClassResolver.incrementAndGet();
+            }
+        }
+
+        void recordAccesses(int numberOfAccesses) {
+            accesses.addAndGet(numberOfAccesses);
+        }
+
+        ImportStatistics finish() {
+            return new ImportStatistics(this);
+        }
+
+        private Map<Phase, Long> nanosByPhase() {
+            Map<Phase, Long> result = new EnumMap<>(Phase.class);
+            for (Map.Entry<Phase, AtomicLong> entry : nanosByPhase.entrySet()) {
+                result.put(entry.getKey(), entry.getValue().get());
+            }
+            return result;
+        }
+
+        private Map<String, Integer> largestClassFiles() {
+            List<ClassFileSize> sizes;
+            synchronized (largestClassFiles) {
+                sizes = new ArrayList<>(largestClassFiles);
+            }
+            Collections.sort(sizes, Collections.reverseOrder());
+            Map<String, Integer> result = new LinkedHashMap<>();
+            for (ClassFileSize size : sizes) {
+                if (!result.containsKey(size.className)) {
+                    result.put(size.className, size.bytes);
+                }
+            }
+            return Collections.unmodifiableMap(result);
+        }
+    }
+
+    private static class ClassFileSize implements Comparable<ClassFileSize> {
+        private final String className;
+        private final int bytes;
+
+        ClassFileSize(String className, int bytes) {
+            this.className = className;
+            this.bytes = bytes;
+        }
+
+        @Override
+        public int compareTo(ClassFileSize other) {
+            return Integer.compare(bytes, other.bytes);
+        }
+    }
+}
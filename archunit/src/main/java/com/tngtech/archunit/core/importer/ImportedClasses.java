@@ -40,11 +40,13 @@ class ImportedClasses {
     private final ImmutableMap<String, JavaClass> directlyImported;
     private final Map<String, JavaClass> allClasses = new HashMap<>();
     private final ClassResolver resolver;
+    private final ImportStatistics.Recorder statistics;
 
-    ImportedClasses(Map<String, JavaClass> directlyImported, ClassResolver resolver) {
+    ImportedClasses(Map<String, JavaClass> directlyImported, ClassResolver resolver, ImportStatistics.Recorder statistics) {
         this.directlyImported = ImmutableMap.copyOf(directlyImported);
         allClasses.putAll(directlyImported);
         this.resolver = resolver;
+        this.statistics = statistics;
     }
 
     Map<String, JavaClass> getDirectlyImported() {
@@ -54,7 +56,9 @@ class ImportedClasses {
     JavaClass getOrResolve(String typeName) {
         JavaClass javaClass = allClasses.get(typeName);
         if (javaClass == null) {
+            long start = statistics.startTimer();
             Optional<JavaClass> resolved = resolver.tryResolve(typeName);
+            statistics.recordClassResolverLookup(resolved.isPresent(), start);
             javaClass = resolved.isPresent() ? resolved.get() : simpleClassOf(typeName);
             allClasses.put(typeName, javaClass);
         }
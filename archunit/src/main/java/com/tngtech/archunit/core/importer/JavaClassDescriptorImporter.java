@@ -42,6 +42,24 @@ class JavaClassDescriptorImporter {
         return isAsmType(value) ? importAsmType((Type) value) : value;
     }
 
+    /**
+     * @return The descriptor of an ASM type, i.e. a value where {@link #isAsmType(Object)} holds
+     */
+    static String getAsmTypeDescriptor(Object asmType) {
+        return ((Type) asmType).getDescriptor();
+    }
+
+    /**
+     * @return The ASM type for a descriptor, e.g. to restore a value that was stored as {@link #getAsmTypeDescriptor(Object)}
+     */
+    static Object createAsmType(String typeDescriptor) {
+        return Type.getType(typeDescriptor);
+    }
+
+    static String getDescriptor(Class<?> type) {
+        return Type.getDescriptor(type);
+    }
+
     static JavaClassDescriptor importAsmType(String typeDescriptor) {
         return importAsmType(Type.getType(typeDescriptor));
     }
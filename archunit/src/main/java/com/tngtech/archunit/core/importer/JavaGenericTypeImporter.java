@@ -57,7 +57,7 @@ class JavaGenericTypeImporter {
     }
 
     private static class JavaTypeVariableProcessor extends SignatureVisitor {
-        private static final BoundProcessor boundProcessor = new BoundProcessor();
+        private final BoundProcessor boundProcessor = new BoundProcessor();
 
         private final List<JavaTypeParameterBuilder<JavaClass>> typeParameterBuilders = new ArrayList<>();
 
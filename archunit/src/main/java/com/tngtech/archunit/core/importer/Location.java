@@ -140,6 +140,14 @@ public abstract class Location {
         }
     }
 
+    /**
+     * @return This location, unless it is a file location pointing to a JAR file, in which case the respective
+     * JAR location is returned, i.e. the one the URIs of the classes within the JAR file start with
+     */
+    Location asJarLocationIfJarFile() {
+        return this;
+    }
+
     void checkScheme(String scheme, NormalizedUri uri) {
         String actualScheme = uri.getScheme();
         checkArgument(scheme.equals(actualScheme),
@@ -351,6 +359,12 @@ public abstract class Location {
             return new ClassFileSource.FromFilePath(Paths.get(uri.toURI()), importOptions);
         }
 
+        @Override
+        Location asJarLocationIfJarFile() {
+            File file = new File(uri.toURI());
+            return file.isFile() && file.getName().endsWith(".jar") ? JarFileLocation.from(JarFileLocation.newJarUri(file.toURI())) : this;
+        }
+
         @Override
         public boolean isJar() {
             return false;
@@ -0,0 +1,271 @@
+/*
+ * Copyright 2014-2021 TNG Technology Consulting GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tngtech.archunit.core.importer;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.jar.JarFile;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+import java.util.zip.ZipException;
+
+import com.google.common.collect.ImmutableList;
+import com.tngtech.archunit.base.Optional;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Reads the entries of a JAR file by mapping it into memory, instead of going through {@link JarFile}.
+ * This way every class file is read into an array of exactly the right size, without any intermediate stream buffers,
+ * and the {@link Inflater} as well as the buffer for compressed data are reused per thread.
+ * <br><br>
+ * Only plain ZIP archives are supported, i.e. no ZIP64 archives, encrypted entries or compression methods
+ * other than STORED and DEFLATED. For any other archive {@link #tryOpen(URL)} will return {@link Optional#absent()},
+ * so the caller can fall back to {@link JarFile}.
+ * <br><br>
+ * A mapped file can't be released explicitly, but only once the garbage collector has discarded the mapping.
+ * Since Windows does not allow to modify or delete a mapped file, the JAR file is read into the heap on Windows
+ * instead, where it is closed right away.
+ */
+class MappedJarFile {
+    private static final Logger LOG = LoggerFactory.getLogger(MappedJarFile.class);
+
+    private static final int END_OF_CENTRAL_DIRECTORY_SIGNATURE = 0x06054b50;
+    private static final int END_OF_CENTRAL_DIRECTORY_MIN_SIZE = 22;
+    private static final int MAX_COMMENT_LENGTH = 0xFFFF;
+    private static final int CENTRAL_DIRECTORY_HEADER_SIGNATURE = 0x02014b50;
+    private static final int CENTRAL_DIRECTORY_HEADER_SIZE = 46;
+    private static final int LOCAL_FILE_HEADER_SIGNATURE = 0x04034b50;
+    private static final int LOCAL_FILE_HEADER_SIZE = 30;
+    private static final int FLAG_ENCRYPTED = 1;
+    private static final int ZIP64_MARKER = 0xFFFF;
+    private static final int METHOD_STORED = 0;
+    private static final int METHOD_DEFLATED = 8;
+
+    private static final boolean MAP_INTO_MEMORY = !System.getProperty("os.name", "").toLowerCase().startsWith("windows");
+
+    private static final ThreadLocal<Inflater> inflater = new ThreadLocal<Inflater>() {
+        @Override
+        protected Inflater initialValue() {
+            return new Inflater(true);
+        }
+    };
+    private static final ThreadLocal<byte[]> compressedBuffer = new ThreadLocal<byte[]>() {
+        @Override
+        protected byte[] initialValue() {
+            return new byte[8192];
+        }
+    };
+
+    private final Path file;
+    private final ByteBuffer content;
+    private final List<Entry> entries;
+
+    private MappedJarFile(Path file, ByteBuffer content) throws ZipException {
+        this.file = file;
+        this.content = content;
+        this.entries = readCentralDirectory();
+    }
+
+    List<Entry> getEntries() {
+        return entries;
+    }
+
+    /**
+     * @return the uncompressed content of the entry
+     */
+    byte[] read(Entry entry) throws IOException {
+        ByteBuffer buffer = content.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+        buffer.position(dataOffsetOf(buffer, entry));
+        byte[] result = new byte[entry.size];
+        if (entry.method == METHOD_STORED) {
+            buffer.get(result);
+        } else {
+            inflate(buffer, entry, result);
+        }
+        return result;
+    }
+
+    private int dataOffsetOf(ByteBuffer buffer, Entry entry) throws ZipException {
+        int localHeaderOffset = entry.localHeaderOffset;
+        if (buffer.getInt(localHeaderOffset) != LOCAL_FILE_HEADER_SIGNATURE) {
+            throw new ZipException(String.format("Invalid local file header of entry %s in %s", entry.name, file));
+        }
+        return localHeaderOffset + LOCAL_FILE_HEADER_SIZE
+                + unsignedShort(buffer, localHeaderOffset + 26)
+                + unsignedShort(buffer, localHeaderOffset + 28);
+    }
+
+    private void inflate(ByteBuffer buffer, Entry entry, byte[] result) throws IOException {
+        // the 'nowrap' Inflater needs an extra dummy byte at the end of the input (compare java.util.zip.ZipFile)
+        byte[] input = compressedBufferOfSize(entry.compressedSize + 1);
+        buffer.get(input, 0, entry.compressedSize);
+        input[entry.compressedSize] = 0;
+
+        Inflater currentInflater = inflater.get();
+        currentInflater.reset();
+        currentInflater.setInput(input, 0, entry.compressedSize + 1);
+        try {
+            int inflated = 0;
+            while (inflated < result.length && !currentInflater.finished() && !currentInflater.needsInput()) {
+                inflated += currentInflater.inflate(result, inflated, result.length - inflated);
+            }
+            if (inflated != result.length) {
+                throw new ZipException(String.format("Unexpected size of entry %s in %s", entry.name, file));
+            }
+        } catch (DataFormatException e) {
+            throw new ZipException(String.format("Invalid compressed data of entry %s in %s: %s", entry.name, file, e.getMessage()));
+        }
+    }
+
+    private static byte[] compressedBufferOfSize(int size) {
+        byte[] result = compressedBuffer.get();
+        if (result.length < size) {
+            result = new byte[Math.max(size, 2 * result.length)];
+            compressedBuffer.set(result);
+        }
+        return result;
+    }
+
+    private List<Entry> readCentralDirectory() throws ZipException {
+        ByteBuffer buffer = content.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+        int endOfCentralDirectory = findEndOfCentralDirectory(buffer);
+        int numberOfEntries = unsignedShort(buffer, endOfCentralDirectory + 10);
+        int offset = buffer.getInt(endOfCentralDirectory + 16);
+        if (numberOfEntries == ZIP64_MARKER || offset < 0 || offset > endOfCentralDirectory) {
+            throw new ZipException("Unsupported ZIP64 archive " + file);
+        }
+
+        ImmutableList.Builder<Entry> result = ImmutableList.builder();
+        for (int i = 0; i < numberOfEntries; i++) {
+            if (buffer.getInt(offset) != CENTRAL_DIRECTORY_HEADER_SIGNATURE) {
+                throw new ZipException("Invalid central directory of " + file);
+            }
+            int flags = unsignedShort(buffer, offset + 8);
+            int method = unsignedShort(buffer, offset + 10);
+            int compressedSize = buffer.getInt(offset + 20);
+            int size = buffer.getInt(offset + 24);
+            int nameLength = unsignedShort(buffer, offset + 28);
+            int extraLength = unsignedShort(buffer, offset + 30);
+            int commentLength = unsignedShort(buffer, offset + 32);
+            int localHeaderOffset = buffer.getInt(offset + 42);
+            String name = readName(buffer, offset + CENTRAL_DIRECTORY_HEADER_SIZE, nameLength);
+
+            if ((flags & FLAG_ENCRYPTED) != 0 || (method != METHOD_STORED && method != METHOD_DEFLATED)
+                    || compressedSize < 0 || size < 0 || localHeaderOffset < 0) {
+                throw new ZipException(String.format("Unsupported entry %s in %s", name, file));
+            }
+            result.add(new Entry(name, method, compressedSize, size, localHeaderOffset));
+            offset += CENTRAL_DIRECTORY_HEADER_SIZE + nameLength + extraLength + commentLength;
+        }
+        return result.build();
+    }
+
+    private int findEndOfCentralDirectory(ByteBuffer buffer) throws ZipException {
+        int lowestPossibleOffset = Math.max(0, buffer.limit() - END_OF_CENTRAL_DIRECTORY_MIN_SIZE - MAX_COMMENT_LENGTH);
+        for (int offset = buffer.limit() - END_OF_CENTRAL_DIRECTORY_MIN_SIZE; offset >= lowestPossibleOffset; offset--) {
+            if (buffer.getInt(offset) == END_OF_CENTRAL_DIRECTORY_SIGNATURE) {
+                return offset;
+            }
+        }
+        throw new ZipException("No end of central directory found in " + file);
+    }
+
+    private static String readName(ByteBuffer buffer, int offset, int length) {
+        byte[] name = new byte[length];
+        ByteBuffer nameBuffer = buffer.duplicate();
+        nameBuffer.position(offset);
+        nameBuffer.get(name);
+        return new String(name, UTF_8);
+    }
+
+    private static int unsignedShort(ByteBuffer buffer, int offset) {
+        return buffer.getShort(offset) & 0xFFFF;
+    }
+
+    /**
+     * @param jarFileUrl the URL of the JAR file itself, e.g. {@code file:/some/lib.jar}
+     * @return the mapped JAR file, if the URL refers to a local file and the archive is supported, otherwise absent
+     */
+    static Optional<MappedJarFile> tryOpen(URL jarFileUrl) {
+        return tryOpen(jarFileUrl, MAP_INTO_MEMORY);
+    }
+
+    static Optional<MappedJarFile> tryOpen(URL jarFileUrl, boolean mapIntoMemory) {
+        if (!"file".equals(jarFileUrl.getProtocol())) {
+            return Optional.absent();
+        }
+        try {
+            Path file = Paths.get(jarFileUrl.toURI());
+            return Optional.of(mapIntoMemory ? map(file) : read(file));
+        } catch (IOException | URISyntaxException | RuntimeException e) {
+            LOG.debug("Couldn't open JAR file {}, falling back to {}: {}", jarFileUrl, JarFile.class.getName(), e.getMessage());
+            return Optional.absent();
+        }
+    }
+
+    private static MappedJarFile read(Path file) throws IOException {
+        return new MappedJarFile(file, ByteBuffer.wrap(Files.readAllBytes(file)));
+    }
+
+    private static MappedJarFile map(Path file) throws IOException {
+        try (RandomAccessFile randomAccessFile = new RandomAccessFile(file.toFile(), "r");
+             FileChannel channel = randomAccessFile.getChannel()) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new ZipException("JAR file is too large to be mapped: " + file);
+            }
+            MappedByteBuffer content = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            return new MappedJarFile(file, content);
+        }
+    }
+
+    static class Entry {
+        private final String name;
+        private final int method;
+        private final int compressedSize;
+        private final int size;
+        private final int localHeaderOffset;
+
+        private Entry(String name, int method, int compressedSize, int size, int localHeaderOffset) {
+            this.name = name;
+            this.method = method;
+            this.compressedSize = compressedSize;
+            this.size = size;
+            this.localHeaderOffset = localHeaderOffset;
+        }
+
+        String getName() {
+            return name;
+        }
+
+        @Override
+        public String toString() {
+            return getClass().getSimpleName() + "{name=" + name + '}';
+        }
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright 2014-2021 TNG Technology Consulting GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tngtech.archunit.core.importer;
+
+import java.util.Iterator;
+import java.util.List;
+
+import com.google.common.collect.ImmutableList;
+import com.tngtech.archunit.PublicAPI;
+import com.tngtech.archunit.core.importer.ClassFileSource.RecordedClassFileLocation;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.tngtech.archunit.PublicAPI.Usage.ACCESS;
+
+/**
+ * The parsed class files of a single {@link Location}, as created by {@link ClassFileImporter#parse(Location)}.
+ * Several {@link ParsedLocation ParsedLocations} can be imported together via
+ * {@link ClassFileImporter#importParsedLocations(java.util.Collection)} any number of times,
+ * without scanning the {@link Location} or parsing its class files again.
+ * <br><br>
+ * A {@link ParsedLocation} keeps the parsed class files in memory, {@link #getSizeInBytes()} gives an estimate how much.
+ */
+@PublicAPI(usage = ACCESS)
+public final class ParsedLocation {
+    // Rough estimate of the object headers, the URI and the array of each recorded class file
+    private static final int OVERHEAD_PER_CLASS_FILE_IN_BYTES = 64;
+
+    private final Location location;
+    private final List<RecordedClassFileLocation> classFiles;
+    private final long sizeInBytes;
+
+    ParsedLocation(Location location, List<RecordedClassFileLocation> classFiles) {
+        this.location = checkNotNull(location);
+        this.classFiles = ImmutableList.copyOf(classFiles);
+        this.sizeInBytes = estimateSizeInBytes(classFiles);
+    }
+
+    private static long estimateSizeInBytes(List<RecordedClassFileLocation> classFiles) {
+        long result = 0;
+        for (RecordedClassFileLocation classFile : classFiles) {
+            result += classFile.getRecording().length + 2L * classFile.getUri().toString().length() + OVERHEAD_PER_CLASS_FILE_IN_BYTES;
+        }
+        return result;
+    }
+
+    @PublicAPI(usage = ACCESS)
+    public Location getLocation() {
+        return location;
+    }
+
+    @PublicAPI(usage = ACCESS)
+    public int getNumberOfClassFiles() {
+        return classFiles.size();
+    }
+
+    /**
+     * @return An estimate of the heap occupied by the parsed class files of this location
+     */
+    @PublicAPI(usage = ACCESS)
+    public long getSizeInBytes() {
+        return sizeInBytes;
+    }
+
+    ClassFileSource asClassFileSource() {
+        return new ClassFileSource() {
+            @Override
+            public Iterator<ClassFileLocation> iterator() {
+                return ImmutableList.<ClassFileLocation>copyOf(classFiles).iterator();
+            }
+        };
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "{location=" + location + ", classFiles=" + classFiles.size() + ", sizeInBytes=" + sizeInBytes + '}';
+    }
+}
@@ -77,16 +77,23 @@ public interface ArchRule extends CanBeEvaluated, CanOverrideDescription<ArchRul
 
         @PublicAPI(usage = ACCESS)
         public static void check(ArchRule rule, JavaClasses classes) {
-            EvaluationResult result = rule.evaluate(classes);
+            Set<Pattern> patterns = readPatternsFrom(ARCHUNIT_IGNORE_PATTERNS_FILE_NAME);
+            // violations that are only counted can't be matched against the ignore patterns
+            EvaluationResult result = patterns.isEmpty()
+                    ? rule.evaluate(classes)
+                    : EvaluationOptions.complete().retainingAllViolations().evaluate(rule, classes);
             extensions.dispatch(new SimpleEvaluatedRule(rule, classes, result));
-            assertNoViolation(result);
+            assertNoViolation(result, patterns);
         }
 
         @PublicAPI(usage = ACCESS)
         public static void assertNoViolation(EvaluationResult result) {
+            assertNoViolation(result, readPatternsFrom(ARCHUNIT_IGNORE_PATTERNS_FILE_NAME));
+        }
+
+        private static void assertNoViolation(EvaluationResult result, Set<Pattern> patterns) {
             FailureReport report = result.getFailureReport();
 
-            Set<Pattern> patterns = readPatternsFrom(ARCHUNIT_IGNORE_PATTERNS_FILE_NAME);
             if (!patterns.isEmpty()) {
                 report = report.filter(notMatchedByAny(patterns));
             }
@@ -174,7 +181,7 @@ public interface ArchRule extends CanBeEvaluated, CanOverrideDescription<ArchRul
             return rule.getDescription() + ", because " + reason;
         }
 
-        private static class SimpleArchRule<T> implements ArchRule {
+        private static class SimpleArchRule<T> implements ArchRule, CanBeEvaluatedWithOptions {
             private final Priority priority;
             private final ClassesTransformer<T> classesTransformer;
             private final ArchCondition<T> condition;
@@ -205,14 +212,33 @@ public interface ArchRule extends CanBeEvaluated, CanOverrideDescription<ArchRul
 
             @Override
             public EvaluationResult evaluate(JavaClasses classes) {
+                return evaluate(classes, EvaluationOptions.complete());
+            }
+
+            // If the evaluation is stopped early, the condition is not finished, since it has not seen all objects
+            @Override
+            public EvaluationResult evaluate(JavaClasses classes, EvaluationOptions options) {
+                EvaluationStatistics.Recorder statistics = EvaluationStatistics.Recorder.start();
+                ConditionEvents events = options.createEvents();
+                if (options.isExhaustedBy(events)) {
+                    events.setTruncated();
+                    return statistics.finish(new EvaluationResult(this, events, priority));
+                }
                 Iterable<T> allObjects = classesTransformer.transform(classes);
                 condition.init(allObjects);
-                ConditionEvents events = new ConditionEvents();
                 for (T object : allObjects) {
+                    if (options.isExhaustedBy(events)) {
+                        events.setTruncated();
+                        break;
+                    }
                     condition.check(object, events);
+                    statistics.recordCheckedObject();
+                }
+                if (!events.isTruncated()) {
+                    condition.finish(events);
                 }
-                condition.finish(events);
-                return new EvaluationResult(this, events, priority);
+                statistics.recordConditionEvents(events);
+                return statistics.finish(new EvaluationResult(this, events, priority));
             }
 
             @Override
@@ -0,0 +1,36 @@
+/*
+ * Copyright 2014-2021 TNG Technology Consulting GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tngtech.archunit.lang;
+
+import com.tngtech.archunit.Internal;
+import com.tngtech.archunit.core.domain.JavaClasses;
+
+/**
+ * Implemented by the rules of ArchUnit that can be evaluated according to {@link EvaluationOptions}.
+ * This is a separate interface, so custom implementations of {@link CanBeEvaluated} keep working unchanged;
+ * they are simply evaluated completely. To evaluate any rule with options use {@link EvaluationOptions#evaluate(CanBeEvaluated, JavaClasses)}.
+ */
+@Internal
+public interface CanBeEvaluatedWithOptions extends CanBeEvaluated {
+    /**
+     * @param classes The classes to evaluate this rule against
+     * @param options The options controlling the evaluation, e.g. to stop after a certain number of violations
+     *                via {@link EvaluationOptions#stopAfter(int)}
+     * @return The result of the evaluation, which is {@link EvaluationResult#isTruncated() truncated},
+     *         if the evaluation has been stopped early
+     */
+    EvaluationResult evaluate(JavaClasses classes, EvaluationOptions options);
+}
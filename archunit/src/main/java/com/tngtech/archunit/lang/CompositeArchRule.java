@@ -28,7 +28,7 @@ import static com.tngtech.archunit.lang.ArchRule.Factory.createBecauseDescriptio
 import static com.tngtech.archunit.lang.Priority.MEDIUM;
 import static java.util.Collections.singletonList;
 
-public final class CompositeArchRule implements ArchRule {
+public final class CompositeArchRule implements ArchRule, CanBeEvaluatedWithOptions {
     private final Priority priority;
     private final List<ArchRule> rules;
     private final String description;
@@ -85,11 +85,24 @@ public final class CompositeArchRule implements ArchRule {
     @Override
     @PublicAPI(usage = ACCESS)
     public EvaluationResult evaluate(JavaClasses classes) {
+        return evaluate(classes, EvaluationOptions.complete());
+    }
+
+    @Override
+    @PublicAPI(usage = ACCESS)
+    public EvaluationResult evaluate(JavaClasses classes, EvaluationOptions options) {
+        EvaluationStatistics.Recorder statistics = EvaluationStatistics.Recorder.start();
         EvaluationResult result = new EvaluationResult(this, priority);
         for (ArchRule rule : rules) {
-            result.add(rule.evaluate(classes));
+            if (options.isExhaustedBy(result)) {
+                result.setTruncated();
+                break;
+            }
+            EvaluationResult part = options.remainingAfter(result).evaluate(rule, classes);
+            statistics.recordStatisticsOf(part);
+            result.add(part);
         }
-        return result;
+        return statistics.finish(result);
     }
 
     @Override
@@ -27,6 +27,7 @@ import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Multimap;
 import com.google.common.collect.Ordering;
 import com.google.common.reflect.TypeToken;
+import com.tngtech.archunit.ArchConfiguration;
 import com.tngtech.archunit.PublicAPI;
 import com.tngtech.archunit.base.Optional;
 
@@ -37,14 +38,82 @@ public final class ConditionEvents implements Iterable<ConditionEvent> {
 
     @PublicAPI(usage = ACCESS)
     public ConditionEvents() {
+        this(true, Integer.MAX_VALUE);
+    }
+
+    private ConditionEvents(boolean retainAllowedEvents, int maxRetainedViolations) {
+        this.retainAllowedEvents = retainAllowedEvents;
+        this.maxRetainedViolations = maxRetainedViolations;
     }
 
     private final Multimap<Type, ConditionEvent> eventsByViolation = ArrayListMultimap.create();
+    private final boolean retainAllowedEvents;
+    private final int maxRetainedViolations;
+    private int numberOfAllowedEvents;
+    private int numberOfViolations;
+    private boolean truncated;
     private Optional<String> informationAboutNumberOfViolations = Optional.absent();
 
+    /**
+     * Creates the {@link ConditionEvents} collecting all events of a rule evaluation. Depending on the
+     * {@link ArchConfiguration}, these events only count allowed events and violations beyond the configured maximum,
+     * so the memory needed by the evaluation depends on the number of retained violations, not the number of checked objects.
+     * Conditions that need the allowed events of another condition (e.g. to invert them) always collect those
+     * within their own {@link ConditionEvents}.
+     */
+    static ConditionEvents forEvaluation() {
+        ArchConfiguration configuration = ArchConfiguration.get();
+        return new ConditionEvents(
+                configuration.retainAllowedEvents(),
+                configuration.getMaxRetainedViolations().or(Integer.MAX_VALUE));
+    }
+
+    /**
+     * Like {@link #forEvaluation()}, but retains all violations, no matter the configured maximum
+     * (compare {@link EvaluationOptions#retainingAllViolations()}).
+     */
+    static ConditionEvents forEvaluationRetainingAllViolations() {
+        return new ConditionEvents(ArchConfiguration.get().retainAllowedEvents(), Integer.MAX_VALUE);
+    }
+
     @PublicAPI(usage = ACCESS)
     public void add(ConditionEvent event) {
-        eventsByViolation.get(Type.from(event.isViolation())).add(event);
+        if (event.isViolation()) {
+            numberOfViolations++;
+            if (numberOfViolations <= maxRetainedViolations) {
+                eventsByViolation.get(Type.VIOLATION).add(event);
+            }
+        } else {
+            numberOfAllowedEvents++;
+            if (retainAllowedEvents) {
+                eventsByViolation.get(Type.ALLOWED).add(event);
+            }
+        }
+    }
+
+    /**
+     * Adds all events of {@code other}, including the number of events {@code other} has only counted.
+     */
+    void addAll(ConditionEvents other) {
+        for (ConditionEvent event : other) {
+            add(event);
+        }
+        numberOfAllowedEvents += other.numberOfAllowedEvents - other.getAllowed().size();
+        numberOfViolations += other.getNumberOfOmittedViolations();
+        truncated |= other.truncated;
+    }
+
+    void setTruncated() {
+        truncated = true;
+    }
+
+    /**
+     * @return {@code true}, if the evaluation these events stem from has been stopped early
+     *         (compare {@link EvaluationOptions#stopAfter(int)}), i.e. there might be further violations
+     */
+    @PublicAPI(usage = ACCESS)
+    public boolean isTruncated() {
+        return truncated;
     }
 
     /**
@@ -60,11 +129,19 @@ public final class ConditionEvents implements Iterable<ConditionEvent> {
         this.informationAboutNumberOfViolations = Optional.of(informationAboutNumberOfViolations);
     }
 
+    /**
+     * @return All retained violations. If a maximum number of retained violations is configured
+     *         (compare {@link ArchConfiguration#getMaxRetainedViolations()}), further violations are only counted.
+     */
     @PublicAPI(usage = ACCESS)
     public Collection<ConditionEvent> getViolating() {
         return eventsByViolation.get(Type.VIOLATION);
     }
 
+    /**
+     * @return All retained allowed events, i.e. no events at all, if these events are only counted
+     *         (compare {@link ArchConfiguration#retainAllowedEvents()})
+     */
     @PublicAPI(usage = ACCESS)
     public Collection<ConditionEvent> getAllowed() {
         return eventsByViolation.get(Type.ALLOWED);
@@ -72,12 +149,38 @@ public final class ConditionEvents implements Iterable<ConditionEvent> {
 
     @PublicAPI(usage = ACCESS)
     public boolean containViolation() {
-        return !getViolating().isEmpty();
+        return numberOfViolations > 0;
     }
 
     @PublicAPI(usage = ACCESS)
     public boolean isEmpty() {
-        return getAllowed().isEmpty() && getViolating().isEmpty();
+        return size() == 0;
+    }
+
+    int getNumberOfViolations() {
+        return numberOfViolations;
+    }
+
+    /**
+     * @return The number of violations that have only been counted, but not retained
+     */
+    int getNumberOfOmittedViolations() {
+        return numberOfViolations - getViolating().size();
+    }
+
+    /**
+     * Counts violations that have been omitted by other events (e.g. events these events have been derived from),
+     * so these events still report a violation, even if none of the retained violations is left.
+     */
+    void addOmittedViolations(int number) {
+        numberOfViolations += number;
+    }
+
+    /**
+     * @return The number of all added events, no matter if they have been retained or only counted
+     */
+    int size() {
+        return numberOfAllowedEvents + numberOfViolations;
     }
 
     /**
@@ -99,7 +202,23 @@ public final class ConditionEvents implements Iterable<ConditionEvent> {
         ImmutableList<String> result = FluentIterable.from(getViolating())
                 .transformAndConcat(TO_DESCRIPTION_LINES)
                 .toSortedList(Ordering.natural());
-        return new FailureMessages(result, informationAboutNumberOfViolations);
+        return new FailureMessages(result, informationAboutNumberOfViolations.or(informationAboutOmittedViolations()),
+                getNumberOfOmittedViolations());
+    }
+
+    private Optional<String> informationAboutOmittedViolations() {
+        if (truncated) {
+            return Optional.of(String.format(
+                    "%d times - the evaluation has been stopped early, there might be further violations", numberOfViolations));
+        }
+        int numberOfRetainedViolations = getViolating().size();
+        if (numberOfViolations == numberOfRetainedViolations) {
+            return Optional.absent();
+        }
+        return Optional.of(String.format(
+                "%d times - only the first %d violations are reported; "
+                        + "this limit can be adapted using the `archunit.properties` value `%s=xxx`",
+                numberOfViolations, numberOfRetainedViolations, ArchConfiguration.MAX_RETAINED_VIOLATIONS));
     }
 
     /**
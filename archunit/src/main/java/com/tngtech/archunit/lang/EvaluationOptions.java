@@ -0,0 +1,127 @@
+/*
+ * Copyright 2014-2021 TNG Technology Consulting GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tngtech.archunit.lang;
+
+import com.tngtech.archunit.PublicAPI;
+import com.tngtech.archunit.base.Optional;
+import com.tngtech.archunit.core.domain.JavaClasses;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.tngtech.archunit.PublicAPI.Usage.ACCESS;
+
+/**
+ * Options to control how an {@link ArchRule} is evaluated via {@link #evaluate(CanBeEvaluated, JavaClasses)}.
+ * By default a rule is evaluated {@link #complete() completely}, i.e. all objects are checked. If it is only
+ * relevant whether a rule is violated at all, the evaluation can be stopped early via {@link #stopAfter(int)}, e.g.
+ * <pre><code>
+ * EvaluationResult result = EvaluationOptions.stopAfter(10).evaluate(rule, classes);
+ * </code></pre>
+ * An {@link EvaluationResult} of an evaluation that has been stopped early reports this via {@link EvaluationResult#isTruncated()}.
+ * If all violations are needed, no matter the configured maximum of retained violations
+ * (compare {@link com.tngtech.archunit.ArchConfiguration#getMaxRetainedViolations()}), this can be requested via
+ * {@link #retainingAllViolations()}.
+ */
+@PublicAPI(usage = ACCESS)
+public final class EvaluationOptions {
+    private static final EvaluationOptions COMPLETE = new EvaluationOptions(Optional.<Integer>absent(), false);
+
+    private final Optional<Integer> maxNumberOfViolations;
+    private final boolean retainAllViolations;
+
+    private EvaluationOptions(Optional<Integer> maxNumberOfViolations, boolean retainAllViolations) {
+        this.maxNumberOfViolations = maxNumberOfViolations;
+        this.retainAllViolations = retainAllViolations;
+    }
+
+    /**
+     * @return Options like these, but retaining all violations of the evaluation, no matter the configured
+     *         {@link com.tngtech.archunit.ArchConfiguration#getMaxRetainedViolations() maximum of retained violations}.
+     *         This is necessary, if the violations are processed further, e.g. to compare them to stored violations.
+     */
+    @PublicAPI(usage = ACCESS)
+    public EvaluationOptions retainingAllViolations() {
+        return new EvaluationOptions(maxNumberOfViolations, true);
+    }
+
+    /**
+     * @param rule The rule to evaluate
+     * @param classes The classes to evaluate the rule against
+     * @return The result of evaluating {@code rule} according to these options. Rules not provided by ArchUnit itself,
+     *         i.e. custom implementations of {@link CanBeEvaluated}, are always evaluated completely.
+     */
+    @PublicAPI(usage = ACCESS)
+    public EvaluationResult evaluate(CanBeEvaluated rule, JavaClasses classes) {
+        return rule instanceof CanBeEvaluatedWithOptions
+                ? ((CanBeEvaluatedWithOptions) rule).evaluate(classes, this)
+                : rule.evaluate(classes);
+    }
+
+    ConditionEvents createEvents() {
+        return retainAllViolations ? ConditionEvents.forEvaluationRetainingAllViolations() : ConditionEvents.forEvaluation();
+    }
+
+    boolean isExhaustedBy(ConditionEvents events) {
+        return isExhaustedBy(events.getNumberOfViolations());
+    }
+
+    boolean isExhaustedBy(EvaluationResult partialResult) {
+        return isExhaustedBy(partialResult.getNumberOfViolations());
+    }
+
+    private boolean isExhaustedBy(int numberOfViolations) {
+        return maxNumberOfViolations.isPresent() && numberOfViolations >= maxNumberOfViolations.get();
+    }
+
+    /**
+     * @param partialResult The result of the parts of a rule that have already been evaluated
+     * @return The options to evaluate the remaining parts of a rule (e.g. the further rules of a {@link CompositeArchRule}),
+     *         considering the violations already contained in {@code partialResult}
+     */
+    @PublicAPI(usage = ACCESS)
+    public EvaluationOptions remainingAfter(EvaluationResult partialResult) {
+        if (!maxNumberOfViolations.isPresent()) {
+            return this;
+        }
+        int remaining = Math.max(maxNumberOfViolations.get() - partialResult.getNumberOfViolations(), 0);
+        return new EvaluationOptions(Optional.of(remaining), retainAllViolations);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "{maxNumberOfViolations=" + maxNumberOfViolations
+                + ", retainAllViolations=" + retainAllViolations + '}';
+    }
+
+    /**
+     * @return Options to check all objects of a rule, no matter how many violations have been found (the default)
+     */
+    @PublicAPI(usage = ACCESS)
+    public static EvaluationOptions complete() {
+        return COMPLETE;
+    }
+
+    /**
+     * @param numberOfViolations The number of violations after which no further objects will be checked
+     * @return Options to stop the evaluation of a rule as soon as {@code numberOfViolations} violations have been found.
+     *         Note that checking a single object might cause several violations, so the result might contain more than
+     *         {@code numberOfViolations} violations.
+     */
+    @PublicAPI(usage = ACCESS)
+    public static EvaluationOptions stopAfter(int numberOfViolations) {
+        checkArgument(numberOfViolations > 0, "Number of violations to stop after must be > 0, but was %d", numberOfViolations);
+        return new EvaluationOptions(Optional.of(numberOfViolations), false);
+    }
+}
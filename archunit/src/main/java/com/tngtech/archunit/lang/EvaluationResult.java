@@ -19,8 +19,10 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 
+import com.tngtech.archunit.ArchConfiguration;
 import com.tngtech.archunit.PublicAPI;
 import com.tngtech.archunit.base.HasDescription;
+import com.tngtech.archunit.base.Optional;
 import com.tngtech.archunit.base.Predicate;
 import com.tngtech.archunit.core.domain.JavaClasses;
 
@@ -44,6 +46,7 @@ public final class EvaluationResult {
     private final HasDescription rule;
     private final ConditionEvents events;
     private final Priority priority;
+    private final Optional<EvaluationStatistics> statistics;
 
     @PublicAPI(usage = ACCESS)
     public EvaluationResult(HasDescription rule, Priority priority) {
@@ -52,9 +55,14 @@ public final class EvaluationResult {
 
     @PublicAPI(usage = ACCESS)
     public EvaluationResult(HasDescription rule, ConditionEvents events, Priority priority) {
+        this(rule, events, priority, Optional.<EvaluationStatistics>absent());
+    }
+
+    private EvaluationResult(HasDescription rule, ConditionEvents events, Priority priority, Optional<EvaluationStatistics> statistics) {
         this.rule = rule;
         this.events = events;
         this.priority = priority;
+        this.statistics = statistics;
     }
 
     @PublicAPI(usage = ACCESS)
@@ -64,9 +72,7 @@ public final class EvaluationResult {
 
     @PublicAPI(usage = ACCESS)
     public void add(EvaluationResult part) {
-        for (ConditionEvent event : part.events) {
-            events.add(event);
-        }
+        events.addAll(part.events);
     }
 
     /**
@@ -82,15 +88,51 @@ public final class EvaluationResult {
         return events.containViolation();
     }
 
+    /**
+     * @return {@code true}, if the evaluation has been stopped early (compare {@link EvaluationOptions#stopAfter(int)}),
+     *         i.e. there might be further violations not contained in this result
+     */
+    @PublicAPI(usage = ACCESS)
+    public boolean isTruncated() {
+        return events.isTruncated();
+    }
+
+    int getNumberOfViolations() {
+        return events.getNumberOfViolations();
+    }
+
+    void setTruncated() {
+        events.setTruncated();
+    }
+
     @PublicAPI(usage = ACCESS)
     public Priority getPriority() {
         return priority;
     }
 
+    /**
+     * @return Timings and counts of the evaluation that created this result, if enabled via
+     *         {@link ArchConfiguration#setEvaluationStatisticsEnabled(boolean)}
+     */
+    @PublicAPI(usage = ACCESS, state = EXPERIMENTAL)
+    public Optional<EvaluationStatistics> getStatistics() {
+        return statistics;
+    }
+
+    /**
+     * @return A result with the same events as this result, carrying the passed statistics of the finished evaluation
+     */
+    EvaluationResult withStatistics(EvaluationStatistics statistics) {
+        return new EvaluationResult(rule, events, priority, Optional.of(statistics));
+    }
+
     /**
      * Filters all recorded {@link ConditionEvent ConditionEvents} by their textual description.
      * I.e. the lines of the description of an event are passed to the supplied predicate to
-     * decide if the event is relevant.
+     * decide if the event is relevant.<br>
+     * Violations that have only been counted, but not retained (compare
+     * {@link ArchConfiguration#getMaxRetainedViolations()}), can't be filtered and are thus still counted
+     * as violations of the filtered result.
      * @param linePredicate A predicate to determine which lines of events match. Predicate.apply(..) == true will imply the violation will be preserved.
      * @return A new {@link EvaluationResult} containing only matching events
      */
@@ -100,7 +142,11 @@ public final class EvaluationResult {
         for (ConditionEvent event : events) {
             filtered.add(new FilteredEvent(event, linePredicate));
         }
-        return new EvaluationResult(rule, filtered, priority);
+        filtered.addOmittedViolations(events.getNumberOfOmittedViolations());
+        if (events.isTruncated()) {
+            filtered.setTruncated();
+        }
+        return new EvaluationResult(rule, filtered, priority, statistics);
     }
 
     private static class FilteredEvent implements ConditionEvent {
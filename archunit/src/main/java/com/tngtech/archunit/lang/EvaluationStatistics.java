@@ -0,0 +1,129 @@
+/*
+ * Copyright 2014-2021 TNG Technology Consulting GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tngtech.archunit.lang;
+
+import java.util.concurrent.TimeUnit;
+
+import com.tngtech.archunit.ArchConfiguration;
+import com.tngtech.archunit.PublicAPI;
+import com.tngtech.archunit.core.domain.JavaClasses;
+
+import static com.tngtech.archunit.PublicAPI.Usage.ACCESS;
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+/**
+ * Timings and counts of evaluating a single {@link ArchRule} against some {@link JavaClasses},
+ * to find out which rules are expensive. Statistics are only recorded, if enabled via
+ * {@link ArchConfiguration#setEvaluationStatisticsEnabled(boolean)}
+ * (compare {@link EvaluationResult#getStatistics()}).
+ */
+public final class EvaluationStatistics {
+    private final long nanos;
+    private final long checkedObjects;
+    private final long conditionEvents;
+
+    private EvaluationStatistics(long nanos, long checkedObjects, long conditionEvents) {
+        this.nanos = nanos;
+        this.checkedObjects = checkedObjects;
+        this.conditionEvents = conditionEvents;
+    }
+
+    /**
+     * @param unit The unit of the result
+     * @return The wall time spent evaluating the rule
+     */
+    @PublicAPI(usage = ACCESS)
+    public long getTime(TimeUnit unit) {
+        return unit.convert(nanos, NANOSECONDS);
+    }
+
+    /**
+     * @return The number of objects (e.g. classes, slices, ...) the condition of the rule was checked against
+     */
+    @PublicAPI(usage = ACCESS)
+    public long getNumberOfCheckedObjects() {
+        return checkedObjects;
+    }
+
+    /**
+     * @return The number of {@link ConditionEvent ConditionEvents} (allowed as well as violated) the condition of
+     *         the rule has created
+     */
+    @PublicAPI(usage = ACCESS)
+    public long getNumberOfConditionEvents() {
+        return conditionEvents;
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "{" +
+                "time=" + getTime(MICROSECONDS) + "us" +
+                ", checkedObjects=" + checkedObjects +
+                ", conditionEvents=" + conditionEvents +
+                '}';
+    }
+
+    /**
+     * Records {@link EvaluationStatistics} while evaluating a rule, if enabled via
+     * {@link ArchConfiguration#setEvaluationStatisticsEnabled(boolean)}. Otherwise all calls are no-ops.
+     */
+    static final class Recorder {
+        private final boolean enabled;
+        private final long startNanos;
+        private long checkedObjects;
+        private long conditionEvents;
+
+        private Recorder(boolean enabled) {
+            this.enabled = enabled;
+            this.startNanos = enabled ? System.nanoTime() : 0;
+        }
+
+        static Recorder start() {
+            return new Recorder(ArchConfiguration.get().evaluationStatisticsEnabled());
+        }
+
+        void recordCheckedObject() {
+            checkedObjects++;
+        }
+
+        void recordConditionEvents(ConditionEvents events) {
+            if (enabled) {
+                conditionEvents += events.size();
+            }
+        }
+
+        /**
+         * Adds the counts of a partial result (e.g. the result of a rule this rule is composed of).
+         * The time of the partial result is already contained in the wall time of this recorder.
+         */
+        void recordStatisticsOf(EvaluationResult part) {
+            if (part.getStatistics().isPresent()) {
+                checkedObjects += part.getStatistics().get().checkedObjects;
+                conditionEvents += part.getStatistics().get().conditionEvents;
+            }
+        }
+
+        /**
+         * @return The passed result carrying the recorded statistics, if enabled, otherwise the passed result itself
+         */
+        EvaluationResult finish(EvaluationResult result) {
+            return enabled
+                    ? result.withStatistics(new EvaluationStatistics(System.nanoTime() - startNanos, checkedObjects, conditionEvents))
+                    : result;
+        }
+    }
+}
@@ -29,10 +29,12 @@ import static com.tngtech.archunit.PublicAPI.Usage.ACCESS;
 public class FailureMessages extends ForwardingList<String> {
     private final List<String> failures;
     private final Optional<String> informationAboutNumberOfViolations;
+    private final int numberOfOmittedViolations;
 
-    FailureMessages(ImmutableList<String> failures, Optional<String> informationAboutNumberOfViolations) {
+    FailureMessages(ImmutableList<String> failures, Optional<String> informationAboutNumberOfViolations, int numberOfOmittedViolations) {
         this.failures = failures;
         this.informationAboutNumberOfViolations = informationAboutNumberOfViolations;
+        this.numberOfOmittedViolations = numberOfOmittedViolations;
     }
 
     /**
@@ -44,6 +46,15 @@ public class FailureMessages extends ForwardingList<String> {
         return informationAboutNumberOfViolations.or(failures.size() + " times");
     }
 
+    /**
+     * Violations that have only been counted, but not retained (compare
+     * {@link com.tngtech.archunit.ArchConfiguration#getMaxRetainedViolations()}), are unknown and thus can't be filtered.
+     * Consequently, these messages only report no violation, if no violations have been omitted.
+     */
+    boolean containNoViolation() {
+        return failures.isEmpty() && numberOfOmittedViolations == 0;
+    }
+
     FailureMessages filter(Predicate<String> predicate) {
         ImmutableList.Builder<String> filtered = ImmutableList.builder();
         for (String message : failures) {
@@ -51,7 +62,7 @@ public class FailureMessages extends ForwardingList<String> {
                 filtered.add(message);
             }
         }
-        return new FailureMessages(filtered.build(), informationAboutNumberOfViolations);
+        return new FailureMessages(filtered.build(), informationAboutNumberOfViolations, numberOfOmittedViolations);
     }
 
     @Override
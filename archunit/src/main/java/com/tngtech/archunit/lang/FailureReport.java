@@ -37,7 +37,7 @@ public final class FailureReport {
 
     @PublicAPI(usage = ACCESS)
     public boolean isEmpty() {
-        return failureMessages.isEmpty();
+        return failureMessages.containNoViolation();
     }
 
     @PublicAPI(usage = ACCESS)
@@ -296,6 +296,17 @@ public final class ArchConditions {
                 GET_DIRECT_DEPENDENCIES_FROM_SELF);
     }
 
+    /**
+     * @param predicate A predicate identifying target classes
+     * @return A condition satisfied by {@link JavaClass classes} that depend on a class matching the predicate either directly
+     * or via any chain of dependencies (compare {@link JavaClass#getTransitiveDependenciesFromSelf()}).
+     * Each {@link Dependency} on a matching class within any chain is reported.
+     */
+    @PublicAPI(usage = ACCESS)
+    public static ArchCondition<JavaClass> transitivelyDependOnClassesThat(final DescribedPredicate<? super JavaClass> predicate) {
+        return new TransitiveDependencyCondition(predicate);
+    }
+
     @PublicAPI(usage = ACCESS)
     public static ArchCondition<JavaClass> onlyDependOnClassesThat(final DescribedPredicate<? super JavaClass> predicate) {
         return new AllDependenciesCondition(
@@ -0,0 +1,52 @@
+/*
+ * Copyright 2014-2021 TNG Technology Consulting GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tngtech.archunit.lang.conditions;
+
+import com.tngtech.archunit.base.DescribedPredicate;
+import com.tngtech.archunit.core.domain.Dependency;
+import com.tngtech.archunit.core.domain.JavaClass;
+import com.tngtech.archunit.lang.ArchCondition;
+import com.tngtech.archunit.lang.ConditionEvents;
+import com.tngtech.archunit.lang.SimpleConditionEvent;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+class TransitiveDependencyCondition extends ArchCondition<JavaClass> {
+    private final DescribedPredicate<? super JavaClass> targetPredicate;
+
+    TransitiveDependencyCondition(DescribedPredicate<? super JavaClass> targetPredicate) {
+        super("transitively depend on classes that " + targetPredicate.getDescription());
+        this.targetPredicate = checkNotNull(targetPredicate);
+    }
+
+    @Override
+    public void check(JavaClass item, ConditionEvents events) {
+        boolean dependencyFound = false;
+        for (Dependency dependency : item.getTransitiveDependenciesFromSelf()) {
+            if (targetPredicate.apply(dependency.getTargetClass())) {
+                dependencyFound = true;
+                String message = String.format("Class <%s> transitively depends on <%s> by [%s]",
+                        item.getName(), dependency.getTargetClass().getName(), dependency.getDescription());
+                events.add(SimpleConditionEvent.satisfied(dependency, message));
+            }
+        }
+        if (!dependencyFound) {
+            String message = String.format("Class <%s> does not transitively depend on any class that %s",
+                    item.getName(), targetPredicate.getDescription());
+            events.add(SimpleConditionEvent.violated(item, message));
+        }
+    }
+}
@@ -78,6 +78,8 @@ public interface ArchUnitExtension {
     /**
      * ArchUnit will call this method after evaluating any rule against imported classes, but before any
      * {@link AssertionError} is thrown from possible violations of the rule.
+     * If enabled via {@link ArchConfiguration#setEvaluationStatisticsEnabled(boolean)}, the result
+     * also offers {@link com.tngtech.archunit.lang.EvaluationStatistics EvaluationStatistics}, e.g. to report the slowest rules.
      *
      * @param evaluatedRule Contains details about the evaluated rule, i.e. which rule was evaluated, the imported
      *                      classes and the result of the evaluation
@@ -20,6 +20,7 @@ import java.util.Map;
 import java.util.ServiceLoader;
 
 import com.google.common.base.Supplier;
+import com.google.common.collect.ImmutableList;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -36,7 +37,7 @@ class ArchUnitExtensionLoader {
             checkIdentifiersNonNull(extensions);
             checkIdentifiersValid(extensions);
             checkIdentifiersUnique(extensions);
-            return extensions;
+            return ImmutableList.copyOf(extensions); // iterating a ServiceLoader is not thread safe
         }
 
         private void log(ServiceLoader<ArchUnitExtension> extensions) {
@@ -61,6 +61,13 @@ public class ArchUnitExtensions {
     }
 
     private void configureAndDispatch(ArchUnitExtension extension, Properties extensionProperties, EvaluatedRule evaluatedRule) {
+        // rules might be evaluated concurrently (e.g. by the JUnit 5 engine), but extensions are not required to be thread safe
+        synchronized (extension) {
+            tryConfigureAndDispatch(extension, extensionProperties, evaluatedRule);
+        }
+    }
+
+    private void tryConfigureAndDispatch(ArchUnitExtension extension, Properties extensionProperties, EvaluatedRule evaluatedRule) {
         try {
             extension.configure(extensionProperties);
             extension.handle(evaluatedRule);
@@ -529,6 +529,11 @@ class ClassesShouldInternal extends ObjectsShouldInternal<JavaClass>
         return addCondition(ArchConditions.dependOnClassesThat(predicate));
     }
 
+    @Override
+    public ClassesShouldConjunction transitivelyDependOnClassesThat(DescribedPredicate<? super JavaClass> predicate) {
+        return addCondition(ArchConditions.transitivelyDependOnClassesThat(predicate));
+    }
+
     @Override
     public ClassesThat<ClassesShouldConjunction> onlyDependOnClassesThat() {
         return new ClassesThatInternal<>(new Function<DescribedPredicate<? super JavaClass>, ClassesShouldConjunction>() {
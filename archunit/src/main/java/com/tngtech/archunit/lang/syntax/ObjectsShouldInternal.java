@@ -23,13 +23,15 @@ import com.tngtech.archunit.base.Optional;
 import com.tngtech.archunit.core.domain.JavaClasses;
 import com.tngtech.archunit.lang.ArchCondition;
 import com.tngtech.archunit.lang.ArchRule;
+import com.tngtech.archunit.lang.CanBeEvaluatedWithOptions;
 import com.tngtech.archunit.lang.ClassesTransformer;
+import com.tngtech.archunit.lang.EvaluationOptions;
 import com.tngtech.archunit.lang.EvaluationResult;
 import com.tngtech.archunit.lang.Priority;
 
 import static com.google.common.base.Preconditions.checkState;
 
-class ObjectsShouldInternal<T> implements ArchRule {
+class ObjectsShouldInternal<T> implements ArchRule, CanBeEvaluatedWithOptions {
     private final Supplier<ArchRule> finishedRule = Suppliers.memoize(new FinishedRule());
 
     final ConditionAggregator<T> conditionAggregator;
@@ -76,6 +78,11 @@ class ObjectsShouldInternal<T> implements ArchRule {
         return finishedRule.get().evaluate(classes);
     }
 
+    @Override
+    public EvaluationResult evaluate(JavaClasses classes, EvaluationOptions options) {
+        return options.evaluate(finishedRule.get(), classes);
+    }
+
     @Override
     public void check(JavaClasses classes) {
         finishedRule.get().check(classes);
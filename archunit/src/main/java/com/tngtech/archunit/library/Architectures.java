@@ -17,8 +17,9 @@ package com.tngtech.archunit.library;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Collection;
-import java.util.HashSet;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
@@ -27,6 +28,7 @@ import java.util.Map;
 import java.util.Set;
 
 import com.google.common.base.Joiner;
+import com.google.common.collect.ImmutableSet;
 import com.tngtech.archunit.PublicAPI;
 import com.tngtech.archunit.base.DescribedPredicate;
 import com.tngtech.archunit.base.Optional;
@@ -35,9 +37,11 @@ import com.tngtech.archunit.core.domain.JavaClass;
 import com.tngtech.archunit.core.domain.JavaClasses;
 import com.tngtech.archunit.lang.ArchCondition;
 import com.tngtech.archunit.lang.ArchRule;
+import com.tngtech.archunit.lang.CanBeEvaluatedWithOptions;
 import com.tngtech.archunit.lang.ConditionEvents;
+import com.tngtech.archunit.lang.EvaluationOptions;
 import com.tngtech.archunit.lang.EvaluationResult;
-import com.tngtech.archunit.lang.Priority;
+import com.tngtech.archunit.lang.SimpleConditionEvent;
 import com.tngtech.archunit.lang.syntax.PredicateAggregator;
 
 import static com.google.common.base.Preconditions.checkArgument;
@@ -46,18 +50,14 @@ import static com.google.common.base.Preconditions.checkState;
 import static com.google.common.base.Strings.isNullOrEmpty;
 import static com.google.common.collect.Lists.newArrayList;
 import static com.tngtech.archunit.PublicAPI.Usage.ACCESS;
-import static com.tngtech.archunit.base.DescribedPredicate.alwaysFalse;
 import static com.tngtech.archunit.core.domain.Dependency.Predicates.dependency;
-import static com.tngtech.archunit.core.domain.Dependency.Predicates.dependencyOrigin;
 import static com.tngtech.archunit.core.domain.JavaClass.Predicates.equivalentTo;
 import static com.tngtech.archunit.core.domain.JavaClass.Predicates.resideInAnyPackage;
 import static com.tngtech.archunit.core.domain.properties.HasName.Predicates.name;
 import static com.tngtech.archunit.lang.SimpleConditionEvent.violated;
-import static com.tngtech.archunit.lang.conditions.ArchConditions.onlyHaveDependentsWhere;
 import static com.tngtech.archunit.lang.syntax.ArchRuleDefinition.classes;
 import static java.lang.System.lineSeparator;
 import static java.util.Arrays.asList;
-import static java.util.Collections.singleton;
 
 /**
  * Offers convenience to assert typical architectures, like a {@link #layeredArchitecture()}.
@@ -97,7 +97,7 @@ public final class Architectures {
         return new LayeredArchitecture();
     }
 
-    public static final class LayeredArchitecture implements ArchRule {
+    public static final class LayeredArchitecture implements ArchRule, CanBeEvaluatedWithOptions {
         private final LayerDefinitions layerDefinitions;
         private final Set<LayerDependencySpecification> dependencySpecifications;
         private final PredicateAggregator<Dependency> irrelevantDependenciesPredicate;
@@ -195,69 +195,130 @@ public final class Architectures {
         @Override
         @PublicAPI(usage = ACCESS)
         public EvaluationResult evaluate(JavaClasses classes) {
-            EvaluationResult result = new EvaluationResult(this, Priority.MEDIUM);
-            checkEmptyLayers(classes, result);
-            for (LayerDependencySpecification specification : dependencySpecifications) {
-                result.add(evaluateDependenciesShouldBeSatisfied(classes, specification));
-            }
-            return result;
-        }
-
-        private void checkEmptyLayers(JavaClasses classes, EvaluationResult result) {
-            if (!optionalLayers) {
-                for (LayerDefinition layerDefinition : layerDefinitions) {
-                    if (!layerDefinition.isOptional()) {
-                        result.add(evaluateLayersShouldNotBeEmpty(classes, layerDefinition));
-                    }
-                }
-            }
+            return evaluate(classes, EvaluationOptions.complete());
         }
 
-        private EvaluationResult evaluateLayersShouldNotBeEmpty(JavaClasses classes, LayerDefinition layerDefinition) {
-            return classes().that(layerDefinitions.containsPredicateFor(layerDefinition.name))
-                    .should(notBeEmptyFor(layerDefinition))
-                    .evaluate(classes);
+        @Override
+        @PublicAPI(usage = ACCESS)
+        public EvaluationResult evaluate(JavaClasses classes, EvaluationOptions options) {
+            LayerAssignment layerAssignment = new LayerAssignment(layerDefinitions);
+            return options.evaluate(classes().should(new AdhereToLayersCondition(layerAssignment)).as(getDescription()), classes);
         }
 
-        private EvaluationResult evaluateDependenciesShouldBeSatisfied(JavaClasses classes, LayerDependencySpecification specification) {
+        /**
+         * Checks all {@link LayerDependencySpecification LayerDependencySpecifications} and non-empty layers within a single pass
+         * over the classes. The dependencies to each class are only traversed once, and the layers of the origin of each dependency
+         * are only looked up once, no matter how many specifications apply to the class.
+         */
+        private final class AdhereToLayersCondition extends ArchCondition<JavaClass> {
+            private final LayerAssignment layerAssignment;
+            private final int[] layerOfSpecification;
+            private final BitSet[] allowedOriginLayersOfSpecification;
+            private final BitSet nonEmptyLayers = new BitSet();
+
+            AdhereToLayersCondition(LayerAssignment layerAssignment) {
+                super("adhere to the layered architecture");
+                this.layerAssignment = layerAssignment;
+                layerOfSpecification = new int[dependencySpecifications.size()];
+                allowedOriginLayersOfSpecification = new BitSet[dependencySpecifications.size()];
+                int i = 0;
+                for (LayerDependencySpecification specification : dependencySpecifications) {
+                    layerOfSpecification[i] = layerAssignment.indexOf(specification.layerName);
+                    allowedOriginLayersOfSpecification[i] = layerAssignment.layersNamed(
+                            ImmutableSet.<String>builder().addAll(specification.allowedAccessors).add(specification.layerName).build());
+                    i++;
+                }
+            }
 
-            return classes().that(layerDefinitions.containsPredicateFor(specification.layerName))
-                    .should(onlyHaveDependentsWhere(originMatchesIfDependencyIsRelevant(specification.layerName, specification.allowedAccessors)))
-                    .evaluate(classes);
-        }
+            @Override
+            public void check(JavaClass javaClass, ConditionEvents events) {
+                BitSet layers = layerAssignment.layersOf(javaClass);
+                nonEmptyLayers.or(layers);
+                BitSet specificationsToCheck = new BitSet(layerOfSpecification.length);
+                for (int i = 0; i < layerOfSpecification.length; i++) {
+                    if (layers.get(layerOfSpecification[i])) {
+                        specificationsToCheck.set(i);
+                    }
+                }
+                if (specificationsToCheck.isEmpty()) {
+                    return;
+                }
+                for (Dependency dependency : javaClass.getDirectDependenciesToSelf()) {
+                    checkAgainst(specificationsToCheck, dependency, events);
+                }
+            }
 
-        private DescribedPredicate<Dependency> originMatchesIfDependencyIsRelevant(String ownLayer, Set<String> allowedAccessors) {
-            DescribedPredicate<Dependency> originPackageMatches =
-                    dependencyOrigin(layerDefinitions.containsPredicateFor(allowedAccessors)).or(dependencyOrigin(layerDefinitions.containsPredicateFor(ownLayer)));
+            private void checkAgainst(BitSet specificationsToCheck, Dependency dependency, ConditionEvents events) {
+                BitSet originLayers = layerAssignment.layersOf(dependency.getOriginClass());
+                Optional<Boolean> irrelevant = Optional.absent();
+                for (int i = specificationsToCheck.nextSetBit(0); i >= 0; i = specificationsToCheck.nextSetBit(i + 1)) {
+                    if (originLayers.intersects(allowedOriginLayersOfSpecification[i])) {
+                        continue;
+                    }
+                    if (!irrelevant.isPresent()) {
+                        irrelevant = Optional.of(irrelevantDependenciesPredicate.isPresent() && irrelevantDependenciesPredicate.get().apply(dependency));
+                    }
+                    if (!irrelevant.get()) {
+                        events.add(new SimpleConditionEvent(dependency, false, dependency.getDescription()));
+                    }
+                }
+            }
 
-            return irrelevantDependenciesPredicate.isPresent() ?
-                    originPackageMatches.or(irrelevantDependenciesPredicate.get()) :
-                    originPackageMatches;
+            @Override
+            public void finish(ConditionEvents events) {
+                if (optionalLayers) {
+                    return;
+                }
+                for (LayerDefinition layerDefinition : layerDefinitions) {
+                    if (!layerDefinition.isOptional() && !nonEmptyLayers.get(layerAssignment.indexOf(layerDefinition.name))) {
+                        events.add(violated(layerDefinition, String.format("Layer '%s' is empty", layerDefinition.name)));
+                    }
+                }
+            }
         }
 
-        private static ArchCondition<JavaClass> notBeEmptyFor(final LayeredArchitecture.LayerDefinition layerDefinition) {
-            return new LayerShouldNotBeEmptyCondition(layerDefinition);
-        }
+        /**
+         * Assigns each class to the layers containing it only once per evaluation, as a {@link BitSet} of layer indexes.
+         * Thus the predicates defining the layers are not evaluated again for each dependency specification
+         * and each dependency, but checking if a class belongs to some layers is a simple intersection of bits.
+         */
+        private static final class LayerAssignment {
+            private final Map<String, Integer> layerIndexesByName = new HashMap<>();
+            private final List<DescribedPredicate<JavaClass>> containsPredicates = new ArrayList<>();
+            private final Map<JavaClass, BitSet> layersByClass = new HashMap<>();
 
-        private static class LayerShouldNotBeEmptyCondition extends ArchCondition<JavaClass> {
-            private final LayeredArchitecture.LayerDefinition layerDefinition;
-            private boolean empty = true;
+            LayerAssignment(LayerDefinitions layerDefinitions) {
+                for (LayerDefinition layerDefinition : layerDefinitions) {
+                    layerIndexesByName.put(layerDefinition.name, containsPredicates.size());
+                    containsPredicates.add(layerDefinition.containsPredicate());
+                }
+            }
 
-            LayerShouldNotBeEmptyCondition(final LayeredArchitecture.LayerDefinition layerDefinition) {
-                super("not be empty");
-                this.layerDefinition = layerDefinition;
+            // Origins of dependencies are not necessarily part of the evaluated classes, so all classes are assigned on demand
+            BitSet layersOf(JavaClass javaClass) {
+                BitSet result = layersByClass.get(javaClass);
+                if (result == null) {
+                    result = new BitSet(containsPredicates.size());
+                    for (int i = 0; i < containsPredicates.size(); i++) {
+                        if (containsPredicates.get(i).apply(javaClass)) {
+                            result.set(i);
+                        }
+                    }
+                    layersByClass.put(javaClass, result);
+                }
+                return result;
             }
 
-            @Override
-            public void check(JavaClass item, ConditionEvents events) {
-                empty = false;
+            int indexOf(String layerName) {
+                return layerIndexesByName.get(layerName);
             }
 
-            @Override
-            public void finish(ConditionEvents events) {
-                if (empty) {
-                    events.add(violated(layerDefinition, String.format("Layer '%s' is empty", layerDefinition.name)));
+            BitSet layersNamed(Collection<String> layerNames) {
+                BitSet result = new BitSet(containsPredicates.size());
+                for (String layerName : layerNames) {
+                    result.set(indexOf(layerName));
                 }
+                return result;
             }
         }
 
@@ -322,26 +383,6 @@ public final class Architectures {
                 return layerDefinitions.containsKey(layerName);
             }
 
-            DescribedPredicate<JavaClass> containsPredicateFor(String layerName) {
-                return containsPredicateFor(singleton(layerName));
-            }
-
-            DescribedPredicate<JavaClass> containsPredicateFor(final Collection<String> layerNames) {
-                DescribedPredicate<JavaClass> result = alwaysFalse();
-                for (LayerDefinition definition : get(layerNames)) {
-                    result = result.or(definition.containsPredicate());
-                }
-                return result;
-            }
-
-            private Iterable<LayerDefinition> get(Collection<String> layerNames) {
-                Set<LayerDefinition> result = new HashSet<>();
-                for (String layerName : layerNames) {
-                    result.add(layerDefinitions.get(layerName));
-                }
-                return result;
-            }
-
             @Override
             public Iterator<LayerDefinition> iterator() {
                 return layerDefinitions.values().iterator();
@@ -422,7 +463,7 @@ public final class Architectures {
         return new OnionArchitecture();
     }
 
-    public static final class OnionArchitecture implements ArchRule {
+    public static final class OnionArchitecture implements ArchRule, CanBeEvaluatedWithOptions {
         private static final String DOMAIN_MODEL_LAYER = "domain model";
         private static final String DOMAIN_SERVICE_LAYER = "domain service";
         private static final String APPLICATION_SERVICE_LAYER = "application service";
@@ -554,6 +595,11 @@ public final class Architectures {
             return layeredArchitectureDelegate().evaluate(classes);
         }
 
+        @Override
+        public EvaluationResult evaluate(JavaClasses classes, EvaluationOptions options) {
+            return layeredArchitectureDelegate().evaluate(classes, options);
+        }
+
         @Override
         public String getDescription() {
             if (overriddenDescription.isPresent()) {
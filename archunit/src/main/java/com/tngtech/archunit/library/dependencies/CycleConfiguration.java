@@ -22,9 +22,12 @@ final class CycleConfiguration {
     private static final String MAX_NUMBER_OF_CYCLES_TO_DETECT_DEFAULT_VALUE = "100";
     static final String MAX_NUMBER_OF_DEPENDENCIES_TO_SHOW_PER_EDGE_PROPERTY_NAME = "cycles.maxNumberOfDependenciesPerEdge";
     private static final String MAX_NUMBER_OF_DEPENDENCIES_TO_SHOW_PER_EDGE_DEFAULT_VALUE = "20";
+    static final String NUMBER_OF_THREADS_TO_DETECT_CYCLES_PROPERTY_NAME = "cycles.threads";
+    private static final String NUMBER_OF_THREADS_TO_DETECT_CYCLES_DEFAULT_VALUE = "1";
 
     private final int maxCyclesToDetect;
     private final int maxDependenciesPerEdge;
+    private final int threadsToDetectCycles;
 
     CycleConfiguration() {
         String configuredMaxCyclesToDetect = ArchConfiguration.get()
@@ -35,12 +38,25 @@ final class CycleConfiguration {
                 .getPropertyOrDefault(MAX_NUMBER_OF_DEPENDENCIES_TO_SHOW_PER_EDGE_PROPERTY_NAME,
                         MAX_NUMBER_OF_DEPENDENCIES_TO_SHOW_PER_EDGE_DEFAULT_VALUE);
         maxDependenciesPerEdge = Integer.parseInt(configuredMaxDependenciesPerEdge);
+
+        String configuredThreadsToDetectCycles = ArchConfiguration.get()
+                .getPropertyOrDefault(NUMBER_OF_THREADS_TO_DETECT_CYCLES_PROPERTY_NAME, NUMBER_OF_THREADS_TO_DETECT_CYCLES_DEFAULT_VALUE);
+        int threads = Integer.parseInt(configuredThreadsToDetectCycles.trim());
+        threadsToDetectCycles = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
     }
 
     int getMaxNumberOfCyclesToDetect() {
         return maxCyclesToDetect;
     }
 
+    /**
+     * @return The number of threads to search for cycles in parallel, where the configured value 1 (the default) means
+     *         to search sequentially on the calling thread and 0 means to use all available processors
+     */
+    int getNumberOfThreadsToDetectCycles() {
+        return threadsToDetectCycles;
+    }
+
     int getMaxNumberOfDependenciesToShowPerEdge() {
         return maxDependenciesPerEdge;
     }
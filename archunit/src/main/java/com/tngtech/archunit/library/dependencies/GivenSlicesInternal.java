@@ -87,12 +87,7 @@ class GivenSlicesInternal implements GivenSlices, SlicesShould, GivenSlicesConju
     @Override
     @PublicAPI(usage = ACCESS)
     public SliceRule beFreeOfCycles() {
-        return new SliceRule(classesTransformer, priority, new SliceRule.ConditionFactory() {
-            @Override
-            public ArchCondition<Slice> create(Slices.Transformer transformer, DescribedPredicate<Dependency> predicate) {
-                return new SliceCycleArchCondition(predicate);
-            }
-        });
+        return new SliceRule(classesTransformer, priority, SliceCycleArchCondition.factory());
     }
 
     @Override
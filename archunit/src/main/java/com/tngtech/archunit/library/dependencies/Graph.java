@@ -15,8 +15,11 @@
  */
 package com.tngtech.archunit.library.dependencies;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 
@@ -26,6 +29,7 @@ import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ListMultimap;
 import com.google.common.collect.Multimap;
+import com.google.common.primitives.Ints;
 
 import static com.google.common.base.Preconditions.checkArgument;
 
@@ -60,6 +64,37 @@ class Graph<T, ATTACHMENT> {
         return new Cycles<>(result.build(), cycles.maxNumberOfCyclesReached());
     }
 
+    /**
+     * Finds all strongly connected components of more than one node in linear time, without enumerating any cycles.
+     * As a representative of each component, we only determine the shortest cycle through the first node of the component
+     * via a breadth first search within the component.
+     */
+    List<StronglyConnectedComponent<T, ATTACHMENT>> findStronglyConnectedComponents() {
+        Map<Integer, Map<Integer, Edge<T, ATTACHMENT>>> edgesByTargetIndexByOriginIndex = indexEdgesByTargetIndexByOriginIndex(nodes, outgoingEdges);
+        PrimitiveGraph primitiveGraph = createPrimitiveGraph();
+        List<T> nodesByIndex = getNodesByIndex();
+        ShortestCycleFinder shortestCycleFinder = new ShortestCycleFinder(primitiveGraph);
+
+        ImmutableList.Builder<StronglyConnectedComponent<T, ATTACHMENT>> result = ImmutableList.builder();
+        for (int[] component : new TarjanComponentFinder(primitiveGraph).findAllNonTrivialStronglyConnectedComponents()) {
+            ImmutableList.Builder<T> componentNodes = ImmutableList.builder();
+            for (int nodeIndex : component) {
+                componentNodes.add(nodesByIndex.get(nodeIndex));
+            }
+            int[] rawCycle = shortestCycleFinder.findShortestCycleThroughFirstNodeOf(component);
+            result.add(new StronglyConnectedComponent<>(componentNodes.build(), mapToCycle(edgesByTargetIndexByOriginIndex, rawCycle)));
+        }
+        return result.build();
+    }
+
+    private List<T> getNodesByIndex() {
+        List<T> result = new ArrayList<>(Collections.<T>nCopies(nodes.size(), null));
+        for (Map.Entry<T, Integer> nodeToIndex : nodes.entrySet()) {
+            result.set(nodeToIndex.getValue(), nodeToIndex.getKey());
+        }
+        return result;
+    }
+
     private PrimitiveGraph createPrimitiveGraph() {
         int[][] edges = new int[nodes.size()][];
         for (Map.Entry<T, Integer> nodeToIndex : nodes.entrySet()) {
@@ -108,6 +143,91 @@ class Graph<T, ATTACHMENT> {
                 '}';
     }
 
+    static class StronglyConnectedComponent<T, ATTACHMENT> {
+        private final List<T> nodes;
+        private final Cycle<T, ATTACHMENT> shortestCycle;
+
+        private StronglyConnectedComponent(List<T> nodes, Cycle<T, ATTACHMENT> shortestCycle) {
+            this.nodes = nodes;
+            this.shortestCycle = shortestCycle;
+        }
+
+        List<T> getNodes() {
+            return nodes;
+        }
+
+        Cycle<T, ATTACHMENT> getShortestCycle() {
+            return shortestCycle;
+        }
+
+        @Override
+        public String toString() {
+            return "StronglyConnectedComponent{nodes=" + nodes + ", shortestCycle=" + shortestCycle + '}';
+        }
+    }
+
+    /**
+     * Breadth first search for the shortest path from the first node of a strongly connected component back to itself.
+     * Since the arrays are shared by all (disjoint) components of a graph, all searches together take linear time.
+     */
+    private static class ShortestCycleFinder {
+        private static final int NO_PREDECESSOR = -1;
+
+        private final PrimitiveGraph graph;
+        private final boolean[] inComponent;
+        private final int[] predecessors;
+        private final int[] queue;
+
+        ShortestCycleFinder(PrimitiveGraph graph) {
+            this.graph = graph;
+            inComponent = new boolean[graph.getSize()];
+            predecessors = new int[graph.getSize()];
+            queue = new int[graph.getSize()];
+        }
+
+        int[] findShortestCycleThroughFirstNodeOf(int[] component) {
+            for (int nodeIndex : component) {
+                inComponent[nodeIndex] = true;
+                predecessors[nodeIndex] = NO_PREDECESSOR;
+            }
+            try {
+                return findShortestCycleThrough(component[0]);
+            } finally {
+                for (int nodeIndex : component) {
+                    inComponent[nodeIndex] = false;
+                }
+            }
+        }
+
+        private int[] findShortestCycleThrough(int startNodeIndex) {
+            int head = 0;
+            int tail = 0;
+            queue[tail++] = startNodeIndex;
+            while (head < tail) {
+                int nodeIndex = queue[head++];
+                for (int targetIndex : graph.getAdjacentNodesOf(nodeIndex)) {
+                    if (targetIndex == startNodeIndex) {
+                        return pathFromStartTo(startNodeIndex, nodeIndex);
+                    }
+                    if (inComponent[targetIndex] && predecessors[targetIndex] == NO_PREDECESSOR) {
+                        predecessors[targetIndex] = nodeIndex;
+                        queue[tail++] = targetIndex;
+                    }
+                }
+            }
+            throw new IllegalStateException("Node " + startNodeIndex + " is not part of any cycle, this is likely a bug!");
+        }
+
+        private int[] pathFromStartTo(int startNodeIndex, int endNodeIndex) {
+            LinkedList<Integer> path = new LinkedList<>();
+            for (int nodeIndex = endNodeIndex; nodeIndex != startNodeIndex; nodeIndex = predecessors[nodeIndex]) {
+                path.addFirst(nodeIndex);
+            }
+            path.addFirst(startNodeIndex);
+            return Ints.toArray(path);
+        }
+    }
+
     static class Cycles<T, ATTACHMENT> extends ForwardingCollection<Cycle<T, ATTACHMENT>> {
         private final Collection<Cycle<T, ATTACHMENT>> cycles;
         private final boolean maxNumberOfCyclesReached;
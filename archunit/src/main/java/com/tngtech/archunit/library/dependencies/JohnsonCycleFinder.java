@@ -16,8 +16,13 @@
 package com.tngtech.archunit.library.dependencies;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -57,33 +62,90 @@ import static com.tngtech.archunit.library.dependencies.TarjanComponentFinder.NO
  */
 class JohnsonCycleFinder {
     private static final Logger log = LoggerFactory.getLogger(JohnsonCycleFinder.class);
+    // Below this size the overhead of a thread pool outweighs the gain of searching for cycles in parallel
+    private static final int MIN_NODES_FOR_PARALLEL_SEARCH = 64;
 
-    private int nodeToProcess = 0;
     private final PrimitiveGraph primitiveGraph;
+    private final CycleConfiguration configuration = new CycleConfiguration();
 
     JohnsonCycleFinder(PrimitiveGraph primitiveGraph) {
         this.primitiveGraph = primitiveGraph;
     }
 
+    /**
+     * All cycles through a start node within the sub graph induced by the nodes with an index larger than or equal to this start node
+     * can be found independently of the cycles through any other start node. Thus, if enough threads are configured,
+     * we search the cycles of all start nodes in parallel. To stay deterministic, the {@link Result} always
+     * reports the cycles ordered by start node, exactly as if we had searched the start nodes one after the other.
+     */
     Result findCycles() {
-        Result result = new Result();
-        TarjanComponentFinder componentFinder = new TarjanComponentFinder(primitiveGraph);
-        JohnsonComponent johnsonComponent = JohnsonComponent.within(primitiveGraph);
-        while (nodeToProcess < primitiveGraph.getSize()) {
-            int[] nextStronglyConnectedComponent = componentFinder.findNonTrivialStronglyConnectedComponentWithLowestNodeIndexAbove(nodeToProcess);
+        Result result = new Result(configuration, primitiveGraph.getSize());
+        int threads = configuration.getNumberOfThreadsToDetectCycles();
+        if (threads > 1 && primitiveGraph.getSize() >= MIN_NODES_FOR_PARALLEL_SEARCH) {
+            findCyclesInParallel(result, threads);
+        } else {
+            findCyclesSequentially(result);
+        }
+        return result;
+    }
+
+    private void findCyclesSequentially(Result result) {
+        CycleSearch search = new CycleSearch(primitiveGraph);
+        int nodeToProcess = 0;
+        while (nodeToProcess < primitiveGraph.getSize() && result.needsCyclesThrough(nodeToProcess)) {
+            int[] nextStronglyConnectedComponent = search.componentFinder.findNonTrivialStronglyConnectedComponentWithLowestNodeIndexAbove(nodeToProcess);
             if (nextStronglyConnectedComponent == NO_COMPONENT_FOUND) {
                 break;
             }
 
-            johnsonComponent.init(nextStronglyConnectedComponent);
-            findCycles(result, johnsonComponent.getStartNodeIndex(), johnsonComponent);
-            nodeToProcess = johnsonComponent.getStartNodeIndex() + 1;
+            search.johnsonComponent.init(nextStronglyConnectedComponent);
+            int startNodeIndex = search.johnsonComponent.getStartNodeIndex();
+            for (int skippedNodeIndex = nodeToProcess; skippedNodeIndex < startNodeIndex; skippedNodeIndex++) {
+                result.completeWithoutCycles(skippedNodeIndex);
+            }
+            StartNodeCycles cycles = result.startSearchThrough(startNodeIndex);
+            findCycles(cycles, startNodeIndex, search.johnsonComponent);
+            result.complete(cycles);
+            nodeToProcess = startNodeIndex + 1;
         }
-        return result;
     }
 
-    private boolean findCycles(Result result, int originNodeIndex, JohnsonComponent johnsonComponent) {
-        if (!result.canAcceptMoreCycles()) {
+    private void findCyclesInParallel(final Result result, int threads) {
+        ThreadLocal<CycleSearch> searchesOfThreads = new ThreadLocal<CycleSearch>() {
+            @Override
+            protected CycleSearch initialValue() {
+                return new CycleSearch(primitiveGraph);
+            }
+        };
+        ForkJoinPool pool = new ForkJoinPool(threads, new DaemonForkJoinWorkerThreadFactory(), null, false);
+        try {
+            pool.invoke(new FindCyclesThroughStartNodes(result, searchesOfThreads, 0, primitiveGraph.getSize()));
+        } finally {
+            pool.shutdown();
+        }
+        log.debug("Searched cycles through {} start nodes using {} threads", primitiveGraph.getSize(), threads);
+    }
+
+    private void findCyclesThrough(int startNodeIndex, Result result, CycleSearch search) {
+        if (!result.needsCyclesThrough(startNodeIndex)) {
+            result.completeWithoutCycles(startNodeIndex);
+            return;
+        }
+        int[] component = search.componentFinder.findNonTrivialStronglyConnectedComponentWithLowestNodeIndexAbove(startNodeIndex);
+        // if the lowest node of the next component is larger, there is no cycle through the start node within the induced sub graph
+        if (component == NO_COMPONENT_FOUND || component[0] != startNodeIndex) {
+            result.completeWithoutCycles(startNodeIndex);
+            return;
+        }
+
+        search.johnsonComponent.init(component);
+        StartNodeCycles cycles = result.startSearchThrough(startNodeIndex);
+        findCycles(cycles, startNodeIndex, search.johnsonComponent);
+        result.complete(cycles);
+    }
+
+    private boolean findCycles(StartNodeCycles cycles, int originNodeIndex, JohnsonComponent johnsonComponent) {
+        if (!cycles.canAcceptMoreCycles()) {
             return false;
         }
 
@@ -94,10 +156,10 @@ class JohnsonCycleFinder {
         int[] targetNodeIndexes = johnsonComponent.getAdjacentNodesOf(originNodeIndex);
         for (int targetNodeIndex : targetNodeIndexes) {
             if (johnsonComponent.isStartNodeIndex(targetNodeIndex)) {
-                result.add(johnsonComponent.getStack());
+                cycles.add(johnsonComponent.getStack());
                 foundCycle = true;
             } else if (johnsonComponent.isNotBlocked(targetNodeIndex)) {
-                foundCycle = foundCycle | findCycles(result, targetNodeIndex, johnsonComponent);
+                foundCycle = foundCycle | findCycles(cycles, targetNodeIndex, johnsonComponent);
             }
         }
 
@@ -113,41 +175,160 @@ class JohnsonCycleFinder {
         return foundCycle;
     }
 
+    /**
+     * The state of Tarjan's and Johnson's algorithm can be reused for consecutive start nodes,
+     * but must never be shared between threads.
+     */
+    private static class CycleSearch {
+        private final TarjanComponentFinder componentFinder;
+        private final JohnsonComponent johnsonComponent;
+
+        CycleSearch(PrimitiveGraph graph) {
+            componentFinder = new TarjanComponentFinder(graph);
+            johnsonComponent = JohnsonComponent.within(graph);
+        }
+    }
+
+    private class FindCyclesThroughStartNodes extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final Result result;
+        private final ThreadLocal<CycleSearch> searchesOfThreads;
+        private final int fromStartNodeIndex;
+        private final int toStartNodeIndex;
+
+        FindCyclesThroughStartNodes(Result result, ThreadLocal<CycleSearch> searchesOfThreads, int fromStartNodeIndex, int toStartNodeIndex) {
+            this.result = result;
+            this.searchesOfThreads = searchesOfThreads;
+            this.fromStartNodeIndex = fromStartNodeIndex;
+            this.toStartNodeIndex = toStartNodeIndex;
+        }
+
+        // invokeAll(..) computes the lower half within the current thread, so lower start nodes, that are needed first
+        // to fill the result, tend to be processed first, while idle threads steal the upper halves
+        @Override
+        protected void compute() {
+            if (toStartNodeIndex - fromStartNodeIndex == 1) {
+                findCyclesThrough(fromStartNodeIndex, result, searchesOfThreads.get());
+                return;
+            }
+            int middle = (fromStartNodeIndex + toStartNodeIndex) >>> 1;
+            invokeAll(new FindCyclesThroughStartNodes(result, searchesOfThreads, fromStartNodeIndex, middle),
+                    new FindCyclesThroughStartNodes(result, searchesOfThreads, middle, toStartNodeIndex));
+        }
+    }
+
+    private static class DaemonForkJoinWorkerThreadFactory implements ForkJoinPool.ForkJoinWorkerThreadFactory {
+        private final AtomicInteger nextThreadNumber = new AtomicInteger();
+
+        @Override
+        public ForkJoinWorkerThread newThread(ForkJoinPool pool) {
+            ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+            thread.setName("archunit-cycle-detection-" + nextThreadNumber.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+
+    /**
+     * The cycles through a single start node, found by exactly one thread.
+     */
+    private static class StartNodeCycles {
+        private final Result result;
+        private final int startNodeIndex;
+        private final List<int[]> cycles = new ArrayList<>();
+
+        StartNodeCycles(Result result, int startNodeIndex) {
+            this.result = result;
+            this.startNodeIndex = startNodeIndex;
+        }
+
+        // one cycle more than the maximum is enough to know that the maximum number of cycles has been reached
+        boolean canAcceptMoreCycles() {
+            return cycles.size() <= result.maxNumberOfCyclesToDetect && result.needsCyclesThrough(startNodeIndex);
+        }
+
+        void add(int[] cycle) {
+            if (canAcceptMoreCycles()) {
+                cycles.add(cycle);
+            }
+        }
+    }
+
+    /**
+     * Collects the cycles through all start nodes, possibly from several threads, and reports them
+     * ordered by start node. Once the start nodes up to some index are complete and have more cycles
+     * than the configured maximum, any start node above that index will not be needed anymore.
+     */
     static class Result implements Iterable<int[]> {
-        private final CycleConfiguration configuration = new CycleConfiguration();
-        private List<int[]> cycles = new ArrayList<>();
-        private boolean maxNumberOfCyclesReached = false;
+        private final int maxNumberOfCyclesToDetect;
+        private final List<List<int[]>> cyclesByStartNode;
+        private int numberOfCompleteStartNodes = 0;
+        private int numberOfCyclesOfCompleteStartNodes = 0;
+        private volatile int firstStartNodeNotNeeded = Integer.MAX_VALUE;
 
-        private Result() {
+        private Result(CycleConfiguration configuration, int numberOfNodes) {
+            maxNumberOfCyclesToDetect = configuration.getMaxNumberOfCyclesToDetect();
+            cyclesByStartNode = new ArrayList<>(Collections.<List<int[]>>nCopies(numberOfNodes, null));
             log.debug("Maximum number of cycles to detect is set to {}; "
                             + "this limit can be adapted using the `archunit.properties` value `{}=xxx`",
-                    configuration.getMaxNumberOfCyclesToDetect(), MAX_NUMBER_OF_CYCLES_TO_DETECT_PROPERTY_NAME);
+                    maxNumberOfCyclesToDetect, MAX_NUMBER_OF_CYCLES_TO_DETECT_PROPERTY_NAME);
         }
 
-        private boolean canAcceptMoreCycles() {
-            return !maxNumberOfCyclesReached;
+        private boolean needsCyclesThrough(int startNodeIndex) {
+            return startNodeIndex < firstStartNodeNotNeeded;
         }
 
-        boolean maxNumberOfCyclesReached() {
-            return maxNumberOfCyclesReached;
+        private StartNodeCycles startSearchThrough(int startNodeIndex) {
+            return new StartNodeCycles(this, startNodeIndex);
         }
 
-        void add(int[] cycle) {
-            if (maxNumberOfCyclesReached) {
-                return;
-            }
+        private void completeWithoutCycles(int startNodeIndex) {
+            complete(startNodeIndex, Collections.<int[]>emptyList());
+        }
 
-            if (this.cycles.size() >= configuration.getMaxNumberOfCyclesToDetect()) {
-                maxNumberOfCyclesReached = true;
-                return;
+        private void complete(StartNodeCycles startNodeCycles) {
+            complete(startNodeCycles.startNodeIndex, startNodeCycles.cycles);
+        }
+
+        private synchronized void complete(int startNodeIndex, List<int[]> cycles) {
+            cyclesByStartNode.set(startNodeIndex, cycles);
+            while (numberOfCompleteStartNodes < cyclesByStartNode.size() && cyclesByStartNode.get(numberOfCompleteStartNodes) != null) {
+                numberOfCyclesOfCompleteStartNodes += cyclesByStartNode.get(numberOfCompleteStartNodes).size();
+                numberOfCompleteStartNodes++;
             }
+            if (numberOfCyclesOfCompleteStartNodes > maxNumberOfCyclesToDetect && firstStartNodeNotNeeded == Integer.MAX_VALUE) {
+                firstStartNodeNotNeeded = numberOfCompleteStartNodes;
+            }
+        }
 
-            this.cycles.add(cycle);
+        boolean maxNumberOfCyclesReached() {
+            return countCycles() > maxNumberOfCyclesToDetect;
+        }
+
+        private int countCycles() {
+            int result = 0;
+            for (List<int[]> cycles : cyclesByStartNode) {
+                result += cycles != null ? cycles.size() : 0;
+            }
+            return result;
         }
 
         @Override
         public Iterator<int[]> iterator() {
-            return cycles.iterator();
+            List<int[]> result = new ArrayList<>();
+            for (List<int[]> cycles : cyclesByStartNode) {
+                if (cycles == null) {
+                    continue;
+                }
+                for (int[] cycle : cycles) {
+                    if (result.size() >= maxNumberOfCyclesToDetect) {
+                        return result.iterator();
+                    }
+                    result.add(cycle);
+                }
+            }
+            return result.iterator();
         }
     }
 }
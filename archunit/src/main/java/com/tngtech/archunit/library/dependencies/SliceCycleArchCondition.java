@@ -16,23 +16,24 @@
 package com.tngtech.archunit.library.dependencies;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.SortedSet;
+import java.util.TreeSet;
 
 import com.google.common.base.Function;
 import com.google.common.base.Joiner;
-import com.google.common.collect.ForwardingSet;
-import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Ordering;
-import com.google.common.collect.SortedSetMultimap;
 import com.tngtech.archunit.base.DescribedPredicate;
-import com.tngtech.archunit.base.Guava;
 import com.tngtech.archunit.core.domain.Dependency;
 import com.tngtech.archunit.core.domain.JavaClass;
 import com.tngtech.archunit.lang.ArchCondition;
@@ -42,7 +43,6 @@ import com.tngtech.archunit.lang.SimpleConditionEvent;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import static com.google.common.collect.MultimapBuilder.hashKeys;
 import static com.tngtech.archunit.library.dependencies.CycleConfiguration.MAX_NUMBER_OF_CYCLES_TO_DETECT_PROPERTY_NAME;
 import static com.tngtech.archunit.library.dependencies.CycleConfiguration.MAX_NUMBER_OF_DEPENDENCIES_TO_SHOW_PER_EDGE_PROPERTY_NAME;
 
@@ -50,13 +50,15 @@ class SliceCycleArchCondition extends ArchCondition<Slice> {
     private static final Logger log = LoggerFactory.getLogger(SliceCycleArchCondition.class);
 
     private final DescribedPredicate<Dependency> predicate;
-    private ClassesToSlicesMapping classesToSlicesMapping;
+    private final boolean reportStronglyConnectedComponents;
+    private SliceDependencyCounter sliceDependencyCounter;
     private Graph<Slice, Dependency> graph;
     private EventRecorder eventRecorder;
 
-    SliceCycleArchCondition(DescribedPredicate<Dependency> predicate) {
+    private SliceCycleArchCondition(DescribedPredicate<Dependency> predicate, boolean reportStronglyConnectedComponents) {
         super("be free of cycles");
         this.predicate = predicate;
+        this.reportStronglyConnectedComponents = reportStronglyConnectedComponents;
     }
 
     @Override
@@ -66,18 +68,33 @@ class SliceCycleArchCondition extends ArchCondition<Slice> {
     }
 
     private void initializeResources(Iterable<Slice> allSlices) {
-        classesToSlicesMapping = new ClassesToSlicesMapping(allSlices);
+        sliceDependencyCounter = new SliceDependencyCounter(allSlices, predicate);
         graph = new Graph<>();
-        eventRecorder = new EventRecorder();
+        eventRecorder = new EventRecorder(sliceDependencyCounter);
     }
 
     @Override
     public void check(Slice slice, ConditionEvents events) {
-        graph.addEdges(SliceDependencies.of(slice, classesToSlicesMapping, predicate));
+        graph.addEdges(sliceDependencyCounter.countDependenciesFrom(slice));
     }
 
     @Override
     public void finish(ConditionEvents events) {
+        if (reportStronglyConnectedComponents) {
+            recordStronglyConnectedComponents(events);
+        } else {
+            recordCycles(events);
+        }
+        releaseResources();
+    }
+
+    private void recordStronglyConnectedComponents(ConditionEvents events) {
+        for (Graph.StronglyConnectedComponent<Slice, Dependency> component : graph.findStronglyConnectedComponents()) {
+            eventRecorder.record(component, events);
+        }
+    }
+
+    private void recordCycles(ConditionEvents events) {
         Graph.Cycles<Slice, Dependency> cycles = graph.findCycles();
         if (cycles.maxNumberOfCyclesReached()) {
             events.setInformationAboutNumberOfViolations(String.format(
@@ -88,86 +105,143 @@ class SliceCycleArchCondition extends ArchCondition<Slice> {
         for (Cycle<Slice, Dependency> cycle : cycles) {
             eventRecorder.record(cycle, events);
         }
-        releaseResources();
     }
 
     private void releaseResources() {
-        classesToSlicesMapping = null;
+        sliceDependencyCounter = null;
         graph = null;
         eventRecorder = null;
     }
 
-    private static class ClassesToSlicesMapping {
-        private final Iterable<Slice> allSlices;
-        private Map<JavaClass, Slice> mapping;
+    static Factory factory() {
+        return new Factory(false);
+    }
+
+    static class Factory implements SliceRule.ConditionFactory {
+        private final boolean reportStronglyConnectedComponents;
 
-        private ClassesToSlicesMapping(Iterable<Slice> allSlices) {
-            this.allSlices = allSlices;
+        private Factory(boolean reportStronglyConnectedComponents) {
+            this.reportStronglyConnectedComponents = reportStronglyConnectedComponents;
         }
 
-        public Slice get(JavaClass javaClass) {
-            return mapping().get(javaClass);
+        Factory reportingStronglyConnectedComponents() {
+            return new Factory(true);
         }
 
-        private Map<JavaClass, Slice> mapping() {
-            if (mapping != null) {
-                return mapping;
-            }
-            ImmutableMap.Builder<JavaClass, Slice> result = ImmutableMap.builder();
+        @Override
+        public ArchCondition<Slice> create(Slices.Transformer transformer, DescribedPredicate<Dependency> predicate) {
+            return new SliceCycleArchCondition(predicate, reportStronglyConnectedComponents);
+        }
+    }
+
+    /**
+     * Creates the edges between slices only from the number of dependencies between them, since cycle detection only cares if an edge exists.
+     * Each slice is identified by its index and each class is mapped to the index of its slice, thus counting the dependencies of a slice
+     * only needs a single lookup per dependency. The actual dependencies of an edge are only collected and sorted, if the edge is part of
+     * a reported violation.
+     */
+    private static class SliceDependencyCounter {
+        private static final int NO_SLICE = -1;
+
+        private final DescribedPredicate<Dependency> predicate;
+        private final List<Slice> slices = new ArrayList<>();
+        private final Map<JavaClass, Integer> sliceIndexesByClass = new HashMap<>();
+        private final Map<Edge<Slice, Dependency>, Integer> numberOfDependenciesByEdge = new HashMap<>();
+        private final Map<Edge<Slice, Dependency>, List<Dependency>> dependenciesToShowByEdge = new HashMap<>();
+        private final int[] numberOfDependenciesToSlice;
+        private final int[] targetSliceIndexes;
+
+        SliceDependencyCounter(Iterable<Slice> allSlices, DescribedPredicate<Dependency> predicate) {
+            this.predicate = predicate;
             for (Slice slice : allSlices) {
                 for (JavaClass javaClass : slice) {
-                    result.put(javaClass, slice);
+                    sliceIndexesByClass.put(javaClass, slices.size());
                 }
+                slices.add(slice);
             }
-            return mapping = result.build();
+            numberOfDependenciesToSlice = new int[slices.size()];
+            targetSliceIndexes = new int[slices.size()];
         }
 
-        public boolean containsKey(JavaClass javaClass) {
-            return mapping().containsKey(javaClass);
-        }
-    }
-
-    private static class SliceDependencies extends ForwardingSet<Edge<Slice, Dependency>> {
-        private final Set<Edge<Slice, Dependency>> edges;
+        Set<Edge<Slice, Dependency>> countDependenciesFrom(Slice slice) {
+            int originSliceIndex = indexOf(slice);
+            int numberOfTargetSlices = 0;
+            for (JavaClass javaClass : slice) {
+                for (Dependency dependency : javaClass.getDirectDependenciesFromSelf()) {
+                    int targetSliceIndex = getTargetSliceIndex(originSliceIndex, dependency);
+                    if (targetSliceIndex != NO_SLICE && numberOfDependenciesToSlice[targetSliceIndex]++ == 0) {
+                        targetSliceIndexes[numberOfTargetSlices++] = targetSliceIndex;
+                    }
+                }
+            }
 
-        private SliceDependencies(Slice slice, ClassesToSlicesMapping classesToSlicesMapping, DescribedPredicate<Dependency> predicate) {
-            SortedSetMultimap<Slice, Dependency> targetSlicesWithDependencies = targetsOf(slice, classesToSlicesMapping, predicate);
-            ImmutableSet.Builder<Edge<Slice, Dependency>> edgeBuilder = ImmutableSet.builder();
-            for (Map.Entry<Slice, SortedSet<Dependency>> entry : sortedEntries(targetSlicesWithDependencies)) {
-                edgeBuilder.add(new Edge<>(slice, entry.getKey(), entry.getValue()));
+            // sorted by slice index, so the order of the edges (and thus of the cycles found) does not depend on the order of dependencies
+            Arrays.sort(targetSliceIndexes, 0, numberOfTargetSlices);
+            ImmutableSet.Builder<Edge<Slice, Dependency>> result = ImmutableSet.builder();
+            for (int i = 0; i < numberOfTargetSlices; i++) {
+                int targetSliceIndex = targetSliceIndexes[i];
+                Edge<Slice, Dependency> edge = new Edge<>(slice, slices.get(targetSliceIndex), Collections.<Dependency>emptySet());
+                numberOfDependenciesByEdge.put(edge, numberOfDependenciesToSlice[targetSliceIndex]);
+                numberOfDependenciesToSlice[targetSliceIndex] = 0;
+                result.add(edge);
             }
-            this.edges = edgeBuilder.build();
+            return result.build();
         }
 
-        private SortedSetMultimap<Slice, Dependency> targetsOf(Slice slice,
-                ClassesToSlicesMapping classesToSlicesMapping, DescribedPredicate<Dependency> predicate) {
-            SortedSetMultimap<Slice, Dependency> result = hashKeys().treeSetValues().build();
-            for (Dependency dependency : Guava.Iterables.filter(slice.getDependenciesFromSelf(), predicate)) {
-                if (classesToSlicesMapping.containsKey(dependency.getTargetClass())) {
-                    result.put(classesToSlicesMapping.get(dependency.getTargetClass()), dependency);
-                }
+        private int indexOf(Slice slice) {
+            Iterator<JavaClass> classes = slice.iterator();
+            Integer index = classes.hasNext() ? sliceIndexesByClass.get(classes.next()) : null;
+            return index != null ? index : NO_SLICE;
+        }
+
+        /**
+         * @return the index of the slice the dependency targets, or {@link #NO_SLICE} if the dependency should not be considered
+         */
+        private int getTargetSliceIndex(int originSliceIndex, Dependency dependency) {
+            Integer targetSliceIndex = sliceIndexesByClass.get(dependency.getTargetClass());
+            if (targetSliceIndex == null || targetSliceIndex == originSliceIndex || !predicate.apply(dependency)) {
+                return NO_SLICE;
             }
-            return result;
+            return targetSliceIndex;
         }
 
-        // unfortunately SortedSetMultimap has no good API to iterate over all SortedSet values :-(
-        @SuppressWarnings({"unchecked", "rawtypes"})
-        private Set<Map.Entry<Slice, SortedSet<Dependency>>> sortedEntries(SortedSetMultimap<Slice, Dependency> multimap) {
-            return (Set) multimap.asMap().entrySet();
+        int getNumberOfDependencies(Edge<Slice, Dependency> edge) {
+            return numberOfDependenciesByEdge.get(edge);
         }
 
-        @Override
-        protected Set<Edge<Slice, Dependency>> delegate() {
-            return edges;
+        /**
+         * @return the first {@code maxDependencies} dependencies of the edge in natural order
+         */
+        List<Dependency> getDependenciesToShow(Edge<Slice, Dependency> edge, int maxDependencies) {
+            List<Dependency> result = dependenciesToShowByEdge.get(edge);
+            if (result == null) {
+                result = collectDependenciesToShow(edge, maxDependencies);
+                dependenciesToShowByEdge.put(edge, result);
+            }
+            return result;
         }
 
-        static SliceDependencies of(Slice slice, ClassesToSlicesMapping classesToSlicesMapping, DescribedPredicate<Dependency> predicate) {
-            return new SliceDependencies(slice, classesToSlicesMapping, predicate);
+        private List<Dependency> collectDependenciesToShow(Edge<Slice, Dependency> edge, int maxDependencies) {
+            int originSliceIndex = indexOf(edge.getFrom());
+            int targetSliceIndex = indexOf(edge.getTo());
+            TreeSet<Dependency> result = new TreeSet<>();
+            for (JavaClass javaClass : edge.getFrom()) {
+                for (Dependency dependency : javaClass.getDirectDependenciesFromSelf()) {
+                    if (targetSliceIndex != NO_SLICE && getTargetSliceIndex(originSliceIndex, dependency) == targetSliceIndex) {
+                        result.add(dependency);
+                        if (result.size() > maxDependencies) {
+                            result.pollLast();
+                        }
+                    }
+                }
+            }
+            return ImmutableList.copyOf(result);
         }
     }
 
     private static class EventRecorder {
         private static final String MESSAGE_TEMPLATE = "Cycle detected: %s%n%s";
+        private static final String COMPONENT_MESSAGE_TEMPLATE = "Strongly connected component of %d slices detected: %s%nShortest cycle: %s%n%s";
         private static final Function<Edge<Slice, Dependency>, String> GET_FROM_NODE_DESCRIPTION = new Function<Edge<Slice, Dependency>, String>() {
             @Override
             public String apply(Edge<Slice, Dependency> input) {
@@ -176,8 +250,10 @@ class SliceCycleArchCondition extends ArchCondition<Slice> {
         };
 
         private final CycleConfiguration cycleConfiguration = new CycleConfiguration();
+        private final SliceDependencyCounter sliceDependencyCounter;
 
-        private EventRecorder() {
+        private EventRecorder(SliceDependencyCounter sliceDependencyCounter) {
+            this.sliceDependencyCounter = sliceDependencyCounter;
             log.debug("Maximum number of dependencies to report per edge is set to {}; "
                             + "this limit can be adapted using the `archunit.properties` value `{}=xxx`",
                     cycleConfiguration.getMaxNumberOfDependenciesToShowPerEdge(), MAX_NUMBER_OF_DEPENDENCIES_TO_SHOW_PER_EDGE_PROPERTY_NAME);
@@ -187,6 +263,26 @@ class SliceCycleArchCondition extends ArchCondition<Slice> {
             events.add(newEvent(cycle));
         }
 
+        void record(Graph.StronglyConnectedComponent<Slice, Dependency> component, ConditionEvents events) {
+            events.add(newEvent(component));
+        }
+
+        private ConditionEvent newEvent(Graph.StronglyConnectedComponent<Slice, Dependency> component) {
+            List<String> sliceDescriptions = new ArrayList<>();
+            for (Slice slice : component.getNodes()) {
+                sliceDescriptions.add(slice.getDescription());
+            }
+            Collections.sort(sliceDescriptions);
+            Map<String, Edge<Slice, Dependency>> descriptionsToEdges = sortEdgesByDescription(component.getShortestCycle());
+            return new SimpleConditionEvent(component,
+                    false,
+                    String.format(COMPONENT_MESSAGE_TEMPLATE,
+                            sliceDescriptions.size(),
+                            Joiner.on(", ").join(sliceDescriptions),
+                            createDescription(descriptionsToEdges.keySet()),
+                            createDetails(descriptionsToEdges)));
+        }
+
         private ConditionEvent newEvent(Cycle<Slice, Dependency> cycle) {
             Map<String, Edge<Slice, Dependency>> descriptionsToEdges = sortEdgesByDescription(cycle);
             String description = createDescription(descriptionsToEdges.keySet());
@@ -227,15 +323,14 @@ class SliceCycleArchCondition extends ArchCondition<Slice> {
         private List<String> dependenciesDescription(Edge<Slice, Dependency> edge) {
             List<String> result = new ArrayList<>();
             int maxDependencies = cycleConfiguration.getMaxNumberOfDependenciesToShowPerEdge();
-            List<Dependency> allDependencies = edge.getAttachments();
-            boolean tooManyDependenciesToDisplay = allDependencies.size() > maxDependencies;
-            List<Dependency> dependenciesToDisplay = tooManyDependenciesToDisplay ? allDependencies.subList(0, maxDependencies) : allDependencies;
+            int numberOfDependencies = sliceDependencyCounter.getNumberOfDependencies(edge);
+            List<Dependency> dependenciesToDisplay = sliceDependencyCounter.getDependenciesToShow(edge, maxDependencies);
             for (Dependency dependency : dependenciesToDisplay) {
                 result.add(dependency.getDescription());
             }
-            if (tooManyDependenciesToDisplay) {
+            if (numberOfDependencies > dependenciesToDisplay.size()) {
                 result.add(String.format("(%d further dependencies have been omitted...)",
-                        allDependencies.size() - dependenciesToDisplay.size()));
+                        numberOfDependencies - dependenciesToDisplay.size()));
             }
             return result;
         }
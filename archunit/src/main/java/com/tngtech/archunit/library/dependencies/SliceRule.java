@@ -28,9 +28,12 @@ import com.tngtech.archunit.lang.ArchCondition;
 import com.tngtech.archunit.lang.ArchRule;
 import com.tngtech.archunit.lang.ArchRule.Transformation.As;
 import com.tngtech.archunit.lang.ArchRule.Transformation.Because;
+import com.tngtech.archunit.lang.CanBeEvaluatedWithOptions;
+import com.tngtech.archunit.lang.EvaluationOptions;
 import com.tngtech.archunit.lang.EvaluationResult;
 import com.tngtech.archunit.lang.Priority;
 
+import static com.google.common.base.Preconditions.checkState;
 import static com.tngtech.archunit.PublicAPI.Usage.ACCESS;
 import static com.tngtech.archunit.base.DescribedPredicate.not;
 import static com.tngtech.archunit.core.domain.Dependency.Predicates.dependency;
@@ -38,7 +41,7 @@ import static com.tngtech.archunit.core.domain.JavaClass.Predicates.equivalentTo
 import static com.tngtech.archunit.core.domain.properties.HasName.Predicates.name;
 import static com.tngtech.archunit.lang.syntax.ArchRuleDefinition.priority;
 
-public final class SliceRule implements ArchRule {
+public final class SliceRule implements ArchRule, CanBeEvaluatedWithOptions {
     private final Slices.Transformer inputTransformer;
     private final Priority priority;
     private final List<Transformation> transformations;
@@ -76,6 +79,12 @@ public final class SliceRule implements ArchRule {
         return getArchRule().evaluate(classes);
     }
 
+    @Override
+    @PublicAPI(usage = ACCESS)
+    public EvaluationResult evaluate(JavaClasses classes, EvaluationOptions options) {
+        return options.evaluate(getArchRule(), classes);
+    }
+
     @Override
     @PublicAPI(usage = ACCESS)
     public String getDescription() {
@@ -103,6 +112,27 @@ public final class SliceRule implements ArchRule {
         return new SliceRule(inputTransformer, priority, transformations, ignoreDependency.or(dependency(origin, target)), conditionFactory);
     }
 
+    /**
+     * Reports each strongly connected component of slices, i.e. each set of slices where every slice transitively depends
+     * on every other slice, instead of all cycles between slices. Each strongly connected component is reported
+     * once, together with the shortest cycle through one of its slices as representative.
+     * <br><br>
+     * In contrast to enumerating all cycles, which might take exponential time and is thus limited by
+     * {@code cycles.maxNumberToDetect}, this only takes linear time in the number of slices and dependencies between them.
+     * Thus, this is useful to get an overview of the tangles within a large code base.
+     * <br><br>
+     * Note that this is only supported for rules created by {@link com.tngtech.archunit.library.dependencies.syntax.SlicesShould#beFreeOfCycles()}.
+     *
+     * @return A rule reporting strongly connected components of slices instead of cycles
+     */
+    @PublicAPI(usage = ACCESS)
+    public SliceRule reportingStronglyConnectedComponents() {
+        checkState(conditionFactory instanceof SliceCycleArchCondition.Factory,
+                "Only rules to check slices to be free of cycles can report strongly connected components");
+        SliceCycleArchCondition.Factory newConditionFactory = ((SliceCycleArchCondition.Factory) conditionFactory).reportingStronglyConnectedComponents();
+        return new SliceRule(inputTransformer, priority, transformations, ignoreDependency, newConditionFactory);
+    }
+
     private SliceRule copyWithTransformation(Transformation transformation) {
         List<Transformation> newTransformations =
                 ImmutableList.<Transformation>builder().addAll(transformations).add(transformation).build();
@@ -31,6 +31,7 @@ import com.tngtech.archunit.base.DescribedPredicate;
 import com.tngtech.archunit.base.Guava;
 import com.tngtech.archunit.base.Optional;
 import com.tngtech.archunit.base.PackageMatcher;
+import com.tngtech.archunit.base.PackageMatchers;
 import com.tngtech.archunit.core.domain.Dependency;
 import com.tngtech.archunit.core.domain.JavaClass;
 import com.tngtech.archunit.core.domain.JavaClasses;
@@ -323,16 +324,17 @@ public final class Slices implements DescribedIterable<Slice>, CanOverrideDescri
 
     private static class PackageMatchingSliceIdentifier implements SliceAssignment {
         private final String packageIdentifier;
+        private final PackageMatchers packageMatchers;
 
         private PackageMatchingSliceIdentifier(String packageIdentifier) {
             this.packageIdentifier = checkNotNull(packageIdentifier);
+            this.packageMatchers = PackageMatchers.of(packageIdentifier);
         }
 
         @Override
         public SliceIdentifier getIdentifierOf(JavaClass javaClass) {
-            PackageMatcher matcher = PackageMatcher.of(packageIdentifier);
-            Optional<List<String>> result = matcher.match(javaClass.getPackageName()).transform(TO_GROUPS);
-            List<String> parts = result.or(Collections.<String>emptyList());
+            PackageMatcher.Result result = packageMatchers.match(javaClass.getPackageName()).get(packageIdentifier);
+            List<String> parts = result != null ? TO_GROUPS.apply(result) : Collections.<String>emptyList();
             return parts.isEmpty() ? SliceIdentifier.ignore() : SliceIdentifier.of(parts);
         }
 
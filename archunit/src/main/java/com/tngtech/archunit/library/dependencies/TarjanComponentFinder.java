@@ -69,6 +69,24 @@ class TarjanComponentFinder {
         return nextComponent;
     }
 
+    /**
+     * Returns all strongly connected components of the graph with more than one node, visiting each node and edge only once.<br>
+     * Each returned array of node indexes is sorted in ascending order, and the components are sorted by their lowest node index.
+     */
+    List<int[]> findAllNonTrivialStronglyConnectedComponents() {
+        List<int[]> result = new ArrayList<>();
+        for (int j = 0; j < graph.getSize(); j++) {
+            if (graph.isVisitationIndexUnset(j)) {
+                result.addAll(findNonTrivialStronglyConnectedComponents(j, 0));
+            }
+        }
+        reset();
+        for (int[] component : result) {
+            sort(component);
+        }
+        return Ordering.natural().onResultOf(MINIMUM_OF_INT_ARRAY).sortedCopy(result);
+    }
+
     private int[] findNonTrivialLowestStronglyConnectedComponentInSubGraphInducedByLowerBound(int lowerIndexBound) {
         for (int j = lowerIndexBound; j < graph.getSize(); j++) {
             if (graph.isVisitationIndexUnset(j)) {
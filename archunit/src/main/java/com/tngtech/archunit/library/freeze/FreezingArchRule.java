@@ -21,11 +21,15 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Set;
 
+import com.google.common.collect.LinkedListMultimap;
+import com.google.common.collect.ListMultimap;
 import com.tngtech.archunit.ArchConfiguration;
 import com.tngtech.archunit.PublicAPI;
 import com.tngtech.archunit.base.Predicate;
 import com.tngtech.archunit.core.domain.JavaClasses;
 import com.tngtech.archunit.lang.ArchRule;
+import com.tngtech.archunit.lang.CanBeEvaluatedWithOptions;
+import com.tngtech.archunit.lang.EvaluationOptions;
 import com.tngtech.archunit.lang.EvaluationResult;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -65,11 +69,13 @@ import static com.tngtech.archunit.library.freeze.ViolationStoreFactory.FREEZE_S
  *   Again either programmatically via {@link #associateViolationLinesVia(ViolationLineMatcher)}, or within
  *   {@value com.tngtech.archunit.ArchConfiguration#ARCHUNIT_PROPERTIES_RESOURCE_NAME}, e.g.
  *   <pre><code>freeze.lineMatcher=com.fully.qualified.MyViolationLineMatcher</code></pre>
+ *   For large numbers of stored violations, a custom implementation should implement {@link NormalizingViolationLineMatcher},
+ *   if possible, so stored violations can be looked up instead of being compared one by one.
  * </li>
  * </ul>
  */
 @PublicAPI(usage = ACCESS)
-public final class FreezingArchRule implements ArchRule {
+public final class FreezingArchRule implements ArchRule, CanBeEvaluatedWithOptions {
     private static final Logger log = LoggerFactory.getLogger(FreezingArchRule.class);
 
     private final ArchRule delegate;
@@ -105,7 +111,7 @@ public final class FreezingArchRule implements ArchRule {
     public EvaluationResult evaluate(JavaClasses classes) {
         store.initialize(ArchConfiguration.get().getSubProperties(FREEZE_STORE_PROPERTY_NAME));
 
-        EvaluationResult result = delegate.evaluate(classes);
+        EvaluationResult result = EvaluationOptions.complete().retainingAllViolations().evaluate(delegate, classes);
         if (!store.contains(delegate)) {
             return storeViolationsAndReturnSuccess(result);
         } else {
@@ -113,10 +119,31 @@ public final class FreezingArchRule implements ArchRule {
         }
     }
 
+    /**
+     * Evaluates the rule completely and retains all violations, no matter the passed {@link EvaluationOptions}
+     * or the configured maximum of retained violations, since all violations are needed to decide which stored
+     * violations are obsolete.
+     */
+    @Override
+    @PublicAPI(usage = ACCESS)
+    public EvaluationResult evaluate(JavaClasses classes, EvaluationOptions options) {
+        return evaluate(classes);
+    }
+
     private EvaluationResult storeViolationsAndReturnSuccess(EvaluationResult result) {
         log.debug("No results present for rule '{}'. Freezing rule result...", delegate.getDescription());
         store.save(delegate, result.getFailureReport().getDetails());
-        return new EvaluationResult(delegate, result.getPriority());
+        return withoutViolations(result);
+    }
+
+    // all violations are known now, and in contrast to a new result, a filtered result keeps the statistics of the evaluation
+    private EvaluationResult withoutViolations(EvaluationResult result) {
+        return result.filterDescriptionsMatching(new Predicate<String>() {
+            @Override
+            public boolean apply(String violation) {
+                return false;
+            }
+        });
     }
 
     private EvaluationResult removeObsoleteViolationsFromStoreAndReturnNewViolations(EvaluationResult result) {
@@ -202,6 +229,16 @@ public final class FreezingArchRule implements ArchRule {
         private final List<String> storedUnsolvedViolations = new ArrayList<>();
 
         CategorizedViolations(ViolationLineMatcher matcher, EvaluationResult actualResult, List<String> storedViolations) {
+            if (matcher instanceof NormalizingViolationLineMatcher) {
+                categorizeByNormalizedViolations((NormalizingViolationLineMatcher) matcher, actualResult, storedViolations);
+            } else {
+                categorizeByComparingAllViolations(matcher, actualResult, storedViolations);
+            }
+            storedSolvedViolations = new ArrayList<>(storedViolations);
+            storedSolvedViolations.removeAll(new HashSet<>(storedUnsolvedViolations));
+        }
+
+        private void categorizeByComparingAllViolations(ViolationLineMatcher matcher, EvaluationResult actualResult, List<String> storedViolations) {
             List<String> storedViolationsLeft = new ArrayList<>(storedViolations);
             for (String actualViolation : actualResult.getFailureReport().getDetails()) {
                 for (Iterator<String> iterator = storedViolationsLeft.iterator(); iterator.hasNext(); ) {
@@ -214,8 +251,27 @@ public final class FreezingArchRule implements ArchRule {
                     }
                 }
             }
-            storedSolvedViolations = new ArrayList<>(storedViolations);
-            storedSolvedViolations.removeAll(storedUnsolvedViolations);
+        }
+
+        // Equivalent to comparing all violations, since stored violations keep their order within their bucket,
+        // i.e. each actual violation is still associated with the first equivalent stored violation left
+        private void categorizeByNormalizedViolations(
+                NormalizingViolationLineMatcher matcher, EvaluationResult actualResult, List<String> storedViolations) {
+
+            ListMultimap<String, String> storedViolationsLeftByNormalizedViolation = LinkedListMultimap.create();
+            for (String storedViolation : storedViolations) {
+                storedViolationsLeftByNormalizedViolation.put(matcher.normalize(storedViolation), storedViolation);
+            }
+            for (String actualViolation : actualResult.getFailureReport().getDetails()) {
+                Iterator<String> equivalentStoredViolations =
+                        storedViolationsLeftByNormalizedViolation.get(matcher.normalize(actualViolation)).iterator();
+                if (equivalentStoredViolations.hasNext()) {
+                    String storedViolation = equivalentStoredViolations.next();
+                    equivalentStoredViolations.remove();
+                    knownActualViolations.add(actualViolation);
+                    storedUnsolvedViolations.add(storedViolation);
+                }
+            }
         }
 
         Set<String> getKnownActualViolations() {
@@ -0,0 +1,38 @@
+/*
+ * Copyright 2014-2021 TNG Technology Consulting GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tngtech.archunit.library.freeze;
+
+import com.tngtech.archunit.PublicAPI;
+
+import static com.tngtech.archunit.PublicAPI.Usage.INHERITANCE;
+
+/**
+ * A {@link ViolationLineMatcher} that considers two lines equivalent, if and only if they are equal after some normalization,
+ * e.g. after removing line numbers. This allows {@link FreezingArchRule} to look up stored violations by their normalized
+ * lines, instead of comparing each occurring violation with each stored violation, which makes a big difference
+ * for large numbers of stored violations.
+ */
+@PublicAPI(usage = INHERITANCE)
+public interface NormalizingViolationLineMatcher extends ViolationLineMatcher {
+
+    /**
+     * Must be consistent with {@link #matches(String, String)}, i.e. two lines must match, if and only if their normalized forms are equal.
+     *
+     * @param violationLine A line from the description of a violation
+     * @return The normalized line, equal to the normalized form of all equivalent lines
+     */
+    String normalize(String violationLine);
+}
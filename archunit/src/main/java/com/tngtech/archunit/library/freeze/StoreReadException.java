@@ -16,6 +16,10 @@
 package com.tngtech.archunit.library.freeze;
 
 class StoreReadException extends RuntimeException {
+    StoreReadException(String message) {
+        super(message);
+    }
+
     StoreReadException(Throwable cause) {
         super(cause);
     }
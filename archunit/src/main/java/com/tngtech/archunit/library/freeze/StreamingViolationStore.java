@@ -0,0 +1,391 @@
+/*
+ * Copyright 2014-2021 TNG Technology Consulting GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tngtech.archunit.library.freeze;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.UUID;
+
+import com.google.common.collect.Ordering;
+import com.tngtech.archunit.PublicAPI;
+import com.tngtech.archunit.lang.ArchRule;
+import com.tngtech.archunit.library.freeze.ViolationStoreFactory.FileSyncedProperties;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkState;
+import static com.tngtech.archunit.PublicAPI.Usage.ACCESS;
+import static com.tngtech.archunit.library.freeze.ViolationStoreFactory.FREEZE_STORE_PROPERTY_NAME;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+
+/**
+ * A {@link ViolationStore} for large numbers of violations. Like the default {@link ViolationStore} it stores the violations
+ * of each rule within a file of a configured folder, but reads and writes these files line by line, instead of
+ * processing the whole content at once. Each file is written to a temporary file first and then moved to its final location,
+ * so a failed update never leaves a partially written file behind. Files of rules whose violations did not change are not rewritten.<br>
+ * By default the files have the same format as the files of the default {@link ViolationStore}, i.e. both are interchangeable.
+ * Optionally violations can be stored in a compact format, where violations are sorted, equal violations are only stored once
+ * together with their count, and each violation only stores the suffix that differs from the preceding one.
+ * Files of both formats can always be read, no matter the configured format.
+ * <br><br>
+ * The store can be configured within {@value com.tngtech.archunit.ArchConfiguration#ARCHUNIT_PROPERTIES_RESOURCE_NAME}, e.g.
+ * <pre><code>
+ * freeze.store=com.tngtech.archunit.library.freeze.StreamingViolationStore
+ * freeze.store.streaming.path=archunit_store             # the folder to store violations in
+ * freeze.store.streaming.allowStoreCreation=false        # whether a missing store may be created
+ * freeze.store.streaming.allowStoreUpdate=true           # whether stored violations may be updated
+ * freeze.store.streaming.compact=false                   # whether to write the compact format
+ * </code></pre>
+ */
+@PublicAPI(usage = ACCESS)
+public final class StreamingViolationStore implements ViolationStore {
+    private static final Logger log = LoggerFactory.getLogger(StreamingViolationStore.class);
+
+    private static final String STORE_PATH_PROPERTY_NAME = "streaming.path";
+    private static final String STORE_PATH_DEFAULT = "archunit_store";
+    private static final String STORED_RULES_FILE_NAME = "stored.rules";
+    private static final String ALLOW_STORE_CREATION_PROPERTY_NAME = "streaming.allowStoreCreation";
+    private static final String ALLOW_STORE_CREATION_DEFAULT = "false";
+    private static final String ALLOW_STORE_UPDATE_PROPERTY_NAME = "streaming.allowStoreUpdate";
+    private static final String ALLOW_STORE_UPDATE_DEFAULT = "true";
+    private static final String COMPACT_FORMAT_PROPERTY_NAME = "streaming.compact";
+    private static final String COMPACT_FORMAT_DEFAULT = "false";
+    private static final String COMPACT_FORMAT_HEADER = "#compact-violations:1";
+
+    private boolean storeCreationAllowed;
+    private boolean storeUpdateAllowed;
+    private boolean compactFormat;
+    private File storeFolder;
+    private FileSyncedProperties storedRules;
+
+    @PublicAPI(usage = ACCESS)
+    public StreamingViolationStore() {
+    }
+
+    @Override
+    public void initialize(Properties properties) {
+        storeCreationAllowed = Boolean.parseBoolean(properties.getProperty(ALLOW_STORE_CREATION_PROPERTY_NAME, ALLOW_STORE_CREATION_DEFAULT));
+        storeUpdateAllowed = Boolean.parseBoolean(properties.getProperty(ALLOW_STORE_UPDATE_PROPERTY_NAME, ALLOW_STORE_UPDATE_DEFAULT));
+        compactFormat = Boolean.parseBoolean(properties.getProperty(COMPACT_FORMAT_PROPERTY_NAME, COMPACT_FORMAT_DEFAULT));
+        storeFolder = new File(properties.getProperty(STORE_PATH_PROPERTY_NAME, STORE_PATH_DEFAULT));
+        checkState(storeFolder.exists() && storeFolder.isDirectory() || storeFolder.mkdirs(),
+                "Cannot create folder %s", storeFolder.getAbsolutePath());
+        File storedRulesFile = getStoredRulesFile();
+        log.info("Initializing {} at {}", StreamingViolationStore.class.getSimpleName(), storedRulesFile.getAbsolutePath());
+        storedRules = new FileSyncedProperties(storedRulesFile);
+        if (!storedRules.initializationSuccessful()) {
+            throw new StoreInitializationFailedException(String.format("Cannot create rule store at %s", storedRulesFile.getAbsolutePath()));
+        }
+    }
+
+    private File getStoredRulesFile() {
+        File rulesFile = new File(storeFolder, STORED_RULES_FILE_NAME);
+        if (!rulesFile.exists() && !storeCreationAllowed) {
+            throw new StoreInitializationFailedException(String.format(
+                    "Creating new violation store is disabled (enable by configuration %s.%s=true)",
+                    FREEZE_STORE_PROPERTY_NAME, ALLOW_STORE_CREATION_PROPERTY_NAME));
+        }
+        return rulesFile;
+    }
+
+    @Override
+    public boolean contains(ArchRule rule) {
+        return storedRules.containsKey(rule.getDescription());
+    }
+
+    @Override
+    public void save(ArchRule rule, List<String> violations) {
+        log.debug("Storing evaluated rule '{}' with {} violations", rule.getDescription(), violations.size());
+        if (!storeUpdateAllowed) {
+            throw new StoreUpdateFailedException(String.format(
+                    "Updating frozen violations is disabled (enable by configuration %s.%s=true)",
+                    FREEZE_STORE_PROPERTY_NAME, ALLOW_STORE_UPDATE_PROPERTY_NAME));
+        }
+        String ruleFileName = storedRules.containsKey(rule.getDescription())
+                ? storedRules.getProperty(rule.getDescription())
+                : UUID.randomUUID().toString();
+        File ruleFile = new File(storeFolder, ruleFileName);
+        if (isStoredIn(ruleFile, violations)) {
+            log.debug("Stored violations of rule '{}' are unchanged, skipping update", rule.getDescription());
+        } else {
+            writeAtomically(violations, ruleFile);
+        }
+        if (!storedRules.containsKey(rule.getDescription())) {
+            log.debug("Assigning new ID {} to rule '{}'", ruleFileName, rule.getDescription());
+            storedRules.setProperty(rule.getDescription(), ruleFileName);
+        }
+    }
+
+    // An update always rewrites the whole file, thus it is worth to compare the stored violations first.
+    // Reading is cheaper than writing and keeps unchanged files untouched, e.g. for version control.
+    private boolean isStoredIn(File ruleFile, List<String> violations) {
+        if (!ruleFile.exists()) {
+            return false;
+        }
+        try (LineReader reader = new LineReader(ruleFile)) {
+            String firstLine = reader.readLine();
+            boolean storedCompact = COMPACT_FORMAT_HEADER.equals(firstLine);
+            if (storedCompact != compactFormat) {
+                return false;
+            }
+            if (firstLine == null) {
+                return violations.isEmpty();
+            }
+            return storedCompact
+                    ? readCompact(reader).equals(Ordering.natural().sortedCopy(violations))
+                    : readPlain(firstLine, reader).equals(violations);
+        } catch (IOException | StoreReadException e) {
+            log.debug("Cannot read stored violations from {}, rewriting file", ruleFile.getAbsolutePath(), e);
+            return false;
+        }
+    }
+
+    private void writeAtomically(List<String> violations, File ruleFile) {
+        File temporaryFile = createTemporaryFileFor(ruleFile);
+        try {
+            try (Writer writer = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(temporaryFile), UTF_8))) {
+                if (compactFormat) {
+                    writeCompact(violations, writer);
+                } else {
+                    writePlain(violations, writer);
+                }
+            }
+            move(temporaryFile, ruleFile);
+        } catch (IOException e) {
+            throw new StoreUpdateFailedException(e);
+        } finally {
+            // only still present, if writing or moving has failed
+            if (temporaryFile.exists() && !temporaryFile.delete()) {
+                log.warn("Could not delete temporary file {}", temporaryFile.getAbsolutePath());
+            }
+        }
+    }
+
+    private File createTemporaryFileFor(File ruleFile) {
+        try {
+            return File.createTempFile(ruleFile.getName(), ".tmp", storeFolder);
+        } catch (IOException e) {
+            throw new StoreUpdateFailedException(e);
+        }
+    }
+
+    private void move(File source, File target) throws IOException {
+        try {
+            Files.move(source.toPath(), target.toPath(), REPLACE_EXISTING, ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source.toPath(), target.toPath(), REPLACE_EXISTING);
+        }
+    }
+
+    // Same format as the default ViolationStore, i.e. one violation per line with line breaks escaped by a backslash
+    private void writePlain(List<String> violations, Writer writer) throws IOException {
+        for (String violation : violations) {
+            writer.write(violation.replace("\n", "\\\n"));
+            writer.write('\n');
+        }
+    }
+
+    // After the header, each line contains the length of the prefix shared with the preceding violation, the number of occurrences
+    // and the escaped remaining suffix of the violation, e.g. '12 1 suffix'
+    private void writeCompact(List<String> violations, Writer writer) throws IOException {
+        SortedMap<String, Integer> counts = new TreeMap<>();
+        for (String violation : violations) {
+            Integer count = counts.get(violation);
+            counts.put(violation, count == null ? 1 : count + 1);
+        }
+
+        writer.write(COMPACT_FORMAT_HEADER);
+        writer.write('\n');
+        String previous = "";
+        for (Map.Entry<String, Integer> entry : counts.entrySet()) {
+            String violation = entry.getKey();
+            int prefixLength = sharedPrefixLength(previous, violation);
+            writer.write(String.valueOf(prefixLength));
+            writer.write(' ');
+            writer.write(String.valueOf(entry.getValue()));
+            writer.write(' ');
+            writer.write(escapeCompact(violation.substring(prefixLength)));
+            writer.write('\n');
+            previous = violation;
+        }
+    }
+
+    private static int sharedPrefixLength(String first, String second) {
+        int maxLength = Math.min(first.length(), second.length());
+        int result = 0;
+        while (result < maxLength && first.charAt(result) == second.charAt(result)) {
+            result++;
+        }
+        // do not split surrogate pairs, since the suffix is written as separate string
+        if (result > 0 && Character.isHighSurrogate(first.charAt(result - 1))) {
+            result--;
+        }
+        return result;
+    }
+
+    private static String escapeCompact(String string) {
+        return string.replace("\\", "\\\\").replace("\n", "\\n").replace("\r", "\\r");
+    }
+
+    private static String unescapeCompact(String string) {
+        StringBuilder result = new StringBuilder(string.length());
+        for (int i = 0; i < string.length(); i++) {
+            char current = string.charAt(i);
+            if (current == '\\' && i + 1 < string.length()) {
+                char escaped = string.charAt(++i);
+                result.append(escaped == 'n' ? '\n' : escaped == 'r' ? '\r' : escaped);
+            } else {
+                result.append(current);
+            }
+        }
+        return result.toString();
+    }
+
+    @Override
+    public List<String> getViolations(ArchRule rule) {
+        String ruleFileName = storedRules.getProperty(rule.getDescription());
+        checkArgument(ruleFileName != null, "No rule stored with description '%s'", rule.getDescription());
+        try (LineReader reader = new LineReader(new File(storeFolder, ruleFileName))) {
+            List<String> result = readViolations(reader);
+            log.debug("Retrieved stored rule '{}' with {} violations", rule.getDescription(), result.size());
+            return result;
+        } catch (IOException e) {
+            throw new StoreReadException(e);
+        }
+    }
+
+    private List<String> readViolations(LineReader reader) throws IOException {
+        String firstLine = reader.readLine();
+        if (firstLine == null) {
+            return new ArrayList<>();
+        }
+        return COMPACT_FORMAT_HEADER.equals(firstLine)
+                ? readCompact(reader)
+                : readPlain(firstLine, reader);
+    }
+
+    private List<String> readPlain(String firstLine, LineReader reader) throws IOException {
+        List<String> result = new ArrayList<>();
+        StringBuilder violation = new StringBuilder();
+        for (String line = firstLine; line != null; line = reader.readLine()) {
+            if (line.endsWith("\\")) {
+                violation.append(line, 0, line.length() - 1).append('\n');
+                continue;
+            }
+            violation.append(line);
+            if (violation.length() > 0) {
+                result.add(violation.toString());
+            }
+            violation.setLength(0);
+        }
+        return result;
+    }
+
+    private List<String> readCompact(LineReader reader) throws IOException {
+        List<String> result = new ArrayList<>();
+        String previous = "";
+        for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+            if (line.isEmpty()) {
+                continue;
+            }
+            int endOfPrefixLength = line.indexOf(' ');
+            int endOfCount = line.indexOf(' ', endOfPrefixLength + 1);
+            if (endOfPrefixLength < 0 || endOfCount < 0) {
+                throw new StoreReadException(String.format("Invalid line of compact violation file: '%s'", line));
+            }
+            int prefixLength = Integer.parseInt(line.substring(0, endOfPrefixLength));
+            int count = Integer.parseInt(line.substring(endOfPrefixLength + 1, endOfCount));
+            String violation = previous.substring(0, prefixLength) + unescapeCompact(line.substring(endOfCount + 1));
+            for (int i = 0; i < count; i++) {
+                result.add(violation);
+            }
+            previous = violation;
+        }
+        return result;
+    }
+
+    // Only '\n' separates lines, a '\r' preceding it is dropped. In contrast to BufferedReader.readLine()
+    // a single '\r' is thus kept, which might be part of a violation with escaped line breaks.
+    // The characters are read block wise into a buffer, which is then scanned for line breaks.
+    private static class LineReader implements AutoCloseable {
+        private static final int BUFFER_SIZE = 8192;
+
+        private final Reader reader;
+        private final char[] buffer = new char[BUFFER_SIZE];
+        private int position = 0;
+        private int limit = 0;
+
+        LineReader(File file) throws IOException {
+            reader = new InputStreamReader(new FileInputStream(file), UTF_8);
+        }
+
+        String readLine() throws IOException {
+            StringBuilder line = null;
+            while (position < limit || fillBuffer()) {
+                int start = position;
+                while (position < limit && buffer[position] != '\n') {
+                    position++;
+                }
+                if (position < limit) {
+                    int end = position++;
+                    return line == null
+                            ? withoutTrailingCarriageReturn(new String(buffer, start, end - start))
+                            : withoutTrailingCarriageReturn(line.append(buffer, start, end - start).toString());
+                }
+                line = line == null ? new StringBuilder() : line;
+                line.append(buffer, start, position - start);
+            }
+            return line == null ? null : withoutTrailingCarriageReturn(line.toString());
+        }
+
+        private boolean fillBuffer() throws IOException {
+            int read;
+            do {
+                read = reader.read(buffer, 0, buffer.length);
+            } while (read == 0);
+            position = 0;
+            limit = Math.max(read, 0);
+            return read > 0;
+        }
+
+        private static String withoutTrailingCarriageReturn(String line) {
+            return line.endsWith("\r") ? line.substring(0, line.length() - 1) : line;
+        }
+
+        @Override
+        public void close() throws IOException {
+            reader.close();
+        }
+    }
+}
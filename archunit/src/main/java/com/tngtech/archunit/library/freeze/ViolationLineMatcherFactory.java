@@ -46,7 +46,7 @@ class ViolationLineMatcherFactory {
      * ignores numbers that are potentially line numbers (digits following a ':' and preceding a ')')
      * or compiler-generated numbers of anonymous classes or lambda expressions (digits following a '$').
      */
-    private static class FuzzyViolationLineMatcher implements ViolationLineMatcher {
+    private static class FuzzyViolationLineMatcher implements NormalizingViolationLineMatcher {
         @Override
         public boolean matches(String str1, String str2) {
             // Compare relevant substrings, in a more performant way than a regex solution like this:
@@ -64,6 +64,18 @@ class ViolationLineMatcherFactory {
             return !relevantPart1.hasNext() && !relevantPart2.hasNext();
         }
 
+        // Each relevant part but the last ends with the first ':' or '$' within the part,
+        // so two sequences of relevant parts are equal, if and only if their concatenations are equal
+        @Override
+        public String normalize(String str) {
+            StringBuilder result = new StringBuilder(str.length());
+            RelevantPartIterator relevantParts = new RelevantPartIterator(str);
+            while (relevantParts.hasNext()) {
+                result.append(relevantParts.next());
+            }
+            return result.toString();
+        }
+
         static class RelevantPartIterator {
             private final String str;
             private final int length;
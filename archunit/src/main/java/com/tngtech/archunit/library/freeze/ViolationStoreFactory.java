@@ -199,59 +199,59 @@ class ViolationStoreFactory {
         private String ensureUnixLineBreaks(String string) {
             return string.replaceAll("\r\n", "\n");
         }
+    }
 
-        private static class FileSyncedProperties {
-            private final File propertiesFile;
-            private final Properties loadedProperties;
+    static class FileSyncedProperties {
+        private final File propertiesFile;
+        private final Properties loadedProperties;
 
-            FileSyncedProperties(File file) {
-                propertiesFile = initializePropertiesFile(file);
-                loadedProperties = initializationSuccessful() ? loadRulesFrom(propertiesFile) : null;
-            }
+        FileSyncedProperties(File file) {
+            propertiesFile = initializePropertiesFile(file);
+            loadedProperties = initializationSuccessful() ? loadRulesFrom(propertiesFile) : null;
+        }
 
-            boolean initializationSuccessful() {
-                return propertiesFile != null;
-            }
+        boolean initializationSuccessful() {
+            return propertiesFile != null;
+        }
 
-            private File initializePropertiesFile(File file) {
-                boolean fileAvailable;
-                try {
-                    fileAvailable = file.exists() || file.createNewFile();
-                } catch (IOException e) {
-                    fileAvailable = false;
-                }
-                return fileAvailable ? file : null;
+        private File initializePropertiesFile(File file) {
+            boolean fileAvailable;
+            try {
+                fileAvailable = file.exists() || file.createNewFile();
+            } catch (IOException e) {
+                fileAvailable = false;
             }
+            return fileAvailable ? file : null;
+        }
 
-            private Properties loadRulesFrom(File file) {
-                Properties result = new Properties();
-                try (FileInputStream inputStream = new FileInputStream(file)) {
-                    result.load(inputStream);
-                } catch (IOException e) {
-                    throw new StoreInitializationFailedException(e);
-                }
-                return result;
+        private Properties loadRulesFrom(File file) {
+            Properties result = new Properties();
+            try (FileInputStream inputStream = new FileInputStream(file)) {
+                result.load(inputStream);
+            } catch (IOException e) {
+                throw new StoreInitializationFailedException(e);
             }
+            return result;
+        }
 
-            boolean containsKey(String propertyName) {
-                return loadedProperties.containsKey(propertyName);
-            }
+        boolean containsKey(String propertyName) {
+            return loadedProperties.containsKey(propertyName);
+        }
 
-            String getProperty(String propertyName) {
-                return loadedProperties.getProperty(propertyName);
-            }
+        String getProperty(String propertyName) {
+            return loadedProperties.getProperty(propertyName);
+        }
 
-            void setProperty(String propertyName, String value) {
-                loadedProperties.setProperty(propertyName, value);
-                syncFileSystem();
-            }
+        void setProperty(String propertyName, String value) {
+            loadedProperties.setProperty(propertyName, value);
+            syncFileSystem();
+        }
 
-            private void syncFileSystem() {
-                try (FileOutputStream outputStream = new FileOutputStream(propertiesFile)) {
-                    loadedProperties.store(outputStream, "");
-                } catch (IOException e) {
-                    throw new StoreUpdateFailedException(e);
-                }
+        private void syncFileSystem() {
+            try (FileOutputStream outputStream = new FileOutputStream(propertiesFile)) {
+                loadedProperties.store(outputStream, "");
+            } catch (IOException e) {
+                throw new StoreUpdateFailedException(e);
             }
         }
     }
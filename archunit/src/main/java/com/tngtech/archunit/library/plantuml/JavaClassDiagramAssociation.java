@@ -16,26 +16,34 @@
 package com.tngtech.archunit.library.plantuml;
 
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
 import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
 
 import com.google.common.base.Joiner;
+import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
-import com.tngtech.archunit.base.PackageMatcher;
+import com.tngtech.archunit.base.PackageMatchers;
 import com.tngtech.archunit.core.domain.JavaClass;
 
 import static com.google.common.collect.Iterables.getOnlyElement;
 
 class JavaClassDiagramAssociation {
-    private final Set<AssociatedComponent> components;
+    private final Map<String, PlantUmlComponent> componentsByStereotype;
+    private final PackageMatchers stereotypes;
+    private final Map<String, Set<PlantUmlComponent>> componentsByPackage = new ConcurrentHashMap<>();
 
     JavaClassDiagramAssociation(PlantUmlDiagram diagram) {
-        ImmutableSet.Builder<AssociatedComponent> components = ImmutableSet.builder();
         validateStereotypes(diagram);
+        ImmutableMap.Builder<String, PlantUmlComponent> componentsByStereotype = ImmutableMap.builder();
         for (PlantUmlComponent component : diagram.getAllComponents()) {
-            components.add(new AssociatedComponent(component));
+            for (Stereotype stereotype : component.getStereotypes()) {
+                componentsByStereotype.put(stereotype.asString(), component);
+            }
         }
-        this.components = components.build();
+        this.componentsByStereotype = componentsByStereotype.build();
+        this.stereotypes = PackageMatchers.of(this.componentsByStereotype.keySet());
     }
 
     private void validateStereotypes(PlantUmlDiagram plantUmlDiagram) {
@@ -50,26 +58,6 @@ class JavaClassDiagramAssociation {
         }
     }
 
-    Set<String> getTargetPackageIdentifiers(final JavaClass javaClass) {
-        ImmutableSet.Builder<String> result = ImmutableSet.builder();
-        for (PlantUmlComponent target : getComponentOf(javaClass).getDependencies()) {
-            result.addAll(getPackageIdentifiersFromComponentOf(target));
-        }
-        return result.build();
-    }
-
-    Set<String> getPackageIdentifiersFromComponentOf(JavaClass javaClass) {
-        return getPackageIdentifiersFromComponentOf(getComponentOf(javaClass));
-    }
-
-    private Set<String> getPackageIdentifiersFromComponentOf(PlantUmlComponent component) {
-        ImmutableSet.Builder<String> result = ImmutableSet.builder();
-        for (Stereotype stereotype : component.getStereotypes()) {
-            result.add(stereotype.asString());
-        }
-        return result.build();
-    }
-
     private PlantUmlComponent getComponentOf(final JavaClass javaClass) {
         Set<PlantUmlComponent> associatedComponents = getAssociatedComponents(javaClass);
 
@@ -89,12 +77,39 @@ class JavaClassDiagramAssociation {
         return !getAssociatedComponents(javaClass).isEmpty();
     }
 
+    /**
+     * @return The component of the given class together with all components this component may depend on
+     */
+    Set<PlantUmlComponent> getAllowedComponentsOf(JavaClass javaClass) {
+        PlantUmlComponent component = getComponentOf(javaClass);
+        return ImmutableSet.<PlantUmlComponent>builder().add(component).addAll(component.getDependencies()).build();
+    }
+
+    boolean isContainedInAnyOf(JavaClass javaClass, Set<PlantUmlComponent> components) {
+        for (PlantUmlComponent component : getAssociatedComponents(javaClass)) {
+            if (components.contains(component)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // The components only depend on the package of a class, and all the stereotypes of the diagram
+    // are matched at once, so each package is only matched a single time, no matter how many classes it contains
     private Set<PlantUmlComponent> getAssociatedComponents(JavaClass javaClass) {
+        String packageName = javaClass.getPackageName();
+        Set<PlantUmlComponent> result = componentsByPackage.get(packageName);
+        if (result == null) {
+            result = findAssociatedComponents(packageName);
+            componentsByPackage.put(packageName, result);
+        }
+        return result;
+    }
+
+    private Set<PlantUmlComponent> findAssociatedComponents(String packageName) {
         ImmutableSet.Builder<PlantUmlComponent> result = ImmutableSet.builder();
-        for (AssociatedComponent component : components) {
-            if (component.contains(javaClass)) {
-                result.add(component.asPlantUmlComponent());
-            }
+        for (String stereotype : stereotypes.match(packageName).keySet()) {
+            result.add(componentsByStereotype.get(stereotype));
         }
         return result.build();
     }
@@ -106,31 +121,4 @@ class JavaClassDiagramAssociation {
         }
         return associatedComponentNames;
     }
-
-    private static class AssociatedComponent {
-        private final PlantUmlComponent component;
-        private final Set<PackageMatcher> packageMatchers;
-
-        private AssociatedComponent(PlantUmlComponent component) {
-            this.component = component;
-            ImmutableSet.Builder<PackageMatcher> packageMatchers = ImmutableSet.builder();
-            for (Stereotype stereotype : component.getStereotypes()) {
-                packageMatchers.add(PackageMatcher.of(stereotype.asString()));
-            }
-            this.packageMatchers = packageMatchers.build();
-        }
-
-        private boolean contains(JavaClass javaClass) {
-            for (PackageMatcher packageMatcher : packageMatchers) {
-                if (packageMatcher.matches(javaClass.getPackageName())) {
-                    return true;
-                }
-            }
-            return false;
-        }
-
-        PlantUmlComponent asPlantUmlComponent() {
-            return component;
-        }
-    }
-}
\ No newline at end of file
+}
@@ -20,7 +20,9 @@ import java.net.MalformedURLException;
 import java.net.URL;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 
 import com.google.common.base.Joiner;
 import com.google.common.collect.FluentIterable;
@@ -37,8 +39,9 @@ import static com.tngtech.archunit.PublicAPI.Usage.ACCESS;
 import static com.tngtech.archunit.base.Guava.toGuava;
 import static com.tngtech.archunit.core.domain.Dependency.Functions.GET_ORIGIN_CLASS;
 import static com.tngtech.archunit.core.domain.Dependency.Functions.GET_TARGET_CLASS;
+import static com.tngtech.archunit.core.domain.Dependency.Predicates.dependencyTarget;
 import static com.tngtech.archunit.core.domain.properties.HasName.Predicates.name;
-import static com.tngtech.archunit.lang.conditions.ArchConditions.onlyHaveDependenciesInAnyPackage;
+import static com.tngtech.archunit.lang.conditions.ArchConditions.onlyHaveDependenciesWhere;
 import static java.util.Collections.singleton;
 
 /**
@@ -136,17 +139,27 @@ public class PlantUmlArchCondition extends ArchCondition<JavaClass> {
             return;
         }
 
-        String[] allAllowedTargets = FluentIterable
-                .from(javaClassDiagramAssociation.getPackageIdentifiersFromComponentOf(item))
-                .append(javaClassDiagramAssociation.getTargetPackageIdentifiers(item))
-                .toArray(String.class);
+        Set<PlantUmlComponent> allowedTargets = javaClassDiagramAssociation.getAllowedComponentsOf(item);
 
-        ArchCondition<JavaClass> delegate = onlyHaveDependenciesInAnyPackage(allAllowedTargets)
+        ArchCondition<JavaClass> delegate = onlyHaveDependenciesWhere(dependencyTarget(containedInAnyOf(allowedTargets)))
                 .ignoreDependency(ignorePredicate);
 
         delegate.check(item, events);
     }
 
+    private DescribedPredicate<JavaClass> containedInAnyOf(final Set<PlantUmlComponent> components) {
+        List<String> componentNames = new ArrayList<>();
+        for (PlantUmlComponent component : components) {
+            componentNames.add(component.getComponentName().asString());
+        }
+        return new DescribedPredicate<JavaClass>("contained in any of components [%s]", Joiner.on(", ").join(componentNames)) {
+            @Override
+            public boolean apply(JavaClass input) {
+                return javaClassDiagramAssociation.isContainedInAnyOf(input, components);
+            }
+        };
+    }
+
     private boolean allDependenciesAreIgnored(JavaClass item) {
         return FluentIterable.from(item.getDirectDependenciesFromSelf()).allMatch(toGuava(ignorePredicate));
     }
@@ -272,16 +285,16 @@ public class PlantUmlArchCondition extends ArchCondition<JavaClass> {
         }
 
         private static class NotContainedInPackagesPredicate extends DescribedPredicate<Dependency> {
-            private final List<String> packageIdentifiers;
+            private final PackageMatchers packageMatchers;
 
             NotContainedInPackagesPredicate(List<String> packageIdentifiers) {
                 super(" while ignoring dependencies outside of packages ['%s']", Joiner.on("', '").join(packageIdentifiers));
-                this.packageIdentifiers = packageIdentifiers;
+                this.packageMatchers = PackageMatchers.of(packageIdentifiers);
             }
 
             @Override
             public boolean apply(Dependency input) {
-                return !PackageMatchers.of(packageIdentifiers).apply(input.getTargetClass().getPackageName());
+                return !packageMatchers.apply(input.getTargetClass().getPackageName());
             }
         }
     }
@@ -1,10 +1,31 @@
 package com.tngtech.archunit.base;
 
+import java.util.List;
+import java.util.Map;
+
+import com.google.common.collect.ImmutableList;
 import org.junit.Test;
 
+import static com.tngtech.archunit.base.PackageMatcher.TO_GROUPS;
 import static com.tngtech.archunit.testutil.Assertions.assertThat;
 
 public class PackageMatchersTest {
+    private static final List<String> PACKAGE_IDENTIFIERS = ImmutableList.of(
+            "some.arbitrary.pkg", "some..pkg", "some..middle..pkg", "*..pkg", "some..*", "..some", "some..", "*..some",
+            "*.*.*", "some.arbi*.pk*..", "some.*rary.*kg..", "..pkg..", "..p..", "*..p..*", "..",
+            "some.(*).pkg", "some.arb(*)ry.pkg", "some.(*).matches.(*).pkg", "(*).(*).(*).(*)", "(*)", "some.(**).pkg",
+            "some(**)pkg", "so(*)me.(**)pkg.an(*).more", "so(**)me", "(**)so", "so(**)", "com.(*)..service.(**)",
+            "(some..)pkg", "(..some).(*)", "some$", "(some.(*)).(**)");
+
+    private static final List<String> PACKAGES = ImmutableList.of(
+            "", "some", "asome", "somea", "some.arbitrary.pkg", "some.thing.different", "some.arbitrary.middle.more.pkg",
+            "some.arbitrary.pkg.toomuch", "wrong.arbitrary.pkg", "some.arbitrary.pkg.whatever", "some.brbitrary.pkg",
+            "some.arbitrarz.pkg", "someepkg", "some.random.pkg.maybe.anywhere", "s.r.p.m.a", "somepkg", "some.pkg",
+            "some.in.between.pkg", "some.in.between.pkg.addon", "somerandom.in.between.longpkg", "somer.in.between.pkg",
+            "soinfme.in.between.gpkg.and.more", "soinfme.in.between.gpkg.an.more", "awe.some.aso", "soan.some.we",
+            "some.first.matches.second.pkg", "a.b.c.d", "com.mycompany.some.service.special.name", "some.", ".some",
+            "some..pkg", "some.ä.pkg", "some.$.pkg", "some_1.x2.pkg");
+
     @Test
     public void matches_any_package() {
         assertThat(PackageMatchers.of("..match..", "..other.."))
@@ -15,9 +36,54 @@ public class PackageMatchersTest {
                 .rejects("matc.hother");
     }
 
+    @Test
+    public void reports_all_matching_identifiers_with_their_groups() {
+        Map<String, PackageMatcher.Result> result = PackageMatchers.of("com.(*)..service.(**)", "..service..", "..persistence..")
+                .match("com.mycompany.some.service.special.name");
+
+        assertThat(result.keySet()).containsExactly("com.(*)..service.(**)", "..service..");
+        assertThat(TO_GROUPS.apply(result.get("com.(*)..service.(**)"))).containsExactly("mycompany", "special.name");
+        assertThat(result.get("com.(*)..service.(**)").getGroup(0)).isEqualTo("com.mycompany.some.service.special.name");
+        assertThat(result.get("..service..").getNumberOfGroups()).isZero();
+    }
+
+    @Test
+    public void reports_no_identifiers_if_package_does_not_match() {
+        assertThat(PackageMatchers.of("..service..", "..persistence..").match("com.mycompany.ui")).isEmpty();
+    }
+
+    @Test
+    public void matches_like_single_package_matchers() {
+        PackageMatchers packageMatchers = PackageMatchers.of(PACKAGE_IDENTIFIERS);
+
+        for (String aPackage : PACKAGES) {
+            Map<String, PackageMatcher.Result> results = packageMatchers.match(aPackage);
+            for (String packageIdentifier : PACKAGE_IDENTIFIERS) {
+                Optional<PackageMatcher.Result> expected = PackageMatcher.of(packageIdentifier).match(aPackage);
+                PackageMatcher.Result actual = results.get(packageIdentifier);
+
+                assertThat(actual != null)
+                        .as("'%s' matches '%s'", packageIdentifier, aPackage)
+                        .isEqualTo(expected.isPresent());
+                if (expected.isPresent()) {
+                    assertThat(TO_GROUPS.apply(actual))
+                            .as("groups of '%s' matching '%s'", packageIdentifier, aPackage)
+                            .isEqualTo(TO_GROUPS.apply(expected.get()));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void caches_results_per_package() {
+        PackageMatchers packageMatchers = PackageMatchers.of("..service..");
+
+        assertThat(packageMatchers.match("com.service")).isSameAs(packageMatchers.match("com.service"));
+    }
+
     @Test
     public void description() {
         assertThat(PackageMatchers.of("..foo..", "..bar.."))
                 .hasDescription("matches any of ['..foo..', '..bar..']");
     }
-}
\ No newline at end of file
+}
@@ -5,6 +5,7 @@ import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
+import java.util.HashSet;
 import java.util.Set;
 
 import com.google.common.base.MoreObjects;
@@ -98,8 +99,8 @@ public class DependencyTest {
             }
         }
         return $$(
-                $(ClassWithArrayDependencies.class.getDeclaredMethod("oneDimArray"), String[].class, 93),
-                $(ClassWithArrayDependencies.class.getDeclaredMethod("multiDimArray"), String[][].class, 97)
+                $(ClassWithArrayDependencies.class.getDeclaredMethod("oneDimArray"), String[].class, 94),
+                $(ClassWithArrayDependencies.class.getDeclaredMethod("multiDimArray"), String[][].class, 98)
         );
     }
 
@@ -333,6 +334,37 @@ public class DependencyTest {
         assertThatType(GET_TARGET_CLASS.apply(createDependency(Origin.class, Target.class))).matches(Target.class);
     }
 
+    @Test
+    public void dependencies_are_equal_if_they_are_created_from_the_same_cause() {
+        JavaMethod method = new ClassFileImporter().importClasses(ClassCallingTwoMethodsInOneLine.class, SomeMemberType.class)
+                .get(ClassCallingTwoMethodsInOneLine.class).getMethod("callTwoMethodsInOneLine", SomeMemberType.class);
+        JavaMethodCall firstCall = method.getMethodCallsFromSelf().iterator().next();
+
+        Dependency dependency = getOnlyElement(Dependency.tryCreateFromAccess(firstCall));
+        Dependency sameDependency = getOnlyElement(Dependency.tryCreateFromAccess(firstCall));
+
+        assertThat(dependency).isEqualTo(sameDependency);
+        assertThat(dependency.hashCode()).isEqualTo(sameDependency.hashCode());
+    }
+
+    @Test
+    public void dependencies_in_the_same_line_are_told_apart_by_their_description() {
+        JavaMethod method = new ClassFileImporter().importClasses(ClassCallingTwoMethodsInOneLine.class, SomeMemberType.class)
+                .get(ClassCallingTwoMethodsInOneLine.class).getMethod("callTwoMethodsInOneLine", SomeMemberType.class);
+
+        Set<Dependency> dependencies = new HashSet<>();
+        for (JavaMethodCall call : method.getMethodCallsFromSelf()) {
+            dependencies.addAll(Dependency.tryCreateFromAccess(call));
+        }
+
+        assertThat(dependencies).hasSize(2);
+        Set<String> descriptions = new HashSet<>();
+        for (Dependency dependency : dependencies) {
+            descriptions.add(dependency.getDescription());
+        }
+        assertThat(descriptions).hasSize(2);
+    }
+
     private Dependency createDependency(JavaClass origin, JavaClass target) {
         Dependency dependency = Dependency.fromInheritance(origin, target);
         assertThatType(dependency.getOriginClass()).as("origin class").isEqualTo(origin);
@@ -380,6 +412,18 @@ public class DependencyTest {
     }
 
     private static class SomeMemberType {
+        void first() {
+        }
+
+        void second() {
+        }
+    }
+
+    @SuppressWarnings("unused")
+    private static class ClassCallingTwoMethodsInOneLine {
+        void callTwoMethodsInOneLine(SomeMemberType target) {
+            target.first(); target.second();
+        }
     }
 
     @Retention(RetentionPolicy.RUNTIME)
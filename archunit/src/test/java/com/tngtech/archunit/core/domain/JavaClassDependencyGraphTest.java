@@ -0,0 +1,106 @@
+package com.tngtech.archunit.core.domain;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+import com.tngtech.archunit.core.domain.JavaClassDependencyGraph.DependencyType;
+import com.tngtech.archunit.core.importer.ClassFileImporter;
+import org.junit.Test;
+
+import static com.tngtech.archunit.core.domain.JavaClassDependencyGraph.DependencyType.COMPONENT_TYPE;
+import static com.tngtech.archunit.core.domain.JavaClassDependencyGraph.DependencyType.FIELD_TYPE;
+import static com.tngtech.archunit.core.domain.JavaClassDependencyGraph.DependencyType.INHERITANCE;
+import static com.tngtech.archunit.core.domain.JavaClassDependencyGraph.DependencyType.MEMBER_ACCESS;
+import static com.tngtech.archunit.core.domain.JavaClassDependencyGraph.DependencyType.PARAMETER_TYPE;
+import static com.tngtech.archunit.core.domain.JavaClassDependencyGraph.DependencyType.RETURN_TYPE;
+import static com.tngtech.archunit.testutil.Assertions.assertThat;
+
+public class JavaClassDependencyGraphTest {
+
+    @SuppressWarnings("unused")
+    static class Graph {
+        interface Base {
+        }
+
+        static class Origin implements Base {
+            Target[] targets;
+            Other other;
+
+            Other call(Target target) {
+                target.doSomething();
+                return other;
+            }
+        }
+
+        static class Target {
+            void doSomething() {
+            }
+        }
+
+        static class Other {
+        }
+    }
+
+    @Test
+    public void merges_dependencies_between_contained_classes_into_edges_with_types() {
+        JavaClasses classes = new ClassFileImporter().importClasses(Graph.Base.class, Graph.Origin.class, Graph.Target.class, Graph.Other.class);
+
+        JavaClassDependencyGraph graph = classes.dependencyGraph();
+
+        assertThat(graph.size()).isEqualTo(4);
+        assertThat(graph.contains(classes.get(Graph.Origin.class))).as("graph contains class").isTrue();
+        int origin = graph.getId(classes.get(Graph.Origin.class));
+        assertThat(graph.getJavaClass(origin)).isEqualTo(classes.get(Graph.Origin.class));
+        assertThat(graph.getEndOfEdges(origin) - graph.getFirstEdge(origin)).as("number of edges").isEqualTo(3);
+        int previousTarget = -1;
+        for (int edge = graph.getFirstEdge(origin); edge < graph.getEndOfEdges(origin); edge++) {
+            assertThat(graph.getTarget(edge)).as("target of edge").isGreaterThan(previousTarget);
+            previousTarget = graph.getTarget(edge);
+        }
+
+        assertThat(typesOfEdge(graph, classes, Graph.Origin.class, Graph.Base.class)).containsOnly(INHERITANCE);
+        assertThat(typesOfEdge(graph, classes, Graph.Origin.class, Graph.Target.class)).containsOnly(COMPONENT_TYPE, PARAMETER_TYPE, MEMBER_ACCESS);
+        assertThat(typesOfEdge(graph, classes, Graph.Origin.class, Graph.Other.class)).containsOnly(FIELD_TYPE, RETURN_TYPE);
+
+        int target = graph.getId(classes.get(Graph.Target.class));
+        assertThat(graph.getEndOfEdges(target) - graph.getFirstEdge(target)).as("edges of class without contained dependencies").isZero();
+        assertThat(graph.findEdge(target, origin)).as("edge of unrelated classes").isEqualTo(-1);
+        assertThat(graph.getNumberOfEdges()).isEqualTo(3);
+    }
+
+    @Test
+    public void does_not_contain_classes_outside_of_JavaClasses() {
+        JavaClasses classes = new ClassFileImporter().importClasses(Graph.Origin.class, Graph.Target.class);
+
+        JavaClassDependencyGraph graph = classes.dependencyGraph();
+
+        assertThat(graph.size()).isEqualTo(2);
+        assertThat(graph.contains(classes.get(Graph.Origin.class).getSuperClass().get())).as("graph contains superclass").isFalse();
+        int origin = graph.getId(classes.get(Graph.Origin.class));
+        int target = graph.getId(classes.get(Graph.Target.class));
+        assertThat(graph.getEndOfEdges(origin) - graph.getFirstEdge(origin)).as("number of edges").isEqualTo(1);
+        assertThat(graph.getTarget(graph.getFirstEdge(origin))).isEqualTo(target);
+        assertThat(classes.dependencyGraph()).as("graph is reused").isSameAs(graph);
+    }
+
+    private Set<DependencyType> typesOfEdge(JavaClassDependencyGraph graph, JavaClasses classes, Class<?> origin, Class<?> target) {
+        int edge = graph.findEdge(graph.getId(classes.get(origin)), graph.getId(classes.get(target)));
+        assertThat(edge).as("edge from %s to %s", origin.getSimpleName(), target.getSimpleName()).isNotNegative();
+        Set<DependencyType> result = EnumSet.noneOf(DependencyType.class);
+        for (DependencyType type : DependencyType.values()) {
+            if (graph.hasDependencyType(edge, type)) {
+                result.add(type);
+            }
+        }
+        assertThat(graph.getDependencyTypes(edge)).isEqualTo(maskOf(result));
+        return result;
+    }
+
+    private int maskOf(Set<DependencyType> types) {
+        int result = 0;
+        for (DependencyType type : types) {
+            result |= type.getMask();
+        }
+        return result;
+    }
+}
@@ -225,6 +225,28 @@ public class JavaClassTest {
         assertThat(javaClass.tryGetConstructor(String.class.getName())).isAbsent();
     }
 
+    @Test
+    public void finds_members_by_name_and_descriptor() {
+        JavaClass javaClass = importClasses(ChildWithFieldAndMethod.class, ParentWithFieldAndMethod.class, InterfaceWithFieldAndMethod.class)
+                .get(ChildWithFieldAndMethod.class);
+
+        assertThat(javaClass.tryGetMethodWithDescriptor("childMethod", "(Ljava/lang/String;)V").get())
+                .isEqualTo(javaClass.getMethod("childMethod", String.class));
+        assertThat(javaClass.tryGetMethodWithDescriptor("childMethod", "(Ljava/lang/Object;)V")).isAbsent();
+        assertThat(javaClass.tryGetMethodWithDescriptor("parentMethod", "()V")).isAbsent();
+        assertThat(javaClass.tryGetFieldWithDescriptor("childField", "Ljava/lang/Object;").get())
+                .isEqualTo(javaClass.getField("childField"));
+        assertThat(javaClass.tryGetFieldWithDescriptor("childField", "Ljava/lang/String;")).isAbsent();
+
+        assertThat(javaClass.getAllMethodsWithDescriptor("parentMethod", "()V")).extractingResultOf("getFullName").containsOnly(
+                ParentWithFieldAndMethod.class.getName() + ".parentMethod()",
+                InterfaceWithFieldAndMethod.class.getName() + ".parentMethod()");
+        assertThat(javaClass.getAllMethodsWithDescriptor("parentMethod", "(Ljava/lang/String;)V")).isEmpty();
+        assertThat(javaClass.getAllFieldsWithDescriptor("interfaceField", "Ljava/lang/String;")).extractingResultOf("getFullName")
+                .containsOnly(InterfaceWithFieldAndMethod.class.getName() + ".interfaceField");
+        assertThat(javaClass.getAllFieldsWithDescriptor("parentField", "Ljava/lang/String;")).isEmpty();
+    }
+
     @Test
     public void anonymous_class_has_package_of_declaring_class() {
         Serializable input = new Serializable() {
@@ -1,8 +1,12 @@
 package com.tngtech.archunit.core.domain;
 
+import java.util.Set;
+
+import com.google.common.collect.ImmutableList;
 import com.tngtech.archunit.core.importer.ClassFileImporter;
 import org.junit.Test;
 
+import static com.tngtech.archunit.testutil.Assertions.assertThat;
 import static com.tngtech.archunit.testutil.Assertions.assertThatDependencies;
 
 public class JavaClassTransitiveDependenciesTest {
@@ -143,4 +147,16 @@ public class JavaClassTransitiveDependenciesTest {
                     .contain(e, String.class);
         // @formatter:on
     }
+
+    @Test
+    public void findsSameTransitiveDependenciesForAllClassesOfCycle() {
+        JavaClasses classes = new ClassFileImporter().importClasses(
+                CyclicGraph.A.class, CyclicGraph.B.class, CyclicGraph.C.class, CyclicGraph.D.class, CyclicGraph.E.class);
+
+        Set<Dependency> transitiveDependenciesOfA = classes.get(CyclicGraph.A.class).getTransitiveDependenciesFromSelf();
+        for (Class<?> classOfCycle : ImmutableList.of(CyclicGraph.C.class, CyclicGraph.D.class, CyclicGraph.E.class)) {
+            assertThat(classes.get(classOfCycle).getTransitiveDependenciesFromSelf()).isEqualTo(transitiveDependenciesOfA);
+        }
+        assertThat(transitiveDependenciesOfA).containsAll(classes.get(CyclicGraph.B.class).getTransitiveDependenciesFromSelf());
+    }
 }
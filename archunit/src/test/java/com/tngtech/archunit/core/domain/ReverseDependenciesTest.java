@@ -0,0 +1,49 @@
+package com.tngtech.archunit.core.domain;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import com.tngtech.archunit.ArchConfiguration;
+import com.tngtech.archunit.core.importer.ClassFileImporter;
+import com.tngtech.archunit.testutil.ArchConfigurationRule;
+import org.junit.Rule;
+import org.junit.Test;
+
+import static com.tngtech.archunit.testutil.Assertions.assertThat;
+
+public class ReverseDependenciesTest {
+    @Rule
+    public final ArchConfigurationRule archConfigurationRule = new ArchConfigurationRule();
+
+    @Test
+    public void parallel_index_finds_the_same_accesses_to_members_as_sequential_index() {
+        String packageWithManyAccesses = JavaClass.class.getPackage().getName();
+
+        ArchConfiguration.get().setAccessIndexThreads(1);
+        Map<String, Set<String>> sequentiallyIndexed = describeAccessesToMembers(new ClassFileImporter().importPackages(packageWithManyAccesses));
+
+        ArchConfiguration.get().setAccessIndexThreads(4);
+        Map<String, Set<String>> parallelIndexed = describeAccessesToMembers(new ClassFileImporter().importPackages(packageWithManyAccesses));
+
+        assertThat(parallelIndexed).isNotEmpty();
+        assertThat(parallelIndexed).isEqualTo(sequentiallyIndexed);
+    }
+
+    private Map<String, Set<String>> describeAccessesToMembers(JavaClasses classes) {
+        Map<String, Set<String>> result = new TreeMap<>();
+        for (JavaClass javaClass : classes) {
+            for (JavaMember member : javaClass.getMembers()) {
+                Set<String> accesses = new TreeSet<>();
+                for (JavaAccess<?> access : member.getAccessesToSelf()) {
+                    accesses.add(access.getDescription());
+                }
+                if (!accesses.isEmpty()) {
+                    result.put(member.getFullName(), accesses);
+                }
+            }
+        }
+        return result;
+    }
+}
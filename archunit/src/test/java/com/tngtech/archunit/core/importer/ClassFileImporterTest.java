@@ -1,6 +1,7 @@
 package com.tngtech.archunit.core.importer;
 
 import java.io.File;
+import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.PrintStream;
 import java.io.Serializable;
@@ -15,14 +16,18 @@ import java.net.URLConnection;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.jar.JarFile;
+import java.util.jar.JarOutputStream;
+import java.util.zip.ZipEntry;
 
 import com.google.common.base.Predicate;
 import com.google.common.base.Suppliers;
@@ -34,6 +39,7 @@ import com.tngtech.archunit.ArchConfiguration;
 import com.tngtech.archunit.base.DescribedPredicate;
 import com.tngtech.archunit.base.ForwardingCollection;
 import com.tngtech.archunit.base.Optional;
+import com.tngtech.archunit.core.domain.AccessTarget;
 import com.tngtech.archunit.core.domain.AccessTarget.ConstructorCallTarget;
 import com.tngtech.archunit.core.domain.AccessTarget.FieldAccessTarget;
 import com.tngtech.archunit.core.domain.AccessTarget.MethodCallTarget;
@@ -196,6 +202,7 @@ import static com.tngtech.archunit.core.domain.TestUtils.MD5_SUM_DISABLED;
 import static com.tngtech.archunit.core.domain.TestUtils.asClasses;
 import static com.tngtech.archunit.core.domain.TestUtils.md5sumOf;
 import static com.tngtech.archunit.core.domain.TestUtils.targetFrom;
+import static com.tngtech.archunit.core.importer.ImportStatistics.Phase.CLASS_FILE_PARSING;
 import static com.tngtech.archunit.testutil.Assertions.assertThat;
 import static com.tngtech.archunit.testutil.Assertions.assertThatAccess;
 import static com.tngtech.archunit.testutil.Assertions.assertThatCall;
@@ -209,6 +216,7 @@ import static com.tngtech.java.junit.dataprovider.DataProviders.$;
 import static com.tngtech.java.junit.dataprovider.DataProviders.$$;
 import static com.tngtech.java.junit.dataprovider.DataProviders.testForEach;
 import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
 import static org.junit.Assume.assumeTrue;
 
 @RunWith(DataProviderRunner.class)
@@ -1532,6 +1540,47 @@ public class ClassFileImporterTest {
         assertThatCall(getOnlyElement(classes.get(Child.class).getConstructorCallsToSelf())).isFrom(Caller.class, "call").isTo(Child.class);
     }
 
+    @Test
+    public void accesses_to_the_same_target_share_the_target_and_its_resolution() {
+        @SuppressWarnings("unused")
+        class Target {
+            String field;
+
+            void method() {
+            }
+        }
+        @SuppressWarnings("unused")
+        class Caller {
+            void first(Target target) {
+                target.method();
+                target.field = "first";
+                new Target();
+            }
+
+            void second(Target target) {
+                target.method();
+                target.field = "second";
+                new Target();
+            }
+        }
+        JavaClass caller = new ClassFileImporter().importClasses(Caller.class, Target.class).get(Caller.class);
+
+        assertSameTargetAndResolution(getByTargetOwner(caller.getMethodCallsFromSelf(), Target.class));
+        assertSameTargetAndResolution(getByTargetOwner(caller.getFieldAccessesFromSelf(), Target.class));
+        assertSameTargetAndResolution(getByTargetOwner(caller.getConstructorCallsFromSelf(), Target.class));
+    }
+
+    private void assertSameTargetAndResolution(Set<? extends JavaAccess<?>> accesses) {
+        assertThat(accesses).hasSize(2);
+        List<? extends JavaAccess<?>> accessList = ImmutableList.copyOf(accesses);
+        AccessTarget first = accessList.get(0).getTarget();
+        AccessTarget second = accessList.get(1).getTarget();
+
+        assertThat(second).isSameAs(first);
+        assertThat(first.resolve()).hasSize(1);
+        assertThat(second.resolve()).isSameAs(first.resolve());
+    }
+
     @Test
     public void classes_know_accesses_to_themselves() throws Exception {
         ImportedClasses classes = classesIn("testexamples/dependents");
@@ -1800,6 +1849,34 @@ public class ClassFileImporterTest {
         assertThat(source.getMd5sum()).isEqualTo(MD5_SUM_DISABLED);
     }
 
+    @Test
+    public void notifies_ImportListeners_about_statistics_of_import() throws Exception {
+        File folder = temporaryFolder.newFolder();
+        copyClassFile(ClassToImportOne.class, folder);
+        copyClassFile(ClassToImportTwo.class, folder);
+        final List<ImportStatistics> statistics = new ArrayList<>();
+
+        JavaClasses classes = new ClassFileImporter()
+                .withImportListener(new ImportListener() {
+                    @Override
+                    public void onImportFinished(ImportStatistics importStatistics) {
+                        statistics.add(importStatistics);
+                    }
+                })
+                .importPath(folder.toPath());
+
+        ImportStatistics importStatistics = getOnlyElement(statistics);
+        assertThat(importStatistics.getNumberOfClassFiles()).isEqualTo(2);
+        assertThat(importStatistics.getBytesRead()).isEqualTo(
+                bytesAt(urlOf(ClassToImportOne.class)).length + bytesAt(urlOf(ClassToImportTwo.class)).length);
+        assertThat(importStatistics.getLargestClassFiles().keySet())
+                .containsOnly(ClassToImportOne.class.getName(), ClassToImportTwo.class.getName());
+        assertThat(importStatistics.getNumberOfAccesses()).isEqualTo(
+                classes.get(ClassToImportOne.class).getAccessesFromSelf().size() + classes.get(ClassToImportTwo.class).getAccessesFromSelf().size());
+        assertThat(importStatistics.getNumberOfClassResolverLookups()).isGreaterThan(0);
+        assertThat(importStatistics.getTotalTime(NANOSECONDS)).isGreaterThanOrEqualTo(importStatistics.getTime(CLASS_FILE_PARSING, NANOSECONDS));
+    }
+
     @Test
     public void imports_class_objects() {
         JavaClasses classes = new ClassFileImporter().importClasses(ClassToImportOne.class, ClassToImportTwo.class);
@@ -1854,6 +1931,81 @@ public class ClassFileImporterTest {
         assertThatTypes(classes).matchInAnyOrder(Class11.class, Class12.class);
     }
 
+    @Test
+    public void reimports_changed_locations() throws Exception {
+        File folder = temporaryFolder.newFolder();
+        copyClassFile(Class11.class, folder);
+        copyClassFile(Class12.class, folder);
+        copyClassFile(ClassToImportOne.class, folder);
+        JavaClasses previous = new ClassFileImporter().importPath(folder.toPath());
+        assertThatTypes(previous).matchInAnyOrder(Class11.class, Class12.class, ClassToImportOne.class);
+
+        File deletedClassFile = new File(folder, Class12.class.getSimpleName() + ".class");
+        assertThat(deletedClassFile.delete()).isTrue();
+        copyClassFile(ClassToImportTwo.class, folder);
+        File addedClassFile = new File(folder, ClassToImportTwo.class.getSimpleName() + ".class");
+
+        JavaClasses classes = new ClassFileImporter().reimport(previous,
+                ImmutableSet.of(Location.of(deletedClassFile.toPath()), Location.of(addedClassFile.toPath())));
+        assertThatTypes(classes).matchInAnyOrder(Class11.class, ClassToImportOne.class, ClassToImportTwo.class);
+
+        classes = new ClassFileImporter().reimport(previous, ImmutableSet.of(Location.of(folder.toPath())));
+        assertThatTypes(classes).matchInAnyOrder(Class11.class, ClassToImportOne.class, ClassToImportTwo.class);
+    }
+
+    @Test
+    public void reimports_changed_jar_files() throws Exception {
+        File folder = temporaryFolder.newFolder();
+        File unchangedFolder = temporaryFolder.newFolder();
+        copyClassFile(ClassToImportOne.class, unchangedFolder);
+        JavaClasses previous;
+        try (JarFile jarFile = new JarFile(writeJarFile(new File(folder, "changed.jar"), Class11.class, Class12.class))) {
+            previous = new ClassFileImporter().importLocations(ImmutableSet.of(Location.of(jarFile), Location.of(unchangedFolder.toPath())));
+        }
+        assertThatTypes(previous).matchInAnyOrder(Class11.class, Class12.class, ClassToImportOne.class);
+
+        File changedJarFile = writeJarFile(new File(folder, "changed.jar"), Class11.class, ClassToImportTwo.class);
+
+        JavaClasses classes = new ClassFileImporter().reimport(previous, ImmutableSet.of(Location.of(changedJarFile.toPath())));
+        assertThatTypes(classes).matchInAnyOrder(Class11.class, ClassToImportOne.class, ClassToImportTwo.class);
+
+        try (JarFile jarFile = new JarFile(changedJarFile)) {
+            classes = new ClassFileImporter().reimport(previous, ImmutableSet.of(Location.of(jarFile)));
+        }
+        assertThatTypes(classes).matchInAnyOrder(Class11.class, ClassToImportOne.class, ClassToImportTwo.class);
+    }
+
+    private File writeJarFile(File jarFile, Class<?>... classes) throws Exception {
+        File tempFile = temporaryFolder.newFile();
+        try (JarOutputStream jarOut = new JarOutputStream(new FileOutputStream(tempFile))) {
+            for (Class<?> clazz : classes) {
+                jarOut.putNextEntry(new ZipEntry(clazz.getName().replace('.', '/') + ".class"));
+                jarOut.write(Files.readAllBytes(Paths.get(urlOf(clazz).toURI())));
+                jarOut.closeEntry();
+            }
+        }
+        Files.move(tempFile.toPath(), jarFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        return jarFile;
+    }
+
+    @Test
+    public void imports_parsed_locations() throws Exception {
+        File exampleFolder = new File(new File(urlOf(getClass()).toURI()).getParentFile(), "testexamples");
+        ParsedLocation parsedOne = new ClassFileImporter().parse(Location.of(new File(exampleFolder, "pathone").toPath()));
+        ParsedLocation parsedTwo = new ClassFileImporter().parse(Location.of(new File(exampleFolder, "pathtwo").toPath()));
+
+        assertThat(parsedOne.getNumberOfClassFiles()).isEqualTo(2);
+        assertThat(parsedOne.getSizeInBytes()).isPositive();
+
+        JavaClasses classes = new ClassFileImporter().importParsedLocations(ImmutableList.of(parsedOne, parsedTwo));
+        assertThatTypes(classes).matchInAnyOrder(Class11.class, Class12.class, Class21.class, Class22.class);
+
+        classes = new ClassFileImporter().importParsedLocations(ImmutableList.of(parsedOne));
+        assertThatTypes(classes).matchInAnyOrder(Class11.class, Class12.class);
+        assertThat(classes.get(Class11.class).getSource().get().getUri())
+                .isEqualTo(new File(new File(exampleFolder, "pathone"), Class11.class.getSimpleName() + ".class").toURI());
+    }
+
     @Test
     public void ImportOptions_are_respected() throws Exception {
         ClassFileImporter importer = new ClassFileImporter().withImportOption(importOnly(getClass(), Rule.class));
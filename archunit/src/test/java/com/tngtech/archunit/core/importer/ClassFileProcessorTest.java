@@ -1,13 +1,43 @@
 package com.tngtech.archunit.core.importer;
 
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.jar.JarFile;
+
+import com.tngtech.archunit.ArchConfiguration;
+import com.tngtech.archunit.base.HasDescription;
 import com.tngtech.archunit.base.Optional;
+import com.tngtech.archunit.core.domain.JavaAnnotation;
 import com.tngtech.archunit.core.domain.JavaClass;
+import com.tngtech.archunit.core.domain.JavaClasses;
+import com.tngtech.archunit.core.domain.JavaMember;
+import com.tngtech.archunit.core.domain.properties.HasName;
 import com.tngtech.archunit.core.importer.resolvers.ClassResolverFromClasspath;
+import com.tngtech.archunit.core.importer.testexamples.OtherClass;
+import com.tngtech.archunit.core.importer.testexamples.SomeClass;
+import com.tngtech.archunit.testutil.ArchConfigurationRule;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 
+import static com.google.common.collect.Iterables.getOnlyElement;
+import static com.tngtech.archunit.core.importer.LocationTest.classFileResource;
+import static com.tngtech.archunit.core.importer.LocationTest.urlOfClass;
 import static com.tngtech.archunit.testutil.Assertions.assertThat;
+import static java.nio.charset.StandardCharsets.ISO_8859_1;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
 
 public class ClassFileProcessorTest {
+    @Rule
+    public final ArchConfigurationRule archConfigurationRule = new ArchConfigurationRule();
+    @Rule
+    public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+
     @Test
     public void ClassResolverFromClassPath_resolves_robustly() {
         Optional<JavaClass> resolved = new ClassResolverFromClasspath()
@@ -15,4 +45,122 @@ public class ClassFileProcessorTest {
 
         assertThat(resolved).isAbsent();
     }
-}
\ No newline at end of file
+
+    @Test
+    public void parallel_import_creates_the_same_classes_as_sequential_import() {
+        String testExamples = getClass().getPackage().getName() + ".testexamples";
+
+        ArchConfiguration.get().setImportThreads(1);
+        JavaClasses sequentiallyImported = new ClassFileImporter().importPackages(testExamples);
+
+        ArchConfiguration.get().setImportThreads(4);
+        JavaClasses parallelImported = new ClassFileImporter().importPackages(testExamples);
+
+        assertThat(parallelImported.size()).isEqualTo(sequentiallyImported.size());
+        assertThat(describe(parallelImported)).isEqualTo(describe(sequentiallyImported));
+    }
+
+    @Test
+    public void import_from_cache_creates_the_same_classes_as_import_from_class_files() throws IOException {
+        String testExamples = getClass().getPackage().getName() + ".testexamples";
+        JavaClasses importedWithoutCache = new ClassFileImporter().importPackages(testExamples);
+
+        File cacheDirectory = temporaryFolder.newFolder();
+        ArchConfiguration.get().setImportCacheDirectory(cacheDirectory.getAbsolutePath());
+        JavaClasses importedIntoCache = new ClassFileImporter().importPackages(testExamples);
+
+        assertThat(cacheDirectory.list()).as("cache files").isNotEmpty();
+        assertThat(describe(importedIntoCache)).isEqualTo(describe(importedWithoutCache));
+
+        JavaClasses importedFromCache = new ClassFileImporter().importPackages(testExamples);
+
+        assertThat(describe(importedFromCache)).isEqualTo(describe(importedWithoutCache));
+    }
+
+    @Test
+    public void import_from_cache_parses_changed_class_files_again() throws IOException {
+        File cacheDirectory = temporaryFolder.newFolder();
+        ArchConfiguration.get().setImportCacheDirectory(cacheDirectory.getAbsolutePath());
+        File classFile = temporaryFolder.newFile("SomeClass.class");
+        Files.copy(urlOfClass(SomeClass.class).openStream(), classFile.toPath(), REPLACE_EXISTING);
+
+        assertThat(getOnlyElement(new ClassFileImporter().importPath(classFile.toPath())).isEquivalentTo(SomeClass.class)).isTrue();
+
+        Files.copy(urlOfClass(OtherClass.class).openStream(), classFile.toPath(), REPLACE_EXISTING);
+        assertThat(classFile.setLastModified(classFile.lastModified() + 10000)).isTrue();
+
+        assertThat(getOnlyElement(new ClassFileImporter().importPath(classFile.toPath())).isEquivalentTo(OtherClass.class)).isTrue();
+    }
+
+    @Test
+    public void import_from_cache_drops_classes_removed_from_a_changed_JAR_file() throws IOException {
+        File cacheDirectory = temporaryFolder.newFolder();
+        ArchConfiguration.get().setImportCacheDirectory(cacheDirectory.getAbsolutePath());
+        File jarFile = new File(temporaryFolder.newFolder(), "test.jar");
+
+        new TestJarFile().withEntry(classFileResource(SomeClass.class)).withEntry(classFileResource(OtherClass.class)).create(jarFile).close();
+        assertThat(new ClassFileImporter().importJar(new JarFile(jarFile))).hasSize(2);
+        assertThat(cacheContent(cacheDirectory)).contains(entryNameOf(OtherClass.class));
+
+        new TestJarFile().withEntry(classFileResource(SomeClass.class)).create(jarFile).close();
+        assertThat(jarFile.setLastModified(jarFile.lastModified() + 10000)).isTrue();
+
+        JavaClasses classes = new ClassFileImporter().importJar(new JarFile(jarFile));
+        assertThat(getOnlyElement(classes).isEquivalentTo(SomeClass.class)).isTrue();
+        assertThat(cacheContent(cacheDirectory))
+                .contains(entryNameOf(SomeClass.class))
+                .doesNotContain(entryNameOf(OtherClass.class));
+    }
+
+    private String entryNameOf(Class<?> clazz) {
+        return classFileResource(clazz).substring(1);
+    }
+
+    private String cacheContent(File cacheDirectory) throws IOException {
+        StringBuilder result = new StringBuilder();
+        for (File cacheFile : cacheDirectory.listFiles()) {
+            result.append(new String(Files.readAllBytes(cacheFile.toPath()), ISO_8859_1));
+        }
+        return result.toString();
+    }
+
+    private Map<String, Set<String>> describe(JavaClasses classes) {
+        Map<String, Set<String>> result = new TreeMap<>();
+        for (JavaClass javaClass : classes) {
+            Set<String> details = new TreeSet<>();
+            details.add("source: " + javaClass.getSource().get().getUri());
+            details.add("superclass: " + namesOf(javaClass.getSuperClass().asSet()));
+            details.add("interfaces: " + namesOf(javaClass.getInterfaces()));
+            details.add("enclosing class: " + namesOf(javaClass.getEnclosingClass().asSet()));
+            details.add("annotations: " + annotationTypesOf(javaClass.getAnnotations()));
+            for (JavaMember member : javaClass.getMembers()) {
+                details.add("member: " + member.getFullName() + " " + annotationTypesOf(member.getAnnotations()));
+            }
+            addDescriptions(details, javaClass.getAccessesFromSelf());
+            result.put(javaClass.getName(), details);
+        }
+        return result;
+    }
+
+    private Set<String> namesOf(Set<? extends HasName> objects) {
+        Set<String> result = new TreeSet<>();
+        for (HasName object : objects) {
+            result.add(object.getName());
+        }
+        return result;
+    }
+
+    private Set<String> annotationTypesOf(Set<? extends JavaAnnotation<?>> annotations) {
+        Set<String> result = new TreeSet<>();
+        for (JavaAnnotation<?> annotation : annotations) {
+            result.add(annotation.getRawType().getName());
+        }
+        return result;
+    }
+
+    private void addDescriptions(Set<String> details, Set<? extends HasDescription> objects) {
+        for (HasDescription object : objects) {
+            details.add(object.getDescription());
+        }
+    }
+}
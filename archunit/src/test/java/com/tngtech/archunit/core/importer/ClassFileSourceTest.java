@@ -1,16 +1,26 @@
 package com.tngtech.archunit.core.importer;
 
 import java.io.File;
+import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.MalformedURLException;
 import java.net.URL;
 import java.nio.file.Paths;
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Set;
+import java.util.jar.JarEntry;
 import java.util.jar.JarFile;
+import java.util.jar.JarOutputStream;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
 
 import com.google.common.collect.ImmutableSet;
+import com.google.common.io.ByteStreams;
+import com.tngtech.archunit.core.importer.testexamples.OtherClass;
+import com.tngtech.archunit.core.importer.testexamples.SomeClass;
 import com.tngtech.java.junit.dataprovider.DataProvider;
 import com.tngtech.java.junit.dataprovider.DataProviderRunner;
 import com.tngtech.java.junit.dataprovider.UseDataProvider;
@@ -22,6 +32,7 @@ import org.junit.runner.RunWith;
 import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkState;
 import static com.google.common.collect.Iterables.getOnlyElement;
+import static com.tngtech.archunit.core.importer.LocationTest.urlOfClass;
 import static com.tngtech.java.junit.dataprovider.DataProviders.$;
 import static com.tngtech.java.junit.dataprovider.DataProviders.$$;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -134,6 +145,55 @@ public class ClassFileSourceTest {
         checkAllElementsCanBeRead(classFileSource);
     }
 
+    @Test
+    public void reads_stored_and_compressed_entries_of_JARs() throws IOException {
+        byte[] storedClassFile = toByteArray(urlOfClass(SomeClass.class));
+        byte[] compressedClassFile = toByteArray(urlOfClass(OtherClass.class));
+        File jarFile = tempDir.newFile("test.jar");
+        try (JarOutputStream jarOut = new JarOutputStream(new FileOutputStream(jarFile))) {
+            JarEntry storedEntry = new JarEntry("stored/SomeClass.class");
+            storedEntry.setMethod(ZipEntry.STORED);
+            storedEntry.setSize(storedClassFile.length);
+            CRC32 crc = new CRC32();
+            crc.update(storedClassFile);
+            storedEntry.setCrc(crc.getValue());
+            jarOut.putNextEntry(storedEntry);
+            jarOut.write(storedClassFile);
+            jarOut.closeEntry();
+
+            jarOut.putNextEntry(new JarEntry("compressed/OtherClass.class"));
+            jarOut.write(compressedClassFile);
+            jarOut.closeEntry();
+        }
+        assertThat(MappedJarFile.tryOpen(jarFile.toURI().toURL()).isPresent()).as("JAR file can be mapped").isTrue();
+        MappedJarFile jarFileReadIntoHeap = MappedJarFile.tryOpen(jarFile.toURI().toURL(), false).get();
+        for (MappedJarFile.Entry entry : jarFileReadIntoHeap.getEntries()) {
+            assertThat(jarFileReadIntoHeap.read(entry))
+                    .as("entry %s read into heap", entry.getName())
+                    .isEqualTo(entry.getName().startsWith("stored") ? storedClassFile : compressedClassFile);
+        }
+
+        ClassFileSource source = new ClassFileSource.FromJar(jarUrlOf(new JarFile(jarFile)), "", new ImportOptions());
+
+        Map<String, byte[]> bytesByEntry = new HashMap<>();
+        for (ClassFileLocation location : source) {
+            String uri = location.getUri().toString();
+            bytesByEntry.put(uri.substring(uri.indexOf("!/") + 2), location.readBytes());
+            try (InputStream stream = location.openStream()) {
+                assertThat(ByteStreams.toByteArray(stream)).isEqualTo(location.readBytes());
+            }
+        }
+        assertThat(bytesByEntry.keySet()).containsOnly("stored/SomeClass.class", "compressed/OtherClass.class");
+        assertThat(bytesByEntry.get("stored/SomeClass.class")).isEqualTo(storedClassFile);
+        assertThat(bytesByEntry.get("compressed/OtherClass.class")).isEqualTo(compressedClassFile);
+    }
+
+    private static byte[] toByteArray(URL url) throws IOException {
+        try (InputStream stream = url.openStream()) {
+            return ByteStreams.toByteArray(stream);
+        }
+    }
+
     @SuppressWarnings("EmptyTryBlock")
     private void checkAllElementsCanBeRead(ClassFileSource classFileSource) {
         for (ClassFileLocation location : classFileSource) {
@@ -346,7 +346,7 @@ public class LocationTest {
         return NormalizedResourceName.from(classFileResource(clazz));
     }
 
-    private static String classFileResource(Class<?> clazz) {
+    static String classFileResource(Class<?> clazz) {
         return String.format("/%s.class", clazz.getName().replace('.', '/'));
     }
 
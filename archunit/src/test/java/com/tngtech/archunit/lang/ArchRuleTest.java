@@ -10,11 +10,14 @@ import java.util.TreeSet;
 import com.google.common.base.Joiner;
 import com.google.common.base.Splitter;
 import com.google.common.io.Files;
+import com.tngtech.archunit.ArchConfiguration;
+import com.tngtech.archunit.base.Predicate;
 import com.tngtech.archunit.core.domain.JavaClass;
 import com.tngtech.archunit.core.domain.JavaClasses;
 import com.tngtech.archunit.core.domain.JavaClassesTest;
 import com.tngtech.archunit.lang.ArchConditionTest.ConditionWithInitAndFinish;
 import com.tngtech.archunit.lang.syntax.ArchRuleDefinition;
+import com.tngtech.archunit.testutil.ArchConfigurationRule;
 import org.hamcrest.Description;
 import org.hamcrest.TypeSafeMatcher;
 import org.junit.After;
@@ -30,12 +33,16 @@ import static com.tngtech.archunit.lang.ArchRule.Assertions.ARCHUNIT_IGNORE_PATT
 import static com.tngtech.archunit.lang.Priority.HIGH;
 import static com.tngtech.archunit.lang.syntax.ArchRuleDefinition.all;
 import static com.tngtech.archunit.lang.syntax.ArchRuleDefinition.classes;
+import static com.tngtech.archunit.lang.syntax.ArchRuleDefinition.noClasses;
+import static com.tngtech.archunit.testutil.Assertions.assertThat;
 import static java.nio.charset.StandardCharsets.UTF_8;
-import static org.assertj.core.api.Assertions.assertThat;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
 
 public class ArchRuleTest {
     @Rule
     public final ExpectedException thrown = ExpectedException.none();
+    @Rule
+    public final ArchConfigurationRule configuration = new ArchConfigurationRule();
 
     @Before
     public void setUp() {
@@ -57,6 +64,27 @@ public class ArchRuleTest {
                 .check(JavaClassesTest.ALL_CLASSES);
     }
 
+    @Test
+    public void evaluation_does_not_record_statistics_by_default() {
+        EvaluationResult result = classes().should(conditionThatReportsErrors("first", "second"))
+                .evaluate(importClasses(EvaluationResultTest.class, ArchRuleTest.class));
+
+        assertThat(result.getStatistics()).isAbsent();
+    }
+
+    @Test
+    public void evaluation_records_statistics_if_enabled() {
+        ArchConfiguration.get().setEvaluationStatisticsEnabled(true);
+
+        EvaluationResult result = classes().should(conditionThatReportsErrors("first", "second"))
+                .evaluate(importClasses(EvaluationResultTest.class, ArchRuleTest.class));
+
+        EvaluationStatistics statistics = result.getStatistics().get();
+        assertThat(statistics.getNumberOfCheckedObjects()).as("checked objects").isEqualTo(2);
+        assertThat(statistics.getNumberOfConditionEvents()).as("condition events").isEqualTo(4);
+        assertThat(statistics.getTime(NANOSECONDS)).as("time").isGreaterThan(0);
+    }
+
     @Test
     public void evaluation_should_print_all_event_messages() {
         expectAssertionErrorWithMessages("first", "second");
@@ -139,6 +167,119 @@ public class ArchRuleTest {
         assertThat(result.getFailureReport().toString()).contains("(2 times)");
     }
 
+    @Test
+    public void evaluation_only_counts_allowed_events_if_configured() {
+        ArchConfiguration.get().setRetainAllowedEvents(false);
+        ArchConfiguration.get().setEvaluationStatisticsEnabled(true);
+
+        EvaluationResult result = classes().should(ALWAYS_BE_SATISFIED).evaluate(importClassesWithContext(Object.class, String.class));
+
+        assertThat(result.hasViolation()).as("result has violation").isFalse();
+        assertThat(result.getStatistics().get().getNumberOfConditionEvents()).as("condition events").isEqualTo(2);
+
+        result = noClasses().should(ALWAYS_BE_SATISFIED).evaluate(importClassesWithContext(Object.class, String.class));
+
+        assertThat(result.getFailureReport().toString()).contains("(2 times)");
+    }
+
+    @Test
+    public void reports_number_of_violations_exceeding_configured_maximum_of_retained_violations() {
+        ArchConfiguration.get().setMaxRetainedViolations(4);
+
+        EvaluationResult result = classes().should(addFixedNumberOfViolations(3)).evaluate(importClassesWithContext(Object.class, String.class));
+
+        assertThat(result.hasViolation()).as("result has violation").isTrue();
+        assertThat(result.getFailureReport().getDetails()).hasSize(4);
+        assertThat(result.getFailureReport().toString()).contains("(6 times - only the first 4 violations are reported; "
+                + "this limit can be adapted using the `archunit.properties` value `evaluation.maxRetainedViolations=xxx`)");
+    }
+
+    @Test
+    public void ignore_patterns_are_applied_to_all_violations_no_matter_the_configured_maximum_of_retained_violations() throws IOException {
+        ArchConfiguration.get().setMaxRetainedViolations(1);
+        writeIgnoreFileWithPatterns(".* one");
+
+        expectAssertionErrorWithMessages("second two");
+
+        classes().should(conditionThatReportsErrors("first one", "second two"))
+                .check(importClassesWithContext(EvaluationResultTest.class));
+    }
+
+    @Test
+    public void violations_that_are_only_counted_are_still_reported_after_filtering() throws IOException {
+        ArchConfiguration.get().setMaxRetainedViolations(1);
+        EvaluationResult result = classes().should(conditionThatReportsErrors("first one", "second two"))
+                .evaluate(importClassesWithContext(EvaluationResultTest.class));
+
+        EvaluationResult filtered = result.filterDescriptionsMatching(new Predicate<String>() {
+            @Override
+            public boolean apply(String input) {
+                return !input.endsWith("one");
+            }
+        });
+
+        assertThat(filtered.hasViolation()).as("filtered result has violation").isTrue();
+        assertThat(filtered.getFailureReport().isEmpty()).as("filtered failure report is empty").isFalse();
+
+        writeIgnoreFileWithPatterns(".* one");
+        thrown.expect(AssertionError.class);
+        ArchRule.Assertions.assertNoViolation(result);
+    }
+
+    @Test
+    public void evaluation_stops_after_configured_number_of_violations() {
+        ArchConfiguration.get().setEvaluationStatisticsEnabled(true);
+        JavaClasses classes = importClassesWithContext(Object.class, String.class, Integer.class);
+
+        EvaluationResult result = EvaluationOptions.stopAfter(3).evaluate(classes().should(addFixedNumberOfViolations(2)), classes);
+
+        assertThat(result.isTruncated()).as("result is truncated").isTrue();
+        assertThat(result.getStatistics().get().getNumberOfCheckedObjects()).as("checked objects").isEqualTo(2);
+        assertThat(result.getFailureReport().getDetails()).hasSize(4);
+        assertThat(result.getFailureReport().toString())
+                .contains("(4 times - the evaluation has been stopped early, there might be further violations)");
+
+        result = EvaluationOptions.complete().evaluate(classes().should(addFixedNumberOfViolations(2)), classes);
+
+        assertThat(result.isTruncated()).as("result is truncated").isFalse();
+        assertThat(result.getFailureReport().toString()).contains("(6 times)");
+    }
+
+    @Test
+    public void evaluation_options_evaluate_custom_rules_completely() {
+        JavaClasses classes = importClassesWithContext(Object.class, String.class, Integer.class);
+        CanBeEvaluated customRule = new CanBeEvaluated() {
+            @Override
+            public EvaluationResult evaluate(JavaClasses classes) {
+                return classes().should(addFixedNumberOfViolations(2)).evaluate(classes);
+            }
+
+            @Override
+            public String getDescription() {
+                return "custom rule";
+            }
+        };
+
+        EvaluationResult result = EvaluationOptions.stopAfter(1).evaluate(customRule, classes);
+
+        assertThat(result.isTruncated()).as("result is truncated").isFalse();
+        assertThat(result.getFailureReport().toString()).contains("(6 times)");
+    }
+
+    @Test
+    public void evaluation_does_not_finish_condition_if_stopped_early() {
+        ConditionWithInitAndFinish condition = new ConditionWithInitAndFinish("irrelevant") {
+            @Override
+            public void check(String item, ConditionEvents events) {
+                events.add(SimpleConditionEvent.violated(item, "bummer"));
+            }
+        };
+
+        EvaluationOptions.stopAfter(1).evaluate(all(strings()).should(condition), importClasses(getClass(), EvaluationResultTest.class));
+
+        assertThat(condition.eventsFromFinish).isNull();
+    }
+
     @Test
     public void rule_evaluation_inits_and_finishes_condition() {
         ConditionWithInitAndFinish condition = new ConditionWithInitAndFinish("irrelevant") {
@@ -241,6 +382,14 @@ public class ArchRuleTest {
         };
     }
 
+    private static final ArchCondition<JavaClass> ALWAYS_BE_SATISFIED =
+            new ArchCondition<JavaClass>("always be satisfied") {
+                @Override
+                public void check(JavaClass item, ConditionEvents events) {
+                    events.add(new SimpleConditionEvent(item, true, item.getSimpleName() + " is satisfied"));
+                }
+            };
+
     private static final ArchCondition<JavaClass> ALWAYS_BE_VIOLATED =
             new ArchCondition<JavaClass>("always be violated") {
                 @Override
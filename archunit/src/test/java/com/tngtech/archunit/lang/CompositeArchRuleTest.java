@@ -1,15 +1,19 @@
 package com.tngtech.archunit.lang;
 
 import com.google.common.collect.ImmutableList;
+import com.tngtech.archunit.ArchConfiguration;
 import com.tngtech.archunit.core.domain.JavaClass;
 import com.tngtech.archunit.core.domain.JavaClasses;
+import com.tngtech.archunit.testutil.ArchConfigurationRule;
 import com.tngtech.java.junit.dataprovider.DataProvider;
 import com.tngtech.java.junit.dataprovider.DataProviderRunner;
 import com.tngtech.java.junit.dataprovider.UseDataProvider;
+import org.junit.Rule;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 
 import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import static com.tngtech.archunit.core.domain.TestUtils.importClasses;
 import static com.tngtech.archunit.lang.Priority.HIGH;
@@ -21,6 +25,9 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 @RunWith(DataProviderRunner.class)
 public class CompositeArchRuleTest {
+    @Rule
+    public final ArchConfigurationRule configuration = new ArchConfigurationRule();
+
     private static final boolean SATISFIED = true;
     private static final boolean UNSATISFIED = false;
 
@@ -83,6 +90,52 @@ public class CompositeArchRuleTest {
         assertPriority(failureMessage, priority);
     }
 
+    @Test
+    public void statistics_of_all_rules_are_combined() {
+        ArchConfiguration.get().setEvaluationStatisticsEnabled(true);
+
+        EvaluationResult result = CompositeArchRule.of(archRuleThatSucceeds()).and(archRuleThatFails())
+                .evaluate(importClasses(getClass(), ArchRuleTest.class));
+
+        EvaluationStatistics statistics = result.getStatistics().get();
+        assertThat(statistics.getNumberOfCheckedObjects()).as("checked objects").isEqualTo(4);
+        assertThat(statistics.getNumberOfConditionEvents()).as("condition events").isEqualTo(4);
+    }
+
+    @Test
+    public void stops_evaluating_further_rules_once_the_number_of_violations_to_stop_after_has_been_reached() {
+        ArchConfiguration.get().setEvaluationStatisticsEnabled(true);
+
+        EvaluationResult result = CompositeArchRule.of(archRuleThatFails()).and(archRuleThatFails())
+                .evaluate(importClasses(getClass(), ArchRuleTest.class), EvaluationOptions.stopAfter(2));
+
+        assertThat(result.hasViolation()).as("result has violation").isTrue();
+        assertThat(result.isTruncated()).as("result is truncated").isTrue();
+        assertThat(result.getStatistics().get().getNumberOfCheckedObjects()).as("checked objects").isEqualTo(2);
+        assertThat(result.getFailureReport().getDetails()).hasSize(2);
+    }
+
+    @Test
+    public void does_not_initialize_further_rules_once_the_number_of_violations_to_stop_after_has_been_reached() {
+        final AtomicBoolean initialized = new AtomicBoolean(false);
+        ArchRule furtherRule = classes().should(new ArchCondition<JavaClass>("not be initialized") {
+            @Override
+            public void init(Iterable<JavaClass> allObjectsToTest) {
+                initialized.set(true);
+            }
+
+            @Override
+            public void check(JavaClass item, ConditionEvents events) {
+            }
+        });
+
+        EvaluationResult result = CompositeArchRule.of(archRuleThatFails()).and(furtherRule)
+                .evaluate(importClasses(getClass(), ArchRuleTest.class), EvaluationOptions.stopAfter(2));
+
+        assertThat(result.isTruncated()).as("result is truncated").isTrue();
+        assertThat(initialized.get()).as("further rule initialized").isFalse();
+    }
+
     private void assertPriority(String failureMessage, Priority priority) {
         assertThat(failureMessage).contains(String.format("[Priority: %s]", priority));
     }
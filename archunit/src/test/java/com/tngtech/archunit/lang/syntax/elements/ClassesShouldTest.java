@@ -71,6 +71,7 @@ import static com.tngtech.archunit.lang.conditions.ArchConditions.notBePublic;
 import static com.tngtech.archunit.lang.conditions.ArchConditions.notHaveModifier;
 import static com.tngtech.archunit.lang.conditions.ArchPredicates.are;
 import static com.tngtech.archunit.lang.syntax.ArchRuleDefinition.classes;
+import static com.tngtech.archunit.lang.syntax.ArchRuleDefinition.noClasses;
 import static com.tngtech.archunit.testutil.Assertions.assertThat;
 import static com.tngtech.java.junit.dataprovider.DataProviders.$;
 import static com.tngtech.java.junit.dataprovider.DataProviders.$$;
@@ -1698,6 +1699,28 @@ public class ClassesShouldTest {
                 .doesNotMatch(String.format(".*%s.* is .*", quote(satisfied.getName())));
     }
 
+    @DataProvider
+    public static Object[][] transitivelyDependOnClassesThat_rules() {
+        return $$(
+                $(noClasses().should().transitivelyDependOnClassesThat(type(ClassWithField.class))),
+                $(noClasses().should(ArchConditions.transitivelyDependOnClassesThat(type(ClassWithField.class)))));
+    }
+
+    @Test
+    @UseDataProvider("transitivelyDependOnClassesThat_rules")
+    public void transitivelyDependOnClassesThat(ArchRule rule) {
+        EvaluationResult result = rule.evaluate(importClasses(
+                ClassWithField.class, ClassAccessingField.class, ClassDependingOnClassAccessingField.class, ClassWithMethod.class));
+
+        assertThat(singleLineFailureReportOf(result))
+                .contains("no classes should transitively depend on classes that")
+                .contains(String.format("Class <%s> transitively depends on <%s>",
+                        ClassAccessingField.class.getName(), ClassWithField.class.getName()))
+                .contains(String.format("Class <%s> transitively depends on <%s>",
+                        ClassDependingOnClassAccessingField.class.getName(), ClassWithField.class.getName()))
+                .doesNotContain(String.format("Class <%s>", ClassWithMethod.class.getName()));
+    }
+
     @DataProvider
     public static Object[][] onlyAccessRules_rules() {
         return $$(
@@ -1855,6 +1878,11 @@ public class ClassesShouldTest {
         }
     }
 
+    @SuppressWarnings("unused")
+    private static class ClassDependingOnClassAccessingField {
+        ClassAccessingField classAccessingField;
+    }
+
     @SuppressWarnings({"ConstantConditions", "unused"})
     private static class ClassAccessingWrongField {
         ClassAccessingField classAccessingField;
@@ -8,6 +8,8 @@ import java.util.Set;
 
 import com.google.common.base.Joiner;
 import com.google.common.collect.ImmutableSet;
+import com.tngtech.archunit.base.DescribedPredicate;
+import com.tngtech.archunit.core.domain.JavaClass;
 import com.tngtech.archunit.core.domain.JavaClasses;
 import com.tngtech.archunit.core.importer.ClassFileImporter;
 import com.tngtech.archunit.lang.ArchRule;
@@ -262,6 +264,27 @@ public class ArchitecturesTest {
         assertThat(layeredArchitecture.evaluate(classes).hasViolation()).as("result has violation").isFalse();
     }
 
+    @Test
+    public void layered_architecture_assigns_each_class_to_its_layers_only_once() {
+        JavaClasses classes = new ClassFileImporter().importPackages(absolute(""));
+        CountingPredicate someLayer = new CountingPredicate(resideInAnyPackage(absolute("some.pkg..")));
+        CountingPredicate firstLayer = new CountingPredicate(resideInAnyPackage(absolute("first..")));
+
+        LayeredArchitecture architecture = layeredArchitecture()
+                .layer("Some").definedBy(someLayer)
+                .layer("First").definedBy(firstLayer)
+                .whereLayer("Some").mayOnlyBeAccessedByLayers("First")
+                .whereLayer("First").mayNotBeAccessedByAnyLayer();
+
+        EvaluationResult result = architecture.evaluate(classes);
+
+        assertThat(result.hasViolation()).as("result has violation").isTrue();
+        assertThat(someLayer.evaluatedClasses).containsOnlyElementsOf(classes);
+        assertThat(someLayer.evaluatedClasses).hasSameSizeAs(classes);
+        assertThat(firstLayer.evaluatedClasses).containsOnlyElementsOf(classes);
+        assertThat(firstLayer.evaluatedClasses).hasSameSizeAs(classes);
+    }
+
     @Test
     public void onion_architecture_description() {
         OnionArchitecture architecture = onionArchitecture()
@@ -415,6 +438,22 @@ public class ArchitecturesTest {
         ));
     }
 
+    private static class CountingPredicate extends DescribedPredicate<JavaClass> {
+        private final DescribedPredicate<JavaClass> delegate;
+        private final List<JavaClass> evaluatedClasses = new ArrayList<>();
+
+        CountingPredicate(DescribedPredicate<JavaClass> delegate) {
+            super(delegate.getDescription());
+            this.delegate = delegate;
+        }
+
+        @Override
+        public boolean apply(JavaClass input) {
+            evaluatedClasses.add(input);
+            return delegate.apply(input);
+        }
+    }
+
     private String singleLine(EvaluationResult result) {
         return Joiner.on(NEW_LINE_REPLACE).join(result.getFailureReport().getDetails()).replace("\n", NEW_LINE_REPLACE);
     }
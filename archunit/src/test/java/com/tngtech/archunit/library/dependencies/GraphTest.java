@@ -2,6 +2,7 @@ package com.tngtech.archunit.library.dependencies;
 
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Random;
 import java.util.Set;
@@ -15,6 +16,8 @@ import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Range;
 import com.tngtech.archunit.ArchConfiguration;
 import com.tngtech.archunit.library.dependencies.Graph.Cycles;
+import com.tngtech.archunit.testutil.ArchConfigurationRule;
+import org.junit.Rule;
 import org.junit.Test;
 
 import static com.google.common.base.Preconditions.checkArgument;
@@ -22,6 +25,7 @@ import static com.google.common.collect.DiscreteDomain.integers;
 import static com.google.common.collect.Iterables.getOnlyElement;
 import static com.google.common.collect.Sets.cartesianProduct;
 import static com.tngtech.archunit.library.dependencies.CycleConfiguration.MAX_NUMBER_OF_CYCLES_TO_DETECT_PROPERTY_NAME;
+import static com.tngtech.archunit.library.dependencies.CycleConfiguration.NUMBER_OF_THREADS_TO_DETECT_CYCLES_PROPERTY_NAME;
 import static java.util.Arrays.asList;
 import static java.util.Collections.singleton;
 import static java.util.Collections.singletonList;
@@ -30,6 +34,9 @@ import static org.assertj.core.api.Assertions.assertThat;
 public class GraphTest {
     private static final Random random = new Random();
 
+    @Rule
+    public final ArchConfigurationRule archConfigurationRule = new ArchConfigurationRule();
+
     @Test
     public void graph_without_cycles() {
         Graph<String, String> graph = new Graph<>();
@@ -163,6 +170,71 @@ public class GraphTest {
         assertThat(cycles.maxNumberOfCyclesReached()).as("maximum number of cycles reached").isTrue();
     }
 
+    @Test
+    public void finds_strongly_connected_components_with_shortest_cycles() {
+        Graph<Integer, Object> graph = new Graph<>();
+        graph.addNodes(ContiguousSet.create(Range.closedOpen(0, 7), integers()));
+        graph.addEdges(ImmutableSet.of(
+                GraphTest.<Integer, Object>newEdge(0, 1),
+                GraphTest.<Integer, Object>newEdge(1, 2),
+                GraphTest.<Integer, Object>newEdge(2, 3),
+                GraphTest.<Integer, Object>newEdge(3, 0),
+                GraphTest.<Integer, Object>newEdge(2, 0),
+                GraphTest.<Integer, Object>newEdge(3, 4),
+                GraphTest.<Integer, Object>newEdge(4, 5),
+                GraphTest.<Integer, Object>newEdge(5, 4),
+                GraphTest.<Integer, Object>newEdge(6, 0)));
+
+        List<Graph.StronglyConnectedComponent<Integer, Object>> components = graph.findStronglyConnectedComponents();
+
+        assertThat(components).hasSize(2);
+        assertThat(components.get(0).getNodes()).containsExactly(0, 1, 2, 3);
+        assertThat(components.get(0).getShortestCycle()).isEqualTo(new Cycle<>(ImmutableList.of(
+                GraphTest.<Integer, Object>newEdge(0, 1),
+                GraphTest.<Integer, Object>newEdge(1, 2),
+                GraphTest.<Integer, Object>newEdge(2, 0))));
+        assertThat(components.get(1).getNodes()).containsExactly(4, 5);
+        assertThat(components.get(1).getShortestCycle()).isEqualTo(new Cycle<>(ImmutableList.of(
+                GraphTest.<Integer, Object>newEdge(4, 5),
+                GraphTest.<Integer, Object>newEdge(5, 4))));
+    }
+
+    @Test
+    public void finds_the_same_cycles_in_parallel_as_sequentially() {
+        Graph<Integer, Object> graph = createRandomGraph(200, 3);
+
+        for (int maxNumberOfCycles : new int[]{1, 7, 100, 2000}) {
+            ArchConfiguration.get().setProperty(MAX_NUMBER_OF_CYCLES_TO_DETECT_PROPERTY_NAME, String.valueOf(maxNumberOfCycles));
+
+            ArchConfiguration.get().setProperty(NUMBER_OF_THREADS_TO_DETECT_CYCLES_PROPERTY_NAME, "1");
+            Cycles<Integer, Object> sequentialCycles = graph.findCycles();
+            ArchConfiguration.get().setProperty(NUMBER_OF_THREADS_TO_DETECT_CYCLES_PROPERTY_NAME, "4");
+            Cycles<Integer, Object> parallelCycles = graph.findCycles();
+
+            assertThat(sequentialCycles).as("cycles found sequentially").hasSize(maxNumberOfCycles);
+            assertThat(parallelCycles).as("cycles found in parallel").containsExactlyElementsOf(sequentialCycles);
+            assertThat(parallelCycles.maxNumberOfCyclesReached()).as("maximum number of cycles reached")
+                    .isEqualTo(sequentialCycles.maxNumberOfCyclesReached());
+        }
+    }
+
+    private Graph<Integer, Object> createRandomGraph(int numberOfNodes, int numberOfEdgesPerNode) {
+        Random fixedRandom = new Random(42);
+        Graph<Integer, Object> graph = new Graph<>();
+        graph.addNodes(ContiguousSet.create(Range.closedOpen(0, numberOfNodes), integers()));
+        Set<Edge<Integer, Object>> edges = new HashSet<>();
+        for (int origin = 0; origin < numberOfNodes; origin++) {
+            for (int i = 0; i < numberOfEdgesPerNode; i++) {
+                int target = fixedRandom.nextInt(numberOfNodes);
+                if (target != origin) {
+                    edges.add(GraphTest.<Integer, Object>newEdge(origin, target));
+                }
+            }
+        }
+        graph.addEdges(edges);
+        return graph;
+    }
+
     @SuppressWarnings("unchecked")
     private Graph<Integer, Integer> createCompleteGraph(int n) {
         ContiguousSet<Integer> integers = ContiguousSet.create(Range.closedOpen(0, n), integers());
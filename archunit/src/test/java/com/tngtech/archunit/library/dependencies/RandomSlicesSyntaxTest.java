@@ -16,7 +16,9 @@ public class RandomSlicesSyntaxTest extends RandomSyntaxTestBase {
     @DataProvider
     public static List<List<?>> random_rules() {
         return RandomSyntaxTestBase.createRandomRules(givenClassesSeed(),
-                MethodChoiceStrategy.chooseAllArchUnitSyntaxMethods().exceptMethodsWithName("ignoreDependency"),
+                MethodChoiceStrategy.chooseAllArchUnitSyntaxMethods()
+                        .exceptMethodsWithName("ignoreDependency")
+                        .exceptMethodsWithName("reportingStronglyConnectedComponents"),
                 new Skip("^naming slices.*"),
                 new ReplaceEverythingSoFar("as '([^']+)'", "$1"));
     }
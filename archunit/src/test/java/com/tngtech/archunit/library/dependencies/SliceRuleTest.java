@@ -1,7 +1,10 @@
 package com.tngtech.archunit.library.dependencies;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 import com.google.common.base.Predicate;
 import com.google.common.base.Splitter;
@@ -9,6 +12,7 @@ import com.google.common.collect.FluentIterable;
 import com.tngtech.archunit.ArchConfiguration;
 import com.tngtech.archunit.core.domain.JavaClasses;
 import com.tngtech.archunit.core.importer.ClassFileImporter;
+import com.tngtech.archunit.lang.EvaluationResult;
 import com.tngtech.archunit.library.dependencies.testexamples.completedependencygraph.sevennodes.CompleteSevenNodesGraphRoot;
 import com.tngtech.archunit.library.dependencies.testexamples.cyclewithunbalanceddependencies.CycleWithUnbalancedDependenciesRoot;
 import com.tngtech.archunit.testutil.ArchConfigurationRule;
@@ -18,6 +22,7 @@ import com.tngtech.java.junit.dataprovider.UseDataProvider;
 import org.assertj.core.api.Condition;
 import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.ExpectedException;
 import org.junit.runner.RunWith;
 
 import static com.google.common.math.IntMath.factorial;
@@ -35,6 +40,9 @@ public class SliceRuleTest {
     @Rule
     public final ArchConfigurationRule configurationRule = new ArchConfigurationRule();
 
+    @Rule
+    public final ExpectedException thrown = ExpectedException.none();
+
     @DataProvider
     public static Object[][] cycle_limits() {
         final int totalNumberOfCycles = getNumberOfCyclesInCompleteGraph(7);
@@ -147,6 +155,51 @@ public class SliceRuleTest {
                 "Dependencies of Slice threedependencies"));
     }
 
+    @Test
+    public void reports_the_first_dependencies_per_edge_in_natural_order() {
+        ArchConfiguration.get().setProperty(MAX_NUMBER_OF_DEPENDENCIES_TO_SHOW_PER_EDGE_PROPERTY_NAME, "5");
+
+        String failureReport = getFailureReportForCyclesInRootPackageOf(CycleWithUnbalancedDependenciesRoot.class);
+        List<String> lines = Splitter.on(lineSeparator()).splitToList(failureReport);
+        int firstDependency = lines.indexOf("Dependencies of Slice thirtydependencies") + 1;
+        List<String> reportedDependencies = lines.subList(firstDependency, firstDependency + 5);
+
+        List<Integer> lineNumbers = new ArrayList<>();
+        for (String dependency : reportedDependencies) {
+            Matcher matcher = Pattern.compile(".*\\.java:(\\d+)\\)$").matcher(dependency);
+            assertThat(matcher.matches()).as("dependency '%s' ends with source code location", dependency).isTrue();
+            lineNumbers.add(Integer.parseInt(matcher.group(1)));
+        }
+        assertThat(lineNumbers).isSorted();
+        assertThat(lines.get(firstDependency + 5)).isEqualTo("(25 further dependencies have been omitted...)");
+    }
+
+    @Test
+    public void reports_strongly_connected_components_instead_of_cycles() {
+        JavaClasses classes = new ClassFileImporter().importPackagesOf(CompleteSevenNodesGraphRoot.class);
+
+        EvaluationResult result = slices()
+                .matching(CompleteSevenNodesGraphRoot.class.getPackage().getName() + ".(*)")
+                .should().beFreeOfCycles().reportingStronglyConnectedComponents()
+                .evaluate(classes);
+
+        assertThat(result.getFailureReport().getDetails()).as("reported violations").hasSize(1);
+        String failureReport = result.getFailureReport().toString();
+        assertThat(failureReport)
+                .contains("Strongly connected component of 7 slices detected: "
+                        + "Slice a, Slice b, Slice c, Slice d, Slice e, Slice f, Slice g")
+                .containsPattern("Shortest cycle: Slice (\\w) -> Slice \\w -> Slice \\1" + lineSeparator());
+        assertThat(countCyclesInMessage(failureReport)).as("number of enumerated cycles").isZero();
+    }
+
+    @Test
+    public void only_rules_checking_for_cycles_can_report_strongly_connected_components() {
+        thrown.expect(IllegalStateException.class);
+        thrown.expectMessage("Only rules to check slices to be free of cycles can report strongly connected components");
+
+        slices().matching("..(*)..").should().notDependOnEachOther().reportingStronglyConnectedComponents();
+    }
+
     private List<String> filterLinesMatching(String text, final String regex) {
         return FluentIterable.from(Splitter.on(lineSeparator()).split(text))
                 .filter(new Predicate<String>() {
@@ -19,6 +19,7 @@ import com.tngtech.archunit.lang.ArchCondition;
 import com.tngtech.archunit.lang.ArchRule;
 import com.tngtech.archunit.lang.ConditionEvent;
 import com.tngtech.archunit.lang.ConditionEvents;
+import com.tngtech.archunit.lang.EvaluationResult;
 import com.tngtech.archunit.testutil.ArchConfigurationRule;
 import com.tngtech.java.junit.dataprovider.DataProviderRunner;
 import org.assertj.core.api.ThrowableAssert.ThrowingCallable;
@@ -105,6 +106,38 @@ public class FreezingArchRuleTest {
         violationStore.verifyStoredRule("some description", "first violation", "second violation");
     }
 
+    @Test
+    public void freezes_all_violations_no_matter_the_configured_maximum_of_retained_violations() {
+        ArchConfiguration.get().setMaxRetainedViolations(1);
+        TestViolationStore violationStore = new TestViolationStore();
+
+        createFrozen(violationStore, rule("some description")
+                .withViolations("first violation", "second violation", "third violation"));
+
+        violationStore.verifyStoredRule("some description", "first violation", "second violation", "third violation");
+
+        ArchRule anotherViolation = rule("some description")
+                .withViolations("first violation", "second violation", "third violation", "fourth violation");
+        ArchRule frozenWithNewViolation = freeze(anotherViolation).persistIn(violationStore);
+
+        assertThat(frozenWithNewViolation)
+                .checking(importClasses(getClass()))
+                .hasOnlyViolations("fourth violation");
+    }
+
+    @Test
+    public void keeps_statistics_of_the_evaluation_of_the_frozen_rule() {
+        ArchConfiguration.get().setEvaluationStatisticsEnabled(true);
+        FreezingArchRule frozen = freeze(rule("some description").withViolations("first violation")).persistIn(new TestViolationStore());
+        JavaClasses classes = importClasses(getClass());
+
+        EvaluationResult storingResult = frozen.evaluate(classes);
+        EvaluationResult comparingResult = frozen.evaluate(classes);
+
+        assertThat(storingResult.getStatistics().get().getNumberOfCheckedObjects()).as("checked objects").isEqualTo(classes.size());
+        assertThat(comparingResult.getStatistics().get().getNumberOfCheckedObjects()).as("checked objects").isEqualTo(classes.size());
+    }
+
     @Test
     public void passes_on_consecutive_calls_without_new_violations() {
         ArchRule input = rule("some description").withViolations("first violation", "second violation");
@@ -197,6 +230,35 @@ public class FreezingArchRuleTest {
                 .hasOnlyViolations("and new");
     }
 
+    @Test
+    public void looks_up_known_violations_by_lines_normalized_by_NormalizingViolationLineMatcher() {
+        TestViolationStore violationStore = new TestViolationStore();
+
+        createFrozen(violationStore, rule("some description")
+                .withViolations("some #ignore_this# violation", "second #ignore_this# violation", "solved #ignore_this# violation"));
+
+        ArchRule frozen = freeze(rule("some description")
+                .withViolations("some #now changed# violation", "second #now changed somehow# violation", "and new"))
+                .persistIn(violationStore)
+                .associateViolationLinesVia(new NormalizingViolationLineMatcher() {
+                    @Override
+                    public String normalize(String violationLine) {
+                        return violationLine.replaceAll("#.*#", "");
+                    }
+
+                    @Override
+                    public boolean matches(String lineFromFirstViolation, String lineFromSecondViolation) {
+                        throw new AssertionError("Violations should be looked up by their normalized lines instead");
+                    }
+                });
+
+        assertThat(frozen)
+                .checking(importClasses(getClass()))
+                .hasOnlyViolations("and new");
+        assertThat(violationStore.getViolations(frozen))
+                .containsOnly("some #ignore_this# violation", "second #ignore_this# violation");
+    }
+
     @Test
     public void fails_on_an_increased_violation_count_of_the_same_violation_compared_to_frozen_ones() {
         TestViolationStore violationStore = new TestViolationStore();
@@ -0,0 +1,268 @@
+package com.tngtech.archunit.library.freeze;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Properties;
+
+import com.google.common.base.Strings;
+import com.google.common.collect.ImmutableList;
+import com.google.common.io.Files;
+import com.tngtech.archunit.lang.ArchRule;
+import com.tngtech.archunit.library.freeze.ViolationStoreFactory.TextFileBasedViolationStore;
+import com.tngtech.java.junit.dataprovider.DataProvider;
+import com.tngtech.java.junit.dataprovider.DataProviderRunner;
+import com.tngtech.java.junit.dataprovider.UseDataProvider;
+import org.assertj.core.api.ThrowableAssert.ThrowingCallable;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runner.RunWith;
+
+import static com.tngtech.archunit.lang.syntax.ArchRuleDefinition.classes;
+import static com.tngtech.java.junit.dataprovider.DataProviders.testForEach;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@RunWith(DataProviderRunner.class)
+public class StreamingViolationStoreTest {
+
+    @Rule
+    public final ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private File configuredFolder;
+
+    @Before
+    public void setUp() throws Exception {
+        configuredFolder = new File(temporaryFolder.newFolder(), "notyetthere");
+    }
+
+    @DataProvider
+    public static Object[][] formats() {
+        return testForEach(false, true);
+    }
+
+    @Test
+    public void rejects_store_creation_by_default() {
+        thrown.expect(StoreInitializationFailedException.class);
+        thrown.expectMessage("freeze.store.streaming.allowStoreCreation=true");
+
+        new StreamingViolationStore().initialize(propertiesOf("streaming.path", configuredFolder.getAbsolutePath()));
+    }
+
+    @Test
+    public void rejects_store_update_if_disabled() {
+        ViolationStore store = new StreamingViolationStore();
+        store.initialize(propertiesOf(
+                "streaming.path", configuredFolder.getAbsolutePath(),
+                "streaming.allowStoreCreation", String.valueOf(true),
+                "streaming.allowStoreUpdate", String.valueOf(false)));
+
+        thrown.expect(StoreUpdateFailedException.class);
+        thrown.expectMessage("freeze.store.streaming.allowStoreUpdate=true");
+
+        store.save(defaultRule(), ImmutableList.of("violation"));
+    }
+
+    @Test
+    @UseDataProvider("formats")
+    public void throws_an_exception_if_violations_of_unstored_rule_are_requested(boolean compact) {
+        ViolationStore store = createStore(compact);
+        ArchRule rule = defaultRule();
+
+        assertThat(store.contains(rule)).as("store contains random rule").isFalse();
+
+        thrown.expect(IllegalArgumentException.class);
+        thrown.expectMessage("No rule stored with description '" + rule.getDescription() + "'");
+
+        store.getViolations(rule);
+    }
+
+    @Test
+    @UseDataProvider("formats")
+    public void stores_violations_of_multiple_rules(boolean compact) {
+        ViolationStore store = createStore(compact);
+        ArchRule firstRule = rule("first rule");
+        store.save(firstRule, ImmutableList.of("first violation1", "first violation2"));
+        ArchRule secondRule = rule("second rule");
+        store.save(secondRule, ImmutableList.<String>of());
+
+        assertThat(store.contains(firstRule)).as("store contains rule").isTrue();
+        assertThat(store.getViolations(firstRule)).containsOnly("first violation1", "first violation2");
+        assertThat(store.getViolations(secondRule)).isEmpty();
+    }
+
+    @Test
+    @UseDataProvider("formats")
+    public void stores_violations_with_line_breaks_and_special_characters(boolean compact) {
+        List<String> expected = ImmutableList.of(
+                String.format("first with%nlinebreak"),
+                "second with\r\nwindows linebreak",
+                "third with \\n escaped linebreak");
+
+        ViolationStore store = createStore(compact);
+        store.save(defaultRule(), expected);
+
+        assertThat(store.getViolations(defaultRule())).as("stored violations").containsOnlyElementsOf(expected).hasSameSizeAs(expected);
+    }
+
+    @Test
+    public void stores_violations_with_trailing_backslash_in_compact_format() {
+        List<String> expected = ImmutableList.of("with trailing backslash \\", "following violation");
+
+        ViolationStore store = createStore(true);
+        store.save(defaultRule(), expected);
+
+        assertThat(store.getViolations(defaultRule())).as("stored violations").containsOnlyElementsOf(expected).hasSameSizeAs(expected);
+    }
+
+    @Test
+    @UseDataProvider("formats")
+    public void updates_stored_violations_without_leaving_temporary_files(boolean compact) {
+        ViolationStore store = createStore(compact);
+        store.save(defaultRule(), ImmutableList.of("old violation"));
+        store.save(defaultRule(), ImmutableList.of("new violation"));
+
+        assertThat(store.getViolations(defaultRule())).containsExactly("new violation");
+        assertThat(configuredFolder.list()).hasSize(2);
+    }
+
+    @Test
+    @UseDataProvider("formats")
+    public void does_not_leave_temporary_files_if_update_fails(boolean compact) throws IOException {
+        final ViolationStore store = createStore(compact);
+        store.save(defaultRule(), ImmutableList.of("old violation"));
+        File ruleViolationsFile = new File(configuredFolder,
+                readProperties(new File(configuredFolder, "stored.rules")).getProperty(defaultRule().getDescription()));
+        assertThat(ruleViolationsFile.delete()).as("rule violations file deleted").isTrue();
+        assertThat(new File(ruleViolationsFile, "blocking").mkdirs()).as("directory blocking update created").isTrue();
+
+        assertThatThrownBy(new ThrowingCallable() {
+            @Override
+            public void call() {
+                store.save(defaultRule(), ImmutableList.of("new violation"));
+            }
+        }).isInstanceOf(StoreUpdateFailedException.class);
+
+        assertThat(configuredFolder.list()).containsOnly("stored.rules", ruleViolationsFile.getName());
+    }
+
+    @Test
+    @UseDataProvider("formats")
+    public void does_not_rewrite_unchanged_violations(boolean compact) throws IOException {
+        ViolationStore store = createStore(compact);
+        store.save(defaultRule(), ImmutableList.of("first violation", "second violation"));
+        File ruleViolationsFile = new File(configuredFolder,
+                readProperties(new File(configuredFolder, "stored.rules")).getProperty(defaultRule().getDescription()));
+        long lastModified = 1_000_000_000_000L;
+        assertThat(ruleViolationsFile.setLastModified(lastModified)).as("last modified set").isTrue();
+
+        store.save(defaultRule(), ImmutableList.of("first violation", "second violation"));
+
+        assertThat(ruleViolationsFile.lastModified()).as("last modified of unchanged file").isEqualTo(lastModified);
+
+        store.save(defaultRule(), ImmutableList.of("first violation", "changed violation"));
+
+        assertThat(store.getViolations(defaultRule())).containsOnly("first violation", "changed violation");
+    }
+
+    @Test
+    @UseDataProvider("formats")
+    public void stores_violations_longer_than_the_read_buffer(boolean compact) {
+        ViolationStore store = createStore(compact);
+        String longViolation = Strings.repeat("0123456789", 2000);
+        List<String> expected = ImmutableList.of(longViolation + "a", String.format("%s%n%s", longViolation, longViolation), longViolation + "\\r");
+
+        store.save(defaultRule(), expected);
+
+        assertThat(store.getViolations(defaultRule())).as("stored violations").containsOnlyElementsOf(expected).hasSameSizeAs(expected);
+    }
+
+    @Test
+    public void stores_violations_in_the_same_format_as_the_default_store() throws IOException {
+        createStore(false).save(defaultRule(), ImmutableList.of("first violation", String.format("second with%nlinebreak")));
+
+        ViolationStore defaultStore = new TextFileBasedViolationStore();
+        defaultStore.initialize(propertiesOf("default.path", configuredFolder.getAbsolutePath()));
+        assertThat(defaultStore.getViolations(defaultRule())).containsExactly("first violation", String.format("second with%nlinebreak"));
+
+        defaultStore.save(defaultRule(), ImmutableList.of("saved by default store"));
+        assertThat(createStore(false).getViolations(defaultRule())).containsExactly("saved by default store");
+    }
+
+    @Test
+    public void stores_sorted_and_deduplicated_violations_with_shared_prefixes_in_compact_format() throws IOException {
+        ViolationStore store = createStore(true);
+        store.save(defaultRule(), ImmutableList.of(
+                "Method <com.Foo.b()> calls method <com.Bar.c()>",
+                "Method <com.Foo.a()> calls method <com.Bar.c()>",
+                "Method <com.Foo.b()> calls method <com.Bar.c()>"));
+
+        String ruleViolationsFile = readProperties(new File(configuredFolder, "stored.rules")).getProperty(defaultRule().getDescription());
+        List<String> lines = Files.readLines(new File(configuredFolder, ruleViolationsFile), UTF_8);
+        assertThat(lines).containsExactly(
+                "#compact-violations:1",
+                "0 1 Method <com.Foo.a()> calls method <com.Bar.c()>",
+                "16 2 b()> calls method <com.Bar.c()>");
+
+        assertThat(store.getViolations(defaultRule())).containsExactly(
+                "Method <com.Foo.a()> calls method <com.Bar.c()>",
+                "Method <com.Foo.b()> calls method <com.Bar.c()>",
+                "Method <com.Foo.b()> calls method <com.Bar.c()>");
+    }
+
+    @Test
+    public void reads_stored_violations_regardless_of_configured_format() {
+        createStore(true).save(rule("compact rule"), ImmutableList.of("compact violation"));
+        createStore(false).save(rule("plain rule"), ImmutableList.of("plain violation"));
+
+        for (boolean compact : asList(true, false)) {
+            ViolationStore store = createStore(compact);
+            assertThat(store.getViolations(rule("compact rule"))).containsExactly("compact violation");
+            assertThat(store.getViolations(rule("plain rule"))).containsExactly("plain violation");
+        }
+    }
+
+    private ViolationStore createStore(boolean compact) {
+        ViolationStore store = new StreamingViolationStore();
+        store.initialize(propertiesOf(
+                "streaming.path", configuredFolder.getAbsolutePath(),
+                "streaming.allowStoreCreation", String.valueOf(true),
+                "streaming.compact", String.valueOf(compact)));
+        return store;
+    }
+
+    private Properties readProperties(File file) throws IOException {
+        Properties properties = new Properties();
+        try (FileInputStream inputStream = new FileInputStream(file)) {
+            properties.load(inputStream);
+        }
+        return properties;
+    }
+
+    private Properties propertiesOf(String... keyValuePairs) {
+        Properties result = new Properties();
+        LinkedList<String> keyValues = new LinkedList<>(asList(keyValuePairs));
+        while (!keyValues.isEmpty()) {
+            result.setProperty(keyValues.poll(), keyValues.poll());
+        }
+        return result;
+    }
+
+    private ArchRule defaultRule() {
+        return rule("default rule");
+    }
+
+    private ArchRule rule(String description) {
+        return classes().should().bePublic().as(description);
+    }
+}
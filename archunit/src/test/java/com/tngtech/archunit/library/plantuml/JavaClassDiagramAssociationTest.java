@@ -3,10 +3,13 @@ package com.tngtech.archunit.library.plantuml;
 import java.io.File;
 import java.net.MalformedURLException;
 import java.net.URL;
+import java.util.HashSet;
+import java.util.Set;
 
 import com.tngtech.archunit.core.domain.JavaClass;
 import com.tngtech.archunit.library.diagramtests.confusingpackagenames.foopackage.barpackage.ClassInFooAndBarPackage;
 import com.tngtech.archunit.library.diagramtests.simpledependency.origin.SomeOriginClass;
+import com.tngtech.archunit.library.diagramtests.simpledependency.target.SomeTargetClass;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
@@ -24,37 +27,36 @@ public class JavaClassDiagramAssociationTest {
     public final ExpectedException thrown = ExpectedException.none();
 
     @Test
-    public void get_package_identifier_associated_with_class() {
-        String expectedPackageIdentifier = SomeOriginClass.class.getPackage().getName().replaceAll(".*\\.", "..");
+    public void get_component_associated_with_class() {
+        String originPackageIdentifier = SomeOriginClass.class.getPackage().getName().replaceAll(".*\\.", "..");
         JavaClassDiagramAssociation javaClassDiagramAssociation = createAssociation(TestDiagram.in(temporaryFolder)
-                .component("A").withStereoTypes(expectedPackageIdentifier)
+                .component("A").withStereoTypes(originPackageIdentifier)
                 .component("B").withStereoTypes("..noclasshere")
                 .write());
 
         JavaClass clazz = importClassWithContext(SomeOriginClass.class);
 
-        assertThat(javaClassDiagramAssociation.getPackageIdentifiersFromComponentOf(clazz))
-                .as("package identifiers of " + clazz.getName())
-                .containsOnly(expectedPackageIdentifier);
+        assertThat(namesOf(javaClassDiagramAssociation.getAllowedComponentsOf(clazz)))
+                .as("allowed components of " + clazz.getName())
+                .containsOnly("A");
     }
 
     @Test
-    public void get_target_package_identifiers_of_class() {
-        String expectedTarget1 = "..target1";
-        String expectedTarget2 = "..target2";
+    public void get_allowed_components_of_class() {
         JavaClassDiagramAssociation javaClassDiagramAssociation = createAssociation(TestDiagram.in(temporaryFolder)
                 .component("A").withStereoTypes(SomeOriginClass.class.getPackage().getName().replaceAll(".*\\.", ".."))
-                .component("B").withStereoTypes(expectedTarget1)
-                .component("C").withStereoTypes(expectedTarget2)
+                .component("B").withStereoTypes("..target1")
+                .component("C").withStereoTypes("..target2")
+                .component("D").withStereoTypes("..target3")
                 .dependencyFrom("[A]").to("[B]")
                 .dependencyFrom("[A]").to("[C]")
                 .write());
 
         JavaClass clazz = importClassWithContext(SomeOriginClass.class);
 
-        assertThat(javaClassDiagramAssociation.getTargetPackageIdentifiers(clazz))
-                .as("package identifiers of " + clazz.getName())
-                .containsOnly(expectedTarget1, expectedTarget2);
+        assertThat(namesOf(javaClassDiagramAssociation.getAllowedComponentsOf(clazz)))
+                .as("allowed components of " + clazz.getName())
+                .containsOnly("A", "B", "C");
     }
 
     @Test
@@ -67,7 +69,7 @@ public class JavaClassDiagramAssociationTest {
         thrown.expect(IllegalStateException.class);
         thrown.expectMessage(String.format("Class %s is not contained in any component", Object.class.getName()));
 
-        javaClassDiagramAssociation.getTargetPackageIdentifiers(classNotContained);
+        javaClassDiagramAssociation.getAllowedComponentsOf(classNotContained);
     }
 
     @Test
@@ -82,6 +84,25 @@ public class JavaClassDiagramAssociationTest {
                 .as("association contains " + File.class.getName()).isFalse();
     }
 
+    @Test
+    public void reports_if_class_is_contained_in_any_of_the_components_allowed_for_another_class() {
+        JavaClassDiagramAssociation javaClassDiagramAssociation = createAssociation(TestDiagram.in(temporaryFolder)
+                .component("Origin").withStereoTypes("..origin")
+                .component("Target").withStereoTypes("..target")
+                .component("Other").withStereoTypes("java.lang")
+                .dependencyFrom("[Origin]").to("[Target]")
+                .write());
+
+        Set<PlantUmlComponent> allowedComponents = javaClassDiagramAssociation.getAllowedComponentsOf(importClassWithContext(SomeOriginClass.class));
+
+        assertThat(javaClassDiagramAssociation.isContainedInAnyOf(importClassWithContext(SomeOriginClass.class), allowedComponents))
+                .as("origin is contained in allowed components").isTrue();
+        assertThat(javaClassDiagramAssociation.isContainedInAnyOf(importClassWithContext(SomeTargetClass.class), allowedComponents))
+                .as("target is contained in allowed components").isTrue();
+        assertThat(javaClassDiagramAssociation.isContainedInAnyOf(importClassWithContext(Object.class), allowedComponents))
+                .as("Object is contained in allowed components").isFalse();
+    }
+
     @Test
     public void class_resides_in_multiple_packages() {
         JavaClassDiagramAssociation javaClassDiagramAssociation = createAssociation(TestDiagram.in(temporaryFolder)
@@ -95,7 +116,7 @@ public class JavaClassDiagramAssociationTest {
                 "Class %s may not be contained in more than one component, but is contained in [A, B]",
                 ClassInFooAndBarPackage.class.getName()));
 
-        javaClassDiagramAssociation.getTargetPackageIdentifiers(classContainedInTwoComponents);
+        javaClassDiagramAssociation.getAllowedComponentsOf(classContainedInTwoComponents);
     }
 
     @Test
@@ -116,6 +137,14 @@ public class JavaClassDiagramAssociationTest {
         return new JavaClassDiagramAssociation(diagram);
     }
 
+    private static Set<String> namesOf(Set<PlantUmlComponent> components) {
+        Set<String> result = new HashSet<>();
+        for (PlantUmlComponent component : components) {
+            result.add(component.getComponentName().asString());
+        }
+        return result;
+    }
+
     private static URL toUrl(File file) {
         try {
             return file.toURI().toURL();
@@ -14,6 +14,7 @@ import com.google.common.base.Predicates;
 import com.google.common.collect.ImmutableList;
 import com.tngtech.archunit.base.Optional;
 import com.tngtech.archunit.lang.ArchRule;
+import com.tngtech.archunit.lang.CanBeEvaluatedWithOptions;
 
 import static com.google.common.base.MoreObjects.toStringHelper;
 import static com.google.common.base.Predicates.or;
@@ -103,7 +104,7 @@ public class MethodChoiceStrategy {
     }
 
     private boolean isNoArchRuleMethod(Method method) {
-        return methodDoesNotBelongTo(ArchRule.class, method);
+        return methodDoesNotBelongTo(ArchRule.class, method) && methodDoesNotBelongTo(CanBeEvaluatedWithOptions.class, method);
     }
 
     private boolean methodDoesNotBelongTo(Class<?> type, Method method) {